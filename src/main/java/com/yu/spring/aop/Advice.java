@@ -0,0 +1,11 @@
+package com.yu.spring.aop;
+
+/**
+ * Tag interface for advice: the action taken at a join point, such as a
+ * {@link com.yu.spring.aop.intercept.MethodInterceptor MethodInterceptor}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface Advice {
+}
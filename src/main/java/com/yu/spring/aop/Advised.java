@@ -1,5 +1,9 @@
 package com.yu.spring.aop;
 
+import com.yu.spring.aop.intercept.MethodInterceptor;
+
+import java.lang.reflect.Method;
+
 /**
  * Interface to be implemented by classes that hold the configuration
  * of a factory of AOP proxies.
@@ -23,6 +27,22 @@ public interface Advised {
      */
     Class<?> getTargetClass();
 
+    /**
+     * Return whether the target class is proxied by a subclass even when it
+     * implements interfaces.
+     *
+     * @return whether to proxy the target class
+     */
+    boolean isProxyTargetClass();
+
+    /**
+     * Return whether the proxy should favor low call overhead over the cost
+     * of generating its class.
+     *
+     * @return whether to optimize for call overhead
+     */
+    boolean isOptimize();
+
     /**
      * Return the pointcut.
      * 
@@ -38,9 +58,42 @@ public interface Advised {
     void setTarget(Object target);
 
     /**
-     * Set the pointcut.
+     * Set the pointcut. It applies no advice by itself; use
+     * {@link #addAdvisor} to advise the methods a pointcut matches.
      * 
      * @param pointcut the pointcut
      */
     void setPointcut(Pointcut pointcut);
+
+    /**
+     * Return the advisors applied to the proxy, in order.
+     *
+     * @return the advisors
+     */
+    Advisor[] getAdvisors();
+
+    /**
+     * Add an advisor at the end of the chain.
+     *
+     * @param advisor the advisor, whose advice must be a MethodInterceptor
+     */
+    void addAdvisor(Advisor advisor);
+
+    /**
+     * Remove the given advisor.
+     *
+     * @param advisor the advisor to remove
+     * @return true if the advisor was present
+     */
+    boolean removeAdvisor(Advisor advisor);
+
+    /**
+     * Return the interceptors that apply to the given method, in order; an
+     * empty array if the method is not advised.
+     *
+     * @param method      the method being called on the proxy
+     * @param targetClass the target class
+     * @return the interceptor chain, which callers must not modify
+     */
+    MethodInterceptor[] getInterceptors(Method method, Class<?> targetClass);
 }
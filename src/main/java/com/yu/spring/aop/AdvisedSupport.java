@@ -1,15 +1,42 @@
 package com.yu.spring.aop;
 
+import com.yu.spring.aop.intercept.MethodInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
 /**
  * Base class for AOP proxy configuration managers.
+ *
+ * <p>The interceptor chain of each method is computed once, on its first
+ * call, and kept in an identity map keyed by the Method objects that
+ * proxies pass in, which are the same on every call. A method that is not
+ * advised therefore costs one lookup before the target is invoked. The map
+ * is copied on write, so lookups take no lock, and it is dropped whenever
+ * the advisors or the target change.
  * 
  * @author yuhangbin
  * @date 2022/5/3
  **/
 public class AdvisedSupport implements Advised {
 
+    private static final MethodInterceptor[] NO_INTERCEPTORS = new MethodInterceptor[0];
+
     private Object target;
+    private Class<?> targetClass;
+    private boolean proxyTargetClass;
+    private boolean optimize;
     private Pointcut pointcut;
+    private final List<Advisor> advisors = new ArrayList<>();
+
+    private volatile Map<Method, MethodInterceptor[]> methodCache = Collections.emptyMap();
 
     public AdvisedSupport() {
     }
@@ -25,7 +52,47 @@ public class AdvisedSupport implements Advised {
 
     @Override
     public Class<?> getTargetClass() {
-        return target != null ? target.getClass() : null;
+        return target != null ? target.getClass() : targetClass;
+    }
+
+    /**
+     * Set the class to proxy before there is a target, so that the proxy
+     * class can be generated ahead of the target's creation.
+     *
+     * @param targetClass the target class
+     */
+    public void setTargetClass(Class<?> targetClass) {
+        this.targetClass = targetClass;
+    }
+
+    @Override
+    public boolean isProxyTargetClass() {
+        return proxyTargetClass;
+    }
+
+    /**
+     * Set whether to subclass the target class rather than implement its
+     * interfaces.
+     *
+     * @param proxyTargetClass whether to proxy the target class
+     */
+    public void setProxyTargetClass(boolean proxyTargetClass) {
+        this.proxyTargetClass = proxyTargetClass;
+    }
+
+    @Override
+    public boolean isOptimize() {
+        return optimize;
+    }
+
+    /**
+     * Set whether proxies are called often enough to be worth generating a
+     * direct-dispatch class for, at a higher cost of class generation.
+     *
+     * @param optimize whether to optimize for call overhead
+     */
+    public void setOptimize(boolean optimize) {
+        this.optimize = optimize;
     }
 
     @Override
@@ -36,10 +103,141 @@ public class AdvisedSupport implements Advised {
     @Override
     public void setTarget(Object target) {
         this.target = target;
+        adviceChanged();
     }
 
     @Override
     public void setPointcut(Pointcut pointcut) {
         this.pointcut = pointcut;
     }
-}
\ No newline at end of file
+
+    @Override
+    public synchronized Advisor[] getAdvisors() {
+        return advisors.toArray(new Advisor[0]);
+    }
+
+    @Override
+    public synchronized void addAdvisor(Advisor advisor) {
+        if (!(advisor.getAdvice() instanceof MethodInterceptor)) {
+            throw new IllegalArgumentException("Advice must be a MethodInterceptor: " + advisor.getAdvice());
+        }
+        advisors.add(advisor);
+        adviceChanged();
+    }
+
+    @Override
+    public synchronized boolean removeAdvisor(Advisor advisor) {
+        boolean removed = advisors.remove(advisor);
+        if (removed) {
+            adviceChanged();
+        }
+        return removed;
+    }
+
+    /**
+     * Add advice applying to all methods.
+     *
+     * @param interceptor the interceptor
+     */
+    public void addAdvice(MethodInterceptor interceptor) {
+        addAdvisor(new DefaultPointcutAdvisor(interceptor));
+    }
+
+    @Override
+    public MethodInterceptor[] getInterceptors(Method method, Class<?> targetClass) {
+        MethodInterceptor[] interceptors = methodCache.get(method);
+        if (interceptors == null) {
+            synchronized (this) {
+                Map<Method, MethodInterceptor[]> cache = methodCache;
+                interceptors = cache.get(method);
+                if (interceptors == null) {
+                    interceptors = computeInterceptors(method, targetClass);
+                    Map<Method, MethodInterceptor[]> updated = new IdentityHashMap<>(cache);
+                    updated.put(method, interceptors);
+                    methodCache = updated;
+                }
+            }
+        }
+        return interceptors;
+    }
+
+    private MethodInterceptor[] computeInterceptors(Method method, Class<?> targetClass) {
+        List<MethodInterceptor> interceptors = new ArrayList<>();
+        for (Advisor advisor : advisors) {
+            if (canApply(advisor, targetClass) && canApply(advisor, method, targetClass)) {
+                interceptors.add((MethodInterceptor) advisor.getAdvice());
+            }
+        }
+        return interceptors.isEmpty() ? NO_INTERCEPTORS : interceptors.toArray(NO_INTERCEPTORS);
+    }
+
+    /**
+     * Return whether the advisor can apply to some method of the target
+     * class, judged by its class filter alone.
+     */
+    static boolean canApply(Advisor advisor, Class<?> targetClass) {
+        return !(advisor instanceof PointcutAdvisor)
+                || ((PointcutAdvisor) advisor).getPointcut().getClassFilter().matches(targetClass);
+    }
+
+    /**
+     * Return whether the advisor applies to the method, once its class filter
+     * accepted the target class.
+     */
+    static boolean canApply(Advisor advisor, Method method, Class<?> targetClass) {
+        return !(advisor instanceof PointcutAdvisor)
+                || ((PointcutAdvisor) advisor).getPointcut().getMethodMatcher().matches(method, targetClass);
+    }
+
+    /**
+     * Return the signatures of the given methods that some advisor applies
+     * to, for proxies that decide when their class is generated which methods
+     * are advised. Advisors whose class filter rejects the target class are
+     * not matched against its methods.
+     *
+     * @param advisors    the advisors of the proxy configuration
+     * @param targetClass the target class
+     * @param methods     the methods the proxy class implements
+     * @param signatures  the signature of each method
+     * @return the signatures of the advised methods, sorted
+     * @see ProxiedMethods#getAdvisedMethods
+     */
+    static Set<String> findAdvisedMethods(Advisor[] advisors, Class<?> targetClass, Method[] methods,
+                                          String[] signatures) {
+        List<Advisor> candidates = new ArrayList<>();
+        for (Advisor advisor : advisors) {
+            if (canApply(advisor, targetClass)) {
+                candidates.add(advisor);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> advisedMethods = new TreeSet<>();
+        for (int i = 0; i < methods.length; i++) {
+            for (Advisor advisor : candidates) {
+                if (canApply(advisor, methods[i], targetClass)) {
+                    advisedMethods.add(signatures[i]);
+                    break;
+                }
+            }
+        }
+        return advisedMethods;
+    }
+
+    /**
+     * Return the signature identifying a method among those a subclass proxy
+     * overrides: its name and parameter types, as a subclass overrides a
+     * covariant method and its bridge together.
+     */
+    static String signature(Method method) {
+        return method.getName() + Arrays.toString(method.getParameterTypes());
+    }
+
+    /**
+     * Drop the cached interceptor chains after the advice or target changed.
+     */
+    protected synchronized void adviceChanged() {
+        methodCache = Collections.emptyMap();
+    }
+}
@@ -0,0 +1,18 @@
+package com.yu.spring.aop;
+
+/**
+ * Holds a piece of advice together with the filter deciding where it
+ * applies.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface Advisor {
+
+	/**
+	 * Return the advice part of this aspect.
+	 *
+	 * @return the advice
+	 */
+	Advice getAdvice();
+}
@@ -0,0 +1,21 @@
+package com.yu.spring.aop;
+
+/**
+ * Thrown when an AOP proxy cannot complete a call as the proxied method
+ * requires, such as when advice returns null for a primitive return type.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class AopInvocationException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public AopInvocationException(String message) {
+		super(message);
+	}
+
+	public AopInvocationException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
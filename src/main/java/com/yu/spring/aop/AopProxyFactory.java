@@ -1,5 +1,11 @@
 package com.yu.spring.aop;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Interface to be implemented by factories that are able to create
  * AOP proxies based on configuration.
@@ -16,4 +22,25 @@ public interface AopProxyFactory {
 	 * @return the AOP proxy
 	 */
 	AopProxy createAopProxy(Advised config);
+
+	/**
+	 * Generate the proxy classes of the given configurations in parallel.
+	 * Proxies created later for the same target classes and advised methods
+	 * reuse them.
+	 *
+	 * <p>The default asks the proxy of each configuration for its class.
+	 * Factories whose proxies cannot generate a class before there is a
+	 * target should override this to return a completed future.
+	 *
+	 * @param configs  the configurations, whose targets may not exist yet
+	 * @param executor the executor to generate the classes on
+	 * @return a future completing once all classes are generated
+	 */
+	default CompletableFuture<Void> generateProxyClasses(Collection<? extends Advised> configs, Executor executor) {
+		List<CompletableFuture<Void>> futures = new ArrayList<>(configs.size());
+		for (Advised config : configs) {
+			futures.add(CompletableFuture.runAsync(() -> createAopProxy(config).getProxyClass(), executor));
+		}
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+	}
 }
@@ -0,0 +1,34 @@
+package com.yu.spring.aop;
+
+import java.lang.reflect.Method;
+
+/**
+ * Helpers shared by the AopProxy implementations.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+final class AopProxyUtils {
+
+	private AopProxyUtils() {
+	}
+
+	/**
+	 * Check the result of an interceptor chain against the return type of the
+	 * proxied method, which cannot return null if it is primitive.
+	 *
+	 * @param method      the proxied method
+	 * @param returnValue the result of the chain
+	 * @return the result
+	 * @throws AopInvocationException if the result is null and the method
+	 *                                returns a primitive
+	 */
+	static Object checkReturnValue(Method method, Object returnValue) {
+		Class<?> returnType = method.getReturnType();
+		if (returnValue == null && returnType != void.class && returnType.isPrimitive()) {
+			throw new AopInvocationException(
+					"Null return value from advice does not match primitive return type for: " + method);
+		}
+		return returnValue;
+	}
+}
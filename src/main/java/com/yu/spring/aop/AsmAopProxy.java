@@ -0,0 +1,682 @@
+package com.yu.spring.aop;
+
+import com.yu.spring.aop.intercept.MethodInterceptor;
+import net.sf.cglib.core.ReflectUtils;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AopProxy that generates, with ASM, a class implementing the interfaces of
+ * the target class. Methods no advisor applies to call the target through
+ * its interface with their typed arguments, so the JIT can inline through
+ * the proxy into the target. Advised methods box their arguments once and
+ * run the interceptor chain, at whose end the generated class again calls
+ * the target directly rather than through reflection.
+ *
+ * <p>As with {@link CglibAopProxy}, which methods are advised is decided
+ * when the class is generated, once per target class and set of advisors,
+ * and classes are shared through the {@link ProxyClassCache} between
+ * proxies advising the same methods. They are defined in the class loader
+ * of the target class, so interfaces that are not public must be in the
+ * target's package.
+ *
+ * <p>Each proxy class comes with a package-private invoker class, generated
+ * alongside it, that calls advised methods on the target at the end of their
+ * chain. The proxy class keeps its methods and invoker in private static
+ * final fields, which its static initializer takes from this class while
+ * the proxy class is being defined, so nothing but the interfaces is public
+ * on a proxy.
+ *
+ * <p>On Java 9+ both classes are defined through a private
+ * {@code MethodHandles.Lookup} on the target class, which they share a
+ * package with, so unlike {@link CglibAopProxy} no
+ * {@code --add-opens java.base/java.lang} is needed. On Java 8 they are
+ * defined through {@code ClassLoader.defineClass}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class AsmAopProxy implements AopProxy {
+
+	private static final String HANDLER_FIELD = "$$handler";
+	private static final String METHODS_FIELD = "$$methods";
+	private static final String INVOKER_FIELD = "$$invoker";
+	private static final String OBJECT = Type.getInternalName(Object.class);
+	private static final String HANDLER = Type.getInternalName(AsmAopProxy.class);
+	private static final String INVOKER = Type.getDescriptor(TargetInvoker.class);
+	private static final String INVOKE_DESCRIPTOR = Type.getMethodDescriptor(Type.getType(Object.class),
+			Type.getType(Object.class), Type.getType(Method.class), Type.INT_TYPE, Type.getType(Object[].class),
+			Type.getType(TargetInvoker.class));
+	private static final String INVOKE_TARGET_DESCRIPTOR = Type.getMethodDescriptor(Type.getType(Object.class),
+			Type.INT_TYPE, Type.getType(Object.class), Type.getType(Object[].class));
+	private static final Class<?>[] NO_CALLBACK_TYPES = new Class<?>[0];
+
+	private static final AtomicInteger classCount = new AtomicInteger();
+
+	/** MethodHandles.privateLookupIn and Lookup.defineClass, null before Java 9 */
+	private static final Method privateLookupIn;
+	private static final Method lookupDefineClass;
+
+	static {
+		Method lookupIn = null;
+		Method defineClass = null;
+		try {
+			lookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+			defineClass = MethodHandles.Lookup.class.getMethod("defineClass", byte[].class);
+		} catch (NoSuchMethodException e) {
+			// Java 8: classes are defined through ClassLoader.defineClass
+		}
+		privateLookupIn = lookupIn;
+		lookupDefineClass = defineClass;
+	}
+
+	/** Methods and invokers of the proxy classes being defined, by class name */
+	private static final Map<String, DefiningClass> definingClasses = new ConcurrentHashMap<>();
+
+	private static final InvocationPool<AsmMethodInvocation> invocationPool =
+			new InvocationPool<>(AsmMethodInvocation::new);
+
+	private static final ClassValue<ProxiedMethods> proxyMethods = new ClassValue<ProxiedMethods>() {
+		@Override
+		protected ProxiedMethods computeValue(Class<?> targetClass) {
+			return findProxyMethods(targetClass);
+		}
+	};
+
+	private static final ClassValue<MethodHandle> constructors = new ClassValue<MethodHandle>() {
+		@Override
+		protected MethodHandle computeValue(Class<?> proxyClass) {
+			try {
+				return MethodHandles.lookup().unreflectConstructor(proxyClass.getConstructor(AsmAopProxy.class))
+						.asType(MethodType.methodType(Object.class, AsmAopProxy.class));
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException("Cannot access constructor of proxy class " + proxyClass.getName(), e);
+			}
+		}
+	};
+
+	private final Advised advised;
+
+	public AsmAopProxy(Advised advised) {
+		this.advised = advised;
+	}
+
+	@Override
+	public Object getProxy() {
+		MethodHandle constructor = constructors.get(getProxyClass());
+		try {
+			return (Object) constructor.invokeExact(this);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException("Cannot instantiate ASM proxy", e);
+		}
+	}
+
+	@Override
+	public Class<?> getProxyClass() {
+		Class<?> targetClass = advised.getTargetClass();
+		Class<?>[] interfaces = targetClass.getInterfaces();
+		if (interfaces.length == 0) {
+			throw new RuntimeException("Target class must implement at least one interface for ASM proxy");
+		}
+		ProxiedMethods methods = proxyMethods.get(targetClass);
+		Set<String> advisedMethods = methods.getAdvisedMethods(advised);
+		return ProxyClassCache.getProxyClass(targetClass.getClassLoader(), null, interfaces, NO_CALLBACK_TYPES,
+				new AdvisedMethodsKey(advisedMethods), () -> generateClass(targetClass, interfaces, methods, advisedMethods));
+	}
+
+	/**
+	 * Return the object advised and unadvised methods are called on. Public
+	 * for generated proxy classes only.
+	 */
+	public final Object target() {
+		return advised.getTarget();
+	}
+
+	/**
+	 * Run the interceptor chain of an advised method. Public for generated
+	 * proxy classes only.
+	 *
+	 * @param proxy       the proxy the method was called on
+	 * @param method      the interface method
+	 * @param methodIndex the index of the method in the proxy class
+	 * @param args        the boxed arguments, or null if there are none
+	 * @param invoker     the invoker of the proxy class
+	 * @return the boxed result
+	 * @throws AopInvocationException if the chain returns null for a
+	 *                                primitive return type
+	 * @throws Throwable              whatever the chain or the target throws
+	 */
+	public final Object invoke(Object proxy, Method method, int methodIndex, Object[] args, TargetInvoker invoker)
+			throws Throwable {
+		Object target = advised.getTarget();
+		MethodInterceptor[] chain = advised.getInterceptors(method, target.getClass());
+		if (chain.length == 0) {
+			return invoker.invokeTarget(methodIndex, target, args);
+		}
+		AsmMethodInvocation invocation = invocationPool.acquire();
+		try {
+			invocation.reset(proxy, target, method, args, chain, methodIndex, invoker);
+			return AopProxyUtils.checkReturnValue(method, invocation.proceed());
+		} finally {
+			invocationPool.release(invocation);
+		}
+	}
+
+	/**
+	 * Return the methods of a proxy class that is being defined, indexed as
+	 * in the class. Public for the static initializer of generated proxy
+	 * classes only.
+	 *
+	 * @param proxyClass the proxy class
+	 * @return the methods
+	 * @throws IllegalStateException if the class is not being defined
+	 */
+	public static Method[] methodsOf(Class<?> proxyClass) {
+		return definingClass(proxyClass).methods;
+	}
+
+	/**
+	 * Return the invoker of a proxy class that is being defined. Public for
+	 * the static initializer of generated proxy classes only.
+	 *
+	 * @param proxyClass the proxy class
+	 * @return the invoker
+	 * @throws IllegalStateException if the class is not being defined
+	 */
+	public static TargetInvoker invokerOf(Class<?> proxyClass) {
+		return definingClass(proxyClass).invoker;
+	}
+
+	private static DefiningClass definingClass(Class<?> proxyClass) {
+		DefiningClass definingClass = definingClasses.get(proxyClass.getName());
+		if (definingClass == null) {
+			throw new IllegalStateException("Not an ASM proxy class being defined: " + proxyClass.getName());
+		}
+		return definingClass;
+	}
+
+	private static Class<?> generateClass(Class<?> targetClass, Class<?>[] interfaces, ProxiedMethods methods,
+			Set<String> advisedMethods) {
+		if (!canProxy(targetClass)) {
+			throw new IllegalStateException("Cannot implement the interfaces of " + targetClass.getName()
+					+ " in an ASM proxy: it has none, or non-public ones outside its package");
+		}
+		String[] interfaceNames = new String[interfaces.length];
+		for (int i = 0; i < interfaces.length; i++) {
+			interfaceNames[i] = Type.getInternalName(interfaces[i]);
+		}
+		String className = targetClass.getName() + "$$AsmProxy$$" + classCount.incrementAndGet();
+		String internalName = className.replace('.', '/');
+		String invokerClassName = className + "$$Invoker";
+
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+		cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, internalName, null,
+				OBJECT, interfaceNames);
+		cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, METHODS_FIELD,
+				Type.getDescriptor(Method[].class), null, null).visitEnd();
+		cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, INVOKER_FIELD, INVOKER,
+				null, null).visitEnd();
+		cw.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, HANDLER_FIELD, Type.getDescriptor(AsmAopProxy.class),
+				null, null).visitEnd();
+		generateStaticInitializer(cw, internalName);
+		generateConstructor(cw, internalName);
+		List<Integer> advisedIndexes = new ArrayList<>();
+		for (int i = 0; i < methods.methods.length; i++) {
+			if (advisedMethods.contains(methods.signatures[i])) {
+				generateAdvisedMethod(cw, internalName, methods.methods[i], i);
+				advisedIndexes.add(i);
+			} else {
+				generateDirectMethod(cw, internalName, methods.methods[i]);
+			}
+		}
+		cw.visitEnd();
+
+		ClassLoader classLoader = targetClass.getClassLoader();
+		try {
+			Class<?> invokerClass = defineClass(targetClass, invokerClassName,
+					generateInvokerClass(invokerClassName.replace('.', '/'), methods.methods, advisedIndexes));
+			Constructor<?> invokerConstructor = invokerClass.getDeclaredConstructor();
+			invokerConstructor.setAccessible(true);
+			TargetInvoker invoker = (TargetInvoker) invokerConstructor.newInstance();
+			definingClasses.put(className, new DefiningClass(methods.methods, invoker));
+			try {
+				Class<?> proxyClass = defineClass(targetClass, className, cw.toByteArray());
+				// Run the static initializer while the methods and invoker are there to be taken
+				Class.forName(className, true, classLoader);
+				return proxyClass;
+			} finally {
+				definingClasses.remove(className);
+			}
+		} catch (Exception e) {
+			throw new IllegalStateException("Cannot define ASM proxy class for " + targetClass.getName(), e);
+		}
+	}
+
+	/**
+	 * Define a class in the package and class loader of the target class.
+	 */
+	private static Class<?> defineClass(Class<?> targetClass, String className, byte[] bytes) throws Exception {
+		if (lookupDefineClass == null) {
+			return ReflectUtils.defineClass(className, bytes, targetClass.getClassLoader());
+		}
+		try {
+			Object lookup = privateLookupIn.invoke(null, targetClass, MethodHandles.lookup());
+			return (Class<?>) lookupDefineClass.invoke(lookup, (Object) bytes);
+		} catch (InvocationTargetException e) {
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		}
+	}
+
+	/**
+	 * Return whether an ASM proxy can implement the interfaces of the target
+	 * class: it has some, those that are not public are in its package, and
+	 * the proxy class can be defined alongside it, which rules out classes of
+	 * the bootstrap class loader and of {@code java.*} packages.
+	 *
+	 * @param targetClass the target class
+	 * @return whether the class can be proxied
+	 */
+	static boolean canProxy(Class<?> targetClass) {
+		if (targetClass.getClassLoader() == null || targetClass.getName().startsWith("java.")) {
+			return false;
+		}
+		Class<?>[] interfaces = targetClass.getInterfaces();
+		String targetPackage = packageName(targetClass.getName());
+		for (Class<?> proxiedInterface : interfaces) {
+			if (!Modifier.isPublic(proxiedInterface.getModifiers())
+					&& !packageName(proxiedInterface.getName()).equals(targetPackage)) {
+				return false;
+			}
+		}
+		return interfaces.length > 0;
+	}
+
+	/**
+	 * Generate the static initializer, setting the methods and invoker
+	 * fields from {@link #methodsOf} and {@link #invokerOf}.
+	 */
+	private static void generateStaticInitializer(ClassWriter cw, String internalName) {
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+		mv.visitCode();
+		mv.visitLdcInsn(Type.getObjectType(internalName));
+		mv.visitMethodInsn(Opcodes.INVOKESTATIC, HANDLER, "methodsOf",
+				Type.getMethodDescriptor(Type.getType(Method[].class), Type.getType(Class.class)), false);
+		mv.visitFieldInsn(Opcodes.PUTSTATIC, internalName, METHODS_FIELD, Type.getDescriptor(Method[].class));
+		mv.visitLdcInsn(Type.getObjectType(internalName));
+		mv.visitMethodInsn(Opcodes.INVOKESTATIC, HANDLER, "invokerOf",
+				Type.getMethodDescriptor(Type.getType(TargetInvoker.class), Type.getType(Class.class)), false);
+		mv.visitFieldInsn(Opcodes.PUTSTATIC, internalName, INVOKER_FIELD, INVOKER);
+		mv.visitInsn(Opcodes.RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void generateConstructor(ClassWriter cw, String internalName) {
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>",
+				Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(AsmAopProxy.class)), null, null);
+		mv.visitCode();
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitVarInsn(Opcodes.ALOAD, 1);
+		mv.visitFieldInsn(Opcodes.PUTFIELD, internalName, HANDLER_FIELD, Type.getDescriptor(AsmAopProxy.class));
+		mv.visitInsn(Opcodes.RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	/**
+	 * Generate a method calling the target with the arguments as they are.
+	 */
+	private static void generateDirectMethod(ClassWriter cw, String internalName, Method method) {
+		MethodVisitor mv = visitMethod(cw, method);
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitFieldInsn(Opcodes.GETFIELD, internalName, HANDLER_FIELD, Type.getDescriptor(AsmAopProxy.class));
+		mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, HANDLER, "target", "()Ljava/lang/Object;", false);
+		Type[] argumentTypes = Type.getArgumentTypes(method);
+		int local = 1;
+		castTarget(mv, method);
+		for (Type argumentType : argumentTypes) {
+			mv.visitVarInsn(argumentType.getOpcode(Opcodes.ILOAD), local);
+			local += argumentType.getSize();
+		}
+		invokeTargetMethod(mv, method);
+		mv.visitInsn(Type.getReturnType(method).getOpcode(Opcodes.IRETURN));
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	/**
+	 * Generate a method boxing its arguments into an array and handing them
+	 * to {@link #invoke} with the method, its index and the invoker.
+	 */
+	private static void generateAdvisedMethod(ClassWriter cw, String internalName, Method method, int index) {
+		MethodVisitor mv = visitMethod(cw, method);
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitFieldInsn(Opcodes.GETFIELD, internalName, HANDLER_FIELD, Type.getDescriptor(AsmAopProxy.class));
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitFieldInsn(Opcodes.GETSTATIC, internalName, METHODS_FIELD, Type.getDescriptor(Method[].class));
+		push(mv, index);
+		mv.visitInsn(Opcodes.AALOAD);
+		push(mv, index);
+		Type[] argumentTypes = Type.getArgumentTypes(method);
+		if (argumentTypes.length == 0) {
+			mv.visitInsn(Opcodes.ACONST_NULL);
+		} else {
+			push(mv, argumentTypes.length);
+			mv.visitTypeInsn(Opcodes.ANEWARRAY, OBJECT);
+			int local = 1;
+			for (int i = 0; i < argumentTypes.length; i++) {
+				mv.visitInsn(Opcodes.DUP);
+				push(mv, i);
+				mv.visitVarInsn(argumentTypes[i].getOpcode(Opcodes.ILOAD), local);
+				box(mv, argumentTypes[i]);
+				mv.visitInsn(Opcodes.AASTORE);
+				local += argumentTypes[i].getSize();
+			}
+		}
+		mv.visitFieldInsn(Opcodes.GETSTATIC, internalName, INVOKER_FIELD, INVOKER);
+		mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, HANDLER, "invoke", INVOKE_DESCRIPTOR, false);
+		Type returnType = Type.getReturnType(method);
+		if (returnType.getSort() == Type.VOID) {
+			mv.visitInsn(Opcodes.POP);
+		} else {
+			unbox(mv, returnType);
+		}
+		mv.visitInsn(returnType.getOpcode(Opcodes.IRETURN));
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	/**
+	 * Generate the package-private invoker class of a proxy class, whose
+	 * {@link TargetInvoker#invokeTarget} calls the advised method with the
+	 * given index on the target with unboxed arguments.
+	 */
+	private static byte[] generateInvokerClass(String internalName, Method[] methods, List<Integer> advisedIndexes) {
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+			@Override
+			protected String getCommonSuperClass(String type1, String type2) {
+				// Frames only merge at switch targets, whose locals are the same on every path
+				return OBJECT;
+			}
+		};
+		cw.visit(Opcodes.V1_8, Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, internalName, null, OBJECT,
+				new String[] { Type.getInternalName(TargetInvoker.class) });
+		MethodVisitor mv = cw.visitMethod(0, "<init>", "()V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+		mv.visitInsn(Opcodes.RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "invokeTarget", INVOKE_TARGET_DESCRIPTOR, null,
+				new String[] { Type.getInternalName(Throwable.class) });
+		mv.visitCode();
+		int[] keys = new int[advisedIndexes.size()];
+		Label[] labels = new Label[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = advisedIndexes.get(i);
+			labels[i] = new Label();
+		}
+		Label unknownMethod = new Label();
+		mv.visitVarInsn(Opcodes.ILOAD, 1);
+		mv.visitLookupSwitchInsn(unknownMethod, keys, labels);
+		for (int i = 0; i < keys.length; i++) {
+			Method method = methods[keys[i]];
+			mv.visitLabel(labels[i]);
+			mv.visitVarInsn(Opcodes.ALOAD, 2);
+			castTarget(mv, method);
+			Type[] argumentTypes = Type.getArgumentTypes(method);
+			for (int j = 0; j < argumentTypes.length; j++) {
+				mv.visitVarInsn(Opcodes.ALOAD, 3);
+				push(mv, j);
+				mv.visitInsn(Opcodes.AALOAD);
+				unbox(mv, argumentTypes[j]);
+			}
+			invokeTargetMethod(mv, method);
+			Type returnType = Type.getReturnType(method);
+			if (returnType.getSort() == Type.VOID) {
+				mv.visitInsn(Opcodes.ACONST_NULL);
+			} else {
+				box(mv, returnType);
+			}
+			mv.visitInsn(Opcodes.ARETURN);
+		}
+		mv.visitLabel(unknownMethod);
+		mv.visitTypeInsn(Opcodes.NEW, Type.getInternalName(IllegalArgumentException.class));
+		mv.visitInsn(Opcodes.DUP);
+		mv.visitLdcInsn("No advised method with index");
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(IllegalArgumentException.class), "<init>",
+				"(Ljava/lang/String;)V", false);
+		mv.visitInsn(Opcodes.ATHROW);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	private static MethodVisitor visitMethod(ClassWriter cw, Method method) {
+		Class<?>[] exceptionTypes = method.getExceptionTypes();
+		String[] exceptions = new String[exceptionTypes.length];
+		for (int i = 0; i < exceptions.length; i++) {
+			exceptions[i] = Type.getInternalName(exceptionTypes[i]);
+		}
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, method.getName(),
+				Type.getMethodDescriptor(method), null, exceptions);
+		mv.visitCode();
+		return mv;
+	}
+
+	private static void castTarget(MethodVisitor mv, Method method) {
+		if (method.getDeclaringClass() != Object.class) {
+			mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(method.getDeclaringClass()));
+		}
+	}
+
+	private static void invokeTargetMethod(MethodVisitor mv, Method method) {
+		Class<?> owner = method.getDeclaringClass();
+		mv.visitMethodInsn(owner.isInterface() ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+				Type.getInternalName(owner), method.getName(), Type.getMethodDescriptor(method), owner.isInterface());
+	}
+
+	private static void push(MethodVisitor mv, int value) {
+		if (value >= -1 && value <= 5) {
+			mv.visitInsn(Opcodes.ICONST_0 + value);
+		} else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+			mv.visitIntInsn(Opcodes.BIPUSH, value);
+		} else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+			mv.visitIntInsn(Opcodes.SIPUSH, value);
+		} else {
+			mv.visitLdcInsn(value);
+		}
+	}
+
+	private static void box(MethodVisitor mv, Type type) {
+		String wrapper = wrapperName(type);
+		if (wrapper != null) {
+			mv.visitMethodInsn(Opcodes.INVOKESTATIC, wrapper, "valueOf",
+					"(" + type.getDescriptor() + ")L" + wrapper + ";", false);
+		}
+	}
+
+	private static void unbox(MethodVisitor mv, Type type) {
+		String wrapper = wrapperName(type);
+		if (wrapper != null) {
+			mv.visitTypeInsn(Opcodes.CHECKCAST, wrapper);
+			mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, wrapper, type.getClassName() + "Value",
+					"()" + type.getDescriptor(), false);
+		} else if (!type.getInternalName().equals(OBJECT)) {
+			mv.visitTypeInsn(Opcodes.CHECKCAST, type.getInternalName());
+		}
+	}
+
+	private static String wrapperName(Type type) {
+		switch (type.getSort()) {
+			case Type.BOOLEAN:
+				return "java/lang/Boolean";
+			case Type.CHAR:
+				return "java/lang/Character";
+			case Type.BYTE:
+				return "java/lang/Byte";
+			case Type.SHORT:
+				return "java/lang/Short";
+			case Type.INT:
+				return "java/lang/Integer";
+			case Type.FLOAT:
+				return "java/lang/Float";
+			case Type.LONG:
+				return "java/lang/Long";
+			case Type.DOUBLE:
+				return "java/lang/Double";
+			default:
+				return null;
+		}
+	}
+
+	private static String packageName(String className) {
+		int lastDot = className.lastIndexOf('.');
+		return lastDot < 0 ? "" : className.substring(0, lastDot);
+	}
+
+	/**
+	 * Implemented by the invoker classes generated with proxy classes to call
+	 * an advised method on the target at the end of its interceptor chain.
+	 */
+	public interface TargetInvoker {
+
+		/**
+		 * Call the advised method with the given index on the target.
+		 *
+		 * @param methodIndex the index of the method in the proxy class
+		 * @param target      the target
+		 * @param args        the boxed arguments, or null if there are none
+		 * @return the boxed result, null for void methods
+		 * @throws Throwable whatever the target method throws
+		 */
+		Object invokeTarget(int methodIndex, Object target, Object[] args) throws Throwable;
+	}
+
+	/**
+	 * Find the methods a proxy class of the target class implements: those of
+	 * its interfaces, then {@code equals}, {@code hashCode} and
+	 * {@code toString}. Methods are told apart by their erased signature,
+	 * return type included, since interfaces redeclaring a method with a
+	 * covariant return type leave the proxy class both to implement.
+	 */
+	private static ProxiedMethods findProxyMethods(Class<?> targetClass) {
+		Map<String, Method> methods = new LinkedHashMap<>();
+		for (Class<?> proxiedInterface : targetClass.getInterfaces()) {
+			for (Method method : proxiedInterface.getMethods()) {
+				if (!Modifier.isStatic(method.getModifiers())) {
+					methods.putIfAbsent(method.getName() + Type.getMethodDescriptor(method), method);
+				}
+			}
+		}
+		try {
+			for (Method method : new Method[] { Object.class.getMethod("equals", Object.class),
+					Object.class.getMethod("hashCode"), Object.class.getMethod("toString") }) {
+				methods.putIfAbsent(method.getName() + Type.getMethodDescriptor(method), method);
+			}
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+		return new ProxiedMethods(targetClass, methods);
+	}
+
+	/**
+	 * Cache key part of ASM proxy classes, distinguishing them from JDK
+	 * proxies of the same interfaces.
+	 */
+	private static final class AdvisedMethodsKey {
+
+		private final Set<String> advisedMethods;
+
+		AdvisedMethodsKey(Set<String> advisedMethods) {
+			this.advisedMethods = advisedMethods;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof AdvisedMethodsKey
+					&& advisedMethods.equals(((AdvisedMethodsKey) other).advisedMethods);
+		}
+
+		@Override
+		public int hashCode() {
+			return advisedMethods.hashCode();
+		}
+	}
+
+	/**
+	 * Methods and invoker of a proxy class, held while the class is defined
+	 * for its static initializer to take.
+	 */
+	private static final class DefiningClass {
+
+		final Method[] methods;
+		final TargetInvoker invoker;
+
+		DefiningClass(Method[] methods, TargetInvoker invoker) {
+			this.methods = methods;
+			this.invoker = invoker;
+		}
+	}
+
+	/**
+	 * Invocation that calls the target through the generated
+	 * {@link TargetInvoker} of the proxy class rather than reflection.
+	 */
+	private static class AsmMethodInvocation extends ReflectiveMethodInvocation {
+
+		private int methodIndex;
+		private TargetInvoker invoker;
+
+		void reset(Object proxy, Object target, Method method, Object[] args, MethodInterceptor[] interceptors,
+				int methodIndex, TargetInvoker invoker) {
+			reset(proxy, target, method, args, interceptors);
+			this.methodIndex = methodIndex;
+			this.invoker = invoker;
+		}
+
+		@Override
+		protected void clear() {
+			super.clear();
+			this.invoker = null;
+		}
+
+		@Override
+		protected ReflectiveMethodInvocation newInstance() {
+			AsmMethodInvocation invocation = new AsmMethodInvocation();
+			invocation.methodIndex = methodIndex;
+			invocation.invoker = invoker;
+			return invocation;
+		}
+
+		@Override
+		protected Object invokeJoinpoint() throws Throwable {
+			return invoker.invokeTarget(methodIndex, target, arguments);
+		}
+	}
+}
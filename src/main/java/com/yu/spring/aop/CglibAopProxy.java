@@ -1,19 +1,71 @@
 package com.yu.spring.aop;
 
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.CallbackFilter;
+import net.sf.cglib.proxy.Dispatcher;
 import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * CGLIB-based AopProxy implementation.
+ * The interceptor chain of each method comes from the cache in
+ * {@link Advised#getInterceptors}, and advised calls reuse a pooled
+ * invocation of the calling thread.
+ *
+ * <p>Proxy classes come from the {@link ProxyClassCache} rather than a new
+ * Enhancer per proxy, and are instantiated through a constructor handle
+ * cached per proxy class, with the callbacks handed to the constructor
+ * through the class's thread callback setter.
+ *
+ * <p>Which methods are advised is decided when the proxy class is
+ * generated, by matching every overridable method against the advisors once
+ * per target class and set of advisors. A CallbackFilter routes advised
+ * methods to this interceptor and all others to a Dispatcher that returns
+ * the target, so an unadvised call is a direct call on the target without
+ * boxing or a chain lookup. Proxy classes are
+ * shared between proxies whose advisors advise the same methods. Advisors
+ * added after a proxy was created apply to the methods advised when it was
+ * created; methods they newly match are only advised on proxies created
+ * afterwards.
  * 
  * @author yuhangbin
  * @date 2022/5/3
  **/
 public class CglibAopProxy implements AopProxy, MethodInterceptor {
 
+	private static final InvocationPool<CglibMethodInvocation> invocationPool =
+			new InvocationPool<>(CglibMethodInvocation::new);
+
+	private static final int AOP_PROXY = 0;
+	private static final int DISPATCH_TARGET = 1;
+
+	private static final Class<?>[] CALLBACK_TYPES = { MethodInterceptor.class, Dispatcher.class };
+
+	private static final ClassValue<ProxiedMethods> overridableMethods = new ClassValue<ProxiedMethods>() {
+		@Override
+		protected ProxiedMethods computeValue(Class<?> targetClass) {
+			return findOverridableMethods(targetClass);
+		}
+	};
+
+	private static final ClassValue<ProxyInstantiator> instantiators = new ClassValue<ProxyInstantiator>() {
+		@Override
+		protected ProxyInstantiator computeValue(Class<?> proxyClass) {
+			return new ProxyInstantiator(proxyClass);
+		}
+	};
+
 	private final Advised advised;
 
 	public CglibAopProxy(Advised advised) {
@@ -26,36 +78,195 @@ public class CglibAopProxy implements AopProxy, MethodInterceptor {
 	}
 
 	public Object getProxy(ClassLoader classLoader) {
-		Enhancer enhancer = new Enhancer();
-		enhancer.setSuperclass(advised.getTargetClass());
-		enhancer.setInterfaces(advised.getTargetClass().getInterfaces());
-		enhancer.setCallback(this);
-		enhancer.setClassLoader(classLoader);
-
-		return enhancer.create();
+		return instantiators.get(getProxyClass(classLoader)).newInstance(
+				new Callback[] { this, new TargetDispatcher(advised) });
 	}
 
 	@Override
 	public Class<?> getProxyClass() {
-		return getProxy().getClass();
+		return getProxyClass(advised.getTargetClass().getClassLoader());
+	}
+
+	private Class<?> getProxyClass(ClassLoader classLoader) {
+		Class<?> targetClass = advised.getTargetClass();
+		Class<?>[] interfaces = targetClass.getInterfaces();
+		ProxyCallbackFilter filter = new ProxyCallbackFilter(overridableMethods.get(targetClass).getAdvisedMethods(advised));
+		return ProxyClassCache.getProxyClass(classLoader, targetClass, interfaces, CALLBACK_TYPES, filter, () -> {
+			Enhancer enhancer = new Enhancer();
+			enhancer.setSuperclass(targetClass);
+			enhancer.setInterfaces(interfaces);
+			enhancer.setCallbackTypes(CALLBACK_TYPES);
+			enhancer.setCallbackFilter(filter);
+			enhancer.setClassLoader(classLoader);
+			return enhancer.createClass();
+		});
 	}
 
 	@Override
 	public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
 		Object target = advised.getTarget();
-
-		// Check if method matches any pointcut
-		if (advised.getPointcut() != null &&
-				advised.getPointcut().getMethodMatcher().matches(method, target.getClass())) {
-
-			// Apply advice (simplified - would normally handle different advice types)
-			System.out.println("Before method: " + method.getName());
-			Object result = methodProxy.invoke(target, args);
-			System.out.println("After method: " + method.getName());
-			return result;
-		} else {
-			// Direct invocation
+		com.yu.spring.aop.intercept.MethodInterceptor[] chain = advised.getInterceptors(method, target.getClass());
+		if (chain.length == 0) {
+			// Not advised, invoke the target directly
 			return methodProxy.invoke(target, args);
 		}
+		CglibMethodInvocation invocation = invocationPool.acquire();
+		try {
+			invocation.reset(proxy, target, method, args, chain, methodProxy);
+			return AopProxyUtils.checkReturnValue(method, invocation.proceed());
+		} finally {
+			invocationPool.release(invocation);
+		}
+	}
+
+	/**
+	 * Invocation that calls the target through the cglib MethodProxy
+	 * rather than reflection.
+	 */
+	private static class CglibMethodInvocation extends ReflectiveMethodInvocation {
+
+		private MethodProxy methodProxy;
+
+		void reset(Object proxy, Object target, Method method, Object[] args,
+				com.yu.spring.aop.intercept.MethodInterceptor[] interceptors, MethodProxy methodProxy) {
+			reset(proxy, target, method, args, interceptors);
+			this.methodProxy = methodProxy;
+		}
+
+		@Override
+		protected void clear() {
+			super.clear();
+			this.methodProxy = null;
+		}
+
+		@Override
+		protected ReflectiveMethodInvocation newInstance() {
+			CglibMethodInvocation invocation = new CglibMethodInvocation();
+			invocation.methodProxy = methodProxy;
+			return invocation;
+		}
+
+		@Override
+		protected Object invokeJoinpoint() throws Throwable {
+			return methodProxy.invoke(target, arguments);
+		}
+	}
+
+	/**
+	 * Creates instances of a proxy class through handles to its no-arg
+	 * constructor and to the static method registering the callbacks the
+	 * constructor binds.
+	 */
+	private static final class ProxyInstantiator {
+
+		private final Class<?> proxyClass;
+		private final MethodHandle constructor;
+		private final MethodHandle setThreadCallbacks;
+
+		ProxyInstantiator(Class<?> proxyClass) {
+			this.proxyClass = proxyClass;
+			try {
+				Constructor<?> constructor = proxyClass.getDeclaredConstructor();
+				constructor.setAccessible(true);
+				this.constructor = MethodHandles.lookup().unreflectConstructor(constructor)
+						.asType(MethodType.methodType(Object.class));
+				Method setThreadCallbacks = proxyClass.getDeclaredMethod("CGLIB$SET_THREAD_CALLBACKS", Callback[].class);
+				setThreadCallbacks.setAccessible(true);
+				this.setThreadCallbacks = MethodHandles.lookup().unreflect(setThreadCallbacks);
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException("Class " + proxyClass.getSuperclass().getName()
+						+ " needs a no-arg constructor to be proxied", e);
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException("Cannot access proxy class " + proxyClass.getName(), e);
+			}
+		}
+
+		Object newInstance(Callback[] callbacks) {
+			try {
+				setThreadCallbacks.invokeExact(callbacks);
+				try {
+					return (Object) constructor.invokeExact();
+				} finally {
+					setThreadCallbacks.invokeExact((Callback[]) null);
+				}
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException("Cannot instantiate proxy class " + proxyClass.getName(), e);
+			}
+		}
+	}
+
+	/**
+	 * Find the most specific declaration of each method a proxy class of the
+	 * target class overrides.
+	 */
+	private static ProxiedMethods findOverridableMethods(Class<?> targetClass) {
+		Map<String, Method> methods = new LinkedHashMap<>();
+		for (Class<?> clazz = targetClass; clazz != null; clazz = clazz.getSuperclass()) {
+			for (Method method : clazz.getDeclaredMethods()) {
+				addOverridableMethod(method, methods);
+			}
+		}
+		// Interface methods the class hierarchy does not declare, such as default methods
+		for (Method method : targetClass.getMethods()) {
+			addOverridableMethod(method, methods);
+		}
+		return new ProxiedMethods(targetClass, methods);
+	}
+
+	private static void addOverridableMethod(Method method, Map<String, Method> methods) {
+		int modifiers = method.getModifiers();
+		if (!Modifier.isStatic(modifiers) && !Modifier.isPrivate(modifiers) && !Modifier.isFinal(modifiers)) {
+			methods.putIfAbsent(AdvisedSupport.signature(method), method);
+		}
+	}
+
+	/**
+	 * Routes the methods advised when the proxy class is generated to the
+	 * interceptor, and all others to the target. Filters are equal when they
+	 * advise the same methods, which lets proxies share a proxy class.
+	 */
+	private static final class ProxyCallbackFilter implements CallbackFilter {
+
+		private final Set<String> advisedMethods;
+
+		ProxyCallbackFilter(Set<String> advisedMethods) {
+			this.advisedMethods = advisedMethods;
+		}
+
+		@Override
+		public int accept(Method method) {
+			return advisedMethods.contains(AdvisedSupport.signature(method)) ? AOP_PROXY : DISPATCH_TARGET;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof ProxyCallbackFilter
+					&& advisedMethods.equals(((ProxyCallbackFilter) other).advisedMethods);
+		}
+
+		@Override
+		public int hashCode() {
+			return advisedMethods.hashCode();
+		}
+	}
+
+	/**
+	 * Returns the current target, on which the proxy class then calls
+	 * unadvised methods directly.
+	 */
+	private static final class TargetDispatcher implements Dispatcher {
+
+		private final Advised advised;
+
+		TargetDispatcher(Advised advised) {
+			this.advised = advised;
+		}
+
+		@Override
+		public Object loadObject() {
+			return advised.getTarget();
+		}
 	}
 }
@@ -0,0 +1,255 @@
+package com.yu.spring.aop;
+
+import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.BeanPostProcessor;
+import com.yu.spring.beans.factory.config.BeanClassPreparingPostProcessor;
+import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+import com.yu.spring.core.OrderComparator;
+import com.yu.spring.core.Ordered;
+import com.yu.spring.core.ResolvableType;
+import com.yu.spring.core.annotation.ClassMetadata;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * BeanPostProcessor that proxies every bean some {@link Advisor} bean of the
+ * factory applies to, with one proxy per bean holding all its advisors,
+ * created through an {@link AopProxyFactory}.
+ *
+ * <p>Which advisors apply is decided per bean class and cached. An advisor
+ * whose {@link ClassFilter} rejects the class is dropped before any of its
+ * methods are matched, so a bean class no advisor targets costs one class
+ * filter call per advisor, once. During refresh the creator screens the
+ * classes of all bean definitions and has the proxy classes of the advised
+ * ones generated in parallel, so creating the beans only instantiates their
+ * proxies.
+ *
+ * <p>Advisor beans are looked up when refresh prepares bean classes, or on
+ * the first bean otherwise, and again once bean definitions have been
+ * registered since, so advisors defined later apply to the beans created
+ * after them. Beans created before keep the proxy, or lack of one, they
+ * were created with. Preparing bean classes creates the advisor beans, as
+ * their pointcuts decide which proxy classes are needed.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class DefaultAdvisorAutoProxyCreator implements BeanClassPreparingPostProcessor, Ordered {
+
+	private static final Advisor[] NO_ADVISORS = new Advisor[0];
+
+	private AopProxyFactory aopProxyFactory = new DefaultAopProxyFactory();
+	private DefaultListableBeanFactory beanFactory;
+	private volatile CandidateAdvisors candidateAdvisors;
+	private boolean proxyTargetClass;
+	private boolean optimize;
+
+	public DefaultAdvisorAutoProxyCreator() {
+	}
+
+	public DefaultAdvisorAutoProxyCreator(DefaultListableBeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	public void setBeanFactory(DefaultListableBeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	public void setAopProxyFactory(AopProxyFactory aopProxyFactory) {
+		this.aopProxyFactory = aopProxyFactory;
+	}
+
+	/**
+	 * Set whether to proxy bean classes by subclassing even when they
+	 * implement interfaces.
+	 */
+	public void setProxyTargetClass(boolean proxyTargetClass) {
+		this.proxyTargetClass = proxyTargetClass;
+	}
+
+	/**
+	 * Set whether proxies should favor low call overhead over the cost of
+	 * generating their classes.
+	 */
+	public void setOptimize(boolean optimize) {
+		this.optimize = optimize;
+	}
+
+	@Override
+	public CompletableFuture<Void> prepareBeanClasses(DefaultListableBeanFactory beanFactory, Executor executor) {
+		if (this.beanFactory == null) {
+			this.beanFactory = beanFactory;
+		}
+		if (getCandidateAdvisors().advisors.length == 0) {
+			return CompletableFuture.completedFuture(null);
+		}
+		Set<Class<?>> beanClasses = new LinkedHashSet<>();
+		for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+			// The class of a factory method bean is only known once it is created
+			if (beanDefinition.getBeanClass() != null && beanDefinition.getFactoryMethod() == null
+					&& !isInfrastructureClass(beanDefinition.getBeanClass())) {
+				beanClasses.add(beanDefinition.getBeanClass());
+			}
+		}
+		List<AdvisedSupport> configs = new ArrayList<>();
+		for (Class<?> beanClass : beanClasses) {
+			Advisor[] advisors = getEligibleAdvisors(beanClass);
+			if (advisors.length > 0) {
+				AdvisedSupport config = createConfig(advisors);
+				config.setTargetClass(beanClass);
+				configs.add(config);
+			}
+		}
+		return aopProxyFactory.generateProxyClasses(configs, executor);
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) {
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (isInfrastructureClass(bean.getClass())) {
+			return bean;
+		}
+		Advisor[] advisors = getEligibleAdvisors(bean.getClass());
+		if (advisors.length == 0) {
+			return bean;
+		}
+		AdvisedSupport config = createConfig(advisors);
+		config.setTarget(bean);
+		return aopProxyFactory.createAopProxy(config).getProxy();
+	}
+
+	@Override
+	public int getOrder() {
+		// Proxy last, so other post processors see the target
+		return LOWEST_PRECEDENCE;
+	}
+
+	/**
+	 * Return the advisors that apply to some method of the bean class, sorted
+	 * by the {@link OrderComparator}: ordered advisors by their order, then
+	 * the others in the order the advisor beans were defined.
+	 *
+	 * @param beanClass the bean class
+	 * @return the eligible advisors, empty if the class is not to be proxied
+	 */
+	public Advisor[] getEligibleAdvisors(Class<?> beanClass) {
+		CandidateAdvisors candidates = getCandidateAdvisors();
+		Advisor[] advisors = candidates.eligibleAdvisors.get(beanClass);
+		if (advisors == null) {
+			advisors = findEligibleAdvisors(candidates.advisors, beanClass);
+			candidates.eligibleAdvisors.put(beanClass, advisors);
+		}
+		return advisors;
+	}
+
+	private static Advisor[] findEligibleAdvisors(Advisor[] candidateAdvisors, Class<?> beanClass) {
+		List<Advisor> eligible = null;
+		for (Advisor advisor : candidateAdvisors) {
+			if (AdvisedSupport.canApply(advisor, beanClass) && appliesToSomeMethod(advisor, beanClass)) {
+				if (eligible == null) {
+					eligible = new ArrayList<>();
+				}
+				eligible.add(advisor);
+			}
+		}
+		return eligible == null ? NO_ADVISORS : eligible.toArray(NO_ADVISORS);
+	}
+
+	private static boolean appliesToSomeMethod(Advisor advisor, Class<?> beanClass) {
+		for (Method method : ClassMetadata.forClass(beanClass).getMethods()) {
+			int modifiers = method.getModifiers();
+			if (!Modifier.isStatic(modifiers) && !Modifier.isPrivate(modifiers)
+					&& AdvisedSupport.canApply(advisor, method, beanClass)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the advisor beans, looking them up again if bean definitions
+	 * were registered since they were last looked up.
+	 */
+	private CandidateAdvisors getCandidateAdvisors() {
+		if (beanFactory == null) {
+			throw new IllegalStateException("DefaultAdvisorAutoProxyCreator needs a bean factory to find advisors");
+		}
+		CandidateAdvisors candidates = candidateAdvisors;
+		int registrations = beanFactory.getBeanDefinitionRegistrationCount();
+		if (candidates == null || candidates.registrations != registrations) {
+			List<String> advisorNames = beanFactory.getBeanNamesForType(ResolvableType.forClass(Advisor.class));
+			if (candidates != null && candidates.advisorNames.equals(advisorNames)) {
+				// Only other beans were defined, so the eligible advisors found so far still hold
+				candidates = new CandidateAdvisors(registrations, candidates);
+			} else {
+				List<Advisor> advisors = new ArrayList<>(advisorNames.size());
+				for (String advisorName : advisorNames) {
+					advisors.add((Advisor) beanFactory.getBean(advisorName));
+				}
+				OrderComparator.sort(advisors);
+				candidates = new CandidateAdvisors(registrations, advisorNames, advisors.toArray(NO_ADVISORS));
+			}
+			candidateAdvisors = candidates;
+		}
+		return candidates;
+	}
+
+	private AdvisedSupport createConfig(Advisor[] advisors) {
+		AdvisedSupport config = new AdvisedSupport();
+		config.setProxyTargetClass(proxyTargetClass);
+		config.setOptimize(optimize);
+		for (Advisor advisor : advisors) {
+			config.addAdvisor(advisor);
+		}
+		return config;
+	}
+
+	/**
+	 * Return whether beans of the class are part of the AOP infrastructure,
+	 * which is never proxied.
+	 */
+	protected boolean isInfrastructureClass(Class<?> beanClass) {
+		return Advisor.class.isAssignableFrom(beanClass) || Advice.class.isAssignableFrom(beanClass)
+				|| BeanPostProcessor.class.isAssignableFrom(beanClass);
+	}
+
+	/**
+	 * The advisor beans found for a number of bean definition registrations,
+	 * with the advisors eligible for each bean class screened against them.
+	 */
+	private static final class CandidateAdvisors {
+
+		final int registrations;
+		final List<String> advisorNames;
+		final Advisor[] advisors;
+		final Map<Class<?>, Advisor[]> eligibleAdvisors;
+
+		CandidateAdvisors(int registrations, List<String> advisorNames, Advisor[] advisors) {
+			this.registrations = registrations;
+			this.advisorNames = advisorNames;
+			this.advisors = advisors;
+			this.eligibleAdvisors = new ConcurrentHashMap<>(256);
+		}
+
+		CandidateAdvisors(int registrations, CandidateAdvisors unchanged) {
+			this.registrations = registrations;
+			this.advisorNames = unchanged.advisorNames;
+			this.advisors = unchanged.advisors;
+			this.eligibleAdvisors = unchanged.eligibleAdvisors;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.yu.spring.aop;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+/**
+ * Default AopProxyFactory, choosing for each target the cheapest proxy that
+ * can proxy it:
+ * <ul>
+ * <li>a {@link CglibAopProxy} subclass if the target class implements no
+ * interfaces or {@link Advised#isProxyTargetClass()} is set, provided the
+ * class is not final and has a non-private no-arg constructor;</li>
+ * <li>otherwise, for a configuration {@link Advised#isOptimize() optimized}
+ * for call overhead, an {@link AsmAopProxy} if it can implement the
+ * interfaces;</li>
+ * <li>otherwise a {@link JdkDynamicAopProxy}, which generates its class
+ * fastest.</li>
+ * </ul>
+ *
+ * <p>{@link #generateProxyClasses} generates the proxy classes for a set of
+ * configurations in parallel, so that creating the proxies later only
+ * instantiates them.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class DefaultAopProxyFactory implements AopProxyFactory {
+
+	@Override
+	public AopProxy createAopProxy(Advised config) {
+		Class<?> targetClass = config.getTargetClass();
+		if (targetClass == null) {
+			throw new IllegalStateException("Cannot determine the target class of the proxy: set a target or target class");
+		}
+		boolean hasInterfaces = targetClass.getInterfaces().length > 0;
+		if ((config.isProxyTargetClass() || !hasInterfaces) && canSubclass(targetClass)) {
+			return new CglibAopProxy(config);
+		}
+		if (!hasInterfaces) {
+			throw new IllegalStateException("Cannot proxy " + targetClass.getName()
+					+ ": it implements no interfaces and is final or has no non-private no-arg constructor");
+		}
+		if (config.isOptimize() && AsmAopProxy.canProxy(targetClass)) {
+			return new AsmAopProxy(config);
+		}
+		return new JdkDynamicAopProxy(config);
+	}
+
+	private static boolean canSubclass(Class<?> targetClass) {
+		if (Modifier.isFinal(targetClass.getModifiers())) {
+			return false;
+		}
+		try {
+			Constructor<?> constructor = targetClass.getDeclaredConstructor();
+			return !Modifier.isPrivate(constructor.getModifiers());
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+}
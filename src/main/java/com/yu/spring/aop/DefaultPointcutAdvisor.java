@@ -0,0 +1,40 @@
+package com.yu.spring.aop;
+
+/**
+ * PointcutAdvisor holding a given pointcut and advice.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class DefaultPointcutAdvisor implements PointcutAdvisor {
+
+	private final Pointcut pointcut;
+	private final Advice advice;
+
+	/**
+	 * Create an advisor applying the advice to all methods.
+	 */
+	public DefaultPointcutAdvisor(Advice advice) {
+		this(Pointcut.TRUE, advice);
+	}
+
+	public DefaultPointcutAdvisor(Pointcut pointcut, Advice advice) {
+		this.pointcut = pointcut;
+		this.advice = advice;
+	}
+
+	@Override
+	public Pointcut getPointcut() {
+		return pointcut;
+	}
+
+	@Override
+	public Advice getAdvice() {
+		return advice;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + ": pointcut [" + pointcut + "]; advice [" + advice + "]";
+	}
+}
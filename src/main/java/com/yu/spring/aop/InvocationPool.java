@@ -0,0 +1,52 @@
+package com.yu.spring.aop;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread stack of reusable method invocations, so running an
+ * interceptor chain does not allocate one on every proxied call.
+ *
+ * <p>A proxied call acquires the invocation at the current depth of its
+ * thread and releases it in a finally block, so calls made from inside
+ * advice, through the same or another proxy, get the next invocation up
+ * the stack. Depths beyond {@link #MAX_POOLED_DEPTH} allocate.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+final class InvocationPool<T extends ReflectiveMethodInvocation> {
+
+	static final int MAX_POOLED_DEPTH = 16;
+
+	private final Supplier<T> factory;
+	private final ThreadLocal<Frames> frames = ThreadLocal.withInitial(Frames::new);
+
+	InvocationPool(Supplier<T> factory) {
+		this.factory = factory;
+	}
+
+	@SuppressWarnings("unchecked")
+	T acquire() {
+		Frames frames = this.frames.get();
+		int depth = frames.depth++;
+		if (depth >= MAX_POOLED_DEPTH) {
+			return factory.get();
+		}
+		ReflectiveMethodInvocation invocation = frames.invocations[depth];
+		if (invocation == null) {
+			invocation = factory.get();
+			frames.invocations[depth] = invocation;
+		}
+		return (T) invocation;
+	}
+
+	void release(T invocation) {
+		invocation.clear();
+		frames.get().depth--;
+	}
+
+	private static final class Frames {
+		final ReflectiveMethodInvocation[] invocations = new ReflectiveMethodInvocation[MAX_POOLED_DEPTH];
+		int depth;
+	}
+}
@@ -1,17 +1,48 @@
 package com.yu.spring.aop;
 
+import com.yu.spring.aop.intercept.MethodInterceptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 
 /**
  * JDK-based AopProxy implementation using dynamic proxies.
+ * The interceptor chain of each method comes from the cache in
+ * {@link Advised#getInterceptors}, and advised calls reuse a pooled
+ * invocation of the calling thread.
+ *
+ * <p>Proxy classes come from the {@link ProxyClassCache} and are
+ * instantiated through a constructor handle cached per proxy class.
  * 
  * @author yuhangbin
  * @date 2022/5/3
  **/
 public class JdkDynamicAopProxy implements AopProxy, InvocationHandler {
 
+	private static final Class<?>[] NO_CALLBACK_TYPES = new Class<?>[0];
+
+	private static final InvocationPool<ReflectiveMethodInvocation> invocationPool =
+			new InvocationPool<>(ReflectiveMethodInvocation::new);
+
+	private static final ClassValue<MethodHandle> constructors = new ClassValue<MethodHandle>() {
+		@Override
+		protected MethodHandle computeValue(Class<?> proxyClass) {
+			try {
+				Constructor<?> constructor = proxyClass.getConstructor(InvocationHandler.class);
+				constructor.setAccessible(true);
+				return MethodHandles.lookup().unreflectConstructor(constructor)
+						.asType(MethodType.methodType(Object.class, InvocationHandler.class));
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException("Cannot access constructor of proxy class " + proxyClass.getName(), e);
+			}
+		}
+	};
+
 	private final Advised advised;
 
 	public JdkDynamicAopProxy(Advised advised) {
@@ -24,34 +55,45 @@ public class JdkDynamicAopProxy implements AopProxy, InvocationHandler {
 	}
 
 	public Object getProxy(ClassLoader classLoader) {
-		Class<?>[] interfaces = advised.getTargetClass().getInterfaces();
-		if (interfaces.length == 0) {
-			throw new RuntimeException("Target class must implement at least one interface for JDK proxy");
+		MethodHandle constructor = constructors.get(getProxyClass(classLoader));
+		try {
+			return (Object) constructor.invokeExact((InvocationHandler) this);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException("Cannot instantiate JDK proxy", e);
 		}
-		return Proxy.newProxyInstance(classLoader, interfaces, this);
 	}
 
 	@Override
 	public Class<?> getProxyClass() {
-		return getProxy().getClass();
+		return getProxyClass(advised.getTargetClass().getClassLoader());
+	}
+
+	@SuppressWarnings("deprecation")
+	private Class<?> getProxyClass(ClassLoader classLoader) {
+		Class<?>[] interfaces = advised.getTargetClass().getInterfaces();
+		if (interfaces.length == 0) {
+			throw new RuntimeException("Target class must implement at least one interface for JDK proxy");
+		}
+		return ProxyClassCache.getProxyClass(classLoader, null, interfaces, NO_CALLBACK_TYPES, null,
+				() -> Proxy.getProxyClass(classLoader, interfaces));
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
 		Object target = advised.getTarget();
-
-		// Check if method matches any pointcut
-		if (advised.getPointcut() != null &&
-				advised.getPointcut().getMethodMatcher().matches(method, target.getClass())) {
-
-			// Apply advice (simplified - would normally handle different advice types)
-			System.out.println("Before method: " + method.getName());
-			Object result = method.invoke(target, args);
-			System.out.println("After method: " + method.getName());
-			return result;
-		} else {
-			// Direct invocation
-			return method.invoke(target, args);
+		MethodInterceptor[] chain = advised.getInterceptors(method, target.getClass());
+		if (chain.length == 0) {
+			// Not advised, invoke the target directly
+			return ReflectiveMethodInvocation.invokeJoinpointUsingReflection(target, method, args);
+		}
+		ReflectiveMethodInvocation invocation = invocationPool.acquire();
+		try {
+			invocation.reset(proxy, target, method, args, chain);
+			return AopProxyUtils.checkReturnValue(method, invocation.proceed());
+		} finally {
+			invocationPool.release(invocation);
 		}
 	}
 }
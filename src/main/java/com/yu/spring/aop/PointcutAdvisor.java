@@ -0,0 +1,17 @@
+package com.yu.spring.aop;
+
+/**
+ * An Advisor driven by a pointcut.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface PointcutAdvisor extends Advisor {
+
+	/**
+	 * Return the pointcut selecting the methods the advice applies to.
+	 *
+	 * @return the pointcut
+	 */
+	Pointcut getPointcut();
+}
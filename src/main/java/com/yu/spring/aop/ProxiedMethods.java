@@ -0,0 +1,115 @@
+package com.yu.spring.aop;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The methods a proxy class of a target class implements, with their
+ * signatures, and which of them each set of advisors advises.
+ *
+ * <p>Proxies decide when their class is generated which methods are advised,
+ * and look the class up by that decision. Matching every method against the
+ * advisors for each proxy would cost as much as generating the class, so the
+ * advised methods are cached per set of advisors, identified by the advisor
+ * instances in order: the same advisors always advise the same methods of a
+ * class. Advisors are held weakly; entries whose advisors were collected are
+ * dropped on the next miss.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+final class ProxiedMethods {
+
+	final Method[] methods;
+	final String[] signatures;
+
+	private final Class<?> targetClass;
+	private final Map<AdvisorsKey, Set<String>> advisedMethodsCache = new ConcurrentHashMap<>(16);
+
+	/**
+	 * @param targetClass        the target class
+	 * @param methodsBySignature the methods the proxy class implements, by signature
+	 */
+	ProxiedMethods(Class<?> targetClass, Map<String, Method> methodsBySignature) {
+		this.targetClass = targetClass;
+		this.methods = methodsBySignature.values().toArray(new Method[0]);
+		this.signatures = methodsBySignature.keySet().toArray(new String[0]);
+	}
+
+	/**
+	 * Return the signatures of the methods the current advisors of the given
+	 * configuration advise, matching them only on a cache miss.
+	 *
+	 * @param advised the proxy configuration
+	 * @return the signatures of the advised methods, sorted
+	 */
+	Set<String> getAdvisedMethods(Advised advised) {
+		Advisor[] advisors = advised.getAdvisors();
+		AdvisorsKey key = new AdvisorsKey(advisors);
+		Set<String> advisedMethods = advisedMethodsCache.get(key);
+		if (advisedMethods == null) {
+			advisedMethodsCache.keySet().removeIf(AdvisorsKey::isStale);
+			advisedMethods = AdvisedSupport.findAdvisedMethods(advisors, targetClass, methods, signatures);
+			advisedMethodsCache.put(key, advisedMethods);
+		}
+		return advisedMethods;
+	}
+
+	/**
+	 * Identifies a list of advisors by the identity of its elements.
+	 */
+	private static final class AdvisorsKey {
+
+		private final WeakReference<Advisor>[] advisors;
+		private final int hash;
+
+		@SuppressWarnings("unchecked")
+		AdvisorsKey(Advisor[] advisors) {
+			this.advisors = (WeakReference<Advisor>[]) new WeakReference<?>[advisors.length];
+			int hash = 1;
+			for (int i = 0; i < advisors.length; i++) {
+				this.advisors[i] = new WeakReference<>(advisors[i]);
+				hash = 31 * hash + System.identityHashCode(advisors[i]);
+			}
+			this.hash = hash;
+		}
+
+		boolean isStale() {
+			for (WeakReference<Advisor> advisor : advisors) {
+				if (advisor.get() == null) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof AdvisorsKey)) {
+				return false;
+			}
+			AdvisorsKey that = (AdvisorsKey) other;
+			if (hash != that.hash || advisors.length != that.advisors.length) {
+				return false;
+			}
+			for (int i = 0; i < advisors.length; i++) {
+				Advisor advisor = advisors[i].get();
+				if (advisor == null || advisor != that.advisors[i].get()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.yu.spring.aop;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Generated proxy classes, keyed by the class loader that defines them and
+ * the superclass, interfaces, callback types and callback filter they were
+ * generated for, so each combination is generated once rather than on every
+ * proxy creation.
+ *
+ * <p>Class loaders are held weakly and proxy classes through weak
+ * references, which stay valid as long as their defining loader is alive.
+ * Classes in a key are identified by name, which is unambiguous within the
+ * loader defining the proxy since it resolves them by name; neither the key
+ * nor the value therefore keeps a redeployed class loader from being
+ * collected.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+final class ProxyClassCache {
+
+	private static final Map<ClassLoader, Map<ProxyKey, Reference<Class<?>>>> proxyClasses =
+			Collections.synchronizedMap(new WeakHashMap<>());
+
+	private ProxyClassCache() {
+	}
+
+	/**
+	 * Return the cached proxy class for the given key, generating it on a miss.
+	 *
+	 * @param classLoader   the class loader the proxy class is defined in
+	 * @param superclass    the proxied superclass, or null for interface-based proxies
+	 * @param interfaces    the proxied interfaces
+	 * @param callbackTypes the callback types of the proxy class
+	 * @param filterKey     the callback filter, or another value identifying how
+	 *                      methods are dispatched, which must hold no classes; null if none
+	 * @param generator     generates the proxy class on a miss
+	 * @return the proxy class
+	 */
+	static Class<?> getProxyClass(ClassLoader classLoader, Class<?> superclass, Class<?>[] interfaces,
+			Class<?>[] callbackTypes, Object filterKey, Supplier<Class<?>> generator) {
+		Map<ProxyKey, Reference<Class<?>>> classes =
+				proxyClasses.computeIfAbsent(classLoader, loader -> new ConcurrentHashMap<>(16));
+		ProxyKey key = new ProxyKey(superclass, interfaces, callbackTypes, filterKey);
+		Reference<Class<?>> reference = classes.get(key);
+		Class<?> proxyClass = reference != null ? reference.get() : null;
+		if (proxyClass == null) {
+			// Concurrent misses may both generate, the generators cache on their own as well
+			proxyClass = generator.get();
+			classes.put(key, new WeakReference<>(proxyClass));
+		}
+		return proxyClass;
+	}
+
+	private static final class ProxyKey {
+
+		private final String superclassName;
+		private final String[] interfaceNames;
+		private final String[] callbackTypeNames;
+		private final Object filterKey;
+		private final int hash;
+
+		ProxyKey(Class<?> superclass, Class<?>[] interfaces, Class<?>[] callbackTypes, Object filterKey) {
+			this.superclassName = superclass != null ? superclass.getName() : null;
+			this.interfaceNames = names(interfaces);
+			this.callbackTypeNames = names(callbackTypes);
+			this.filterKey = filterKey;
+			this.hash = Objects.hash(superclassName, Arrays.hashCode(interfaceNames),
+					Arrays.hashCode(callbackTypeNames), filterKey);
+		}
+
+		private static String[] names(Class<?>[] classes) {
+			String[] names = new String[classes.length];
+			for (int i = 0; i < classes.length; i++) {
+				names[i] = classes[i].getName();
+			}
+			return names;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof ProxyKey)) {
+				return false;
+			}
+			ProxyKey that = (ProxyKey) other;
+			return hash == that.hash && Objects.equals(superclassName, that.superclassName)
+					&& Arrays.equals(interfaceNames, that.interfaceNames)
+					&& Arrays.equals(callbackTypeNames, that.callbackTypeNames)
+					&& Objects.equals(filterKey, that.filterKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
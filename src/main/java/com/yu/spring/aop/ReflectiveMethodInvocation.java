@@ -0,0 +1,136 @@
+package com.yu.spring.aop;
+
+import com.yu.spring.aop.intercept.MethodInterceptor;
+import com.yu.spring.aop.intercept.MethodInvocation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * MethodInvocation that runs an interceptor chain and then invokes the
+ * target method through reflection. Subclasses may invoke the target
+ * differently by overriding {@link #invokeJoinpoint()}.
+ *
+ * <p>Proxies take invocations from an {@link InvocationPool} and reset them
+ * for each call, so an invocation is only valid until the proxied call
+ * returns. An interceptor that proceeds later, for example on another
+ * thread, must proceed on an {@link #invocableClone()} instead.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ReflectiveMethodInvocation implements MethodInvocation {
+
+	private static final MethodInterceptor[] NO_INTERCEPTORS = new MethodInterceptor[0];
+	private static final Object[] NO_ARGUMENTS = new Object[0];
+
+	protected Object proxy;
+	protected Object target;
+	protected Method method;
+	protected Object[] arguments;
+	private MethodInterceptor[] interceptors;
+	private int currentInterceptorIndex;
+
+	public ReflectiveMethodInvocation(Object proxy, Object target, Method method, Object[] arguments,
+			MethodInterceptor[] interceptors) {
+		reset(proxy, target, method, arguments, interceptors);
+	}
+
+	/**
+	 * Create an empty invocation to be {@link #reset} before use.
+	 */
+	protected ReflectiveMethodInvocation() {
+		clear();
+	}
+
+	/**
+	 * Prepare this invocation for a new call, starting at the first
+	 * interceptor.
+	 */
+	protected void reset(Object proxy, Object target, Method method, Object[] arguments,
+			MethodInterceptor[] interceptors) {
+		this.proxy = proxy;
+		this.target = target;
+		this.method = method;
+		this.arguments = arguments != null ? arguments : NO_ARGUMENTS;
+		this.interceptors = interceptors;
+		this.currentInterceptorIndex = -1;
+	}
+
+	/**
+	 * Drop the references of the last call, so a pooled invocation does not
+	 * keep its target and arguments reachable.
+	 */
+	protected void clear() {
+		reset(null, null, null, null, NO_INTERCEPTORS);
+	}
+
+	@Override
+	public Method getMethod() {
+		return method;
+	}
+
+	@Override
+	public Object[] getArguments() {
+		return arguments;
+	}
+
+	@Override
+	public Object getThis() {
+		return target;
+	}
+
+	/**
+	 * Return the proxy the call was made on.
+	 */
+	public Object getProxy() {
+		return proxy;
+	}
+
+	@Override
+	public Object proceed() throws Throwable {
+		if (currentInterceptorIndex == interceptors.length - 1) {
+			return invokeJoinpoint();
+		}
+		return interceptors[++currentInterceptorIndex].invoke(this);
+	}
+
+	/**
+	 * Return a copy of this invocation, at the same position in the chain and
+	 * with a copy of the arguments, that stays valid after the proxied call
+	 * returns and may be proceeded on independently.
+	 */
+	public ReflectiveMethodInvocation invocableClone() {
+		ReflectiveMethodInvocation clone = newInstance();
+		clone.reset(proxy, target, method, arguments.clone(), interceptors);
+		clone.currentInterceptorIndex = currentInterceptorIndex;
+		return clone;
+	}
+
+	/**
+	 * Create an empty invocation of the same type, for {@link #invocableClone()}.
+	 * Subclasses with extra state override this and copy it.
+	 */
+	protected ReflectiveMethodInvocation newInstance() {
+		return new ReflectiveMethodInvocation();
+	}
+
+	/**
+	 * Invoke the target method.
+	 */
+	protected Object invokeJoinpoint() throws Throwable {
+		return invokeJoinpointUsingReflection(target, method, arguments);
+	}
+
+	/**
+	 * Invoke the method on the target through reflection, rethrowing what
+	 * the method throws rather than an InvocationTargetException.
+	 */
+	public static Object invokeJoinpointUsingReflection(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
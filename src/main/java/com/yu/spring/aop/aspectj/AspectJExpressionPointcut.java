@@ -0,0 +1,187 @@
+package com.yu.spring.aop.aspectj;
+
+import com.yu.spring.aop.ClassFilter;
+import com.yu.spring.aop.MethodMatcher;
+import com.yu.spring.aop.Pointcut;
+import org.aspectj.weaver.reflect.ReflectionWorld;
+import org.aspectj.weaver.tools.PointcutExpression;
+import org.aspectj.weaver.tools.PointcutParser;
+import org.aspectj.weaver.tools.PointcutPrimitive;
+import org.aspectj.weaver.tools.ShadowMatch;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pointcut matching methods against an AspectJ pointcut expression such as
+ * {@code execution(* com.shop..*Service.*(..))}, evaluated with the AspectJ
+ * weaver's reflection-based matching.
+ *
+ * <p>The expression is parsed once, on first use, in the class loader given
+ * or the one that loaded this class. Whether a class could contain matching
+ * join points and whether each method's execution matches are cached, so
+ * screening a class or method a second time, for another bean of the class
+ * or another proxy, is a map lookup. Cache misses are computed one at a
+ * time, as the weaver's type world is not safe for concurrent use.
+ *
+ * <p>Only primitives that are decided by the method alone are supported:
+ * {@code execution}, {@code within}, {@code @annotation} and
+ * {@code @within}, combined with {@code &&}, {@code ||} and {@code !}.
+ * Primitives needing the call's arguments or objects, such as {@code args}
+ * or {@code this}, are rejected when the expression is parsed.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class AspectJExpressionPointcut implements Pointcut, ClassFilter, MethodMatcher {
+
+	private static final Set<PointcutPrimitive> SUPPORTED_PRIMITIVES = new HashSet<>(Arrays.asList(
+			PointcutPrimitive.EXECUTION, PointcutPrimitive.WITHIN,
+			PointcutPrimitive.AT_ANNOTATION, PointcutPrimitive.AT_WITHIN));
+
+	private final String expression;
+	private final ClassLoader classLoader;
+	private final Map<Class<?>, Boolean> classMatchCache = new ConcurrentHashMap<>(256);
+	private final Map<Method, Boolean> shadowMatchCache = new ConcurrentHashMap<>(1024);
+	private volatile PointcutExpression pointcutExpression;
+
+	public AspectJExpressionPointcut(String expression) {
+		this(expression, AspectJExpressionPointcut.class.getClassLoader());
+	}
+
+	/**
+	 * Create a pointcut resolving the types named in the expression through
+	 * the given class loader.
+	 */
+	public AspectJExpressionPointcut(String expression, ClassLoader classLoader) {
+		if (expression == null || expression.trim().isEmpty()) {
+			throw new IllegalArgumentException("Pointcut expression must not be empty");
+		}
+		this.expression = expression;
+		this.classLoader = classLoader;
+	}
+
+	public String getExpression() {
+		return expression;
+	}
+
+	@Override
+	public ClassFilter getClassFilter() {
+		return this;
+	}
+
+	@Override
+	public MethodMatcher getMethodMatcher() {
+		return this;
+	}
+
+	@Override
+	public boolean matches(Class<?> clazz) {
+		Boolean matches = classMatchCache.get(clazz);
+		if (matches == null) {
+			matches = couldMatchJoinPointsIn(clazz);
+			classMatchCache.put(clazz, matches);
+		}
+		return matches;
+	}
+
+	@Override
+	public boolean matches(Method method, Class<?> targetClass) {
+		Method targetMethod = getTargetMethod(method, targetClass);
+		Boolean matches = shadowMatchCache.get(targetMethod);
+		if (matches == null) {
+			matches = matchesExecution(targetMethod);
+			shadowMatchCache.put(targetMethod, matches);
+		}
+		return matches;
+	}
+
+	/**
+	 * Return the parsed expression, parsing it on first use.
+	 */
+	public PointcutExpression getPointcutExpression() {
+		PointcutExpression parsed = pointcutExpression;
+		if (parsed == null) {
+			synchronized (this) {
+				parsed = pointcutExpression;
+				if (parsed == null) {
+					parsed = parse();
+					pointcutExpression = parsed;
+				}
+			}
+		}
+		return parsed;
+	}
+
+	private PointcutExpression parse() {
+		PointcutParser parser = PointcutParser
+				.getPointcutParserSupportingSpecifiedPrimitivesAndUsingSpecifiedClassLoaderForResolution(
+						SUPPORTED_PRIMITIVES, classLoader);
+		try {
+			return parser.parsePointcutExpression(expression);
+		}
+		catch (RuntimeException ex) {
+			throw new IllegalArgumentException("Invalid pointcut expression [" + expression + "]: "
+					+ ex.getMessage(), ex);
+		}
+	}
+
+	private synchronized boolean couldMatchJoinPointsIn(Class<?> clazz) {
+		try {
+			return getPointcutExpression().couldMatchJoinPointsInType(clazz);
+		}
+		catch (ReflectionWorld.ReflectionWorldException ex) {
+			// A type the weaver cannot resolve from its class loader holds no matching join points
+			return false;
+		}
+	}
+
+	private synchronized boolean matchesExecution(Method method) {
+		try {
+			ShadowMatch shadowMatch = getPointcutExpression().matchesMethodExecution(method);
+			// Without runtime primitives a match is never conditional, so maybe means always
+			return shadowMatch.maybeMatches();
+		}
+		catch (ReflectionWorld.ReflectionWorldException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Return the target class's implementation of an interface method, so the
+	 * expression sees the class and annotations of the code that runs.
+	 */
+	private static Method getTargetMethod(Method method, Class<?> targetClass) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		if (targetClass == null || targetClass == declaringClass || !declaringClass.isInterface()
+				|| !declaringClass.isAssignableFrom(targetClass)) {
+			return method;
+		}
+		try {
+			return targetClass.getMethod(method.getName(), method.getParameterTypes());
+		}
+		catch (NoSuchMethodException ex) {
+			return method;
+		}
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return this == other || (other instanceof AspectJExpressionPointcut
+				&& expression.equals(((AspectJExpressionPointcut) other).expression));
+	}
+
+	@Override
+	public int hashCode() {
+		return expression.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "AspectJExpressionPointcut: " + expression;
+	}
+}
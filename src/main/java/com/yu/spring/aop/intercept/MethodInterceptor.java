@@ -0,0 +1,24 @@
+package com.yu.spring.aop.intercept;
+
+import com.yu.spring.aop.Advice;
+
+/**
+ * Intercepts calls on an interface or class on their way to the target.
+ * Implementations call {@link MethodInvocation#proceed()} to continue down
+ * the chain.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@FunctionalInterface
+public interface MethodInterceptor extends Advice {
+
+	/**
+	 * Perform extra work before and after the invocation.
+	 *
+	 * @param invocation the method invocation join point
+	 * @return the result of the call to {@link MethodInvocation#proceed()}, possibly replaced
+	 * @throws Throwable if the interceptors or the target throw
+	 */
+	Object invoke(MethodInvocation invocation) throws Throwable;
+}
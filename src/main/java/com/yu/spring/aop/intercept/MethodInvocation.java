@@ -0,0 +1,36 @@
+package com.yu.spring.aop.intercept;
+
+import java.lang.reflect.Method;
+
+/**
+ * A method call on a proxy, handed to each {@link MethodInterceptor} of the
+ * chain in turn.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface MethodInvocation {
+
+	/**
+	 * Return the method being called.
+	 */
+	Method getMethod();
+
+	/**
+	 * Return the arguments, which interceptors may change in place.
+	 */
+	Object[] getArguments();
+
+	/**
+	 * Return the target object the call is made on.
+	 */
+	Object getThis();
+
+	/**
+	 * Proceed to the next interceptor in the chain, or to the target.
+	 *
+	 * @return the result of the rest of the chain
+	 * @throws Throwable if the rest of the chain throws
+	 */
+	Object proceed() throws Throwable;
+}
@@ -1,5 +1,8 @@
 package com.yu.spring.beans;
 
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
 /**
  * Bean definition holds the configuration metadata for a bean.
  * 
@@ -12,9 +15,16 @@ public class BeanDefinition {
 	private String className;
 	private String scope = "singleton";
 	private boolean lazyInit = false;
+	private boolean backgroundInit = false;
 	private boolean prototype = false;
 	private String initMethodName;
 	private String destroyMethodName;
+	private PropertyValues propertyValues = new PropertyValues();
+	private Supplier<?> instanceSupplier;
+	private String factoryBeanName;
+	private Method factoryMethod;
+	private boolean primary = false;
+	private String qualifier;
 
 	public BeanDefinition() {
 	}
@@ -72,6 +82,19 @@ public class BeanDefinition {
 		this.lazyInit = lazyInit;
 	}
 
+	/**
+	 * Whether this singleton is created on the bootstrap executor during
+	 * refresh instead of on the refreshing thread. Callers that need the bean
+	 * earlier block in getBean until it is ready.
+	 */
+	public boolean isBackgroundInit() {
+		return backgroundInit;
+	}
+
+	public void setBackgroundInit(boolean backgroundInit) {
+		this.backgroundInit = backgroundInit;
+	}
+
 	public boolean isPrototype() {
 		return prototype;
 	}
@@ -95,4 +118,72 @@ public class BeanDefinition {
 	public void setDestroyMethodName(String destroyMethodName) {
 		this.destroyMethodName = destroyMethodName;
 	}
+
+	/**
+	 * Whether this bean is preferred when several beans qualify for an
+	 * autowired injection point.
+	 */
+	public boolean isPrimary() {
+		return primary;
+	}
+
+	public void setPrimary(boolean primary) {
+		this.primary = primary;
+	}
+
+	/**
+	 * Return the qualifier an autowired injection point may select this bean
+	 * by, in addition to its name, or null.
+	 */
+	public String getQualifier() {
+		return qualifier;
+	}
+
+	public void setQualifier(String qualifier) {
+		this.qualifier = qualifier;
+	}
+
+	public PropertyValues getPropertyValues() {
+		return propertyValues;
+	}
+
+	public void setPropertyValues(PropertyValues propertyValues) {
+		this.propertyValues = propertyValues != null ? propertyValues : new PropertyValues();
+	}
+
+	/**
+	 * Return the callback that creates the bean instance in place of the
+	 * no-arg constructor, or null.
+	 */
+	public Supplier<?> getInstanceSupplier() {
+		return instanceSupplier;
+	}
+
+	public void setInstanceSupplier(Supplier<?> instanceSupplier) {
+		this.instanceSupplier = instanceSupplier;
+	}
+
+	/**
+	 * Return the name of the bean whose factory method creates this bean,
+	 * or null for a static factory method.
+	 */
+	public String getFactoryBeanName() {
+		return factoryBeanName;
+	}
+
+	public void setFactoryBeanName(String factoryBeanName) {
+		this.factoryBeanName = factoryBeanName;
+	}
+
+	/**
+	 * Return the method that creates the bean instance, such as a
+	 * {@code @Bean} method, or null to use the constructor.
+	 */
+	public Method getFactoryMethod() {
+		return factoryMethod;
+	}
+
+	public void setFactoryMethod(Method factoryMethod) {
+		this.factoryMethod = factoryMethod;
+	}
 }
@@ -0,0 +1,33 @@
+package com.yu.spring.beans;
+
+/**
+ * Holds the name and value of a single bean property. The value is either a
+ * literal String, converted to the setter's type when the bean is created,
+ * or a {@link com.yu.spring.beans.factory.config.RuntimeBeanReference}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class PropertyValue {
+
+	private final String name;
+	private final Object value;
+
+	public PropertyValue(String name, Object value) {
+		this.name = name;
+		this.value = value;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Object getValue() {
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return "PropertyValue{" + "name='" + name + '\'' + ", value=" + value + '}';
+	}
+}
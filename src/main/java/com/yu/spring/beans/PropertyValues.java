@@ -0,0 +1,51 @@
+package com.yu.spring.beans;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The property values of a bean definition, in declaration order.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class PropertyValues {
+
+	private final List<PropertyValue> propertyValueList = new ArrayList<>(0);
+
+	/**
+	 * Add a property value, replacing any existing value for the same property.
+	 */
+	public PropertyValues addPropertyValue(PropertyValue propertyValue) {
+		for (int i = 0; i < propertyValueList.size(); i++) {
+			if (propertyValueList.get(i).getName().equals(propertyValue.getName())) {
+				propertyValueList.set(i, propertyValue);
+				return this;
+			}
+		}
+		propertyValueList.add(propertyValue);
+		return this;
+	}
+
+	public PropertyValues add(String propertyName, Object value) {
+		return addPropertyValue(new PropertyValue(propertyName, value));
+	}
+
+	public List<PropertyValue> getPropertyValueList() {
+		return Collections.unmodifiableList(propertyValueList);
+	}
+
+	public PropertyValue getPropertyValue(String propertyName) {
+		for (PropertyValue propertyValue : propertyValueList) {
+			if (propertyValue.getName().equals(propertyName)) {
+				return propertyValue;
+			}
+		}
+		return null;
+	}
+
+	public boolean isEmpty() {
+		return propertyValueList.isEmpty();
+	}
+}
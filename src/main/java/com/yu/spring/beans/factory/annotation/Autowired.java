@@ -0,0 +1,30 @@
+package com.yu.spring.beans.factory.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field or method to be injected with beans by type. The declared
+ * generics take part in matching, so a {@code Repository<Order>} field only
+ * accepts a repository of orders. Among several candidates the
+ * {@code @Primary} one, or the one whose bean name matches the field or
+ * parameter name, is chosen.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ * @see Qualifier
+ **/
+@Target({ ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Autowired {
+
+	/**
+	 * Whether the dependency is required; if not, it is left null when no
+	 * candidate bean exists.
+	 */
+	boolean required() default true;
+}
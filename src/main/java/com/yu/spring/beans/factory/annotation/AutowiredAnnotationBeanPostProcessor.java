@@ -0,0 +1,129 @@
+package com.yu.spring.beans.factory.annotation;
+
+import com.yu.spring.beans.BeanPostProcessor;
+import com.yu.spring.beans.factory.config.DependencyDescriptor;
+import com.yu.spring.beans.factory.support.AbstractBeanFactory;
+import com.yu.spring.core.PriorityOrdered;
+import com.yu.spring.core.annotation.ClassMetadata;
+import com.yu.spring.core.annotation.MergedAnnotations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BeanPostProcessor that injects {@link Autowired @Autowired} fields and
+ * methods before initialization, resolving each injection point through
+ * {@link AbstractBeanFactory#resolveDependency}.
+ *
+ * <p>The injection points of each bean class, including its superclasses,
+ * are found once through its {@link ClassMetadata} and cached together with
+ * their DependencyDescriptors, so the bean factory's per-injection-point
+ * cache of resolved bean names is hit on every later instance of a prototype.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class AutowiredAnnotationBeanPostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+	private static final InjectionPoint[] NO_INJECTION_POINTS = new InjectionPoint[0];
+
+	private final AbstractBeanFactory beanFactory;
+	private final Map<Class<?>, InjectionPoint[]> injectionMetadataCache = new ConcurrentHashMap<>(256);
+
+	public AutowiredAnnotationBeanPostProcessor(AbstractBeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws Exception {
+		for (InjectionPoint injectionPoint : findInjectionPoints(bean.getClass())) {
+			injectionPoint.inject(bean, beanFactory);
+		}
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws Exception {
+		return bean;
+	}
+
+	@Override
+	public int getOrder() {
+		return HIGHEST_PRECEDENCE;
+	}
+
+	private InjectionPoint[] findInjectionPoints(Class<?> beanClass) {
+		InjectionPoint[] injectionPoints = injectionMetadataCache.get(beanClass);
+		if (injectionPoints == null) {
+			injectionPoints = injectionMetadataCache.computeIfAbsent(beanClass,
+					AutowiredAnnotationBeanPostProcessor::buildInjectionPoints);
+		}
+		return injectionPoints;
+	}
+
+	private static InjectionPoint[] buildInjectionPoints(Class<?> beanClass) {
+		List<InjectionPoint> injectionPoints = new ArrayList<>();
+		ClassMetadata metadata = ClassMetadata.forClass(beanClass);
+		for (Field field : metadata.getAnnotatedFields(Autowired.class)) {
+			if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+				throw new IllegalStateException("@Autowired is not supported on static or final field " + field);
+			}
+			boolean required = MergedAnnotations.from(field).get(Autowired.class).required();
+			field.setAccessible(true);
+			injectionPoints.add(new InjectionPoint(field,
+					new DependencyDescriptor[] { new DependencyDescriptor(field, beanClass, required) }));
+		}
+		for (Method method : metadata.getAnnotatedMethods(Autowired.class)) {
+			if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() == 0) {
+				throw new IllegalStateException("@Autowired methods must be non-static with parameters: " + method);
+			}
+			boolean required = MergedAnnotations.from(method).get(Autowired.class).required();
+			method.setAccessible(true);
+			DependencyDescriptor[] parameters = new DependencyDescriptor[method.getParameterCount()];
+			for (int i = 0; i < parameters.length; i++) {
+				parameters[i] = new DependencyDescriptor(method, i, beanClass, required);
+			}
+			injectionPoints.add(new InjectionPoint(method, parameters));
+		}
+		return injectionPoints.isEmpty() ? NO_INJECTION_POINTS : injectionPoints.toArray(NO_INJECTION_POINTS);
+	}
+
+	/**
+	 * A field or method annotated with {@code @Autowired}, with one
+	 * descriptor per injected value.
+	 */
+	private static final class InjectionPoint {
+
+		final Object member;
+		final DependencyDescriptor[] descriptors;
+
+		InjectionPoint(Object member, DependencyDescriptor[] descriptors) {
+			this.member = member;
+			this.descriptors = descriptors;
+		}
+
+		void inject(Object bean, AbstractBeanFactory beanFactory) throws Exception {
+			if (member instanceof Field) {
+				Object value = beanFactory.resolveDependency(descriptors[0]);
+				if (value != null) {
+					((Field) member).set(bean, value);
+				}
+				return;
+			}
+			Object[] args = new Object[descriptors.length];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = beanFactory.resolveDependency(descriptors[i]);
+				if (args[i] == null) {
+					// An optional method is only called when all its arguments are available
+					return;
+				}
+			}
+			((Method) member).invoke(bean, args);
+		}
+	}
+}
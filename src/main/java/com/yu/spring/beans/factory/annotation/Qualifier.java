@@ -0,0 +1,23 @@
+package com.yu.spring.beans.factory.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * On an injection point, restricts the candidates to the bean with the given
+ * name or qualifier. On a component class or {@code @Bean} method, declares
+ * the qualifier of that bean.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Qualifier {
+
+	String value();
+}
@@ -0,0 +1,26 @@
+package com.yu.spring.beans.factory.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation used at the field or setter level that indicates a value to
+ * inject, typically a placeholder such as {@code "${server.port:8080}"}
+ * resolved against the Environment.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@Target({ ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Value {
+
+	/**
+	 * The actual value expression, e.g. "${user.region:us-east-1}".
+	 */
+	String value();
+}
@@ -0,0 +1,32 @@
+package com.yu.spring.beans.factory.config;
+
+import com.yu.spring.beans.BeanPostProcessor;
+import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * BeanPostProcessor that generates the classes it will need to post-process
+ * beans, such as proxy classes, before any singleton is created. The context
+ * calls every such processor during refresh and waits for all of them, so
+ * that the classes are generated in parallel rather than one at a time when
+ * singletons or the first prototypes are created.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface BeanClassPreparingPostProcessor extends BeanPostProcessor {
+
+	/**
+	 * Start generating the classes needed for the beans defined in the bean
+	 * factory. The processor may create the infrastructure beans it works
+	 * with, such as advisors, which are not post-processed by it; no other
+	 * bean may be created, as those are created once all classes are ready.
+	 *
+	 * @param beanFactory the bean factory
+	 * @param executor    the executor to generate independent classes on
+	 * @return a future completing once all classes are generated
+	 */
+	CompletableFuture<Void> prepareBeanClasses(DefaultListableBeanFactory beanFactory, Executor executor);
+}
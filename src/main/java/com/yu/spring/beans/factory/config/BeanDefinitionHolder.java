@@ -0,0 +1,38 @@
+package com.yu.spring.beans.factory.config;
+
+import com.yu.spring.beans.BeanDefinition;
+
+/**
+ * Holder for a BeanDefinition with its name, as produced by readers before
+ * the definition is registered.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class BeanDefinitionHolder {
+
+	private final String beanName;
+	private final BeanDefinition beanDefinition;
+
+	/**
+	 * @param beanName       the bean name, or null to have one generated on registration
+	 * @param beanDefinition the bean definition
+	 */
+	public BeanDefinitionHolder(String beanName, BeanDefinition beanDefinition) {
+		this.beanName = beanName;
+		this.beanDefinition = beanDefinition;
+	}
+
+	public String getBeanName() {
+		return beanName;
+	}
+
+	public BeanDefinition getBeanDefinition() {
+		return beanDefinition;
+	}
+
+	@Override
+	public String toString() {
+		return "Bean definition '" + beanName + "' for " + beanDefinition.getClassName();
+	}
+}
@@ -0,0 +1,47 @@
+package com.yu.spring.beans.factory.config;
+
+import com.yu.spring.beans.factory.BeanFactory;
+import com.yu.spring.core.env.Environment;
+
+/**
+ * Root object of the expressions in {@code #{...}} bean definition values:
+ * unqualified names resolve to beans of the factory, and {@code env} (or
+ * {@code environment}) to the Environment.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class BeanExpressionContext {
+
+	private final BeanFactory beanFactory;
+
+	private final Environment environment;
+
+	public BeanExpressionContext(BeanFactory beanFactory, Environment environment) {
+		this.beanFactory = beanFactory;
+		this.environment = environment;
+	}
+
+	public BeanFactory getBeanFactory() {
+		return beanFactory;
+	}
+
+	public Environment getEnvironment() {
+		return environment;
+	}
+
+	/**
+	 * Short alias for {@link #getEnvironment()}, as in {@code env['pool.size']}.
+	 */
+	public Environment getEnv() {
+		return environment;
+	}
+
+	public boolean containsObject(String key) {
+		return beanFactory != null && beanFactory.containBean(key);
+	}
+
+	public Object getObject(String key) {
+		return beanFactory != null && beanFactory.containBean(key) ? beanFactory.getBean(key) : null;
+	}
+}
@@ -0,0 +1,21 @@
+package com.yu.spring.beans.factory.config;
+
+/**
+ * Strategy for resolving the {@code #{...}} expressions in values such as
+ * {@code @Value} texts.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface BeanExpressionResolver {
+
+	/**
+	 * Evaluate the given value as an expression, if applicable; return the
+	 * value as-is otherwise.
+	 *
+	 * @param value       the value to check
+	 * @param evalContext the evaluation context
+	 * @return the resolved value, potentially the given value as-is
+	 */
+	Object evaluate(String value, BeanExpressionContext evalContext);
+}
@@ -1,5 +1,34 @@
-package com.yu.spring.beans.factory.config;/**
+package com.yu.spring.beans.factory.config;
+
+import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+
+/**
+ * Factory hook that allows for custom modification of an application
+ * context's bean definitions before any regular bean is created.
+ *
+ * <p>Post-processor beans are detected by the context and applied in the
+ * order given by PriorityOrdered and Ordered. A processor that only inspects
+ * the bean factory can report {@link #isReadOnly()}; adjacent read-only
+ * processors are then invoked concurrently.
+ *
  * @author yuhangbin
  * @date 2022/5/8
- **/public interface BeanFactoryPostProcessor {
+ **/
+public interface BeanFactoryPostProcessor {
+
+	/**
+	 * Modify the bean factory after all bean definitions have been loaded,
+	 * but before any regular bean has been instantiated.
+	 *
+	 * @param beanFactory the bean factory used by the application context
+	 */
+	void postProcessBeanFactory(DefaultListableBeanFactory beanFactory);
+
+	/**
+	 * Whether this processor only reads the bean factory and may run
+	 * concurrently with other read-only processors.
+	 */
+	default boolean isReadOnly() {
+		return false;
+	}
 }
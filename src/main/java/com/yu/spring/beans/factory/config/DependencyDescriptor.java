@@ -0,0 +1,132 @@
+package com.yu.spring.beans.factory.config;
+
+import com.yu.spring.beans.factory.annotation.Qualifier;
+import com.yu.spring.core.ResolvableType;
+import com.yu.spring.core.annotation.MergedAnnotations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Objects;
+
+/**
+ * Describes an injection point, a field or method parameter, in the class it
+ * is injected into: its generic type, its name and qualifier, and whether
+ * it is required.
+ *
+ * <p>Descriptors compare by injection point, so the bean factory can cache
+ * the bean resolved for each one. They are meant to be created once per
+ * injection point and reused.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class DependencyDescriptor {
+
+	private final Member member;
+	private final int parameterIndex;
+	private final Class<?> containingClass;
+	private final boolean required;
+	private final ResolvableType resolvableType;
+	private final String dependencyName;
+	private final String qualifier;
+	private final int hash;
+
+	public DependencyDescriptor(Field field, boolean required) {
+		this(field, field.getDeclaringClass(), required);
+	}
+
+	/**
+	 * Create a descriptor for a field, resolving its generics against the
+	 * given class, which declares or inherits the field.
+	 */
+	public DependencyDescriptor(Field field, Class<?> containingClass, boolean required) {
+		this.member = field;
+		this.parameterIndex = -1;
+		this.containingClass = containingClass;
+		this.required = required;
+		this.resolvableType = ResolvableType.forField(field, containingClass);
+		this.dependencyName = field.getName();
+		Qualifier qualifier = MergedAnnotations.from(field).get(Qualifier.class);
+		this.qualifier = qualifier != null ? qualifier.value() : null;
+		this.hash = Objects.hash(field, containingClass, required);
+	}
+
+	public DependencyDescriptor(Method method, int parameterIndex, boolean required) {
+		this(method, parameterIndex, method.getDeclaringClass(), required);
+	}
+
+	/**
+	 * Create a descriptor for a method parameter, resolving its generics
+	 * against the given class, which declares or inherits the method. A
+	 * {@code @Qualifier} on the method applies to single-parameter methods.
+	 */
+	public DependencyDescriptor(Method method, int parameterIndex, Class<?> containingClass, boolean required) {
+		this.member = method;
+		this.parameterIndex = parameterIndex;
+		this.containingClass = containingClass;
+		this.required = required;
+		this.resolvableType = ResolvableType.forMethodParameter(method, parameterIndex, containingClass);
+		Parameter parameter = method.getParameters()[parameterIndex];
+		this.dependencyName = parameter.isNamePresent() ? parameter.getName() : null;
+		Qualifier qualifier = MergedAnnotations.from(parameter).get(Qualifier.class);
+		if (qualifier == null && method.getParameterCount() == 1) {
+			qualifier = MergedAnnotations.from(method).get(Qualifier.class);
+		}
+		this.qualifier = qualifier != null ? qualifier.value() : null;
+		this.hash = Objects.hash(method, parameterIndex, containingClass, required);
+	}
+
+	public ResolvableType getResolvableType() {
+		return resolvableType;
+	}
+
+	public Class<?> getDependencyType() {
+		return resolvableType.toClass();
+	}
+
+	/**
+	 * Return the field or parameter name, used to choose among several
+	 * candidates, or null if parameter names were not compiled in.
+	 */
+	public String getDependencyName() {
+		return dependencyName;
+	}
+
+	/**
+	 * Return the {@code @Qualifier} value of the injection point, or null.
+	 */
+	public String getQualifier() {
+		return qualifier;
+	}
+
+	public boolean isRequired() {
+		return required;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof DependencyDescriptor)) {
+			return false;
+		}
+		DependencyDescriptor that = (DependencyDescriptor) other;
+		return member.equals(that.member) && parameterIndex == that.parameterIndex
+				&& containingClass == that.containingClass && required == that.required;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		String point = parameterIndex < 0 ? "field '" + member.getName() + "'"
+				: "parameter " + parameterIndex + " of method '" + member.getName() + "'";
+		return point + " of " + containingClass.getName() + " (" + resolvableType + ")";
+	}
+}
@@ -0,0 +1,37 @@
+package com.yu.spring.beans.factory.config;
+
+/**
+ * Property value that refers to another bean in the factory, resolved when
+ * the referencing bean is created.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class RuntimeBeanReference {
+
+	private final String beanName;
+
+	public RuntimeBeanReference(String beanName) {
+		this.beanName = beanName;
+	}
+
+	public String getBeanName() {
+		return beanName;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return this == other || (other instanceof RuntimeBeanReference
+				&& beanName.equals(((RuntimeBeanReference) other).beanName));
+	}
+
+	@Override
+	public int hashCode() {
+		return beanName.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "<" + beanName + ">";
+	}
+}
@@ -0,0 +1,187 @@
+package com.yu.spring.beans.factory.support;
+
+import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.config.BeanDefinitionHolder;
+import com.yu.spring.io.PathMatchingResourcePatternResolver;
+import com.yu.spring.io.Resource;
+import com.yu.spring.io.ResourceLoader;
+import com.yu.spring.io.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Base class for bean definition readers.
+ *
+ * <p>Parsing and registration are separate phases. Each resource is parsed
+ * into a list of {@link BeanDefinitionHolder}s without touching the registry,
+ * so several resources can be parsed concurrently on the parser executor.
+ * The parsed definitions are then registered on the calling thread in the
+ * order of the given resources, which keeps the result independent of
+ * thread scheduling: a later resource overrides an earlier one exactly as it
+ * would when loaded sequentially.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public abstract class AbstractBeanDefinitionReader implements BeanDefinitionReader {
+
+	private final BeanDefinitionRegistry registry;
+
+	private ResourceLoader resourceLoader;
+
+	private volatile Executor parserExecutor = ForkJoinPool.commonPool();
+
+	/** Bean classes by name, shared by all resources read by this reader */
+	private final Map<String, Class<?>> classCache = new ConcurrentHashMap<>(256);
+
+	protected AbstractBeanDefinitionReader(BeanDefinitionRegistry registry) {
+		this.registry = registry;
+		this.resourceLoader = registry instanceof ResourceLoader
+				? (ResourceLoader) registry : new PathMatchingResourcePatternResolver();
+	}
+
+	@Override
+	public BeanDefinitionRegistry getRegistry() {
+		return registry;
+	}
+
+	@Override
+	public ResourceLoader getResourceLoader() {
+		return resourceLoader;
+	}
+
+	public void setResourceLoader(ResourceLoader resourceLoader) {
+		this.resourceLoader = resourceLoader != null ? resourceLoader : new PathMatchingResourcePatternResolver();
+	}
+
+	/**
+	 * Set the executor used to parse multiple resources concurrently.
+	 *
+	 * @param parserExecutor the executor, or null to parse on the caller
+	 */
+	public void setParserExecutor(Executor parserExecutor) {
+		this.parserExecutor = parserExecutor;
+	}
+
+	public Executor getParserExecutor() {
+		return parserExecutor;
+	}
+
+	@Override
+	public int loadBeanDefinitions(Resource resource) {
+		return registerBeanDefinitions(parseBeanDefinitions(resource));
+	}
+
+	@Override
+	public int loadBeanDefinitions(Resource... resources) {
+		Executor executor = this.parserExecutor;
+		if (executor == null || resources.length < 2) {
+			int count = 0;
+			for (Resource resource : resources) {
+				count += loadBeanDefinitions(resource);
+			}
+			return count;
+		}
+		List<CompletableFuture<List<BeanDefinitionHolder>>> parsed = new ArrayList<>(resources.length);
+		for (Resource resource : resources) {
+			parsed.add(CompletableFuture.supplyAsync(() -> parseBeanDefinitions(resource), executor));
+		}
+		int count = 0;
+		for (CompletableFuture<List<BeanDefinitionHolder>> future : parsed) {
+			try {
+				count += registerBeanDefinitions(future.join());
+			} catch (CompletionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw e;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public int loadBeanDefinitions(String... locations) {
+		List<Resource> resources = new ArrayList<>();
+		for (String location : locations) {
+			Collections.addAll(resources, resolveLocation(location));
+		}
+		return loadBeanDefinitions(resources.toArray(new Resource[0]));
+	}
+
+	/**
+	 * Resolve a location into resources, expanding patterns when the
+	 * resource loader supports them.
+	 */
+	protected Resource[] resolveLocation(String location) {
+		if (resourceLoader instanceof ResourcePatternResolver) {
+			try {
+				return ((ResourcePatternResolver) resourceLoader).getResources(location);
+			} catch (IOException e) {
+				throw new RuntimeException("Could not resolve bean definition resource pattern [" + location + "]", e);
+			}
+		}
+		return new Resource[] { resourceLoader.getResource(location) };
+	}
+
+	/**
+	 * Parse the bean definitions in the given resource. Called concurrently
+	 * for different resources, so implementations must not share mutable
+	 * state across calls and must not touch the registry.
+	 *
+	 * @param resource the resource to parse
+	 * @return the parsed definitions, in declaration order
+	 */
+	protected abstract List<BeanDefinitionHolder> parseBeanDefinitions(Resource resource);
+
+	/**
+	 * Register parsed definitions. Beans declared without a name are named
+	 * after their class plus a counter that is unique within the registry.
+	 */
+	protected int registerBeanDefinitions(List<BeanDefinitionHolder> holders) {
+		for (BeanDefinitionHolder holder : holders) {
+			String beanName = holder.getBeanName();
+			if (beanName == null) {
+				beanName = generateBeanName(holder.getBeanDefinition());
+			}
+			registry.registerBeanDefinition(beanName, holder.getBeanDefinition());
+		}
+		return holders.size();
+	}
+
+	protected String generateBeanName(BeanDefinition beanDefinition) {
+		String prefix = beanDefinition.getClassName() + "#";
+		int counter = 0;
+		while (registry.containsBeanDefinition(prefix + counter)) {
+			counter++;
+		}
+		return prefix + counter;
+	}
+
+	/**
+	 * Create a bean definition for the given class name. Classes are loaded
+	 * without initialization and cached per reader.
+	 */
+	protected BeanDefinition createBeanDefinition(String className) {
+		Class<?> beanClass = classCache.get(className);
+		if (beanClass == null) {
+			try {
+				beanClass = Class.forName(className, false, resourceLoader.getClassLoader());
+			} catch (ClassNotFoundException e) {
+				throw new RuntimeException("Cannot find class: " + className, e);
+			}
+			classCache.putIfAbsent(className, beanClass);
+		}
+		return new BeanDefinition(beanClass);
+	}
+}
@@ -2,13 +2,39 @@ package com.yu.spring.beans.factory.support;
 
 import com.yu.spring.beans.BeanDefinition;
 import com.yu.spring.beans.BeanPostProcessor;
+import com.yu.spring.beans.PropertyValue;
 import com.yu.spring.beans.factory.BeanFactory;
+import com.yu.spring.beans.factory.config.DependencyDescriptor;
+import com.yu.spring.beans.factory.config.RuntimeBeanReference;
+import com.yu.spring.core.convert.ConversionService;
+import com.yu.spring.core.convert.TypeDescriptor;
+import com.yu.spring.core.convert.support.DefaultConversionService;
 
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract base class for bean factories that provides basic functionality.
@@ -18,48 +44,199 @@ import java.util.concurrent.ConcurrentHashMap;
  **/
 public abstract class AbstractBeanFactory implements BeanFactory {
 
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/** The factory method the current thread is invoking, for configuration class proxies */
+	private static final ThreadLocal<Method> currentlyInvokedFactoryMethod = new ThreadLocal<>();
+
 	private final Map<String, BeanDefinition> beanDefinitionMap = new ConcurrentHashMap<>(256);
+	/** Bean names in registration order, replaced as a whole when a name is added */
+	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
 	private final Map<String, Object> singletonObjects = new ConcurrentHashMap<>(256);
 	private final List<BeanPostProcessor> beanPostProcessors = new ArrayList<>();
 
+	/** Singletons currently being created, by any thread */
+	private final Map<String, CompletableFuture<Object>> singletonsInCreation = new ConcurrentHashMap<>(16);
+	/** Singletons the current thread is creating, to detect circular references */
+	private final ThreadLocal<Set<String>> currentlyCreating = ThreadLocal.withInitial(HashSet::new);
+	/** Thread creating each singleton in creation, to detect circular references across threads */
+	private final Map<String, Thread> singletonCreators = new ConcurrentHashMap<>(16);
+	/** Singleton each thread is blocked on while another thread creates it */
+	private final Map<Thread, String> awaitedSingletons = new ConcurrentHashMap<>(16);
+	/** Created singletons with a destroy method, in creation order */
+	private final Map<String, Object> disposableBeans = new LinkedHashMap<>();
+
+	/** Setter methods per bean class, keyed by property name */
+	private final Map<Class<?>, Map<String, WritableProperty>> settersCache = new ConcurrentHashMap<>(64);
+
+	/** Method handles and parameters of factory methods, resolved on first use */
+	private final Map<Method, FactoryMethod> factoryMethodCache = new ConcurrentHashMap<>(64);
+
+	private volatile ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+	private volatile Executor bootstrapExecutor;
+	private volatile boolean defaultBootstrapExecutor;
+
 	@Override
 	public Object getBean(String name) {
 		return doGetBean(name);
 	}
 
+	/**
+	 * Return a future for the given bean. Singletons that are already created
+	 * complete immediately; singletons that are being created by another thread
+	 * share that creation; everything else is created on the bootstrap executor.
+	 *
+	 * @param name the name of the bean
+	 * @return a future completed with the bean instance
+	 */
+	public CompletableFuture<Object> getBeanAsync(String name) {
+		BeanDefinition beanDefinition = getRequiredBeanDefinition(name);
+		if (!beanDefinition.isSingleton()) {
+			return CompletableFuture.supplyAsync(() -> createBean(name, beanDefinition), getBootstrapExecutor());
+		}
+		Object singletonBean = singletonObjects.get(name);
+		if (singletonBean != null) {
+			return CompletableFuture.completedFuture(singletonBean);
+		}
+
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> existing = singletonsInCreation.putIfAbsent(name, future);
+		if (existing != null) {
+			return existing;
+		}
+		try {
+			getBootstrapExecutor().execute(() -> createSingleton(name, beanDefinition, future));
+		} catch (RuntimeException e) {
+			singletonsInCreation.remove(name, future);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
 	@Override
 	public boolean containBean(String name) {
 		return beanDefinitionMap.containsKey(name);
 	}
 
 	protected Object doGetBean(String name) {
-		BeanDefinition beanDefinition = beanDefinitionMap.get(name);
-		if (beanDefinition == null) {
-			throw new RuntimeException("Bean definition not found for: " + name);
+		BeanDefinition beanDefinition = getRequiredBeanDefinition(name);
+
+		if (!beanDefinition.isSingleton()) {
+			return createBean(name, beanDefinition);
 		}
 
 		// Check singleton cache first
-		if (beanDefinition.isSingleton()) {
-			Object singletonBean = singletonObjects.get(name);
-			if (singletonBean != null) {
-				return singletonBean;
+		Object singletonBean = singletonObjects.get(name);
+		if (singletonBean != null) {
+			return singletonBean;
+		}
+
+		// Join a creation that is already running, e.g. a background init
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> existing = singletonsInCreation.putIfAbsent(name, future);
+		if (existing != null) {
+			if (currentlyCreating.get().contains(name)) {
+				throw new RuntimeException("Circular reference while creating bean: " + name);
 			}
+			return awaitSingleton(name, existing);
 		}
+		return createSingleton(name, beanDefinition, future);
+	}
 
-		// Create new bean instance
-		Object bean = createBean(name, beanDefinition);
+	private Object createSingleton(String name, BeanDefinition beanDefinition, CompletableFuture<Object> future) {
+		Set<String> creating = currentlyCreating.get();
+		creating.add(name);
+		singletonCreators.put(name, Thread.currentThread());
+		try {
+			Object bean = singletonObjects.get(name);
+			if (bean == null) {
+				bean = createBean(name, beanDefinition);
+				singletonObjects.put(name, bean);
+				registerDisposableBean(name, bean, beanDefinition);
+			}
+			future.complete(bean);
+			return bean;
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			creating.remove(name);
+			singletonCreators.remove(name);
+			singletonsInCreation.remove(name, future);
+		}
+	}
 
-		// Cache singleton
-		if (beanDefinition.isSingleton()) {
-			singletonObjects.put(name, bean);
+	private Object awaitSingleton(String name, CompletableFuture<Object> future) {
+		Thread current = Thread.currentThread();
+		awaitedSingletons.put(current, name);
+		try {
+			checkForCircularWait(name, current);
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for bean: " + name, e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new RuntimeException("Failed to create bean: " + name, cause);
+		} finally {
+			awaitedSingletons.remove(current);
 		}
+	}
 
-		return bean;
+	/**
+	 * Follow the chain of threads waiting for singletons created by other
+	 * threads, starting at the creator of the given bean. If it leads back to
+	 * the current thread, waiting would deadlock. Every thread registers what
+	 * it waits for before checking, so of two threads about to wait for each
+	 * other at least the later one sees the cycle.
+	 */
+	private void checkForCircularWait(String name, Thread current) {
+		List<String> chain = new ArrayList<>();
+		chain.add(name);
+		Set<Thread> visited = new HashSet<>();
+		Thread creator = singletonCreators.get(name);
+		while (creator != null && visited.add(creator)) {
+			if (creator == current) {
+				throw new RuntimeException("Circular reference across threads while creating bean: " + name
+						+ " (waits for " + String.join(" -> ", chain) + ")");
+			}
+			String awaited = awaitedSingletons.get(creator);
+			if (awaited == null) {
+				return;
+			}
+			chain.add(awaited);
+			creator = singletonCreators.get(awaited);
+		}
+	}
+
+	private BeanDefinition getRequiredBeanDefinition(String name) {
+		BeanDefinition beanDefinition = beanDefinitionMap.get(name);
+		if (beanDefinition == null) {
+			throw new RuntimeException("Bean definition not found for: " + name);
+		}
+		return beanDefinition;
+	}
+
+	/**
+	 * Whether the given singleton has been fully created.
+	 *
+	 * @param name the name of the bean
+	 * @return true if the singleton instance is available without blocking
+	 */
+	public boolean isSingletonReady(String name) {
+		return singletonObjects.containsKey(name);
 	}
 
 	protected Object createBean(String beanName, BeanDefinition beanDefinition) {
 		Object bean = instantiateBean(beanDefinition);
 
+		// Inject configured property values
+		populateBean(bean, beanName, beanDefinition);
+
 		// Apply bean post processors before initialization
 		bean = applyBeanPostProcessorsBeforeInitialization(bean, beanName);
 
@@ -73,6 +250,16 @@ public abstract class AbstractBeanFactory implements BeanFactory {
 	}
 
 	protected Object instantiateBean(BeanDefinition beanDefinition) {
+		if (beanDefinition.getFactoryMethod() != null) {
+			return instantiateUsingFactoryMethod(beanDefinition);
+		}
+		if (beanDefinition.getInstanceSupplier() != null) {
+			Object instance = beanDefinition.getInstanceSupplier().get();
+			if (instance == null) {
+				throw new RuntimeException("Instance supplier returned null for bean: " + beanDefinition.getClassName());
+			}
+			return instance;
+		}
 		try {
 			return beanDefinition.getBeanClass().newInstance();
 		} catch (Exception e) {
@@ -80,6 +267,153 @@ public abstract class AbstractBeanFactory implements BeanFactory {
 		}
 	}
 
+	/**
+	 * Create the bean by invoking its factory method, on the factory bean or
+	 * statically, through a cached method handle. Factory method parameters
+	 * are resolved like autowired injection points.
+	 */
+	protected Object instantiateUsingFactoryMethod(BeanDefinition beanDefinition) {
+		Method method = beanDefinition.getFactoryMethod();
+		FactoryMethod factoryMethod = getFactoryMethod(method);
+		Object factoryBean = beanDefinition.getFactoryBeanName() != null
+				? getBean(beanDefinition.getFactoryBeanName()) : null;
+		Object[] args = new Object[factoryMethod.parameters.length];
+		for (int i = 0; i < args.length; i++) {
+			args[i] = resolveDependency(factoryMethod.parameters[i]);
+		}
+		Method previous = currentlyInvokedFactoryMethod.get();
+		currentlyInvokedFactoryMethod.set(method);
+		Object instance;
+		try {
+			instance = factoryMethod.isStatic ? (Object) factoryMethod.handle.invokeExact(args)
+					: (Object) factoryMethod.handle.invokeExact(factoryBean, args);
+		} catch (Throwable e) {
+			throw new RuntimeException("Factory method '" + method.getName() + "' of "
+					+ method.getDeclaringClass().getName() + " threw exception", e);
+		} finally {
+			if (previous != null) {
+				currentlyInvokedFactoryMethod.set(previous);
+			} else {
+				currentlyInvokedFactoryMethod.remove();
+			}
+		}
+		if (instance == null) {
+			throw new RuntimeException("Factory method '" + method.getName() + "' of "
+					+ method.getDeclaringClass().getName() + " returned null");
+		}
+		return instance;
+	}
+
+	/**
+	 * Return the factory method the current thread is invoking for the bean
+	 * factory, or null. Configuration class proxies use this to tell the
+	 * container's call of a {@code @Bean} method from a call by user code.
+	 */
+	public static Method getCurrentlyInvokedFactoryMethod() {
+		return currentlyInvokedFactoryMethod.get();
+	}
+
+	/**
+	 * Resolve the bean to inject into the given injection point.
+	 *
+	 * @param descriptor the injection point
+	 * @return the bean, or null if the dependency is optional and no bean qualifies
+	 */
+	public abstract Object resolveDependency(DependencyDescriptor descriptor);
+
+	private FactoryMethod getFactoryMethod(Method method) {
+		FactoryMethod factoryMethod = factoryMethodCache.get(method);
+		if (factoryMethod == null) {
+			factoryMethod = factoryMethodCache.computeIfAbsent(method, FactoryMethod::new);
+		}
+		return factoryMethod;
+	}
+
+	protected void populateBean(Object bean, String beanName, BeanDefinition beanDefinition) {
+		if (beanDefinition.getPropertyValues().isEmpty()) {
+			return;
+		}
+		Map<String, WritableProperty> setters = getSetters(bean.getClass());
+		for (PropertyValue propertyValue : beanDefinition.getPropertyValues().getPropertyValueList()) {
+			WritableProperty property = setters.get(propertyValue.getName());
+			if (property == null) {
+				throw new RuntimeException("No writable property '" + propertyValue.getName()
+						+ "' on bean '" + beanName + "' of type " + bean.getClass().getName());
+			}
+			Object value = resolveValue(propertyValue.getValue(), property.type);
+			try {
+				property.setter.invoke(bean, value);
+			} catch (Exception e) {
+				throw new RuntimeException("Failed to set property '" + propertyValue.getName()
+						+ "' on bean: " + beanName, e);
+			}
+		}
+	}
+
+	/**
+	 * Resolve a property value: bean references become the referenced bean,
+	 * other values are converted to the required type.
+	 */
+	protected Object resolveValue(Object value, Class<?> requiredType) {
+		return resolveValue(value, TypeDescriptor.valueOf(requiredType));
+	}
+
+	/**
+	 * Resolve a property value: bean references become the referenced bean,
+	 * other values are converted to the required type, including the declared
+	 * element types of collections and arrays.
+	 */
+	protected Object resolveValue(Object value, TypeDescriptor requiredType) {
+		if (value instanceof RuntimeBeanReference) {
+			return getBean(((RuntimeBeanReference) value).getBeanName());
+		}
+		return convertIfNecessary(value, requiredType);
+	}
+
+	protected Object convertIfNecessary(Object value, TypeDescriptor requiredType) {
+		try {
+			return conversionService.convert(value, requiredType);
+		} catch (IllegalArgumentException e) {
+			throw new RuntimeException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Set the ConversionService used to convert property values.
+	 */
+	public void setConversionService(ConversionService conversionService) {
+		this.conversionService = conversionService;
+	}
+
+	public ConversionService getConversionService() {
+		return conversionService;
+	}
+
+	private Map<String, WritableProperty> getSetters(Class<?> beanClass) {
+		Map<String, WritableProperty> setters = settersCache.get(beanClass);
+		if (setters == null) {
+			setters = settersCache.computeIfAbsent(beanClass, AbstractBeanFactory::introspectSetters);
+		}
+		return setters;
+	}
+
+	private static Map<String, WritableProperty> introspectSetters(Class<?> beanClass) {
+		try {
+			BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
+			Map<String, WritableProperty> setters = new HashMap<>();
+			for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+				Method writeMethod = descriptor.getWriteMethod();
+				if (writeMethod != null) {
+					setters.put(descriptor.getName(),
+							new WritableProperty(writeMethod, TypeDescriptor.forMethodParameter(writeMethod, 0)));
+				}
+			}
+			return setters;
+		} catch (IntrospectionException e) {
+			throw new RuntimeException("Failed to introspect bean class: " + beanClass.getName(), e);
+		}
+	}
+
 	protected void initializeBean(Object bean, String beanName, BeanDefinition beanDefinition) {
 		// Call init method if specified
 		String initMethodName = beanDefinition.getInitMethodName();
@@ -124,18 +458,186 @@ public abstract class AbstractBeanFactory implements BeanFactory {
 	}
 
 	public void registerBeanDefinition(String beanName, BeanDefinition beanDefinition) {
-		beanDefinitionMap.put(beanName, beanDefinition);
+		synchronized (beanDefinitionMap) {
+			if (beanDefinitionMap.put(beanName, beanDefinition) == null) {
+				// Copied, so a caller iterating the names is never affected by a registration
+				List<String> names = new ArrayList<>(beanDefinitionNames.size() + 1);
+				names.addAll(beanDefinitionNames);
+				names.add(beanName);
+				beanDefinitionNames = names;
+			}
+		}
 	}
 
 	public void addBeanPostProcessor(BeanPostProcessor beanPostProcessor) {
 		beanPostProcessors.add(beanPostProcessor);
 	}
 
+	/**
+	 * Return the registered bean post processors, in the order they are applied.
+	 */
+	public List<BeanPostProcessor> getBeanPostProcessors() {
+		return Collections.unmodifiableList(beanPostProcessors);
+	}
+
 	public BeanDefinition getBeanDefinition(String beanName) {
 		return beanDefinitionMap.get(beanName);
 	}
 
+	/**
+	 * Return the names of all bean definitions, in the order they were first
+	 * registered; replacing a definition keeps its position.
+	 */
 	public String[] getBeanDefinitionNames() {
-		return beanDefinitionMap.keySet().toArray(new String[0]);
+		return beanDefinitionNames.toArray(new String[0]);
+	}
+
+	private void registerDisposableBean(String name, Object bean, BeanDefinition beanDefinition) {
+		String destroyMethodName = beanDefinition.getDestroyMethodName();
+		if (destroyMethodName != null && !destroyMethodName.isEmpty()) {
+			synchronized (disposableBeans) {
+				disposableBeans.put(name, bean);
+			}
+		}
+	}
+
+	/**
+	 * Destroy all cached singletons, invoking their destroy methods in reverse
+	 * creation order, so a bean is destroyed before the beans it was created
+	 * from, and shut down the default bootstrap executor if this factory
+	 * created it. All destroy methods run even if some fail; the first
+	 * failure is then rethrown with the others suppressed.
+	 */
+	public void destroySingletons() {
+		List<Map.Entry<String, Object>> disposables;
+		synchronized (disposableBeans) {
+			disposables = new ArrayList<>(disposableBeans.entrySet());
+			disposableBeans.clear();
+		}
+		singletonObjects.clear();
+		RuntimeException failure = null;
+		for (int i = disposables.size() - 1; i >= 0; i--) {
+			String beanName = disposables.get(i).getKey();
+			BeanDefinition beanDefinition = beanDefinitionMap.get(beanName);
+			if (beanDefinition == null) {
+				continue;
+			}
+			try {
+				invokeDestroyMethod(disposables.get(i).getValue(), beanName, beanDefinition);
+			} catch (RuntimeException e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		Executor executor = this.bootstrapExecutor;
+		if (defaultBootstrapExecutor && executor instanceof ExecutorService) {
+			((ExecutorService) executor).shutdown();
+			this.bootstrapExecutor = null;
+			this.defaultBootstrapExecutor = false;
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	protected void invokeDestroyMethod(Object bean, String beanName, BeanDefinition beanDefinition) {
+		String destroyMethodName = beanDefinition.getDestroyMethodName();
+		if (destroyMethodName != null && !destroyMethodName.isEmpty()) {
+			try {
+				Method destroyMethod = bean.getClass().getMethod(destroyMethodName);
+				destroyMethod.invoke(bean);
+			} catch (Exception e) {
+				throw new RuntimeException("Failed to invoke destroy method '" + destroyMethodName
+						+ "' on bean: " + beanName, e);
+			}
+		}
+	}
+
+	/**
+	 * Set the executor used for background bean initialization and getBeanAsync.
+	 */
+	public void setBootstrapExecutor(Executor bootstrapExecutor) {
+		this.bootstrapExecutor = bootstrapExecutor;
+		this.defaultBootstrapExecutor = false;
+	}
+
+	/**
+	 * Return the bootstrap executor, creating the default one on first use:
+	 * a virtual-thread-per-task executor when the JVM offers one, otherwise
+	 * a cached pool of daemon threads.
+	 */
+	public Executor getBootstrapExecutor() {
+		Executor executor = this.bootstrapExecutor;
+		if (executor == null) {
+			synchronized (this) {
+				executor = this.bootstrapExecutor;
+				if (executor == null) {
+					executor = createDefaultBootstrapExecutor();
+					this.bootstrapExecutor = executor;
+					this.defaultBootstrapExecutor = true;
+				}
+			}
+		}
+		return executor;
+	}
+
+	private static Executor createDefaultBootstrapExecutor() {
+		try {
+			// Java 21+, looked up reflectively since we compile against Java 8
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			AtomicInteger counter = new AtomicInteger();
+			ThreadFactory threadFactory = runnable -> {
+				Thread thread = new Thread(runnable, "tiny-spring-bootstrap-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+			return Executors.newCachedThreadPool(threadFactory);
+		}
+	}
+
+	/**
+	 * A setter together with the declared type of its parameter.
+	 */
+	private static final class WritableProperty {
+
+		final Method setter;
+		final TypeDescriptor type;
+
+		WritableProperty(Method setter, TypeDescriptor type) {
+			this.setter = setter;
+			this.type = type;
+		}
+	}
+
+	/**
+	 * A factory method with a method handle taking the factory bean, if any,
+	 * and the arguments as an array, and its parameters as injection points.
+	 */
+	private static final class FactoryMethod {
+
+		final MethodHandle handle;
+		final boolean isStatic;
+		final DependencyDescriptor[] parameters;
+
+		FactoryMethod(Method method) {
+			this.isStatic = Modifier.isStatic(method.getModifiers());
+			this.parameters = new DependencyDescriptor[method.getParameterCount()];
+			for (int i = 0; i < parameters.length; i++) {
+				parameters[i] = new DependencyDescriptor(method, i, true);
+			}
+			try {
+				method.setAccessible(true);
+				MethodHandle spreader = LOOKUP.unreflect(method).asSpreader(Object[].class, parameters.length);
+				this.handle = isStatic ? spreader.asType(MethodType.methodType(Object.class, Object[].class))
+						: spreader.asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+			} catch (IllegalAccessException e) {
+				throw new RuntimeException("Cannot access factory method " + method, e);
+			}
+		}
 	}
 }
@@ -1,5 +1,51 @@
-package com.yu.spring.beans.factory.support;/**
+package com.yu.spring.beans.factory.support;
+
+import com.yu.spring.io.Resource;
+import com.yu.spring.io.ResourceLoader;
+
+/**
+ * Simple interface for bean definition readers. Specifies load methods with
+ * Resource and String location parameters.
+ *
  * @author yuhangbin
  * @date 2022/5/8
- **/public interface BeanDefinitionReader {
+ **/
+public interface BeanDefinitionReader {
+
+	/**
+	 * Return the registry to register the bean definitions with.
+	 */
+	BeanDefinitionRegistry getRegistry();
+
+	/**
+	 * Return the resource loader used for String locations.
+	 */
+	ResourceLoader getResourceLoader();
+
+	/**
+	 * Load bean definitions from the specified resource.
+	 *
+	 * @param resource the resource descriptor
+	 * @return the number of bean definitions found
+	 */
+	int loadBeanDefinitions(Resource resource);
+
+	/**
+	 * Load bean definitions from the specified resources. Implementations may
+	 * parse the resources concurrently, but register the definitions in the
+	 * order of the given resources.
+	 *
+	 * @param resources the resource descriptors
+	 * @return the number of bean definitions found
+	 */
+	int loadBeanDefinitions(Resource... resources);
+
+	/**
+	 * Load bean definitions from the specified resource locations, which may
+	 * be patterns if the resource loader is a ResourcePatternResolver.
+	 *
+	 * @param locations the resource locations
+	 * @return the number of bean definitions found
+	 */
+	int loadBeanDefinitions(String... locations);
 }
@@ -0,0 +1,32 @@
+package com.yu.spring.beans.factory.support;
+
+import com.yu.spring.beans.BeanDefinition;
+
+/**
+ * Interface for registries that hold bean definitions.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface BeanDefinitionRegistry {
+
+	/**
+	 * Register a new bean definition with this registry, replacing any
+	 * existing definition with the same name.
+	 *
+	 * @param beanName       the name of the bean instance to register
+	 * @param beanDefinition definition of the bean instance to register
+	 */
+	void registerBeanDefinition(String beanName, BeanDefinition beanDefinition);
+
+	/**
+	 * Return the BeanDefinition for the given bean name, or null.
+	 */
+	BeanDefinition getBeanDefinition(String beanName);
+
+	boolean containsBeanDefinition(String beanName);
+
+	String[] getBeanDefinitionNames();
+
+	int getBeanDefinitionCount();
+}
@@ -1,5 +1,23 @@
-package com.yu.spring.beans.factory.support;/**
+package com.yu.spring.beans.factory.support;
+
+import com.yu.spring.beans.factory.config.BeanFactoryPostProcessor;
+
+/**
+ * Extension to the BeanFactoryPostProcessor contract that allows for the
+ * registration of further bean definitions before regular
+ * BeanFactoryPostProcessor detection kicks in. Definitions registered here
+ * may themselves be BeanFactoryPostProcessors or further registry
+ * post-processors.
+ *
  * @author yuhangbin
  * @date 2022/5/8
- **/public interface BeanDefinitionRegistryPostProcessor {
+ **/
+public interface BeanDefinitionRegistryPostProcessor extends BeanFactoryPostProcessor {
+
+	/**
+	 * Modify the bean definition registry after its standard loading.
+	 *
+	 * @param registry the bean definition registry used by the application context
+	 */
+	void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry);
 }
@@ -1,16 +1,56 @@
 package com.yu.spring.beans.factory.support;
 
 import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.config.DependencyDescriptor;
+import com.yu.spring.core.ResolvableType;
+import com.yu.spring.core.annotation.MergedAnnotations;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Default implementation of the BeanFactory interface.
  * Provides full bean factory functionality including bean registration and
  * retrieval.
+ *
+ * <p>Dependencies are resolved by generic type, then narrowed by qualifier,
+ * {@link BeanDefinition#isPrimary() primary} flag and name. The bean name
+ * chosen for each injection point is cached, so creating a prototype again
+ * does not scan the bean definitions; registering a bean definition drops
+ * the cache.
+ *
+ * <p>An index from annotation type to bean names is kept up to date as
+ * definitions are registered, covering the merged annotations, including
+ * meta-annotations, of each bean class and factory method. Looking up the
+ * beans with an annotation therefore neither scans the definitions nor
+ * creates unrelated beans.
  * 
  * @author yuhangbin
  * @date 2022/5/3
  **/
-public class DefaultListableBeanFactory extends AbstractBeanFactory {
+public class DefaultListableBeanFactory extends AbstractBeanFactory implements BeanDefinitionRegistry {
+
+    /** Cached result for an optional dependency without candidates */
+    private static final String NO_CANDIDATE = "";
+
+    /** Bean name resolved per injection point, replaced when definitions change */
+    private volatile Map<DependencyDescriptor, String> autowireCandidateCache = new ConcurrentHashMap<>(256);
+
+    /** Number of bean definitions registered so far, replaced ones included */
+    private final AtomicInteger beanDefinitionRegistrations = new AtomicInteger();
+
+    /** Bean names per annotation type on the bean class or factory method, in registration order */
+    private final Map<Class<? extends Annotation>, Set<String>> annotationIndex = new ConcurrentHashMap<>(64);
+    /** Annotation types indexed per bean name, to unindex a replaced definition */
+    private final Map<String, List<Class<? extends Annotation>>> indexedAnnotationTypes = new ConcurrentHashMap<>(256);
 
     /**
      * Register a bean definition with the given name.
@@ -21,6 +61,21 @@ public class DefaultListableBeanFactory extends AbstractBeanFactory {
     @Override
     public void registerBeanDefinition(String beanName, BeanDefinition beanDefinition) {
         super.registerBeanDefinition(beanName, beanDefinition);
+        indexAnnotations(beanName, beanDefinition);
+        // A resolution running concurrently stores its result into the discarded map
+        this.autowireCandidateCache = new ConcurrentHashMap<>(256);
+        beanDefinitionRegistrations.incrementAndGet();
+    }
+
+    /**
+     * Return how many bean definitions have been registered, replaced ones
+     * included, so that callers caching what they derived from the
+     * definitions can tell whether any were registered since.
+     *
+     * @return the number of registrations
+     */
+    public int getBeanDefinitionRegistrationCount() {
+        return beanDefinitionRegistrations.get();
     }
 
     /**
@@ -29,6 +84,7 @@ public class DefaultListableBeanFactory extends AbstractBeanFactory {
      * @param beanName the name of the bean
      * @return true if bean definition exists
      */
+    @Override
     public boolean containsBeanDefinition(String beanName) {
         return getBeanDefinition(beanName) != null;
     }
@@ -38,7 +94,163 @@ public class DefaultListableBeanFactory extends AbstractBeanFactory {
      * 
      * @return the count of bean definitions
      */
+    @Override
     public int getBeanDefinitionCount() {
         return getBeanDefinitionNames().length;
     }
-}
\ No newline at end of file
+
+    @Override
+    public Object resolveDependency(DependencyDescriptor descriptor) {
+        Map<DependencyDescriptor, String> cache = this.autowireCandidateCache;
+        String beanName = cache.get(descriptor);
+        if (beanName == null) {
+            beanName = determineAutowireCandidate(descriptor);
+            cache.put(descriptor, beanName);
+        }
+        return beanName == NO_CANDIDATE ? null : getBean(beanName);
+    }
+
+    /**
+     * Return the names of all beans whose type, including generics, is
+     * assignable to the given type. Beans whose definition declares no type
+     * are left out.
+     *
+     * @param type the required type
+     * @return the matching bean names, in registration order
+     */
+    public List<String> getBeanNamesForType(ResolvableType type) {
+        List<String> beanNames = new ArrayList<>();
+        for (String beanName : getBeanDefinitionNames()) {
+            ResolvableType beanType = getBeanType(getBeanDefinition(beanName));
+            if (beanType != null && type.isAssignableFrom(beanType)) {
+                beanNames.add(beanName);
+            }
+        }
+        return beanNames;
+    }
+
+    /**
+     * Return the type of the named bean as far as its definition tells without
+     * creating it: the return type of its factory method, or its bean class.
+     *
+     * @param beanName the bean name
+     * @return the bean type, or null if the definition does not declare one,
+     * such as for a definition with only an instance supplier
+     */
+    public Class<?> getType(String beanName) {
+        BeanDefinition beanDefinition = getBeanDefinition(beanName);
+        ResolvableType beanType = beanDefinition != null ? getBeanType(beanDefinition) : null;
+        return beanType != null ? beanType.resolve() : null;
+    }
+
+    /**
+     * Return the names of the beans whose class or factory method carries the
+     * given annotation, directly or as a meta-annotation, in registration
+     * order. No bean is created.
+     *
+     * @param annotationType the annotation type to look for
+     * @return the matching bean names
+     */
+    public String[] getBeanNamesWithAnnotation(Class<? extends Annotation> annotationType) {
+        Set<String> beanNames = annotationIndex.get(annotationType);
+        if (beanNames == null) {
+            return new String[0];
+        }
+        synchronized (beanNames) {
+            return beanNames.toArray(new String[0]);
+        }
+    }
+
+    /**
+     * Return the beans whose class or factory method carries the given
+     * annotation, keyed by bean name. Only those beans are created.
+     *
+     * @param annotationType the annotation type to look for
+     * @return the matching beans in registration order
+     */
+    public Map<String, Object> getBeansWithAnnotation(Class<? extends Annotation> annotationType) {
+        Map<String, Object> beans = new LinkedHashMap<>();
+        for (String beanName : getBeanNamesWithAnnotation(annotationType)) {
+            beans.put(beanName, getBean(beanName));
+        }
+        return beans;
+    }
+
+    private synchronized void indexAnnotations(String beanName, BeanDefinition beanDefinition) {
+        List<Class<? extends Annotation>> previousTypes = indexedAnnotationTypes.remove(beanName);
+        if (previousTypes != null) {
+            for (Class<? extends Annotation> annotationType : previousTypes) {
+                Set<String> beanNames = annotationIndex.get(annotationType);
+                synchronized (beanNames) {
+                    beanNames.remove(beanName);
+                }
+            }
+        }
+        List<Class<? extends Annotation>> annotationTypes = new ArrayList<>();
+        if (beanDefinition.getBeanClass() != null) {
+            for (Annotation annotation : MergedAnnotations.from(beanDefinition.getBeanClass()).asList()) {
+                annotationTypes.add(annotation.annotationType());
+            }
+        }
+        if (beanDefinition.getFactoryMethod() != null) {
+            for (Annotation annotation : MergedAnnotations.from(beanDefinition.getFactoryMethod()).asList()) {
+                if (!annotationTypes.contains(annotation.annotationType())) {
+                    annotationTypes.add(annotation.annotationType());
+                }
+            }
+        }
+        for (Class<? extends Annotation> annotationType : annotationTypes) {
+            Set<String> beanNames = annotationIndex.computeIfAbsent(annotationType,
+                    key -> Collections.synchronizedSet(new LinkedHashSet<>()));
+            beanNames.add(beanName);
+        }
+        if (!annotationTypes.isEmpty()) {
+            indexedAnnotationTypes.put(beanName, annotationTypes);
+        }
+    }
+
+    private String determineAutowireCandidate(DependencyDescriptor descriptor) {
+        List<String> candidates = getBeanNamesForType(descriptor.getResolvableType());
+        String qualifier = descriptor.getQualifier();
+        if (qualifier != null) {
+            candidates.removeIf(candidate -> !candidate.equals(qualifier)
+                    && !qualifier.equals(getBeanDefinition(candidate).getQualifier()));
+        }
+        if (candidates.isEmpty()) {
+            if (descriptor.isRequired()) {
+                throw new RuntimeException("No qualifying bean for " + descriptor
+                        + (qualifier != null ? " with qualifier '" + qualifier + "'" : ""));
+            }
+            return NO_CANDIDATE;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        String primary = null;
+        for (String candidate : candidates) {
+            if (getBeanDefinition(candidate).isPrimary()) {
+                if (primary != null) {
+                    throw new RuntimeException("More than one primary bean for " + descriptor
+                            + ": [" + primary + ", " + candidate + "]");
+                }
+                primary = candidate;
+            }
+        }
+        if (primary != null) {
+            return primary;
+        }
+        if (descriptor.getDependencyName() != null && candidates.contains(descriptor.getDependencyName())) {
+            return descriptor.getDependencyName();
+        }
+        throw new RuntimeException("No unique bean for " + descriptor + ", found " + candidates.size()
+                + ": " + candidates);
+    }
+
+    private static ResolvableType getBeanType(BeanDefinition beanDefinition) {
+        if (beanDefinition.getFactoryMethod() != null) {
+            return ResolvableType.forMethodReturnType(beanDefinition.getFactoryMethod());
+        }
+        Class<?> beanClass = beanDefinition.getBeanClass();
+        return beanClass != null ? ResolvableType.forClass(beanClass) : null;
+    }
+}
@@ -0,0 +1,180 @@
+package com.yu.spring.beans.factory.support;
+
+import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.config.BeanDefinitionHolder;
+import com.yu.spring.beans.factory.config.RuntimeBeanReference;
+import com.yu.spring.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bean definition reader for a simple properties format:
+ *
+ * <pre>
+ * orderService.(class)=com.example.OrderService
+ * orderService.(scope)=prototype
+ * orderService.(lazy-init)=true
+ * orderService.(background-init)=false
+ * orderService.(init-method)=init
+ * orderService.(destroy-method)=close
+ * orderService.timeout=30
+ * orderService.repository(ref)=orderRepository
+ * </pre>
+ *
+ * <p>The bean name is everything before the last dot of a key. Entries of one
+ * bean need not be adjacent; beans are returned in the order of their first
+ * entry. The file is read line by line as UTF-8 instead of being loaded into
+ * a {@link java.util.Properties} first, which would lose that order. Lines
+ * starting with '#' or '!' are comments, '=' or ':' separates key and value,
+ * and a trailing backslash continues a line.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class PropertiesBeanDefinitionReader extends AbstractBeanDefinitionReader {
+
+	public static final String CLASS_KEY = "(class)";
+	public static final String SCOPE_KEY = "(scope)";
+	public static final String LAZY_INIT_KEY = "(lazy-init)";
+	public static final String BACKGROUND_INIT_KEY = "(background-init)";
+	public static final String INIT_METHOD_KEY = "(init-method)";
+	public static final String DESTROY_METHOD_KEY = "(destroy-method)";
+	public static final String REF_SUFFIX = "(ref)";
+
+	public PropertiesBeanDefinitionReader(BeanDefinitionRegistry registry) {
+		super(registry);
+	}
+
+	@Override
+	protected List<BeanDefinitionHolder> parseBeanDefinitions(Resource resource) {
+		Map<String, ParsedBean> beans = new LinkedHashMap<>();
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+			StringBuilder logicalLine = new StringBuilder();
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				String trimmed = line.trim();
+				if (logicalLine.length() == 0 && (trimmed.isEmpty() || trimmed.charAt(0) == '#' || trimmed.charAt(0) == '!')) {
+					continue;
+				}
+				if (trimmed.endsWith("\\")) {
+					logicalLine.append(trimmed, 0, trimmed.length() - 1);
+					continue;
+				}
+				logicalLine.append(trimmed);
+				parseEntry(logicalLine.toString(), beans, resource, lineNumber);
+				logicalLine.setLength(0);
+			}
+			if (logicalLine.length() > 0) {
+				parseEntry(logicalLine.toString(), beans, resource, lineNumber);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("IOException parsing properties bean definitions from " + resource, e);
+		}
+
+		List<BeanDefinitionHolder> holders = new ArrayList<>(beans.size());
+		for (Map.Entry<String, ParsedBean> entry : beans.entrySet()) {
+			holders.add(new BeanDefinitionHolder(entry.getKey(), entry.getValue().toBeanDefinition(entry.getKey(), resource)));
+		}
+		return holders;
+	}
+
+	private void parseEntry(String line, Map<String, ParsedBean> beans, Resource resource, int lineNumber) {
+		int separator = indexOfSeparator(line);
+		String key = (separator < 0 ? line : line.substring(0, separator)).trim();
+		String value = separator < 0 ? "" : line.substring(separator + 1).trim();
+		int dot = key.lastIndexOf('.');
+		if (dot <= 0 || dot == key.length() - 1) {
+			throw new RuntimeException("Invalid bean definition key '" + key + "' in " + resource + " (line " + lineNumber
+					+ "): expected <beanName>.<property>");
+		}
+		String beanName = key.substring(0, dot);
+		String property = key.substring(dot + 1);
+		ParsedBean bean = beans.computeIfAbsent(beanName, name -> new ParsedBean());
+		switch (property) {
+			case CLASS_KEY:
+				bean.className = value;
+				break;
+			case SCOPE_KEY:
+				bean.scope = value;
+				break;
+			case LAZY_INIT_KEY:
+				bean.lazyInit = value;
+				break;
+			case BACKGROUND_INIT_KEY:
+				bean.backgroundInit = value;
+				break;
+			case INIT_METHOD_KEY:
+				bean.initMethodName = value;
+				break;
+			case DESTROY_METHOD_KEY:
+				bean.destroyMethodName = value;
+				break;
+			default:
+				if (property.endsWith(REF_SUFFIX)) {
+					String propertyName = property.substring(0, property.length() - REF_SUFFIX.length());
+					bean.propertyNames.add(propertyName);
+					bean.propertyValues.add(new RuntimeBeanReference(value));
+				} else {
+					bean.propertyNames.add(property);
+					bean.propertyValues.add(value);
+				}
+		}
+	}
+
+	private static int indexOfSeparator(String line) {
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (c == '=' || c == ':') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * The entries of one bean, collected until its class is known.
+	 */
+	private final class ParsedBean {
+
+		String className;
+		String scope;
+		String lazyInit;
+		String backgroundInit;
+		String initMethodName;
+		String destroyMethodName;
+		final List<String> propertyNames = new ArrayList<>();
+		final List<Object> propertyValues = new ArrayList<>();
+
+		BeanDefinition toBeanDefinition(String beanName, Resource resource) {
+			if (className == null || className.isEmpty()) {
+				throw new RuntimeException("Bean '" + beanName + "' in " + resource + " has no " + CLASS_KEY + " entry");
+			}
+			BeanDefinition beanDefinition = createBeanDefinition(className);
+			if (scope != null) {
+				beanDefinition.setScope(scope);
+			}
+			if (lazyInit != null) {
+				beanDefinition.setLazyInit(Boolean.parseBoolean(lazyInit));
+			}
+			if (backgroundInit != null) {
+				beanDefinition.setBackgroundInit(Boolean.parseBoolean(backgroundInit));
+			}
+			beanDefinition.setInitMethodName(initMethodName);
+			beanDefinition.setDestroyMethodName(destroyMethodName);
+			for (int i = 0; i < propertyNames.size(); i++) {
+				beanDefinition.getPropertyValues().add(propertyNames.get(i), propertyValues.get(i));
+			}
+			return beanDefinition;
+		}
+	}
+}
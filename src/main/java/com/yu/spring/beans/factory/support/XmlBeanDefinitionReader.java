@@ -0,0 +1,160 @@
+package com.yu.spring.beans.factory.support;
+
+import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.config.BeanDefinitionHolder;
+import com.yu.spring.beans.factory.config.RuntimeBeanReference;
+import com.yu.spring.io.Resource;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bean definition reader for XML bean definitions.
+ *
+ * <p>The document is read with a StAX cursor, one event at a time, so memory
+ * use does not grow with the size of the file. DTDs and external entities are
+ * not supported. The supported format is:
+ *
+ * <pre>
+ * &lt;beans&gt;
+ *     &lt;bean id="orderService" class="com.example.OrderService" scope="singleton"
+ *           lazy-init="false" background-init="false"
+ *           init-method="init" destroy-method="close"&gt;
+ *         &lt;property name="timeout" value="30"/&gt;
+ *         &lt;property name="repository" ref="orderRepository"/&gt;
+ *     &lt;/bean&gt;
+ * &lt;/beans&gt;
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class XmlBeanDefinitionReader extends AbstractBeanDefinitionReader {
+
+	public static final String BEAN_ELEMENT = "bean";
+	public static final String PROPERTY_ELEMENT = "property";
+
+	public static final String ID_ATTRIBUTE = "id";
+	public static final String NAME_ATTRIBUTE = "name";
+	public static final String CLASS_ATTRIBUTE = "class";
+	public static final String SCOPE_ATTRIBUTE = "scope";
+	public static final String LAZY_INIT_ATTRIBUTE = "lazy-init";
+	public static final String BACKGROUND_INIT_ATTRIBUTE = "background-init";
+	public static final String INIT_METHOD_ATTRIBUTE = "init-method";
+	public static final String DESTROY_METHOD_ATTRIBUTE = "destroy-method";
+	public static final String VALUE_ATTRIBUTE = "value";
+	public static final String REF_ATTRIBUTE = "ref";
+
+	/** XMLInputFactory is not guaranteed to be thread-safe, and resources are parsed concurrently */
+	private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY = ThreadLocal.withInitial(() -> {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+		return factory;
+	});
+
+	public XmlBeanDefinitionReader(BeanDefinitionRegistry registry) {
+		super(registry);
+	}
+
+	@Override
+	protected List<BeanDefinitionHolder> parseBeanDefinitions(Resource resource) {
+		try (InputStream inputStream = resource.getInputStream()) {
+			XMLStreamReader reader = INPUT_FACTORY.get().createXMLStreamReader(inputStream);
+			try {
+				return parseBeanDefinitions(reader, resource);
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException e) {
+			throw new RuntimeException("Invalid XML in bean definition resource " + resource + ": " + e.getMessage(), e);
+		} catch (IOException e) {
+			throw new RuntimeException("IOException parsing XML bean definitions from " + resource, e);
+		}
+	}
+
+	private List<BeanDefinitionHolder> parseBeanDefinitions(XMLStreamReader reader, Resource resource)
+			throws XMLStreamException {
+		List<BeanDefinitionHolder> holders = new ArrayList<>();
+		String beanName = null;
+		BeanDefinition beanDefinition = null;
+		while (reader.hasNext()) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				String element = reader.getLocalName();
+				if (BEAN_ELEMENT.equals(element)) {
+					if (beanDefinition != null) {
+						throw new RuntimeException("Nested <bean> elements are not supported in " + resource
+								+ " (line " + reader.getLocation().getLineNumber() + ")");
+					}
+					beanDefinition = parseBeanElement(reader, resource);
+					beanName = beanName(reader);
+				} else if (PROPERTY_ELEMENT.equals(element)) {
+					if (beanDefinition == null) {
+						throw new RuntimeException("<property> outside of <bean> in " + resource
+								+ " (line " + reader.getLocation().getLineNumber() + ")");
+					}
+					parsePropertyElement(reader, beanDefinition, beanName, resource);
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT && BEAN_ELEMENT.equals(reader.getLocalName())) {
+				holders.add(new BeanDefinitionHolder(beanName, beanDefinition));
+				beanName = null;
+				beanDefinition = null;
+			}
+		}
+		return holders;
+	}
+
+	private BeanDefinition parseBeanElement(XMLStreamReader reader, Resource resource) {
+		String className = attribute(reader, CLASS_ATTRIBUTE);
+		if (className == null) {
+			throw new RuntimeException("<bean> without 'class' attribute in " + resource
+					+ " (line " + reader.getLocation().getLineNumber() + ")");
+		}
+		BeanDefinition beanDefinition = createBeanDefinition(className);
+		String scope = attribute(reader, SCOPE_ATTRIBUTE);
+		if (scope != null) {
+			beanDefinition.setScope(scope);
+		}
+		String lazyInit = attribute(reader, LAZY_INIT_ATTRIBUTE);
+		if (lazyInit != null) {
+			beanDefinition.setLazyInit(Boolean.parseBoolean(lazyInit));
+		}
+		String backgroundInit = attribute(reader, BACKGROUND_INIT_ATTRIBUTE);
+		if (backgroundInit != null) {
+			beanDefinition.setBackgroundInit(Boolean.parseBoolean(backgroundInit));
+		}
+		beanDefinition.setInitMethodName(attribute(reader, INIT_METHOD_ATTRIBUTE));
+		beanDefinition.setDestroyMethodName(attribute(reader, DESTROY_METHOD_ATTRIBUTE));
+		return beanDefinition;
+	}
+
+	private void parsePropertyElement(XMLStreamReader reader, BeanDefinition beanDefinition,
+									  String beanName, Resource resource) {
+		String name = attribute(reader, NAME_ATTRIBUTE);
+		String value = attribute(reader, VALUE_ATTRIBUTE);
+		String ref = attribute(reader, REF_ATTRIBUTE);
+		if (name == null || (value == null) == (ref == null)) {
+			throw new RuntimeException("<property> of bean '" + beanName + "' needs a 'name' and exactly one of 'value' or 'ref' in "
+					+ resource + " (line " + reader.getLocation().getLineNumber() + ")");
+		}
+		beanDefinition.getPropertyValues().add(name, ref != null ? new RuntimeBeanReference(ref) : value);
+	}
+
+	private static String beanName(XMLStreamReader reader) {
+		String id = attribute(reader, ID_ATTRIBUTE);
+		return id != null ? id : attribute(reader, NAME_ATTRIBUTE);
+	}
+
+	private static String attribute(XMLStreamReader reader, String name) {
+		String value = reader.getAttributeValue(null, name);
+		return value == null || value.isEmpty() ? null : value;
+	}
+}
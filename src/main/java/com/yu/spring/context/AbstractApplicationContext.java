@@ -1,10 +1,40 @@
 package com.yu.spring.context;
 
+import com.yu.spring.beans.BeanDefinition;
 import com.yu.spring.beans.BeanPostProcessor;
+import com.yu.spring.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import com.yu.spring.beans.factory.config.BeanClassPreparingPostProcessor;
+import com.yu.spring.beans.factory.config.BeanExpressionContext;
+import com.yu.spring.beans.factory.config.BeanExpressionResolver;
+import com.yu.spring.beans.factory.config.BeanFactoryPostProcessor;
 import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+import com.yu.spring.context.event.ApplicationEventMulticaster;
+import com.yu.spring.context.event.ContextClosedEvent;
+import com.yu.spring.context.event.ContextRefreshedEvent;
+import com.yu.spring.context.event.SimpleApplicationEventMulticaster;
+import com.yu.spring.context.annotation.ValueAnnotationBeanPostProcessor;
+import com.yu.spring.context.expression.StandardBeanExpressionResolver;
+import com.yu.spring.context.properties.ConfigurationPropertiesBindingPostProcessor;
+import com.yu.spring.context.weaving.AspectJWeavingEnabler;
+import com.yu.spring.core.OrderComparator;
+import com.yu.spring.core.convert.ConversionService;
+import com.yu.spring.core.env.ConfigurableEnvironment;
+import com.yu.spring.core.env.StandardEnvironment;
 import com.yu.spring.io.DefaultResourceLoader;
+import com.yu.spring.io.PathMatchingResourcePatternResolver;
 import com.yu.spring.io.Resource;
 import com.yu.spring.io.ResourceLoader;
+import com.yu.spring.io.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Abstract implementation of the ApplicationContext interface.
@@ -12,14 +42,36 @@ import com.yu.spring.io.ResourceLoader;
  * @author yuhangbin
  * @date 2022/5/3
  **/
-public abstract class AbstractApplicationContext implements ApplicationContext, ResourceLoader {
+public abstract class AbstractApplicationContext implements ApplicationContext, ResourcePatternResolver, AutoCloseable {
+
+    /**
+     * Name of the ApplicationEventMulticaster bean in the factory. If none is
+     * defined, a SimpleApplicationEventMulticaster is used.
+     */
+    public static final String APPLICATION_EVENT_MULTICASTER_BEAN_NAME = "applicationEventMulticaster";
+
+    /**
+     * Name of the ConversionService bean in the factory. If none is defined,
+     * the default conversion service is used.
+     */
+    public static final String CONVERSION_SERVICE_BEAN_NAME = "conversionService";
 
     private DefaultListableBeanFactory beanFactory;
     private ResourceLoader resourceLoader;
+    private ResourcePatternResolver resourcePatternResolver;
+    private ConfigurableEnvironment environment;
+    private BeanExpressionResolver beanExpressionResolver;
+    private volatile CompletableFuture<Void> readyFuture = new CompletableFuture<>();
+    private final List<ApplicationListener<?>> applicationListeners = new ArrayList<>();
+    private final List<BeanFactoryPostProcessor> beanFactoryPostProcessors = new ArrayList<>();
+    private final Map<String, Long> postProcessorTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+    private ApplicationEventMulticaster applicationEventMulticaster;
+    private final AtomicBoolean active = new AtomicBoolean();
 
     public AbstractApplicationContext() {
         this.beanFactory = new DefaultListableBeanFactory();
         this.resourceLoader = new DefaultResourceLoader();
+        this.resourcePatternResolver = new PathMatchingResourcePatternResolver(resourceLoader);
     }
 
     @Override
@@ -49,16 +101,152 @@ public abstract class AbstractApplicationContext implements ApplicationContext,
         throw new RuntimeException("Bean '" + name + "' is not of required type: " + requiredType.getName());
     }
 
+    @Override
+    public String[] getBeanNamesWithAnnotation(Class<? extends Annotation> annotationType) {
+        return beanFactory.getBeanNamesWithAnnotation(annotationType);
+    }
+
+    @Override
+    public Map<String, Object> getBeansWithAnnotation(Class<? extends Annotation> annotationType) {
+        return beanFactory.getBeansWithAnnotation(annotationType);
+    }
+
     @Override
     public boolean containBean(String name) {
         return beanFactory.containBean(name);
     }
 
+    @Override
+    public CompletableFuture<Object> getBeanAsync(String name) {
+        return beanFactory.getBeanAsync(name);
+    }
+
+    @Override
+    public boolean isReady() {
+        CompletableFuture<Void> future = readyFuture;
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    @Override
+    public CompletableFuture<Void> whenReady() {
+        return readyFuture;
+    }
+
+    @Override
+    public void publishEvent(ApplicationEvent event) {
+        if (applicationEventMulticaster == null) {
+            throw new IllegalStateException("ApplicationEventMulticaster not initialized - call 'refresh' first");
+        }
+        applicationEventMulticaster.multicastEvent(event);
+    }
+
+    /**
+     * Add a listener that is not a bean. Listeners added before refresh are
+     * registered with the multicaster when it is created.
+     *
+     * @param listener the listener to add
+     */
+    public void addApplicationListener(ApplicationListener<?> listener) {
+        applicationListeners.add(listener);
+        if (applicationEventMulticaster != null) {
+            applicationEventMulticaster.addApplicationListener(listener);
+        }
+    }
+
+    /**
+     * Return the environment of this context, creating a StandardEnvironment
+     * on first access.
+     */
+    @Override
+    public ConfigurableEnvironment getEnvironment() {
+        if (environment == null) {
+            environment = new StandardEnvironment();
+        }
+        return environment;
+    }
+
+    /**
+     * Set the environment for this context. Must be called before refresh.
+     *
+     * @param environment the environment
+     */
+    public void setEnvironment(ConfigurableEnvironment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Return the resolver for {@code #{...}} expressions in {@code @Value}
+     * texts, creating a StandardBeanExpressionResolver on first access.
+     */
+    public BeanExpressionResolver getBeanExpressionResolver() {
+        if (beanExpressionResolver == null) {
+            beanExpressionResolver = new StandardBeanExpressionResolver();
+        }
+        return beanExpressionResolver;
+    }
+
+    /**
+     * Set the expression resolver for this context. Must be called before
+     * refresh.
+     *
+     * @param beanExpressionResolver the resolver
+     */
+    public void setBeanExpressionResolver(BeanExpressionResolver beanExpressionResolver) {
+        this.beanExpressionResolver = beanExpressionResolver;
+    }
+
+    /**
+     * Start AspectJ load-time weaving in this VM: the bean classes loaded
+     * afterwards get the advice of the aspects in {@code META-INF/aop.xml}
+     * woven in, so their beans need no proxy. Call it before registering or
+     * reading the bean definitions of the classes to weave, as classes that
+     * are already loaded are not woven.
+     *
+     * @throws IllegalStateException if the weaver agent cannot be started
+     * @see AspectJWeavingEnabler
+     */
+    public void enableLoadTimeWeaving() {
+        AspectJWeavingEnabler.enable();
+    }
+
+    /**
+     * Add a BeanFactoryPostProcessor that is not a bean. It is applied on
+     * refresh before any post-processor bean of the same kind.
+     *
+     * @param postProcessor the post-processor to add
+     */
+    public void addBeanFactoryPostProcessor(BeanFactoryPostProcessor postProcessor) {
+        beanFactoryPostProcessors.add(postProcessor);
+    }
+
+    public List<BeanFactoryPostProcessor> getBeanFactoryPostProcessors() {
+        return Collections.unmodifiableList(beanFactoryPostProcessors);
+    }
+
+    /**
+     * Return the time spent in each BeanFactoryPostProcessor during the last
+     * refresh, in invocation order. Keys are bean names, or class names for
+     * processors added to the context; values are nanoseconds, summing both
+     * phases of a registry post-processor.
+     *
+     * @return a snapshot of the timings
+     */
+    public Map<String, Long> getBeanFactoryPostProcessorTimings() {
+        synchronized (postProcessorTimings) {
+            return new LinkedHashMap<>(postProcessorTimings);
+        }
+    }
+
     @Override
     public Resource getResource(String location) {
         return resourceLoader.getResource(location);
     }
 
+    @Override
+    public Resource[] getResources(String locationPattern) throws IOException {
+        return resourcePatternResolver.getResources(locationPattern);
+    }
+
     @Override
     public ClassLoader getClassLoader() {
         return resourceLoader.getClassLoader();
@@ -75,11 +263,39 @@ public abstract class AbstractApplicationContext implements ApplicationContext,
         // 2. Load bean definitions
         loadBeanDefinitions(beanFactory);
 
-        // 3. Register bean post processors
+        // 3. Let bean factory post processors modify the definitions
+        invokeBeanFactoryPostProcessors(beanFactory);
+
+        // 4. Use the conversion service bean, if any, for all property conversion
+        initConversionService(beanFactory);
+
+        // 5. Register bean post processors
         registerBeanPostProcessors(beanFactory);
 
-        // 4. Instantiate non-lazy singleton beans
+        // 6. Initialize the event multicaster and register listener beans
+        initApplicationEventMulticaster(beanFactory);
+        registerListeners(beanFactory);
+
+        // 7. Generate the classes bean post processors need, such as proxy classes, in parallel
+        prepareBeanClasses(beanFactory);
+
+        // 8. Instantiate non-lazy singleton beans
         finishBeanFactoryInitialization(beanFactory);
+
+        // 9. Publish the corresponding event
+        finishRefresh();
+    }
+
+    /**
+     * Close this application context: publish a ContextClosedEvent and
+     * destroy all singletons.
+     */
+    @Override
+    public void close() {
+        if (active.compareAndSet(true, false)) {
+            publishEvent(new ContextClosedEvent(this));
+            beanFactory.destroySingletons();
+        }
     }
 
     /**
@@ -96,20 +312,119 @@ public abstract class AbstractApplicationContext implements ApplicationContext,
      */
     protected abstract void loadBeanDefinitions(DefaultListableBeanFactory beanFactory);
 
+    /**
+     * Instantiate and invoke all registered BeanFactoryPostProcessors,
+     * respecting PriorityOrdered and Ordered. Read-only processors run on the
+     * bean factory's bootstrap executor. The processor that binds
+     * {@code @ConfigurationProperties} beans runs after those added to the
+     * context.
+     *
+     * @param beanFactory the bean factory
+     */
+    protected void invokeBeanFactoryPostProcessors(DefaultListableBeanFactory beanFactory) {
+        postProcessorTimings.clear();
+        List<BeanFactoryPostProcessor> postProcessors = new ArrayList<>(beanFactoryPostProcessors);
+        postProcessors.add(new ConfigurationPropertiesBindingPostProcessor(getEnvironment()));
+        PostProcessorRegistrationDelegate.invokeBeanFactoryPostProcessors(beanFactory, postProcessors,
+                beanFactory.getBootstrapExecutor(), postProcessorTimings);
+    }
+
+    /**
+     * Install the bean named {@value #CONVERSION_SERVICE_BEAN_NAME}, if one
+     * is defined, on the bean factory and the Environment, so that property
+     * values, {@code @Value} injection and {@code @ConfigurationProperties}
+     * binding all convert through it.
+     *
+     * @param beanFactory the bean factory
+     */
+    protected void initConversionService(DefaultListableBeanFactory beanFactory) {
+        if (beanFactory.containsBeanDefinition(CONVERSION_SERVICE_BEAN_NAME)) {
+            ConversionService conversionService = (ConversionService) beanFactory.getBean(CONVERSION_SERVICE_BEAN_NAME);
+            beanFactory.setConversionService(conversionService);
+            getEnvironment().setConversionService(conversionService);
+        }
+    }
+
     /**
      * Register bean post processors.
      * 
      * @param beanFactory the bean factory
      */
     protected void registerBeanPostProcessors(DefaultListableBeanFactory beanFactory) {
-        // Find all BeanPostProcessor beans and register them
-        String[] postProcessorNames = beanFactory.getBeanDefinitionNames();
-        for (String ppName : postProcessorNames) {
-            if (BeanPostProcessor.class.isAssignableFrom(beanFactory.getBeanDefinition(ppName).getBeanClass())) {
-                BeanPostProcessor pp = (BeanPostProcessor) beanFactory.getBean(ppName);
-                beanFactory.addBeanPostProcessor(pp);
+        // Find all BeanPostProcessor beans and register them in order, after the @Value and @Autowired processors
+        List<BeanPostProcessor> postProcessors = new ArrayList<>();
+        postProcessors.add(new ValueAnnotationBeanPostProcessor(getEnvironment(), getBeanExpressionResolver(),
+                new BeanExpressionContext(beanFactory, getEnvironment()), beanFactory.getConversionService()));
+        postProcessors.add(new AutowiredAnnotationBeanPostProcessor(beanFactory));
+        for (String ppName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> beanType = beanFactory.getType(ppName);
+            if (beanType != null && BeanPostProcessor.class.isAssignableFrom(beanType)) {
+                postProcessors.add((BeanPostProcessor) beanFactory.getBean(ppName));
             }
         }
+        OrderComparator.sort(postProcessors);
+        for (BeanPostProcessor pp : postProcessors) {
+            beanFactory.addBeanPostProcessor(pp);
+        }
+    }
+
+    /**
+     * Initialize the ApplicationEventMulticaster, using the bean named
+     * {@value #APPLICATION_EVENT_MULTICASTER_BEAN_NAME} if one is defined.
+     *
+     * @param beanFactory the bean factory
+     */
+    protected void initApplicationEventMulticaster(DefaultListableBeanFactory beanFactory) {
+        if (beanFactory.containsBeanDefinition(APPLICATION_EVENT_MULTICASTER_BEAN_NAME)) {
+            this.applicationEventMulticaster =
+                    (ApplicationEventMulticaster) beanFactory.getBean(APPLICATION_EVENT_MULTICASTER_BEAN_NAME);
+        } else {
+            this.applicationEventMulticaster = new SimpleApplicationEventMulticaster();
+        }
+    }
+
+    /**
+     * Register statically added listeners and all ApplicationListener beans.
+     *
+     * @param beanFactory the bean factory
+     */
+    protected void registerListeners(DefaultListableBeanFactory beanFactory) {
+        for (ApplicationListener<?> listener : applicationListeners) {
+            applicationEventMulticaster.addApplicationListener(listener);
+        }
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> beanType = beanFactory.getType(beanName);
+            if (beanType != null && ApplicationListener.class.isAssignableFrom(beanType)) {
+                applicationEventMulticaster.addApplicationListener((ApplicationListener<?>) beanFactory.getBean(beanName));
+            }
+        }
+    }
+
+    /**
+     * Let every {@link BeanClassPreparingPostProcessor} generate the classes
+     * it needs on the bootstrap executor, and wait for all of them.
+     *
+     * @param beanFactory the bean factory
+     */
+    protected void prepareBeanClasses(DefaultListableBeanFactory beanFactory) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (BeanPostProcessor postProcessor : beanFactory.getBeanPostProcessors()) {
+            if (postProcessor instanceof BeanClassPreparingPostProcessor) {
+                futures.add(((BeanClassPreparingPostProcessor) postProcessor)
+                        .prepareBeanClasses(beanFactory, beanFactory.getBootstrapExecutor()));
+            }
+        }
+        if (!futures.isEmpty()) {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        }
+    }
+
+    /**
+     * Complete the refresh by publishing a ContextRefreshedEvent.
+     */
+    protected void finishRefresh() {
+        active.set(true);
+        publishEvent(new ContextRefreshedEvent(this));
     }
 
     /**
@@ -119,14 +434,38 @@ public abstract class AbstractApplicationContext implements ApplicationContext,
      * @param beanFactory the bean factory
      */
     protected void finishBeanFactoryInitialization(DefaultListableBeanFactory beanFactory) {
-        // Instantiate all remaining (non-lazy-init) singletons
         String[] beanNames = beanFactory.getBeanDefinitionNames();
+
+        // Kick off background singletons first so their slow init overlaps the rest
+        List<CompletableFuture<Object>> backgroundInits = new ArrayList<>();
         for (String beanName : beanNames) {
-            if (beanFactory.getBeanDefinition(beanName).isSingleton() &&
-                    !beanFactory.getBeanDefinition(beanName).isLazyInit()) {
+            BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+            if (beanDefinition.isSingleton() && !beanDefinition.isLazyInit() && beanDefinition.isBackgroundInit()) {
+                backgroundInits.add(beanFactory.getBeanAsync(beanName));
+            }
+        }
+
+        // Instantiate all remaining (non-lazy-init) singletons
+        for (String beanName : beanNames) {
+            BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+            if (beanDefinition.isSingleton() && !beanDefinition.isLazyInit() && !beanDefinition.isBackgroundInit()) {
                 beanFactory.getBean(beanName);
             }
         }
+
+        CompletableFuture<Void> future = CompletableFuture.allOf(backgroundInits.toArray(new CompletableFuture<?>[0]));
+        CompletableFuture<Void> previous = this.readyFuture;
+        if (previous.isDone()) {
+            this.readyFuture = future;
+        } else {
+            future.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    previous.completeExceptionally(ex);
+                } else {
+                    previous.complete(null);
+                }
+            });
+        }
     }
 
     protected DefaultListableBeanFactory getBeanFactory() {
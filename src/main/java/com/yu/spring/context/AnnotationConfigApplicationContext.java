@@ -1,8 +1,17 @@
 package com.yu.spring.context;
 
 import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.support.AbstractBeanDefinitionReader;
 import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+import com.yu.spring.beans.factory.support.PropertiesBeanDefinitionReader;
+import com.yu.spring.beans.factory.support.XmlBeanDefinitionReader;
 import com.yu.spring.context.annotation.AnnotatedBeanDefinitionReader;
+import com.yu.spring.core.env.ConfigurableEnvironment;
+import com.yu.spring.io.Resource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Standalone application context that accepts annotated classes as input.
@@ -14,9 +23,10 @@ public class AnnotationConfigApplicationContext extends AbstractApplicationConte
 
     private AnnotatedBeanDefinitionReader reader;
     private Class<?>[] annotatedClasses;
+    private String[] configLocations;
 
     public AnnotationConfigApplicationContext() {
-        this.reader = new AnnotatedBeanDefinitionReader(getBeanFactory());
+        this.reader = new AnnotatedBeanDefinitionReader(getBeanFactory(), getEnvironment());
     }
 
     public AnnotationConfigApplicationContext(Class<?>... annotatedClasses) {
@@ -25,6 +35,16 @@ public class AnnotationConfigApplicationContext extends AbstractApplicationConte
         refresh();
     }
 
+    /**
+     * Set the environment, which must happen before classes are registered
+     * for their {@code @Profile} and other conditions to see it.
+     */
+    @Override
+    public void setEnvironment(ConfigurableEnvironment environment) {
+        super.setEnvironment(environment);
+        this.reader.setEnvironment(environment);
+    }
+
     /**
      * Register one or more annotated classes to be processed.
      * 
@@ -37,10 +57,67 @@ public class AnnotationConfigApplicationContext extends AbstractApplicationConte
         }
     }
 
+    /**
+     * Set XML or properties bean definition locations to load on refresh, in
+     * addition to the registered annotated classes. Locations may be patterns
+     * such as "classpath*:beans/*.xml". Files ending in ".properties" are read
+     * by a PropertiesBeanDefinitionReader, everything else as XML.
+     *
+     * @param configLocations the resource locations
+     */
+    public void setConfigLocations(String... configLocations) {
+        this.configLocations = configLocations;
+    }
+
     @Override
     protected void loadBeanDefinitions(DefaultListableBeanFactory beanFactory) {
-        // Bean definitions are loaded through the AnnotatedBeanDefinitionReader
-        // when register() is called
+        // Annotated classes are registered through the AnnotatedBeanDefinitionReader
+        // when register() is called; config locations are loaded here
+        if (configLocations == null || configLocations.length == 0) {
+            return;
+        }
+        XmlBeanDefinitionReader xmlReader = new XmlBeanDefinitionReader(beanFactory);
+        PropertiesBeanDefinitionReader propertiesReader = new PropertiesBeanDefinitionReader(beanFactory);
+        xmlReader.setResourceLoader(this);
+        propertiesReader.setResourceLoader(this);
+        // Resources are registered in configLocations order, so a later location overrides
+        // an earlier one whatever its format; consecutive resources of one format are
+        // handed to their reader together so it can parse them concurrently
+        AbstractBeanDefinitionReader runReader = null;
+        List<Resource> run = new ArrayList<>();
+        for (String location : configLocations) {
+            Resource[] resources;
+            try {
+                resources = getResources(location);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not resolve config location [" + location + "]", e);
+            }
+            for (Resource resource : resources) {
+                AbstractBeanDefinitionReader reader = isPropertiesResource(location, resource)
+                        ? propertiesReader : xmlReader;
+                if (reader != runReader) {
+                    loadBeanDefinitions(runReader, run);
+                    runReader = reader;
+                }
+                run.add(resource);
+            }
+        }
+        loadBeanDefinitions(runReader, run);
+    }
+
+    private static void loadBeanDefinitions(AbstractBeanDefinitionReader reader, List<Resource> resources) {
+        if (!resources.isEmpty()) {
+            reader.loadBeanDefinitions(resources.toArray(new Resource[0]));
+            resources.clear();
+        }
+    }
+
+    private static boolean isPropertiesResource(String location, Resource resource) {
+        try {
+            return resource.getURL().getPath().endsWith(".properties");
+        } catch (IOException e) {
+            return location.endsWith(".properties");
+        }
     }
 
     /**
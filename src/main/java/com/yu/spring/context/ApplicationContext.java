@@ -1,6 +1,11 @@
 package com.yu.spring.context;
 
 import com.yu.spring.beans.factory.BeanFactory;
+import com.yu.spring.core.env.Environment;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Central interface to provide configuration for an application.
@@ -8,7 +13,7 @@ import com.yu.spring.beans.factory.BeanFactory;
  * @author yuhangbin
  * @date 2022/5/3
  **/
-public interface ApplicationContext extends BeanFactory {
+public interface ApplicationContext extends BeanFactory, ApplicationEventPublisher {
 
     /**
      * Return the bean instance that uniquely matches the given object type.
@@ -26,4 +31,56 @@ public interface ApplicationContext extends BeanFactory {
      * @return an instance of the single matching bean
      */
     <T> T getBean(String name, Class<T> requiredType);
+
+    /**
+     * Return the names of the beans whose class or {@code @Bean} method
+     * carries the given annotation, directly or as a meta-annotation. No
+     * bean is created.
+     *
+     * @param annotationType the annotation type to look for
+     * @return the matching bean names
+     */
+    String[] getBeanNamesWithAnnotation(Class<? extends Annotation> annotationType);
+
+    /**
+     * Return the beans whose class or {@code @Bean} method carries the given
+     * annotation, keyed by bean name. Unrelated beans are not created.
+     *
+     * @param annotationType the annotation type to look for
+     * @return the matching beans
+     */
+    Map<String, Object> getBeansWithAnnotation(Class<? extends Annotation> annotationType);
+
+    /**
+     * Return the Environment for this application context: its property
+     * sources and active profiles.
+     *
+     * @return the environment
+     */
+    Environment getEnvironment();
+
+    /**
+     * Return a future for the named bean. Beans marked for background
+     * initialization complete once their init work has finished.
+     *
+     * @param name the name of the bean to retrieve
+     * @return a future completed with the bean instance
+     */
+    CompletableFuture<Object> getBeanAsync(String name);
+
+    /**
+     * Whether every singleton, including those initialized in the background,
+     * has been created.
+     *
+     * @return true once the context is fully initialized
+     */
+    boolean isReady();
+
+    /**
+     * Return a future that completes when the context is fully initialized,
+     * or exceptionally if a background initialization failed.
+     *
+     * @return the readiness future
+     */
+    CompletableFuture<Void> whenReady();
 }
@@ -0,0 +1,35 @@
+package com.yu.spring.context;
+
+import java.util.EventObject;
+
+/**
+ * Class to be extended by all application events.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public abstract class ApplicationEvent extends EventObject {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long timestamp;
+
+    /**
+     * Create a new ApplicationEvent.
+     *
+     * @param source the object on which the event initially occurred
+     */
+    public ApplicationEvent(Object source) {
+        super(source);
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Return the system time in milliseconds when the event occurred.
+     *
+     * @return the event timestamp
+     */
+    public final long getTimestamp() {
+        return timestamp;
+    }
+}
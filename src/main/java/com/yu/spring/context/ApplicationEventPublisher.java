@@ -0,0 +1,18 @@
+package com.yu.spring.context;
+
+/**
+ * Interface that encapsulates event publication functionality.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface ApplicationEventPublisher {
+
+    /**
+     * Notify all matching listeners registered with this application of an
+     * application event.
+     *
+     * @param event the event to publish
+     */
+    void publishEvent(ApplicationEvent event);
+}
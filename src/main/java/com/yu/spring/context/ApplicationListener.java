@@ -0,0 +1,31 @@
+package com.yu.spring.context;
+
+import java.util.EventListener;
+
+/**
+ * Interface to be implemented by application event listeners.
+ * The event type a listener receives is resolved once from its generic
+ * declaration when it is registered with the multicaster.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface ApplicationListener<E extends ApplicationEvent> extends EventListener {
+
+    /**
+     * Handle an application event.
+     *
+     * @param event the event to respond to
+     */
+    void onApplicationEvent(E event);
+
+    /**
+     * Whether this listener should be invoked on the multicaster's task
+     * executor instead of the publishing thread.
+     *
+     * @return true for asynchronous delivery
+     */
+    default boolean isAsync() {
+        return false;
+    }
+}
@@ -0,0 +1,198 @@
+package com.yu.spring.context;
+
+import com.yu.spring.beans.factory.config.BeanFactoryPostProcessor;
+import com.yu.spring.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+import com.yu.spring.core.OrderComparator;
+import com.yu.spring.core.Ordered;
+import com.yu.spring.core.PriorityOrdered;
+import com.yu.spring.core.ResolvableType;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Delegate for the BeanFactoryPostProcessor phase of the context refresh.
+ *
+ * <p>Invocation order follows Spring:
+ * <ol>
+ * <li>registry post-processors added to the context, in the order added;</li>
+ * <li>registry post-processor beans in three stages: PriorityOrdered, then
+ * Ordered, then the rest, repeated until none of them registers another
+ * one;</li>
+ * <li>{@code postProcessBeanFactory} of all registry post-processors, then of
+ * the plain processors added to the context;</li>
+ * <li>plain BeanFactoryPostProcessor beans, in the same three stages.</li>
+ * </ol>
+ *
+ * <p>The beans of a stage are only instantiated once the previous stage has
+ * run, so a PriorityOrdered processor can register or modify the definitions
+ * of the processors that follow it. Within a stage they are sorted;
+ * processors of equal order, such as all unordered ones, run in the order
+ * their bean definitions were registered. Only definitions declaring a bean
+ * class or factory method are considered.
+ *
+ * <p>In the {@code postProcessBeanFactory} calls, each run of adjacent
+ * read-only processors is invoked concurrently and joined before the next
+ * processor, so a processor that writes never overlaps any other. Every
+ * invocation is timed into the given map, keyed by bean name (or class name
+ * for processors that are not beans).
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+final class PostProcessorRegistrationDelegate {
+
+    private PostProcessorRegistrationDelegate() {
+    }
+
+    static void invokeBeanFactoryPostProcessors(DefaultListableBeanFactory beanFactory,
+                                                List<BeanFactoryPostProcessor> contextPostProcessors,
+                                                Executor executor, Map<String, Long> timings) {
+        List<NamedProcessor> registryProcessors = new ArrayList<>();
+        List<NamedProcessor> regularProcessors = new ArrayList<>();
+        for (BeanFactoryPostProcessor postProcessor : contextPostProcessors) {
+            NamedProcessor processor = new NamedProcessor(postProcessor.getClass().getName(), postProcessor);
+            if (postProcessor instanceof BeanDefinitionRegistryPostProcessor) {
+                invokeRegistryPostProcessor(processor, beanFactory, timings);
+                registryProcessors.add(processor);
+            } else {
+                regularProcessors.add(processor);
+            }
+        }
+
+        Set<String> processedBeans = new HashSet<>();
+        invokeRegistryPostProcessors(getPostProcessorBeans(beanFactory, BeanDefinitionRegistryPostProcessor.class,
+                PriorityOrdered.class, processedBeans), registryProcessors, beanFactory, timings);
+        invokeRegistryPostProcessors(getPostProcessorBeans(beanFactory, BeanDefinitionRegistryPostProcessor.class,
+                Ordered.class, processedBeans), registryProcessors, beanFactory, timings);
+        // The rest may register further ones, so look again after each round
+        List<NamedProcessor> currentRegistryProcessors;
+        do {
+            currentRegistryProcessors = getPostProcessorBeans(beanFactory, BeanDefinitionRegistryPostProcessor.class,
+                    null, processedBeans);
+            invokeRegistryPostProcessors(currentRegistryProcessors, registryProcessors, beanFactory, timings);
+        } while (!currentRegistryProcessors.isEmpty());
+
+        invokeBeanFactoryPostProcessors(registryProcessors, beanFactory, executor, timings);
+        invokeBeanFactoryPostProcessors(regularProcessors, beanFactory, executor, timings);
+        invokeBeanFactoryPostProcessors(
+                getPostProcessorBeans(beanFactory, BeanFactoryPostProcessor.class, PriorityOrdered.class, processedBeans),
+                beanFactory, executor, timings);
+        invokeBeanFactoryPostProcessors(
+                getPostProcessorBeans(beanFactory, BeanFactoryPostProcessor.class, Ordered.class, processedBeans),
+                beanFactory, executor, timings);
+        invokeBeanFactoryPostProcessors(
+                getPostProcessorBeans(beanFactory, BeanFactoryPostProcessor.class, null, processedBeans),
+                beanFactory, executor, timings);
+    }
+
+    /**
+     * Instantiate the not yet processed post-processor beans of the given
+     * type that also implement the given ordering interface, or all of them if
+     * it is null, and return them sorted.
+     */
+    private static List<NamedProcessor> getPostProcessorBeans(DefaultListableBeanFactory beanFactory,
+                                                              Class<? extends BeanFactoryPostProcessor> type,
+                                                              Class<? extends Ordered> orderType,
+                                                              Set<String> processedBeans) {
+        List<String> beanNames = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanNamesForType(ResolvableType.forClass(type))) {
+            Class<?> beanType = beanFactory.getType(beanName);
+            if (beanType != null && (orderType == null || orderType.isAssignableFrom(beanType))
+                    && processedBeans.add(beanName)) {
+                beanNames.add(beanName);
+            }
+        }
+        List<NamedProcessor> processors = new ArrayList<>(beanNames.size());
+        for (String beanName : beanNames) {
+            processors.add(new NamedProcessor(beanName, (BeanFactoryPostProcessor) beanFactory.getBean(beanName)));
+        }
+        processors.sort((p1, p2) -> OrderComparator.INSTANCE.compare(p1.processor, p2.processor));
+        return processors;
+    }
+
+    private static void invokeRegistryPostProcessors(List<NamedProcessor> processors,
+                                                     List<NamedProcessor> registryProcessors,
+                                                     DefaultListableBeanFactory beanFactory, Map<String, Long> timings) {
+        for (NamedProcessor processor : processors) {
+            invokeRegistryPostProcessor(processor, beanFactory, timings);
+        }
+        registryProcessors.addAll(processors);
+    }
+
+    private static void invokeRegistryPostProcessor(NamedProcessor processor, DefaultListableBeanFactory beanFactory,
+                                                    Map<String, Long> timings) {
+        long start = System.nanoTime();
+        ((BeanDefinitionRegistryPostProcessor) processor.processor).postProcessBeanDefinitionRegistry(beanFactory);
+        timings.merge(processor.name, System.nanoTime() - start, Long::sum);
+    }
+
+    private static void invokeBeanFactoryPostProcessors(List<NamedProcessor> processors,
+                                                        DefaultListableBeanFactory beanFactory,
+                                                        Executor executor, Map<String, Long> timings) {
+        int i = 0;
+        while (i < processors.size()) {
+            int end = i + 1;
+            if (processors.get(i).processor.isReadOnly()) {
+                while (end < processors.size() && processors.get(end).processor.isReadOnly()) {
+                    end++;
+                }
+            }
+            if (end - i == 1 || executor == null) {
+                for (int j = i; j < end; j++) {
+                    invokeBeanFactoryPostProcessor(processors.get(j), beanFactory, timings);
+                }
+            } else {
+                invokeConcurrently(processors.subList(i, end), beanFactory, executor, timings);
+            }
+            i = end;
+        }
+    }
+
+    private static void invokeConcurrently(List<NamedProcessor> processors, DefaultListableBeanFactory beanFactory,
+                                           Executor executor, Map<String, Long> timings) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[processors.size()];
+        for (int i = 0; i < futures.length; i++) {
+            NamedProcessor processor = processors.get(i);
+            futures[i] = CompletableFuture.runAsync(
+                    () -> invokeBeanFactoryPostProcessor(processor, beanFactory, timings), executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void invokeBeanFactoryPostProcessor(NamedProcessor processor, DefaultListableBeanFactory beanFactory,
+                                                       Map<String, Long> timings) {
+        long start = System.nanoTime();
+        processor.processor.postProcessBeanFactory(beanFactory);
+        timings.merge(processor.name, System.nanoTime() - start, Long::sum);
+    }
+
+    private static final class NamedProcessor {
+
+        final String name;
+        final BeanFactoryPostProcessor processor;
+
+        NamedProcessor(String name, BeanFactoryPostProcessor processor) {
+            this.name = name;
+            this.processor = processor;
+        }
+    }
+}
@@ -1,10 +1,32 @@
 package com.yu.spring.context.annotation;
 
 import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.annotation.Qualifier;
 import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+import com.yu.spring.core.annotation.ClassMetadata;
+import com.yu.spring.core.annotation.MergedAnnotations;
+import com.yu.spring.core.env.Environment;
+import com.yu.spring.core.env.StandardEnvironment;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Reads bean definitions from annotated classes.
+ *
+ * <p>{@link Conditional @Conditional} and {@link Profile @Profile} are
+ * evaluated when a class is registered; classes whose conditions do not
+ * match never become bean definitions.
+ *
+ * <p>{@link Bean @Bean} methods of a registered class become bean definitions
+ * with that method as factory method. For a {@link Configuration @Configuration}
+ * class with {@code proxyBeanMethods} the class is replaced by a CGLIB
+ * subclass that routes calls between {@code @Bean} methods to the container.
+ * Otherwise ("lite" mode, also used for {@code @Bean} methods of a plain
+ * {@code @Component}) no subclass is generated and the methods are only
+ * invoked by the bean factory, through cached method handles.
  * 
  * @author yuhangbin
  * @date 2022/5/3
@@ -12,9 +34,24 @@ import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
 public class AnnotatedBeanDefinitionReader {
 
     private DefaultListableBeanFactory beanFactory;
+    private final ConditionEvaluator conditionEvaluator;
 
     public AnnotatedBeanDefinitionReader(DefaultListableBeanFactory beanFactory) {
+        this(beanFactory, new StandardEnvironment());
+    }
+
+    public AnnotatedBeanDefinitionReader(DefaultListableBeanFactory beanFactory, Environment environment) {
         this.beanFactory = beanFactory;
+        this.conditionEvaluator = new ConditionEvaluator(beanFactory, environment);
+    }
+
+    /**
+     * Set the Environment to evaluate conditions against.
+     *
+     * @param environment the environment
+     */
+    public void setEnvironment(Environment environment) {
+        conditionEvaluator.setEnvironment(environment);
     }
 
     /**
@@ -23,30 +60,81 @@ public class AnnotatedBeanDefinitionReader {
      * @param annotatedClass the annotated class
      */
     public void register(Class<?> annotatedClass) {
-        // Check if class is annotated with @Component
-        if (annotatedClass.isAnnotationPresent(Component.class)) {
-            String beanName = generateBeanName(annotatedClass);
-            BeanDefinition beanDefinition = new BeanDefinition(annotatedClass);
+        // Check if class is a @Component, directly or through @Configuration or another stereotype,
+        // and its conditions match
+        ClassMetadata metadata = ClassMetadata.forClass(annotatedClass);
+        if (!metadata.hasAnnotation(Component.class) || conditionEvaluator.shouldSkip(annotatedClass)) {
+            return;
+        }
+        Configuration configuration = metadata.getAnnotation(Configuration.class);
+        String beanName = generateBeanName(metadata);
+        BeanDefinition beanDefinition = new BeanDefinition(annotatedClass);
+        applyAutowireCandidateAnnotations(metadata.getMergedAnnotations(), beanDefinition);
+        beanFactory.registerBeanDefinition(beanName, beanDefinition);
+
+        Map<Method, String> beanMethods = registerBeanMethods(metadata, beanName);
+        if (configuration != null && configuration.proxyBeanMethods() && !beanMethods.isEmpty()) {
+            beanDefinition.setInstanceSupplier(
+                    ConfigurationClassEnhancer.instanceSupplier(annotatedClass, beanMethods, beanFactory));
+        }
+    }
+
+    /**
+     * Register a bean definition for each {@code @Bean} method of the class
+     * and its superclasses whose conditions match.
+     *
+     * @return the bean name of each registered method
+     */
+    private Map<Method, String> registerBeanMethods(ClassMetadata metadata, String configBeanName) {
+        Map<Method, String> beanNames = new HashMap<>();
+        for (Method method : metadata.getAnnotatedMethods(Bean.class)) {
+            if (conditionEvaluator.shouldSkip(method)) {
+                continue;
+            }
+            Bean bean = MergedAnnotations.from(method).get(Bean.class);
+            String beanName = bean.value().isEmpty() ? method.getName() : bean.value();
+            BeanDefinition beanDefinition = new BeanDefinition(method.getReturnType());
+            beanDefinition.setFactoryMethod(method);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                beanDefinition.setFactoryBeanName(configBeanName);
+            }
+            if (!bean.initMethod().isEmpty()) {
+                beanDefinition.setInitMethodName(bean.initMethod());
+            }
+            if (!bean.destroyMethod().isEmpty()) {
+                beanDefinition.setDestroyMethodName(bean.destroyMethod());
+            }
+            applyAutowireCandidateAnnotations(MergedAnnotations.from(method), beanDefinition);
             beanFactory.registerBeanDefinition(beanName, beanDefinition);
+            beanNames.put(method, beanName);
+        }
+        return beanNames;
+    }
+
+    private static void applyAutowireCandidateAnnotations(MergedAnnotations annotations, BeanDefinition beanDefinition) {
+        beanDefinition.setPrimary(annotations.isPresent(Primary.class));
+        Qualifier qualifier = annotations.get(Qualifier.class);
+        if (qualifier != null) {
+            beanDefinition.setQualifier(qualifier.value());
         }
     }
 
     /**
      * Generate a bean name for the given class.
      * 
-     * @param clazz the class
+     * @param metadata the metadata of the class
      * @return the bean name
      */
-    private String generateBeanName(Class<?> clazz) {
-        Component component = clazz.getAnnotation(Component.class);
-        String value = component.value();
+    private String generateBeanName(ClassMetadata metadata) {
+        Configuration configuration = metadata.getAnnotation(Configuration.class);
+        String value = configuration != null ? configuration.value() : metadata.getAnnotation(Component.class).value();
 
         if (value != null && !value.isEmpty()) {
             return value;
         }
 
         // Default: class name with first letter lowercase
-        String className = clazz.getSimpleName();
+        String className = metadata.getIntrospectedClass().getSimpleName();
         return Character.toLowerCase(className.charAt(0)) + className.substring(1);
     }
 }
@@ -0,0 +1,37 @@
+package com.yu.spring.context.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that a method produces a bean. The method's parameters are
+ * resolved as beans by type; a static method is called without creating
+ * its declaring class.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ * @see Configuration
+ **/
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bean {
+
+    /**
+     * The bean name; defaults to the method name.
+     */
+    String value() default "";
+
+    /**
+     * The name of a method to call on the bean after it is created.
+     */
+    String initMethod() default "";
+
+    /**
+     * The name of a method to call on the bean when the factory is closed.
+     */
+    String destroyMethod() default "";
+}
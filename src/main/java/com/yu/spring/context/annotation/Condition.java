@@ -0,0 +1,39 @@
+package com.yu.spring.context.annotation;
+
+import java.lang.reflect.AnnotatedElement;
+
+/**
+ * A single condition that must match for a component to be registered.
+ * Conditions are applied with {@link Conditional @Conditional}, directly or
+ * through an annotation meta-annotated with it, such as {@link Profile}.
+ *
+ * <p>Conditions are checked while bean definitions are read, so they must
+ * not create beans. Implementations need a no-arg constructor; one instance
+ * is shared by every component that uses the condition.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@FunctionalInterface
+public interface Condition {
+
+    /**
+     * Determine if the condition matches.
+     *
+     * @param context the registry and environment being registered into
+     * @param element the annotated class or method being checked
+     * @return true if the component should be registered
+     */
+    boolean matches(ConditionContext context, AnnotatedElement element);
+
+    /**
+     * Return whether the outcome depends only on the Environment and the
+     * attributes of the annotation that applies the condition, and not on
+     * the annotated element or the beans registered so far. The outcome of
+     * such a condition is computed once and shared by every element carrying
+     * an equal annotation, until the Environment changes.
+     */
+    default boolean isElementIndependent() {
+        return false;
+    }
+}
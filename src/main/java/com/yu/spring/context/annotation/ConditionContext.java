@@ -0,0 +1,28 @@
+package com.yu.spring.context.annotation;
+
+import com.yu.spring.beans.factory.support.BeanDefinitionRegistry;
+import com.yu.spring.core.env.Environment;
+
+/**
+ * Context information for use by {@link Condition Conditions}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface ConditionContext {
+
+    /**
+     * Return the registry the checked component would be registered in.
+     */
+    BeanDefinitionRegistry getRegistry();
+
+    /**
+     * Return the Environment of the registry.
+     */
+    Environment getEnvironment();
+
+    /**
+     * Return the ClassLoader to load classes that may be absent.
+     */
+    ClassLoader getClassLoader();
+}
@@ -0,0 +1,203 @@
+package com.yu.spring.context.annotation;
+
+import com.yu.spring.beans.factory.support.BeanDefinitionRegistry;
+import com.yu.spring.core.annotation.ClassMetadata;
+import com.yu.spring.core.annotation.MergedAnnotations;
+import com.yu.spring.core.env.ConfigurableEnvironment;
+import com.yu.spring.core.env.Environment;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evaluates the {@link Conditional @Conditional} annotations of components
+ * while they are read.
+ *
+ * <p>Which annotation types carry conditions is resolved once per type, and
+ * each condition class is instantiated once. Outcomes of
+ * {@link Condition#isElementIndependent() element-independent} conditions
+ * are cached per condition class and annotation, so a {@code @Profile("dev")}
+ * shared by many components is checked once. That cache is dropped when the
+ * property sources or the active or default profiles change.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+class ConditionEvaluator implements ConditionContext {
+
+    private final BeanDefinitionRegistry registry;
+    private volatile Environment environment;
+
+    private final Map<Class<? extends Annotation>, List<Class<? extends Condition>>> conditionTypes =
+            new ConcurrentHashMap<>(64);
+    private final Map<Class<? extends Condition>, Condition> conditions = new ConcurrentHashMap<>(16);
+    private final Map<OutcomeKey, Boolean> outcomes = new ConcurrentHashMap<>(64);
+    private volatile EnvironmentState environmentState;
+
+    ConditionEvaluator(BeanDefinitionRegistry registry, Environment environment) {
+        this.registry = registry;
+        this.environment = environment;
+    }
+
+    void setEnvironment(Environment environment) {
+        this.environment = environment;
+        this.outcomes.clear();
+    }
+
+    /**
+     * Return whether the element should be skipped because one of its
+     * conditions does not match.
+     */
+    boolean shouldSkip(AnnotatedElement element) {
+        for (Annotation annotation : MergedAnnotations.from(element).getDirectAnnotations()) {
+            for (Class<? extends Condition> conditionClass : getConditionClasses(annotation)) {
+                if (!matches(getCondition(conditionClass), annotation, element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(Condition condition, Annotation annotation, AnnotatedElement element) {
+        if (!condition.isElementIndependent()) {
+            return condition.matches(this, element);
+        }
+        EnvironmentState state = EnvironmentState.of(environment);
+        if (!state.equals(environmentState)) {
+            outcomes.clear();
+            environmentState = state;
+        }
+        OutcomeKey key = new OutcomeKey(condition.getClass(), annotation);
+        Boolean outcome = outcomes.get(key);
+        if (outcome == null) {
+            outcome = condition.matches(this, element);
+            outcomes.put(key, outcome);
+        }
+        return outcome;
+    }
+
+    private List<Class<? extends Condition>> getConditionClasses(Annotation annotation) {
+        if (annotation instanceof Conditional) {
+            return Arrays.asList(((Conditional) annotation).value());
+        }
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+        List<Class<? extends Condition>> conditionClasses = conditionTypes.get(annotationType);
+        if (conditionClasses == null) {
+            // Also finds @Conditional on annotations composed of conditional annotations
+            Conditional conditional = ClassMetadata.forClass(annotationType).getAnnotation(Conditional.class);
+            conditionClasses = conditional != null ? Arrays.asList(conditional.value()) : Collections.emptyList();
+            conditionTypes.put(annotationType, conditionClasses);
+        }
+        return conditionClasses;
+    }
+
+    private Condition getCondition(Class<? extends Condition> conditionClass) {
+        Condition condition = conditions.get(conditionClass);
+        if (condition == null) {
+            try {
+                Constructor<? extends Condition> constructor = conditionClass.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                condition = constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot instantiate condition " + conditionClass.getName(), e);
+            }
+            Condition existing = conditions.putIfAbsent(conditionClass, condition);
+            if (existing != null) {
+                condition = existing;
+            }
+        }
+        return condition;
+    }
+
+    @Override
+    public BeanDefinitionRegistry getRegistry() {
+        return registry;
+    }
+
+    @Override
+    public Environment getEnvironment() {
+        return environment;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ConditionEvaluator.class.getClassLoader();
+    }
+
+    private static final class OutcomeKey {
+
+        private final Class<?> conditionClass;
+        private final Annotation annotation;
+        private final int hash;
+
+        OutcomeKey(Class<?> conditionClass, Annotation annotation) {
+            this.conditionClass = conditionClass;
+            this.annotation = annotation;
+            this.hash = conditionClass.hashCode() * 31 + annotation.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof OutcomeKey)) {
+                return false;
+            }
+            OutcomeKey that = (OutcomeKey) other;
+            return conditionClass == that.conditionClass && annotation.equals(that.annotation);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The parts of an Environment a cached outcome may depend on.
+     */
+    private static final class EnvironmentState {
+
+        private final long propertySourcesStamp;
+        private final String[] activeProfiles;
+        private final String[] defaultProfiles;
+
+        private EnvironmentState(long propertySourcesStamp, String[] activeProfiles, String[] defaultProfiles) {
+            this.propertySourcesStamp = propertySourcesStamp;
+            this.activeProfiles = activeProfiles;
+            this.defaultProfiles = defaultProfiles;
+        }
+
+        static EnvironmentState of(Environment environment) {
+            long stamp = environment instanceof ConfigurableEnvironment
+                    ? ((ConfigurableEnvironment) environment).getPropertySources().getModificationStamp() : 0;
+            return new EnvironmentState(stamp, environment.getActiveProfiles(), environment.getDefaultProfiles());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof EnvironmentState)) {
+                return false;
+            }
+            EnvironmentState that = (EnvironmentState) other;
+            return propertySourcesStamp == that.propertySourcesStamp
+                    && Arrays.equals(activeProfiles, that.activeProfiles)
+                    && Arrays.equals(defaultProfiles, that.defaultProfiles);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(propertySourcesStamp, Arrays.hashCode(activeProfiles));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.yu.spring.context.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that a component is only registered when all the given
+ * conditions match. May be used directly on a component class or as a
+ * meta-annotation on a custom conditional annotation, whose attributes then
+ * describe the condition.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Conditional {
+
+    /**
+     * The conditions that must all match.
+     */
+    Class<? extends Condition>[] value();
+}
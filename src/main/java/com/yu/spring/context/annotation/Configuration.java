@@ -0,0 +1,35 @@
+package com.yu.spring.context.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that a class declares {@link Bean @Bean} methods. The class is
+ * itself a {@link Component @Component}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Component
+public @interface Configuration {
+
+    /**
+     * The suggested bean name of the configuration class, if any.
+     */
+    String value() default "";
+
+    /**
+     * Whether {@code @Bean} methods are proxied so that calling one from
+     * another returns the container's singleton. That requires a CGLIB
+     * subclass of the configuration class; with {@code false} ("lite" mode)
+     * the class is used as is, and such calls are plain Java calls creating
+     * a new instance.
+     */
+    boolean proxyBeanMethods() default true;
+}
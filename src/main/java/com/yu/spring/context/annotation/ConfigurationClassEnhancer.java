@@ -0,0 +1,108 @@
+package com.yu.spring.context.annotation;
+
+import com.yu.spring.beans.factory.BeanFactory;
+import com.yu.spring.beans.factory.support.AbstractBeanFactory;
+import com.yu.spring.core.annotation.MergedAnnotations;
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.CallbackFilter;
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+import net.sf.cglib.proxy.NoOp;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Creates CGLIB subclasses of full-mode {@link Configuration @Configuration}
+ * classes, whose {@link Bean @Bean} methods return the container's bean
+ * unless the container itself is calling them to create it.
+ *
+ * <p>The subclass is generated once per configuration class. Only
+ * {@code @Bean} methods are intercepted; all other methods dispatch straight
+ * to the superclass through {@link NoOp}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+class ConfigurationClassEnhancer {
+
+    private static final int NO_OP = 0;
+    private static final int BEAN_METHOD = 1;
+
+    private static final CallbackFilter BEAN_METHOD_FILTER =
+            method -> MergedAnnotations.from(method).isPresent(Bean.class) ? BEAN_METHOD : NO_OP;
+
+    private static final Map<Class<?>, Class<?>> enhancedClasses = new ConcurrentHashMap<>(16);
+
+    /**
+     * Return a supplier creating instances of the enhanced subclass of the
+     * configuration class that resolve {@code @Bean} method calls through
+     * the bean factory.
+     *
+     * @param configClass the configuration class
+     * @param beanNames   the bean name of each {@code @Bean} method
+     * @param beanFactory the bean factory to resolve calls through
+     */
+    static Supplier<Object> instanceSupplier(Class<?> configClass, Map<Method, String> beanNames,
+                                             BeanFactory beanFactory) {
+        Class<?> enhancedClass = enhancedClasses.computeIfAbsent(configClass,
+                ConfigurationClassEnhancer::createClass);
+        Constructor<?> constructor;
+        try {
+            constructor = enhancedClass.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Configuration class " + configClass.getName()
+                    + " needs a no-arg constructor", e);
+        }
+        Callback[] callbacks = { NoOp.INSTANCE, new BeanMethodInterceptor(beanNames, beanFactory) };
+        return () -> {
+            Enhancer.registerCallbacks(enhancedClass, callbacks);
+            try {
+                return constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot instantiate configuration class "
+                        + configClass.getName(), e);
+            } finally {
+                Enhancer.registerCallbacks(enhancedClass, null);
+            }
+        };
+    }
+
+    private static Class<?> createClass(Class<?> configClass) {
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(configClass);
+        enhancer.setClassLoader(configClass.getClassLoader());
+        enhancer.setUseFactory(false);
+        enhancer.setCallbackFilter(BEAN_METHOD_FILTER);
+        enhancer.setCallbackTypes(new Class<?>[] { NoOp.class, MethodInterceptor.class });
+        return enhancer.createClass();
+    }
+
+    /**
+     * Calls the superclass for the container's own call of a {@code @Bean}
+     * method, and returns the bean from the factory for any other call.
+     */
+    private static final class BeanMethodInterceptor implements MethodInterceptor {
+
+        private final Map<Method, String> beanNames;
+        private final BeanFactory beanFactory;
+
+        BeanMethodInterceptor(Map<Method, String> beanNames, BeanFactory beanFactory) {
+            this.beanNames = beanNames;
+            this.beanFactory = beanFactory;
+        }
+
+        @Override
+        public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+            String beanName = beanNames.get(method);
+            if (beanName == null || method.equals(AbstractBeanFactory.getCurrentlyInvokedFactoryMethod())) {
+                return proxy.invokeSuper(obj, args);
+            }
+            return beanFactory.getBean(beanName);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.yu.spring.context.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that a component or {@code @Bean} method is preferred when
+ * several beans qualify for a single-valued injection point.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Primary {
+}
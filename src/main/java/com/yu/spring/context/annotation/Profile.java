@@ -0,0 +1,28 @@
+package com.yu.spring.context.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that a component is only registered when one of the given
+ * profiles is active. A profile prefixed with {@code !} matches when that
+ * profile is not active.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ * @see com.yu.spring.core.env.Environment#acceptsProfiles
+ **/
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Conditional(ProfileCondition.class)
+public @interface Profile {
+
+    /**
+     * The profiles for which the component should be registered.
+     */
+    String[] value();
+}
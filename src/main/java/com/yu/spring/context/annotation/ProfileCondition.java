@@ -0,0 +1,26 @@
+package com.yu.spring.context.annotation;
+
+import com.yu.spring.core.annotation.MergedAnnotations;
+
+import java.lang.reflect.AnnotatedElement;
+
+/**
+ * Condition that matches the {@link Profile @Profile} of an element against
+ * the active profiles of the Environment.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+class ProfileCondition implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedElement element) {
+        Profile profile = MergedAnnotations.from(element).get(Profile.class);
+        return profile == null || context.getEnvironment().acceptsProfiles(profile.value());
+    }
+
+    @Override
+    public boolean isElementIndependent() {
+        return true;
+    }
+}
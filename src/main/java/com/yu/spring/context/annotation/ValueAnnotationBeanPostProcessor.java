@@ -0,0 +1,153 @@
+package com.yu.spring.context.annotation;
+
+import com.yu.spring.beans.BeanPostProcessor;
+import com.yu.spring.beans.factory.config.BeanExpressionContext;
+import com.yu.spring.beans.factory.config.BeanExpressionResolver;
+import com.yu.spring.beans.factory.annotation.Value;
+import com.yu.spring.core.PriorityOrdered;
+import com.yu.spring.core.annotation.ClassMetadata;
+import com.yu.spring.core.annotation.MergedAnnotations;
+import com.yu.spring.core.convert.ConversionService;
+import com.yu.spring.core.convert.TypeDescriptor;
+import com.yu.spring.core.convert.support.DefaultConversionService;
+import com.yu.spring.core.env.PropertyResolver;
+import com.yu.spring.expression.ExpressionException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BeanPostProcessor that injects {@link Value @Value} fields and setter
+ * methods before initialization, resolving placeholders against a
+ * PropertyResolver (normally the context's Environment), then evaluating
+ * any {@code #{...}} expressions with the BeanExpressionResolver, if one is
+ * configured. The result is converted to the declared type of the field or
+ * parameter by the ConversionService, so {@code List<Integer>} fields accept
+ * comma-separated values.
+ *
+ * <p>The injection points of each bean class, including its superclasses,
+ * are found once through its {@link ClassMetadata} and cached; fields are made accessible at that point. The
+ * placeholder texts are compiled and their values cached by the resolver.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ValueAnnotationBeanPostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+    private static final InjectionPoint[] NO_INJECTION_POINTS = new InjectionPoint[0];
+
+    private final PropertyResolver propertyResolver;
+    private final BeanExpressionResolver expressionResolver;
+    private final BeanExpressionContext expressionContext;
+    private final ConversionService conversionService;
+    private final Map<Class<?>, InjectionPoint[]> injectionMetadataCache = new ConcurrentHashMap<>(256);
+
+    public ValueAnnotationBeanPostProcessor(PropertyResolver propertyResolver) {
+        this(propertyResolver, null, null);
+    }
+
+    public ValueAnnotationBeanPostProcessor(PropertyResolver propertyResolver,
+            BeanExpressionResolver expressionResolver, BeanExpressionContext expressionContext) {
+        this(propertyResolver, expressionResolver, expressionContext, DefaultConversionService.getSharedInstance());
+    }
+
+    public ValueAnnotationBeanPostProcessor(PropertyResolver propertyResolver,
+            BeanExpressionResolver expressionResolver, BeanExpressionContext expressionContext,
+            ConversionService conversionService) {
+        this.propertyResolver = propertyResolver;
+        this.expressionResolver = expressionResolver;
+        this.expressionContext = expressionContext;
+        this.conversionService = conversionService;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws Exception {
+        InjectionPoint[] injectionPoints = findInjectionPoints(bean.getClass());
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            Object value;
+            try {
+                value = conversionService.convert(resolveValue(injectionPoint.expression), injectionPoint.type);
+            } catch (IllegalArgumentException | ExpressionException e) {
+                throw new IllegalStateException("Could not resolve @Value(\"" + injectionPoint.expression + "\") for "
+                        + injectionPoint.member + " of bean '" + beanName + "': " + e.getMessage(), e);
+            }
+            injectionPoint.inject(bean, value);
+        }
+        return bean;
+    }
+
+    private Object resolveValue(String text) {
+        String resolved = propertyResolver.resolveRequiredPlaceholders(text);
+        return expressionResolver != null ? expressionResolver.evaluate(resolved, expressionContext) : resolved;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws Exception {
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+
+    private InjectionPoint[] findInjectionPoints(Class<?> beanClass) {
+        InjectionPoint[] injectionPoints = injectionMetadataCache.get(beanClass);
+        if (injectionPoints == null) {
+            injectionPoints = injectionMetadataCache.computeIfAbsent(beanClass,
+                    ValueAnnotationBeanPostProcessor::buildInjectionPoints);
+        }
+        return injectionPoints;
+    }
+
+    private static InjectionPoint[] buildInjectionPoints(Class<?> beanClass) {
+        List<InjectionPoint> injectionPoints = new ArrayList<>();
+        ClassMetadata metadata = ClassMetadata.forClass(beanClass);
+        for (Field field : metadata.getAnnotatedFields(Value.class)) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                throw new IllegalStateException("@Value is not supported on static or final field " + field);
+            }
+            field.setAccessible(true);
+            injectionPoints.add(new InjectionPoint(field, MergedAnnotations.from(field).get(Value.class).value(),
+                    TypeDescriptor.forField(field)));
+        }
+        for (Method method : metadata.getAnnotatedMethods(Value.class)) {
+            if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) {
+                throw new IllegalStateException("@Value methods must be non-static with one parameter: " + method);
+            }
+            method.setAccessible(true);
+            injectionPoints.add(new InjectionPoint(method, MergedAnnotations.from(method).get(Value.class).value(),
+                    TypeDescriptor.forMethodParameter(method, 0)));
+        }
+        return injectionPoints.isEmpty() ? NO_INJECTION_POINTS : injectionPoints.toArray(NO_INJECTION_POINTS);
+    }
+
+    /**
+     * A field or setter annotated with {@code @Value}.
+     */
+    private static final class InjectionPoint {
+
+        final Object member;
+        final String expression;
+        final TypeDescriptor type;
+
+        InjectionPoint(Object member, String expression, TypeDescriptor type) {
+            this.member = member;
+            this.expression = expression;
+            this.type = type;
+        }
+
+        void inject(Object bean, Object value) throws Exception {
+            if (member instanceof Field) {
+                ((Field) member).set(bean, value);
+            } else {
+                ((Method) member).invoke(bean, value);
+            }
+        }
+    }
+}
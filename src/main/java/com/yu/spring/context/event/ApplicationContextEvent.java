@@ -0,0 +1,23 @@
+package com.yu.spring.context.event;
+
+import com.yu.spring.context.ApplicationContext;
+import com.yu.spring.context.ApplicationEvent;
+
+/**
+ * Base class for events raised for an ApplicationContext.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public abstract class ApplicationContextEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    public ApplicationContextEvent(ApplicationContext source) {
+        super(source);
+    }
+
+    public final ApplicationContext getApplicationContext() {
+        return (ApplicationContext) getSource();
+    }
+}
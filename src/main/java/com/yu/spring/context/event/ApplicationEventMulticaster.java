@@ -0,0 +1,40 @@
+package com.yu.spring.context.event;
+
+import com.yu.spring.context.ApplicationEvent;
+import com.yu.spring.context.ApplicationListener;
+
+/**
+ * Interface to be implemented by objects that can manage a number of
+ * ApplicationListener objects and publish events to them.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface ApplicationEventMulticaster {
+
+    /**
+     * Add a listener to be notified of all matching events.
+     *
+     * @param listener the listener to add
+     */
+    void addApplicationListener(ApplicationListener<?> listener);
+
+    /**
+     * Remove a listener from the notification list.
+     *
+     * @param listener the listener to remove
+     */
+    void removeApplicationListener(ApplicationListener<?> listener);
+
+    /**
+     * Remove all listeners registered with this multicaster.
+     */
+    void removeAllListeners();
+
+    /**
+     * Multicast the given application event to appropriate listeners.
+     *
+     * @param event the event to multicast
+     */
+    void multicastEvent(ApplicationEvent event);
+}
@@ -0,0 +1,18 @@
+package com.yu.spring.context.event;
+
+import com.yu.spring.context.ApplicationContext;
+
+/**
+ * Event raised when an ApplicationContext gets closed.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ContextClosedEvent extends ApplicationContextEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    public ContextClosedEvent(ApplicationContext source) {
+        super(source);
+    }
+}
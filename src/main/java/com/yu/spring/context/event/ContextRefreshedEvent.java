@@ -0,0 +1,18 @@
+package com.yu.spring.context.event;
+
+import com.yu.spring.context.ApplicationContext;
+
+/**
+ * Event raised when an ApplicationContext gets initialized or refreshed.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ContextRefreshedEvent extends ApplicationContextEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    public ContextRefreshedEvent(ApplicationContext source) {
+        super(source);
+    }
+}
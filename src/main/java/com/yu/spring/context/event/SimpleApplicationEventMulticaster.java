@@ -0,0 +1,251 @@
+package com.yu.spring.context.event;
+
+import com.yu.spring.context.ApplicationEvent;
+import com.yu.spring.context.ApplicationListener;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Simple implementation of the ApplicationEventMulticaster interface.
+ *
+ * <p>The event type of every listener is resolved once on registration. The
+ * listeners for a given event class are then computed on its first publication
+ * and cached as an array, so later publications are a single map lookup.
+ * Any change to the listener set drops the cache.
+ *
+ * <p>Listeners that report {@link ApplicationListener#isAsync()} are invoked
+ * on the task executor if one is configured, and on the caller otherwise.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class SimpleApplicationEventMulticaster implements ApplicationEventMulticaster {
+
+    private static final ListenerEntry[] NO_LISTENERS = new ListenerEntry[0];
+
+    private final List<ListenerEntry> listeners = new ArrayList<>();
+    private final Map<Class<?>, ListenerEntry[]> listenerCache = new ConcurrentHashMap<>(64);
+
+    private volatile Executor taskExecutor;
+
+    public SimpleApplicationEventMulticaster() {
+    }
+
+    public SimpleApplicationEventMulticaster(Executor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Set the executor used for listeners that request asynchronous delivery.
+     *
+     * @param taskExecutor the executor, or null to deliver on the caller
+     */
+    public void setTaskExecutor(Executor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    public Executor getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    @Override
+    public void addApplicationListener(ApplicationListener<?> listener) {
+        synchronized (listeners) {
+            removeEntry(listener);
+            listeners.add(new ListenerEntry(listener, resolveEventType(listener.getClass())));
+            listenerCache.clear();
+        }
+    }
+
+    @Override
+    public void removeApplicationListener(ApplicationListener<?> listener) {
+        synchronized (listeners) {
+            removeEntry(listener);
+            listenerCache.clear();
+        }
+    }
+
+    @Override
+    public void removeAllListeners() {
+        synchronized (listeners) {
+            listeners.clear();
+            listenerCache.clear();
+        }
+    }
+
+    @Override
+    public void multicastEvent(ApplicationEvent event) {
+        Executor executor = this.taskExecutor;
+        for (ListenerEntry entry : getListenerEntries(event.getClass())) {
+            if (executor != null && entry.listener.isAsync()) {
+                executor.execute(() -> invokeListener(entry, event));
+            } else {
+                invokeListener(entry, event);
+            }
+        }
+    }
+
+    /**
+     * Return the listeners that accept the given event type.
+     *
+     * @param eventType the concrete event class
+     * @return the matching listeners, in registration order
+     */
+    protected ListenerEntry[] getListenerEntries(Class<?> eventType) {
+        ListenerEntry[] cached = listenerCache.get(eventType);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (listeners) {
+            List<ListenerEntry> matching = new ArrayList<>();
+            for (ListenerEntry entry : listeners) {
+                if (entry.eventType.isAssignableFrom(eventType)) {
+                    matching.add(entry);
+                }
+            }
+            ListenerEntry[] result = matching.isEmpty() ? NO_LISTENERS : matching.toArray(new ListenerEntry[0]);
+            listenerCache.put(eventType, result);
+            return result;
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void invokeListener(ListenerEntry entry, ApplicationEvent event) {
+        try {
+            ((ApplicationListener) entry.listener).onApplicationEvent(event);
+        } catch (ClassCastException e) {
+            // Lambda listeners have no resolvable event type and see every event;
+            // only the cast of the event to the listener's parameter type is expected to fail
+            if (entry.eventType != ApplicationEvent.class
+                    || !isMatchingClassCastMessage(e.getMessage(), event.getClass())) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Return whether a ClassCastException message reports a failed cast of
+     * the given event class, as thrown when the event reaches a listener
+     * accepting another type.
+     */
+    private static boolean isMatchingClassCastMessage(String message, Class<?> eventClass) {
+        if (message == null) {
+            return false;
+        }
+        // Java 8: "com.x.MyEvent cannot be cast to ..."
+        if (message.startsWith(eventClass.getName())) {
+            return true;
+        }
+        // Java 11: "class com.x.MyEvent cannot be cast to class ..."
+        if (message.startsWith(eventClass.toString())) {
+            return true;
+        }
+        // Java 9, with the module name: "java.base/com.x.MyEvent cannot be cast to ..."
+        int moduleSeparatorIndex = message.indexOf('/');
+        return moduleSeparatorIndex != -1 && message.startsWith(eventClass.getName(), moduleSeparatorIndex + 1);
+    }
+
+    private void removeEntry(ApplicationListener<?> listener) {
+        listeners.removeIf(entry -> entry.listener == listener);
+    }
+
+    static Class<?> resolveEventType(Class<?> listenerClass) {
+        Class<?> eventType = findEventType(listenerClass, Collections.emptyMap());
+        return eventType != null ? eventType : ApplicationEvent.class;
+    }
+
+    /**
+     * Find the type argument of {@link ApplicationListener} in the hierarchy
+     * of the given type, following type variables through the generic
+     * superclasses and interfaces that bind them: a listener extending
+     * {@code AbstractListener<E extends ApplicationEvent> implements
+     * ApplicationListener<E>} as {@code AbstractListener<MyEvent>} resolves to
+     * {@code MyEvent}, and a type variable left unbound resolves to its bound.
+     *
+     * @param type the type to search
+     * @param bindings the type variables bound by the subtypes searched so far
+     * @return the event type, or null if the listener interface is raw
+     */
+    private static Class<?> findEventType(Type type, Map<TypeVariable<?>, Type> bindings) {
+        Class<?> rawClass;
+        Map<TypeVariable<?>, Type> typeBindings = bindings;
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            rawClass = (Class<?>) parameterizedType.getRawType();
+            TypeVariable<?>[] variables = rawClass.getTypeParameters();
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            typeBindings = new HashMap<>(bindings);
+            for (int i = 0; i < variables.length; i++) {
+                typeBindings.put(variables[i], resolve(arguments[i], bindings));
+            }
+            if (rawClass == ApplicationListener.class) {
+                return toClass(typeBindings.get(variables[0]));
+            }
+        } else if (type instanceof Class) {
+            rawClass = (Class<?>) type;
+        } else {
+            return null;
+        }
+        for (Type genericInterface : rawClass.getGenericInterfaces()) {
+            Class<?> eventType = findEventType(genericInterface, typeBindings);
+            if (eventType != null) {
+                return eventType;
+            }
+        }
+        Type superclass = rawClass.getGenericSuperclass();
+        return superclass != null && superclass != Object.class ? findEventType(superclass, typeBindings) : null;
+    }
+
+    private static Type resolve(Type type, Map<TypeVariable<?>, Type> bindings) {
+        Type bound = type instanceof TypeVariable ? bindings.get(type) : null;
+        return bound != null ? bound : type;
+    }
+
+    private static Class<?> toClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof TypeVariable) {
+            return toClass(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        if (type instanceof WildcardType) {
+            return toClass(((WildcardType) type).getUpperBounds()[0]);
+        }
+        return null;
+    }
+
+    /**
+     * A registered listener together with its resolved event type.
+     */
+    protected static final class ListenerEntry {
+
+        final ApplicationListener<?> listener;
+        final Class<?> eventType;
+
+        ListenerEntry(ApplicationListener<?> listener, Class<?> eventType) {
+            this.listener = listener;
+            this.eventType = eventType;
+        }
+
+        public ApplicationListener<?> getListener() {
+            return listener;
+        }
+
+        public Class<?> getEventType() {
+            return eventType;
+        }
+    }
+}
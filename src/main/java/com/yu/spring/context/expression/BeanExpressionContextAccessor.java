@@ -0,0 +1,51 @@
+package com.yu.spring.context.expression;
+
+import com.yu.spring.beans.factory.config.BeanExpressionContext;
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.CompilablePropertyAccessor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Property accessor that resolves names against the beans of a
+ * {@link BeanExpressionContext}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class BeanExpressionContextAccessor implements CompilablePropertyAccessor, Opcodes {
+
+    @Override
+    public Class<?>[] getSpecificTargetClasses() {
+        return new Class<?>[] { BeanExpressionContext.class };
+    }
+
+    @Override
+    public boolean canRead(EvaluationContext context, Object target, String name) {
+        return target instanceof BeanExpressionContext && ((BeanExpressionContext) target).containsObject(name);
+    }
+
+    @Override
+    public Object read(EvaluationContext context, Object target, String name) {
+        return ((BeanExpressionContext) target).getObject(name);
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return true;
+    }
+
+    @Override
+    public Class<?> getPropertyType() {
+        return Object.class;
+    }
+
+    @Override
+    public void generateCode(String propertyName, MethodVisitor mv, CodeFlow cf) {
+        String owner = CodeFlow.internalName(BeanExpressionContext.class);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        mv.visitLdcInsn(propertyName);
+        mv.visitMethodInsn(INVOKEVIRTUAL, owner, "getObject", "(Ljava/lang/String;)Ljava/lang/Object;", false);
+    }
+}
@@ -0,0 +1,29 @@
+package com.yu.spring.context.expression;
+
+import com.yu.spring.beans.factory.BeanFactory;
+import com.yu.spring.expression.BeanResolver;
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.EvaluationException;
+
+/**
+ * Resolves {@code @beanName} references against a BeanFactory.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class BeanFactoryResolver implements BeanResolver {
+
+    private final BeanFactory beanFactory;
+
+    public BeanFactoryResolver(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object resolve(EvaluationContext context, String beanName) throws EvaluationException {
+        if (!beanFactory.containBean(beanName)) {
+            throw new EvaluationException(-1, "No bean named '" + beanName + "' available");
+        }
+        return beanFactory.getBean(beanName);
+    }
+}
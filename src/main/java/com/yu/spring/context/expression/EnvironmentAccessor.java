@@ -0,0 +1,53 @@
+package com.yu.spring.context.expression;
+
+import com.yu.spring.core.env.PropertyResolver;
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.CompilablePropertyAccessor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Property accessor that reads properties of an Environment or any other
+ * PropertyResolver, as in {@code env['pool.size']}. Compiled reads call
+ * {@link PropertyResolver#getProperty(String)}, which serves cached values
+ * while the property sources are unchanged.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class EnvironmentAccessor implements CompilablePropertyAccessor, Opcodes {
+
+    @Override
+    public Class<?>[] getSpecificTargetClasses() {
+        return new Class<?>[] { PropertyResolver.class };
+    }
+
+    @Override
+    public boolean canRead(EvaluationContext context, Object target, String name) {
+        return target instanceof PropertyResolver;
+    }
+
+    @Override
+    public Object read(EvaluationContext context, Object target, String name) {
+        return ((PropertyResolver) target).getProperty(name);
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return true;
+    }
+
+    @Override
+    public Class<?> getPropertyType() {
+        return String.class;
+    }
+
+    @Override
+    public void generateCode(String propertyName, MethodVisitor mv, CodeFlow cf) {
+        String owner = CodeFlow.internalName(PropertyResolver.class);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        mv.visitLdcInsn(propertyName);
+        mv.visitMethodInsn(INVOKEINTERFACE, owner, "getProperty", "(Ljava/lang/String;)Ljava/lang/String;", true);
+    }
+}
@@ -0,0 +1,51 @@
+package com.yu.spring.context.expression;
+
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.CompilablePropertyAccessor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.util.Map;
+
+/**
+ * Property accessor that reads Map entries with property syntax, as in
+ * {@code map.key}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class MapAccessor implements CompilablePropertyAccessor, Opcodes {
+
+    @Override
+    public Class<?>[] getSpecificTargetClasses() {
+        return new Class<?>[] { Map.class };
+    }
+
+    @Override
+    public boolean canRead(EvaluationContext context, Object target, String name) {
+        return target instanceof Map && ((Map<?, ?>) target).containsKey(name);
+    }
+
+    @Override
+    public Object read(EvaluationContext context, Object target, String name) {
+        return ((Map<?, ?>) target).get(name);
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return true;
+    }
+
+    @Override
+    public Class<?> getPropertyType() {
+        return Object.class;
+    }
+
+    @Override
+    public void generateCode(String propertyName, MethodVisitor mv, CodeFlow cf) {
+        mv.visitTypeInsn(CHECKCAST, "java/util/Map");
+        mv.visitLdcInsn(propertyName);
+        mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "get", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
+    }
+}
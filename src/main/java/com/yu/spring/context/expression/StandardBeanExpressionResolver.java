@@ -0,0 +1,70 @@
+package com.yu.spring.context.expression;
+
+import com.yu.spring.beans.factory.config.BeanExpressionContext;
+import com.yu.spring.beans.factory.config.BeanExpressionResolver;
+import com.yu.spring.expression.Expression;
+import com.yu.spring.expression.ExpressionParser;
+import com.yu.spring.expression.ParserContext;
+import com.yu.spring.expression.spel.SpelExpressionParser;
+import com.yu.spring.expression.spel.StandardEvaluationContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves {@code #{...}} expressions with the expression language, against
+ * a {@link BeanExpressionContext}: names refer to beans, {@code env} to the
+ * Environment, and {@code @name} to beans as well.
+ *
+ * <p>Parsed expressions are cached per text, so every evaluation of the same
+ * {@code @Value} text (for example, for each prototype instance) counts
+ * towards compiling it. One evaluation context is kept per expression
+ * context.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class StandardBeanExpressionResolver implements BeanExpressionResolver {
+
+    public static final String DEFAULT_EXPRESSION_PREFIX = "#{";
+
+    private final ExpressionParser expressionParser;
+    private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>(256);
+    private final Map<BeanExpressionContext, StandardEvaluationContext> evaluationCache = new ConcurrentHashMap<>(8);
+
+    public StandardBeanExpressionResolver() {
+        this(new SpelExpressionParser());
+    }
+
+    public StandardBeanExpressionResolver(ExpressionParser expressionParser) {
+        this.expressionParser = expressionParser;
+    }
+
+    @Override
+    public Object evaluate(String value, BeanExpressionContext evalContext) {
+        if (value == null || !value.contains(DEFAULT_EXPRESSION_PREFIX)) {
+            return value;
+        }
+        Expression expression = expressionCache.get(value);
+        if (expression == null) {
+            expression = expressionParser.parseExpression(value, ParserContext.TEMPLATE_EXPRESSION);
+            expressionCache.put(value, expression);
+        }
+        StandardEvaluationContext context = evaluationCache.get(evalContext);
+        if (context == null) {
+            context = evaluationCache.computeIfAbsent(evalContext, this::createEvaluationContext);
+        }
+        return expression.getValue(context);
+    }
+
+    protected StandardEvaluationContext createEvaluationContext(BeanExpressionContext evalContext) {
+        StandardEvaluationContext context = new StandardEvaluationContext(evalContext);
+        context.addPropertyAccessor(new BeanExpressionContextAccessor());
+        context.addPropertyAccessor(new EnvironmentAccessor());
+        context.addPropertyAccessor(new MapAccessor());
+        if (evalContext.getBeanFactory() != null) {
+            context.setBeanResolver(new BeanFactoryResolver(evalContext.getBeanFactory()));
+        }
+        return context;
+    }
+}
@@ -0,0 +1,42 @@
+package com.yu.spring.context.properties;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean class whose instances are bound from the Environment: each
+ * property is read from {@code prefix.property-name} (or the camel case
+ * name) and converted to the property type.
+ *
+ * <p>Mutable classes are created with their no-arg constructor and bound
+ * through setters. Classes annotated with {@link ConstructorBinding}, or
+ * whose only constructor takes parameters, are created through that
+ * constructor, so they can be immutable.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConfigurationProperties {
+
+    /**
+     * Alias for {@link #prefix()}.
+     */
+    String value() default "";
+
+    /**
+     * The prefix of the properties to bind, e.g. "server.pool".
+     */
+    String prefix() default "";
+
+    /**
+     * Whether values that cannot be converted are skipped instead of failing
+     * the bean creation.
+     */
+    boolean ignoreInvalidFields() default false;
+}
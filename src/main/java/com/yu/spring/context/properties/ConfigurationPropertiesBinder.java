@@ -0,0 +1,640 @@
+package com.yu.spring.context.properties;
+
+import com.yu.spring.core.annotation.ClassMetadata;
+import com.yu.spring.core.annotation.MergedAnnotations;
+import com.yu.spring.core.convert.ConversionService;
+import com.yu.spring.core.convert.TypeDescriptor;
+import com.yu.spring.core.convert.support.DefaultConversionService;
+import com.yu.spring.core.env.ConfigurableEnvironment;
+import com.yu.spring.core.env.EnumerablePropertySource;
+import com.yu.spring.core.env.PropertyResolver;
+import com.yu.spring.core.env.PropertySource;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds {@link ConfigurationProperties @ConfigurationProperties} classes from
+ * a PropertyResolver.
+ *
+ * <p>The first bind of a class builds its binder: the constructor or setters
+ * to call, the relaxed property names to look up ({@code max-size} and
+ * {@code maxSize}) and the converter for each property type, with method
+ * handles for the constructor and setters. Binders and converters are cached,
+ * so later binds of the class, for example of a prototype bean, only look up
+ * and convert values.
+ *
+ * <p>Supported property types are those the ConversionService of the
+ * Environment converts from a String, arrays and collections of them (comma-separated or indexed as
+ * {@code hosts[0]}), String-keyed maps of them, and nested objects, which are
+ * bound in turn.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ConfigurationPropertiesBinder {
+
+    /** Marker for a property without a value */
+    private static final Object NOT_FOUND = new Object();
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final PropertyResolver propertyResolver;
+    private final Map<Class<?>, BeanBinder> binders = new ConcurrentHashMap<>(64);
+    private final Map<Type, ValueConverter> converters = new ConcurrentHashMap<>(64);
+
+    public ConfigurationPropertiesBinder(PropertyResolver propertyResolver) {
+        this.propertyResolver = propertyResolver;
+    }
+
+    /**
+     * Create and bind an instance of the given annotated class.
+     */
+    public <T> T bind(Class<T> type) {
+        ConfigurationProperties annotation = ClassMetadata.forClass(type).getAnnotation(ConfigurationProperties.class);
+        if (annotation == null) {
+            throw new IllegalArgumentException(type.getName() + " is not annotated with @ConfigurationProperties");
+        }
+        return bind(getPrefix(annotation), type, annotation.ignoreInvalidFields());
+    }
+
+    /**
+     * Create and bind an instance of the given class from the properties
+     * under the given prefix.
+     */
+    public <T> T bind(String prefix, Class<T> type, boolean ignoreInvalidFields) {
+        return type.cast(getBinder(type).bind(prefix, ignoreInvalidFields, true));
+    }
+
+    static String getPrefix(ConfigurationProperties annotation) {
+        return !annotation.prefix().isEmpty() ? annotation.prefix() : annotation.value();
+    }
+
+    private BeanBinder getBinder(Class<?> type) {
+        BeanBinder binder = binders.get(type);
+        if (binder == null) {
+            // Not computeIfAbsent: nested binders are resolved lazily but converters may recurse
+            binder = createBinder(type);
+            BeanBinder existing = binders.putIfAbsent(type, binder);
+            if (existing != null) {
+                binder = existing;
+            }
+        }
+        return binder;
+    }
+
+    private BeanBinder createBinder(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalStateException("Cannot bind configuration properties to abstract type " + type.getName());
+        }
+        Constructor<?> bindConstructor = findBindConstructor(type);
+        try {
+            if (bindConstructor != null) {
+                return new ConstructorBinder(bindConstructor);
+            }
+            return new SetterBinder(type);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access members of " + type.getName(), e);
+        }
+    }
+
+    private static Constructor<?> findBindConstructor(Class<?> type) {
+        Constructor<?>[] constructors = type.getDeclaredConstructors();
+        Constructor<?> noArgConstructor = null;
+        for (Constructor<?> constructor : constructors) {
+            if (MergedAnnotations.from(constructor).isPresent(ConstructorBinding.class)) {
+                return constructor;
+            }
+            if (constructor.getParameterCount() == 0) {
+                noArgConstructor = constructor;
+            }
+        }
+        if (ClassMetadata.forClass(type).hasAnnotation(ConstructorBinding.class) || noArgConstructor == null) {
+            if (constructors.length != 1) {
+                throw new IllegalStateException(type.getName() + " must declare a single constructor or mark one "
+                        + "with @ConstructorBinding");
+            }
+            return constructors[0];
+        }
+        return null;
+    }
+
+    // Value lookup
+
+    private Object bindProperty(BoundProperty property, String prefix, boolean ignoreInvalidFields) {
+        String[] keys = property.keys(prefix);
+        switch (property.kind) {
+            case VALUE: {
+                for (String key : keys) {
+                    String text = propertyResolver.getProperty(key);
+                    if (text != null) {
+                        return convert(property, key, text, ignoreInvalidFields);
+                    }
+                }
+                return NOT_FOUND;
+            }
+            case COLLECTION:
+            case ARRAY:
+                return bindElements(property, keys, ignoreInvalidFields);
+            case MAP:
+                return bindMap(property, keys, ignoreInvalidFields);
+            default:
+                for (String key : keys) {
+                    Object nested = property.getBinder().bind(key, ignoreInvalidFields, false);
+                    if (nested != null) {
+                        return nested;
+                    }
+                }
+                return NOT_FOUND;
+        }
+    }
+
+    private Object bindElements(BoundProperty property, String[] keys, boolean ignoreInvalidFields) {
+        for (String key : keys) {
+            String text = propertyResolver.getProperty(key);
+            List<Object> elements = new ArrayList<>();
+            if (text != null) {
+                for (String element : text.split(",")) {
+                    String trimmed = element.trim();
+                    if (!trimmed.isEmpty()) {
+                        elements.add(convert(property, key, trimmed, ignoreInvalidFields));
+                    }
+                }
+            } else {
+                String elementKey;
+                for (int i = 0; (text = propertyResolver.getProperty(elementKey = key + "[" + i + "]")) != null; i++) {
+                    elements.add(convert(property, elementKey, text, ignoreInvalidFields));
+                }
+                if (elements.isEmpty()) {
+                    continue;
+                }
+            }
+            elements.removeIf(element -> element == NOT_FOUND);
+            return property.kind == Kind.ARRAY ? toArray(property, elements) : toCollection(property, elements);
+        }
+        return NOT_FOUND;
+    }
+
+    private Object bindMap(BoundProperty property, String[] keys, boolean ignoreInvalidFields) {
+        if (!(propertyResolver instanceof ConfigurableEnvironment)) {
+            return NOT_FOUND;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (PropertySource<?> source : ((ConfigurableEnvironment) propertyResolver).getPropertySources()) {
+            if (!(source instanceof EnumerablePropertySource)) {
+                continue;
+            }
+            for (String name : ((EnumerablePropertySource<?>) source).getPropertyNames()) {
+                for (String key : keys) {
+                    if (name.length() > key.length() + 1 && name.startsWith(key) && name.charAt(key.length()) == '.') {
+                        String mapKey = name.substring(key.length() + 1);
+                        if (!map.containsKey(mapKey)) {
+                            Object value = convert(property, name, propertyResolver.getProperty(name),
+                                    ignoreInvalidFields);
+                            if (value != NOT_FOUND) {
+                                map.put(mapKey, value);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return map.isEmpty() ? NOT_FOUND : map;
+    }
+
+    private Object convert(BoundProperty property, String key, String text, boolean ignoreInvalidFields) {
+        try {
+            return property.converter.convert(text);
+        } catch (RuntimeException e) {
+            if (ignoreInvalidFields) {
+                return NOT_FOUND;
+            }
+            throw new IllegalStateException("Failed to bind property '" + key + "' to "
+                    + property.type.getTypeName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static Object toArray(BoundProperty property, List<Object> elements) {
+        Object array = Array.newInstance(property.elementType, elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            Array.set(array, i, elements.get(i));
+        }
+        return array;
+    }
+
+    private static Collection<Object> toCollection(BoundProperty property, List<Object> elements) {
+        if (Set.class.isAssignableFrom(property.rawType)) {
+            return new LinkedHashSet<>(elements);
+        }
+        return elements;
+    }
+
+    // Converters
+
+    private ConversionService getConversionService() {
+        return propertyResolver instanceof ConfigurableEnvironment
+                ? ((ConfigurableEnvironment) propertyResolver).getConversionService()
+                : DefaultConversionService.getSharedInstance();
+    }
+
+    /**
+     * Return the cached converter for values of the given simple type.
+     */
+    ValueConverter getConverter(Class<?> type) {
+        ValueConverter converter = converters.get(type);
+        if (converter == null) {
+            if (type == String.class || type == Object.class || type == CharSequence.class) {
+                converter = value -> value;
+            } else {
+                TypeDescriptor targetType = TypeDescriptor.valueOf(type);
+                converter = value -> getConversionService().convert(value, targetType);
+            }
+            ValueConverter existing = converters.putIfAbsent(type, converter);
+            if (existing != null) {
+                converter = existing;
+            }
+        }
+        return converter;
+    }
+
+    boolean isSimpleType(Class<?> type) {
+        if (type.isPrimitive() || type == String.class || type == Object.class || type == CharSequence.class
+                || type.isEnum() || type == Boolean.class || type == Character.class) {
+            return true;
+        }
+        // Anything else a single String converts to, such as numbers, durations and custom types
+        return !type.isArray() && !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)
+                && getConversionService().canConvert(String.class, type);
+    }
+
+    static String toKebabCase(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if (Character.isUpperCase(ch)) {
+                if (i > 0 && !Character.isUpperCase(name.charAt(i - 1))) {
+                    sb.append('-');
+                }
+                sb.append(Character.toLowerCase(ch));
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Converts a property value to a property or element type.
+     */
+    @FunctionalInterface
+    interface ValueConverter {
+
+        Object convert(String value);
+    }
+
+    /**
+     * A bindable property: its relaxed names, its type and how its value is
+     * found and converted, all resolved when the binder is built.
+     */
+    private final class BoundProperty {
+
+        final String[] names;
+        final Type type;
+        final Class<?> rawType;
+        final Kind kind;
+        final Class<?> elementType;
+        final ValueConverter converter;
+        private volatile BeanBinder binder;
+
+        BoundProperty(String name, Type type) {
+            String kebab = toKebabCase(name);
+            this.names = kebab.equals(name) ? new String[] { name } : new String[] { kebab, name };
+            this.type = type;
+            this.rawType = rawClass(type);
+            if (isSimpleType(rawType)) {
+                kind = Kind.VALUE;
+                elementType = rawType;
+            } else if (rawType.isArray() && isSimpleType(rawType.getComponentType())) {
+                kind = Kind.ARRAY;
+                elementType = rawType.getComponentType();
+            } else if ((rawType == List.class || rawType == Set.class || rawType == Collection.class)
+                    && isSimpleType(typeArgument(type, 0))) {
+                kind = Kind.COLLECTION;
+                elementType = typeArgument(type, 0);
+            } else if (rawType == Map.class && typeArgument(type, 0) == String.class
+                    && isSimpleType(typeArgument(type, 1))) {
+                kind = Kind.MAP;
+                elementType = typeArgument(type, 1);
+            } else if (!rawType.getName().startsWith("java.") && !rawType.isInterface() && !rawType.isArray()) {
+                kind = Kind.BEAN;
+                elementType = rawType;
+            } else {
+                kind = Kind.UNSUPPORTED;
+                elementType = rawType;
+            }
+            this.converter = kind != Kind.BEAN && kind != Kind.UNSUPPORTED ? getConverter(elementType) : null;
+        }
+
+        String[] keys(String prefix) {
+            String[] keys = new String[names.length];
+            for (int i = 0; i < names.length; i++) {
+                keys[i] = prefix.isEmpty() ? names[i] : prefix + "." + names[i];
+            }
+            return keys;
+        }
+
+        BeanBinder getBinder() {
+            BeanBinder nested = binder;
+            if (nested == null) {
+                nested = ConfigurationPropertiesBinder.this.getBinder(rawType);
+                binder = nested;
+            }
+            return nested;
+        }
+
+        Object defaultValue() {
+            if (rawType == boolean.class) {
+                return false;
+            }
+            if (rawType == char.class) {
+                return '\0';
+            }
+            if (rawType.isPrimitive()) {
+                return getConversionService().convert("0", rawType);
+            }
+            return null;
+        }
+
+        private Class<?> typeArgument(Type type, int index) {
+            if (type instanceof ParameterizedType) {
+                Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+                if (index < arguments.length) {
+                    return rawClass(arguments[index]);
+                }
+            }
+            return String.class;
+        }
+
+        private Class<?> rawClass(Type type) {
+            if (type instanceof Class) {
+                return (Class<?>) type;
+            }
+            if (type instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) type).getRawType();
+            }
+            return Object.class;
+        }
+    }
+
+    private enum Kind {
+        VALUE, ARRAY, COLLECTION, MAP, BEAN, UNSUPPORTED
+    }
+
+    // Binders
+
+    /**
+     * Creates and binds instances of one class.
+     */
+    private abstract static class BeanBinder {
+
+        /**
+         * Create an instance bound from the properties under the prefix.
+         *
+         * @param required whether to create the instance even if no property
+         *                 is found
+         * @return the instance, or null if not required and nothing was bound
+         */
+        abstract Object bind(String prefix, boolean ignoreInvalidFields, boolean required);
+    }
+
+    /**
+     * Binds through the no-arg constructor and the setters.
+     */
+    private final class SetterBinder extends BeanBinder {
+
+        private final Class<?> type;
+        private final MethodHandle constructor;
+        private final BoundProperty[] properties;
+        private final MethodHandle[] setters;
+        private final MethodHandle[] getters;
+
+        SetterBinder(Class<?> type) throws IllegalAccessException {
+            this.type = type;
+            Constructor<?> noArgConstructor;
+            try {
+                noArgConstructor = type.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(type.getName() + " has no no-arg constructor", e);
+            }
+            noArgConstructor.setAccessible(true);
+            this.constructor = LOOKUP.unreflectConstructor(noArgConstructor)
+                    .asType(MethodType.methodType(Object.class));
+            List<BoundProperty> properties = new ArrayList<>();
+            List<MethodHandle> setters = new ArrayList<>();
+            List<MethodHandle> getters = new ArrayList<>();
+            for (PropertyDescriptor descriptor : getPropertyDescriptors(type)) {
+                Method writeMethod = descriptor.getWriteMethod();
+                Method readMethod = descriptor.getReadMethod();
+                Type propertyType = writeMethod != null ? writeMethod.getGenericParameterTypes()[0]
+                        : readMethod != null ? readMethod.getGenericReturnType() : null;
+                if (propertyType == null) {
+                    continue;
+                }
+                BoundProperty property = new BoundProperty(descriptor.getName(), propertyType);
+                // Read-only properties are bound only as nested objects the instance already holds
+                if (property.kind == Kind.UNSUPPORTED || (writeMethod == null && property.kind != Kind.BEAN)) {
+                    continue;
+                }
+                properties.add(property);
+                if (writeMethod != null) {
+                    writeMethod.setAccessible(true);
+                    setters.add(LOOKUP.unreflect(writeMethod)
+                            .asType(MethodType.methodType(void.class, Object.class, Object.class)));
+                } else {
+                    setters.add(null);
+                }
+                if (readMethod != null && property.kind == Kind.BEAN) {
+                    readMethod.setAccessible(true);
+                    getters.add(LOOKUP.unreflect(readMethod)
+                            .asType(MethodType.methodType(Object.class, Object.class)));
+                } else {
+                    getters.add(null);
+                }
+            }
+            this.properties = properties.toArray(new BoundProperty[0]);
+            this.setters = setters.toArray(new MethodHandle[0]);
+            this.getters = getters.toArray(new MethodHandle[0]);
+        }
+
+        @Override
+        Object bind(String prefix, boolean ignoreInvalidFields, boolean required) {
+            Object instance;
+            try {
+                instance = (Object) constructor.invokeExact();
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to instantiate " + type.getName(), e);
+            }
+            boolean found = bindProperties(instance, prefix, ignoreInvalidFields);
+            return found || required ? instance : null;
+        }
+
+        private boolean bindProperties(Object instance, String prefix, boolean ignoreInvalidFields) {
+            boolean found = false;
+            for (int i = 0; i < properties.length; i++) {
+                BoundProperty property = properties[i];
+                if (getters[i] != null && property.getBinder() instanceof SetterBinder) {
+                    // Bind into a nested object the instance already holds, keeping its defaults
+                    Object existing = invokeGetter(getters[i], instance);
+                    if (existing != null) {
+                        for (String key : property.keys(prefix)) {
+                            if (((SetterBinder) property.getBinder()).bindProperties(existing, key, ignoreInvalidFields)) {
+                                found = true;
+                                break;
+                            }
+                        }
+                        continue;
+                    }
+                }
+                if (setters[i] == null) {
+                    continue;
+                }
+                Object value = bindProperty(property, prefix, ignoreInvalidFields);
+                if (value != NOT_FOUND) {
+                    found = true;
+                    try {
+                        setters[i].invokeExact(instance, value);
+                    } catch (Throwable e) {
+                        throw new IllegalStateException("Failed to set property '" + property.names[0] + "' of "
+                                + type.getName(), e);
+                    }
+                }
+            }
+            return found;
+        }
+
+        private Object invokeGetter(MethodHandle getter, Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read nested property of " + type.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Binds through constructor parameters, for immutable classes.
+     */
+    private final class ConstructorBinder extends BeanBinder {
+
+        private final Class<?> type;
+        private final MethodHandle constructor;
+        private final BoundProperty[] parameters;
+        private final String[] defaultValues;
+
+        ConstructorBinder(Constructor<?> bindConstructor) throws IllegalAccessException {
+            this.type = bindConstructor.getDeclaringClass();
+            bindConstructor.setAccessible(true);
+            Parameter[] reflectParameters = bindConstructor.getParameters();
+            Type[] genericTypes = bindConstructor.getGenericParameterTypes();
+            this.parameters = new BoundProperty[reflectParameters.length];
+            this.defaultValues = new String[reflectParameters.length];
+            for (int i = 0; i < reflectParameters.length; i++) {
+                Parameter parameter = reflectParameters[i];
+                MergedAnnotations annotations = MergedAnnotations.from(parameter);
+                Name name = annotations.get(Name.class);
+                if (name == null && !parameter.isNamePresent()) {
+                    throw new IllegalStateException("Constructor parameter names of " + type.getName()
+                            + " are not available; compile with -parameters or annotate them with @Name");
+                }
+                Type parameterType = genericTypes.length == reflectParameters.length
+                        ? genericTypes[i] : parameter.getParameterizedType();
+                parameters[i] = new BoundProperty(name != null ? name.value() : parameter.getName(), parameterType);
+                DefaultValue defaultValue = annotations.get(DefaultValue.class);
+                defaultValues[i] = defaultValue != null ? defaultValue.value() : null;
+            }
+            this.constructor = LOOKUP.unreflectConstructor(bindConstructor)
+                    .asSpreader(Object[].class, reflectParameters.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        }
+
+        @Override
+        Object bind(String prefix, boolean ignoreInvalidFields, boolean required) {
+            Object[] arguments = new Object[parameters.length];
+            boolean found = false;
+            for (int i = 0; i < parameters.length; i++) {
+                BoundProperty parameter = parameters[i];
+                Object value = parameter.kind != Kind.UNSUPPORTED
+                        ? bindProperty(parameter, prefix, ignoreInvalidFields) : NOT_FOUND;
+                if (value != NOT_FOUND) {
+                    found = true;
+                } else {
+                    value = defaultValue(parameter, defaultValues[i], prefix, ignoreInvalidFields);
+                }
+                arguments[i] = value;
+            }
+            if (!found && !required) {
+                return null;
+            }
+            try {
+                return (Object) constructor.invokeExact(arguments);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to instantiate " + type.getName(), e);
+            }
+        }
+
+        private Object defaultValue(BoundProperty parameter, String defaultValue, String prefix,
+                                    boolean ignoreInvalidFields) {
+            if (defaultValue == null) {
+                return parameter.defaultValue();
+            }
+            String key = parameter.keys(prefix)[0];
+            switch (parameter.kind) {
+                case BEAN:
+                    return parameter.getBinder().bind(key, ignoreInvalidFields, true);
+                case VALUE:
+                    return defaultValue.isEmpty() && parameter.rawType != String.class
+                            ? parameter.defaultValue() : convert(parameter, key, defaultValue, false);
+                case ARRAY:
+                case COLLECTION:
+                    List<Object> elements = new ArrayList<>();
+                    for (String element : defaultValue.split(",")) {
+                        if (!element.trim().isEmpty()) {
+                            elements.add(convert(parameter, key, element.trim(), false));
+                        }
+                    }
+                    return parameter.kind == Kind.ARRAY ? toArray(parameter, elements) : toCollection(parameter, elements);
+                default:
+                    return parameter.defaultValue();
+            }
+        }
+    }
+
+    private static PropertyDescriptor[] getPropertyDescriptors(Class<?> type) {
+        try {
+            BeanInfo beanInfo = Introspector.getBeanInfo(type, Object.class);
+            return beanInfo.getPropertyDescriptors();
+        } catch (IntrospectionException e) {
+            throw new IllegalStateException("Failed to introspect " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.yu.spring.context.properties;
+
+import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.config.BeanFactoryPostProcessor;
+import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+import com.yu.spring.core.annotation.ClassMetadata;
+import com.yu.spring.core.env.PropertyResolver;
+
+/**
+ * BeanFactoryPostProcessor that makes the bean factory create
+ * {@link ConfigurationProperties @ConfigurationProperties} beans through a
+ * {@link ConfigurationPropertiesBinder}: each such definition gets an
+ * instance supplier that binds a new instance from the environment. The
+ * rest of the bean lifecycle (property values, post-processors, init
+ * methods) applies as usual.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ConfigurationPropertiesBindingPostProcessor implements BeanFactoryPostProcessor {
+
+    private final ConfigurationPropertiesBinder binder;
+
+    public ConfigurationPropertiesBindingPostProcessor(PropertyResolver propertyResolver) {
+        this.binder = new ConfigurationPropertiesBinder(propertyResolver);
+    }
+
+    public ConfigurationPropertiesBinder getBinder() {
+        return binder;
+    }
+
+    @Override
+    public void postProcessBeanFactory(DefaultListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+            Class<?> beanClass = beanDefinition.getBeanClass();
+            if (beanClass == null || beanDefinition.getInstanceSupplier() != null
+                    || beanDefinition.getFactoryMethod() != null) {
+                continue;
+            }
+            ConfigurationProperties annotation = ClassMetadata.forClass(beanClass).getAnnotation(ConfigurationProperties.class);
+            if (annotation != null) {
+                String prefix = ConfigurationPropertiesBinder.getPrefix(annotation);
+                boolean ignoreInvalidFields = annotation.ignoreInvalidFields();
+                beanDefinition.setInstanceSupplier(() -> binder.bind(prefix, beanClass, ignoreInvalidFields));
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.yu.spring.context.properties;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that configuration properties are bound through constructor
+ * parameters: on a type, through its single constructor; on a constructor,
+ * through that one.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@Target({ ElementType.TYPE, ElementType.CONSTRUCTOR })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConstructorBinding {
+}
@@ -0,0 +1,23 @@
+package com.yu.spring.context.properties;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The value bound to a constructor parameter when no property is found. On
+ * a nested object parameter, an empty value creates the object with its own
+ * defaults instead of passing null.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DefaultValue {
+
+    String value() default "";
+}
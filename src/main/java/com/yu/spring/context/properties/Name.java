@@ -0,0 +1,23 @@
+package com.yu.spring.context.properties;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the property bound to a constructor parameter, for classes compiled
+ * without {@code -parameters} or whose parameter names differ from the
+ * property names.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Name {
+
+    String value();
+}
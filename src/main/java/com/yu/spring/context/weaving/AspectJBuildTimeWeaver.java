@@ -0,0 +1,175 @@
+package com.yu.spring.context.weaving;
+
+import org.aspectj.weaver.loadtime.ClassLoaderWeavingAdaptor;
+import org.aspectj.weaver.loadtime.DefaultWeavingContext;
+import org.aspectj.weaver.loadtime.IWeavingContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Weaves compiled classes in place with the same AspectJ weaver and
+ * {@code META-INF/aop.xml} configuration that load-time weaving uses, so a
+ * build can ship woven classes and run without an agent. Run by the
+ * {@code weaveClasses} Gradle task on the main classes directory; the
+ * closure classes the weaver generates for around advice are written next
+ * to the classes they belong to.
+ *
+ * <p>Aspects and the types they refer to are resolved from the class path of
+ * the running VM, which therefore needs the classes directory, its
+ * resources and the runtime dependencies. Classes that are already woven
+ * are left alone, so the task can run again after an incremental compile.
+ *
+ * <pre>
+ * java -cp &lt;classes&gt;:&lt;resources&gt;:&lt;runtime class path&gt; \
+ *     com.yu.spring.context.weaving.AspectJBuildTimeWeaver &lt;classes directory&gt;
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class AspectJBuildTimeWeaver {
+
+    private static final byte[] WEAVER_STATE_ATTRIBUTE =
+            "org.aspectj.weaver.WeaverState".getBytes(StandardCharsets.US_ASCII);
+
+    private final Path classesDirectory;
+    private final ClassLoader classLoader;
+
+    /**
+     * Create a weaver for the classes under the given directory, resolving
+     * types and {@code META-INF/aop.xml} files through the class loader.
+     */
+    public AspectJBuildTimeWeaver(Path classesDirectory, ClassLoader classLoader) {
+        this.classesDirectory = classesDirectory;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Weave every class file under the classes directory.
+     *
+     * @return the number of class files rewritten, generated ones included
+     * @throws IOException if a class file cannot be read or written
+     */
+    public int weave() throws IOException {
+        List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(classesDirectory)) {
+            classFiles = files.filter(file -> file.toString().endsWith(".class")).collect(Collectors.toList());
+        }
+        CapturingWeavingAdaptor adaptor = new CapturingWeavingAdaptor();
+        adaptor.initialize(classLoader, new DefaultWeavingContext(classLoader));
+        int written = 0;
+        for (Path classFile : classFiles) {
+            byte[] bytes = Files.readAllBytes(classFile);
+            if (isWoven(bytes)) {
+                continue;
+            }
+            byte[] woven = adaptor.weaveClass(className(classFile), bytes);
+            if (!Arrays.equals(woven, bytes)) {
+                Files.write(classFile, woven);
+                written++;
+            }
+            for (GeneratedClass generated : adaptor.takeGeneratedClasses()) {
+                Path target = classesDirectory.resolve(generated.name.replace('.', File.separatorChar) + ".class");
+                Files.write(target, generated.bytes);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Return whether the class file carries the attribute the weaver adds to
+     * the classes it wove, without parsing it.
+     */
+    private static boolean isWoven(byte[] bytes) {
+        outer:
+        for (int i = 0; i <= bytes.length - WEAVER_STATE_ATTRIBUTE.length; i++) {
+            for (int j = 0; j < WEAVER_STATE_ATTRIBUTE.length; j++) {
+                if (bytes[i + j] != WEAVER_STATE_ATTRIBUTE[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private String className(Path classFile) {
+        String relative = classesDirectory.relativize(classFile).toString();
+        return relative.substring(0, relative.length() - ".class".length()).replace(File.separatorChar, '.');
+    }
+
+    /**
+     * Weaving adaptor that hands the classes generated while weaving back to
+     * the caller instead of defining them in a class loader.
+     */
+    private static final class CapturingWeavingAdaptor extends ClassLoaderWeavingAdaptor {
+
+        private final List<GeneratedClass> generatedClasses = new ArrayList<>();
+
+        @Override
+        public void initialize(ClassLoader loader, IWeavingContext context) {
+            super.initialize(loader, context);
+            generatedClassHandler = (name, originalBytes, wovenBytes) ->
+                    generatedClasses.add(new GeneratedClass(name, wovenBytes));
+        }
+
+        List<GeneratedClass> takeGeneratedClasses() {
+            List<GeneratedClass> taken = new ArrayList<>(generatedClasses);
+            generatedClasses.clear();
+            return taken;
+        }
+    }
+
+    private static final class GeneratedClass {
+
+        final String name;
+        final byte[] bytes;
+
+        GeneratedClass(String name, byte[] bytes) {
+            this.name = name;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Weave the classes directory given as the only argument, resolving
+     * aspects from this VM's class path.
+     *
+     * @param args the classes directory
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: AspectJBuildTimeWeaver <classes directory>");
+        }
+        Path classesDirectory = Paths.get(args[0]).toAbsolutePath();
+        List<URL> classPath = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            try {
+                classPath.add(new File(entry).toURI().toURL());
+            }
+            catch (MalformedURLException ex) {
+                throw new IllegalArgumentException("Invalid class path entry: " + entry, ex);
+            }
+        }
+        // Parented by the platform loader, so the classes woven here are never defined in this VM
+        try (URLClassLoader classLoader = new URLClassLoader(classPath.toArray(new URL[0]),
+                ClassLoader.getSystemClassLoader().getParent())) {
+            int written = new AspectJBuildTimeWeaver(classesDirectory, classLoader).weave();
+            System.out.println("Wove " + classesDirectory + ": " + written + " class files written");
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.yu.spring.context.weaving;
+
+import org.aspectj.weaver.loadtime.Agent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.instrument.Instrumentation;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the AspectJ weaver's {@code java.lang.instrument} agent in the
+ * running VM, so that every class loaded from then on is woven with the
+ * aspects declared in the {@code META-INF/aop.xml} files visible to its class
+ * loader. Woven classes carry their advice inline: their instances are
+ * plain objects, calls between their own methods are advised, and no proxy
+ * sits between caller and target.
+ *
+ * <p>If the VM was started with {@code -javaagent:aspectjweaver.jar}, that
+ * agent is used. Otherwise the weaver jar is attached through the Attach
+ * API, from this VM or, as JDK 9+ refuses self-attach unless
+ * {@code -Djdk.attach.allowAttachSelf=true} is set, from a short-lived
+ * helper VM. Classes loaded before weaving was enabled stay unwoven, so it
+ * has to be enabled before bean classes are loaded, that is before bean
+ * definitions are registered or read.
+ *
+ * <p>On JDK 9+ the weaver defines its generated closure classes through
+ * {@code ClassLoader.defineClass}, which needs
+ * {@code --add-opens java.base/java.lang=ALL-UNNAMED}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public final class AspectJWeavingEnabler {
+
+    private static final long ATTACH_TIMEOUT_SECONDS = 30;
+
+    private static volatile Instrumentation instrumentation;
+
+    private AspectJWeavingEnabler() {
+    }
+
+    /**
+     * Start load-time weaving, unless already started.
+     *
+     * @return the instrumentation the weaver is registered with
+     * @throws IllegalStateException if the agent cannot be started
+     */
+    public static Instrumentation enable() {
+        Instrumentation started = instrumentation;
+        if (started == null) {
+            synchronized (AspectJWeavingEnabler.class) {
+                started = instrumentation;
+                if (started == null) {
+                    started = startAgent();
+                    instrumentation = started;
+                }
+            }
+        }
+        return started;
+    }
+
+    /**
+     * Return whether the weaver agent is running, started by {@link #enable()}
+     * or by {@code -javaagent}.
+     */
+    public static boolean isEnabled() {
+        return instrumentation != null || agentInstrumentation() != null;
+    }
+
+    private static Instrumentation startAgent() {
+        Instrumentation started = agentInstrumentation();
+        if (started != null) {
+            return started;
+        }
+        String agentJar = findAgentJar();
+        String pid = currentPid();
+        try {
+            attach(pid, agentJar);
+        }
+        catch (IOException ex) {
+            // The VM does not attach to itself; a helper VM can
+            attachFromHelperVm(pid, agentJar);
+        }
+        catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("The Attach API is not available; start the VM with -javaagent:"
+                    + agentJar, ex);
+        }
+        started = agentInstrumentation();
+        if (started == null) {
+            throw new IllegalStateException("AspectJ weaver agent " + agentJar + " did not start");
+        }
+        return started;
+    }
+
+    private static Instrumentation agentInstrumentation() {
+        try {
+            return Agent.getInstrumentation();
+        }
+        catch (UnsupportedOperationException ex) {
+            // Thrown by the agent while it has not been started
+            return null;
+        }
+    }
+
+    private static String findAgentJar() {
+        try {
+            File jar = new File(Agent.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (!jar.isFile()) {
+                throw new IllegalStateException("AspectJ weaver is not loaded from a jar: " + jar);
+            }
+            return jar.getAbsolutePath();
+        }
+        catch (URISyntaxException ex) {
+            throw new IllegalStateException("Cannot locate the AspectJ weaver jar", ex);
+        }
+    }
+
+    private static String currentPid() {
+        // The runtime name is "pid@host" on the VMs that support the Attach API
+        String name = ManagementFactory.getRuntimeMXBean().getName();
+        return name.substring(0, name.indexOf('@'));
+    }
+
+    /**
+     * Load the agent into the VM with the given pid. The Attach API is
+     * called reflectively, as it is not part of the Java 8 class path.
+     */
+    private static void attach(String pid, String agentJar) throws IOException, ReflectiveOperationException {
+        Class<?> virtualMachine = Class.forName("com.sun.tools.attach.VirtualMachine");
+        try {
+            Object vm = virtualMachine.getMethod("attach", String.class).invoke(null, pid);
+            try {
+                virtualMachine.getMethod("loadAgent", String.class).invoke(vm, agentJar);
+            }
+            finally {
+                virtualMachine.getMethod("detach").invoke(vm);
+            }
+        }
+        catch (InvocationTargetException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IllegalStateException("Cannot load agent " + agentJar, ex.getCause());
+        }
+    }
+
+    private static void attachFromHelperVm(String pid, String agentJar) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-cp");
+        command.add(helperClassPath(agentJar));
+        command.add(AspectJWeavingEnabler.class.getName());
+        command.add(pid);
+        command.add(agentJar);
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String output = readFully(process.getInputStream());
+            if (!process.waitFor(ATTACH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IllegalStateException("Timed out attaching AspectJ weaver agent " + agentJar);
+            }
+            if (process.exitValue() != 0) {
+                throw new IllegalStateException("Cannot attach AspectJ weaver agent " + agentJar + ": " + output);
+            }
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException("Cannot start a VM to attach AspectJ weaver agent " + agentJar, ex);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted attaching AspectJ weaver agent " + agentJar, ex);
+        }
+    }
+
+    private static String helperClassPath(String agentJar) {
+        try {
+            String classPath = new File(AspectJWeavingEnabler.class.getProtectionDomain().getCodeSource()
+                    .getLocation().toURI()).getAbsolutePath() + File.pathSeparator + agentJar;
+            // Before Java 9 the Attach API lives in the JDK's tools.jar
+            File toolsJar = new File(System.getProperty("java.home"), ".." + File.separator + "lib"
+                    + File.separator + "tools.jar");
+            return toolsJar.isFile() ? classPath + File.pathSeparator + toolsJar.getAbsolutePath() : classPath;
+        }
+        catch (URISyntaxException ex) {
+            throw new IllegalStateException("Cannot locate the classes of " + AspectJWeavingEnabler.class, ex);
+        }
+    }
+
+    private static String readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        for (int read; (read = in.read(buffer)) != -1; ) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Entry point of the helper VM: attaches the agent jar to the VM with
+     * the given pid.
+     *
+     * @param args the pid and the agent jar
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: AspectJWeavingEnabler <pid> <agent jar>");
+        }
+        attach(args[0], args[1]);
+    }
+}
@@ -0,0 +1,38 @@
+package com.yu.spring.core;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Comparator for Ordered objects: PriorityOrdered objects first, then by
+ * order value. Objects that are not Ordered get {@link Ordered#LOWEST_PRECEDENCE}.
+ * The sort is stable, so equal objects keep the order of the sorted list;
+ * beans looked up from a bean factory are listed in registration order.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class OrderComparator implements Comparator<Object> {
+
+    public static final OrderComparator INSTANCE = new OrderComparator();
+
+    @Override
+    public int compare(Object o1, Object o2) {
+        boolean p1 = o1 instanceof PriorityOrdered;
+        boolean p2 = o2 instanceof PriorityOrdered;
+        if (p1 != p2) {
+            return p1 ? -1 : 1;
+        }
+        return Integer.compare(getOrder(o1), getOrder(o2));
+    }
+
+    public static int getOrder(Object obj) {
+        return obj instanceof Ordered ? ((Ordered) obj).getOrder() : Ordered.LOWEST_PRECEDENCE;
+    }
+
+    public static void sort(List<?> list) {
+        if (list.size() > 1) {
+            list.sort(INSTANCE);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.yu.spring.core;
+
+/**
+ * Interface for objects that should be orderable, for example post-processors
+ * that must run before or after others. Lower values have higher priority.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface Ordered {
+
+    /**
+     * Useful constant for the highest precedence value.
+     */
+    int HIGHEST_PRECEDENCE = Integer.MIN_VALUE;
+
+    /**
+     * Useful constant for the lowest precedence value.
+     */
+    int LOWEST_PRECEDENCE = Integer.MAX_VALUE;
+
+    /**
+     * Get the order value of this object. Same order values result in
+     * arbitrary sort positions for the affected objects.
+     *
+     * @return the order value
+     */
+    int getOrder();
+}
@@ -0,0 +1,12 @@
+package com.yu.spring.core;
+
+/**
+ * Extension of the Ordered interface, expressing a priority ordering:
+ * PriorityOrdered objects are always applied before plain Ordered objects,
+ * regardless of their order values.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface PriorityOrdered extends Ordered {
+}
@@ -0,0 +1,317 @@
+package com.yu.spring.core;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link Type} together with the context its type variables are resolved
+ * in, so that the {@code T} of a field declared in {@code AbstractService<T>}
+ * resolves to {@code Order} for a subclass {@code OrderService extends
+ * AbstractService<Order>}, and {@code OrderRepository implements
+ * Repository<Order>} can be viewed {@link #as(Class) as}
+ * {@code Repository<Order>}.
+ *
+ * <p>Generics that cannot be resolved, such as those of a raw type, match
+ * any type in {@link #isAssignableFrom(ResolvableType)}. Types for plain
+ * classes are cached.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public final class ResolvableType {
+
+    /**
+     * The type returned when no type is available, e.g. from {@link #as} for
+     * an unrelated class.
+     */
+    public static final ResolvableType NONE = new ResolvableType(null, null);
+
+    private static final ResolvableType[] EMPTY_TYPES_ARRAY = new ResolvableType[0];
+
+    private static final Map<Class<?>, ResolvableType> classCache = new ConcurrentHashMap<>(256);
+
+    private final Type type;
+    /** The type whose arguments bind the type variables of this type, may be null */
+    private final ResolvableType owner;
+    private final Class<?> resolved;
+    private volatile ResolvableType[] generics;
+
+    private ResolvableType(Type type, ResolvableType owner) {
+        this.type = type;
+        this.owner = owner;
+        this.resolved = resolveClass();
+    }
+
+    /**
+     * Return the type for the given class, whose own type parameters are
+     * unresolved.
+     */
+    public static ResolvableType forClass(Class<?> clazz) {
+        ResolvableType resolvableType = classCache.get(clazz);
+        if (resolvableType == null) {
+            resolvableType = new ResolvableType(clazz, null);
+            ResolvableType existing = classCache.putIfAbsent(clazz, resolvableType);
+            if (existing != null) {
+                resolvableType = existing;
+            }
+        }
+        return resolvableType;
+    }
+
+    /**
+     * Return the type for the given reflective type, without a context for
+     * its type variables.
+     */
+    public static ResolvableType forType(Type type) {
+        return type instanceof Class ? forClass((Class<?>) type) : new ResolvableType(type, null);
+    }
+
+    public static ResolvableType forField(Field field) {
+        return forField(field, field.getDeclaringClass());
+    }
+
+    /**
+     * Return the declared type of a field, resolving type variables of its
+     * declaring class against the given subclass.
+     */
+    public static ResolvableType forField(Field field, Class<?> implementationClass) {
+        return forMember(field.getGenericType(), field.getDeclaringClass(), implementationClass);
+    }
+
+    public static ResolvableType forMethodParameter(Method method, int parameterIndex) {
+        return forMethodParameter(method, parameterIndex, method.getDeclaringClass());
+    }
+
+    /**
+     * Return the declared type of a method parameter, resolving type
+     * variables of its declaring class against the given subclass.
+     */
+    public static ResolvableType forMethodParameter(Method method, int parameterIndex, Class<?> implementationClass) {
+        return forMember(method.getGenericParameterTypes()[parameterIndex], method.getDeclaringClass(),
+                implementationClass);
+    }
+
+    public static ResolvableType forMethodReturnType(Method method) {
+        return forMember(method.getGenericReturnType(), method.getDeclaringClass(), method.getDeclaringClass());
+    }
+
+    private static ResolvableType forMember(Type type, Class<?> declaringClass, Class<?> implementationClass) {
+        if (type instanceof Class) {
+            return forClass((Class<?>) type);
+        }
+        ResolvableType owner = forClass(implementationClass).as(declaringClass);
+        return new ResolvableType(type, owner != NONE ? owner : null);
+    }
+
+    /**
+     * Return the resolved class of this type, or null if it is a type
+     * variable that cannot be resolved.
+     */
+    public Class<?> resolve() {
+        return resolved;
+    }
+
+    /**
+     * Return the resolved class, or Object if it cannot be resolved.
+     */
+    public Class<?> toClass() {
+        return resolved != null ? resolved : Object.class;
+    }
+
+    /**
+     * Return this type viewed as the given superclass or interface, with its
+     * generics resolved, or {@link #NONE} if it is not a subtype of it.
+     */
+    public ResolvableType as(Class<?> targetType) {
+        if (resolved == null) {
+            return NONE;
+        }
+        ResolvableType self = dereference();
+        if (resolved == targetType) {
+            return self;
+        }
+        for (Type genericInterface : resolved.getGenericInterfaces()) {
+            ResolvableType candidate = new ResolvableType(genericInterface, self).as(targetType);
+            if (candidate != NONE) {
+                return candidate;
+            }
+        }
+        Type superclass = resolved.getGenericSuperclass();
+        return superclass != null ? new ResolvableType(superclass, self).as(targetType) : NONE;
+    }
+
+    /**
+     * Return the type arguments of this type, or an empty array if it is not
+     * generic. The type parameters of a raw class are returned unresolved.
+     */
+    public ResolvableType[] getGenerics() {
+        ResolvableType[] generics = this.generics;
+        if (generics == null) {
+            ResolvableType self = dereference();
+            if (self.type instanceof ParameterizedType) {
+                Type[] arguments = ((ParameterizedType) self.type).getActualTypeArguments();
+                generics = new ResolvableType[arguments.length];
+                for (int i = 0; i < arguments.length; i++) {
+                    generics[i] = new ResolvableType(arguments[i], self.owner);
+                }
+            } else if (self.type instanceof Class && ((Class<?>) self.type).getTypeParameters().length > 0) {
+                TypeVariable<?>[] parameters = ((Class<?>) self.type).getTypeParameters();
+                generics = new ResolvableType[parameters.length];
+                for (int i = 0; i < parameters.length; i++) {
+                    generics[i] = new ResolvableType(parameters[i], null);
+                }
+            } else {
+                generics = EMPTY_TYPES_ARRAY;
+            }
+            this.generics = generics;
+        }
+        return generics;
+    }
+
+    /**
+     * Return the type argument at the given index, or {@link #NONE}.
+     */
+    public ResolvableType getGeneric(int index) {
+        ResolvableType[] generics = getGenerics();
+        return index < generics.length ? generics[index] : NONE;
+    }
+
+    /**
+     * Whether a value of the given type can be assigned to this type,
+     * including its generics. Wildcards check their bounds, other type
+     * arguments must match exactly unless either side is unresolved.
+     */
+    public boolean isAssignableFrom(ResolvableType other) {
+        if (resolved == null || other.resolved == null) {
+            return true;
+        }
+        if (!resolved.isAssignableFrom(other.resolved)) {
+            return false;
+        }
+        ResolvableType[] ourGenerics = getGenerics();
+        if (ourGenerics.length == 0) {
+            return true;
+        }
+        ResolvableType[] otherGenerics = other.as(resolved).getGenerics();
+        if (otherGenerics.length != ourGenerics.length) {
+            return true;
+        }
+        for (int i = 0; i < ourGenerics.length; i++) {
+            if (!ourGenerics[i].matchesArgument(otherGenerics[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesArgument(ResolvableType other) {
+        if (type instanceof WildcardType) {
+            WildcardType wildcard = (WildcardType) type;
+            for (Type upperBound : wildcard.getUpperBounds()) {
+                if (!new ResolvableType(upperBound, owner).isAssignableFrom(other)) {
+                    return false;
+                }
+            }
+            for (Type lowerBound : wildcard.getLowerBounds()) {
+                if (!other.isAssignableFrom(new ResolvableType(lowerBound, owner))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (resolved == null || other.resolved == null || other.type instanceof WildcardType) {
+            return true;
+        }
+        if (resolved != other.resolved) {
+            return false;
+        }
+        ResolvableType[] ourGenerics = getGenerics();
+        ResolvableType[] otherGenerics = other.getGenerics();
+        if (ourGenerics.length == otherGenerics.length) {
+            for (int i = 0; i < ourGenerics.length; i++) {
+                if (!ourGenerics[i].matchesArgument(otherGenerics[i])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the type a type variable stands for, or this type.
+     */
+    private ResolvableType dereference() {
+        if (type instanceof TypeVariable) {
+            ResolvableType variableType = resolveVariable((TypeVariable<?>) type);
+            return variableType != null ? variableType.dereference() : this;
+        }
+        return this;
+    }
+
+    private ResolvableType resolveVariable(TypeVariable<?> variable) {
+        GenericDeclaration declaration = variable.getGenericDeclaration();
+        for (ResolvableType context = owner; context != null; context = context.owner) {
+            if (context.type instanceof ParameterizedType && context.resolved == declaration) {
+                TypeVariable<?>[] parameters = ((Class<?>) declaration).getTypeParameters();
+                for (int i = 0; i < parameters.length; i++) {
+                    if (parameters[i].equals(variable)) {
+                        Type argument = ((ParameterizedType) context.type).getActualTypeArguments()[i];
+                        return new ResolvableType(argument, context.owner);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private Class<?> resolveClass() {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        if (type instanceof GenericArrayType) {
+            Class<?> componentType = new ResolvableType(((GenericArrayType) type).getGenericComponentType(), owner)
+                    .resolve();
+            return componentType != null ? Array.newInstance(componentType, 0).getClass() : null;
+        }
+        if (type instanceof TypeVariable) {
+            ResolvableType variableType = resolveVariable((TypeVariable<?>) type);
+            return variableType != null ? variableType.resolve() : null;
+        }
+        if (type instanceof WildcardType) {
+            return new ResolvableType(((WildcardType) type).getUpperBounds()[0], owner).resolve();
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        if (type == null) {
+            return "?";
+        }
+        ResolvableType self = dereference();
+        if (self.resolved == null || self.type instanceof WildcardType) {
+            return self.type.getTypeName();
+        }
+        ResolvableType[] generics = self.type instanceof ParameterizedType ? getGenerics() : EMPTY_TYPES_ARRAY;
+        if (generics.length == 0) {
+            return self.resolved.getName();
+        }
+        StringBuilder builder = new StringBuilder(self.resolved.getName()).append('<');
+        for (int i = 0; i < generics.length; i++) {
+            builder.append(i > 0 ? ", " : "").append(generics[i]);
+        }
+        return builder.append('>').toString();
+    }
+}
@@ -0,0 +1,190 @@
+package com.yu.spring.core.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reflection metadata of a class shared by everything that scans classes:
+ * its methods and fields including those of superclasses, its
+ * {@link MergedAnnotations merged annotations} and those of its members,
+ * and the members carrying a given annotation. Each part is computed once,
+ * on first use.
+ *
+ * <p>Metadata is held in a {@link ClassValue}, so it lives exactly as long
+ * as the class and does not keep a class loader from being collected.
+ * Returned lists are unmodifiable; the members in them are shared, so
+ * callers making them accessible do so for every caller.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> metadataCache = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> introspectedClass;
+    private volatile MergedAnnotations mergedAnnotations;
+    private volatile List<Method> methods;
+    private volatile List<Field> fields;
+    private final Map<AnnotatedElement, MergedAnnotations> memberAnnotations = new ConcurrentHashMap<>(16);
+    private final Map<Class<? extends Annotation>, List<Method>> annotatedMethods = new ConcurrentHashMap<>(8);
+    private final Map<Class<? extends Annotation>, List<Field>> annotatedFields = new ConcurrentHashMap<>(8);
+
+    private ClassMetadata(Class<?> introspectedClass) {
+        this.introspectedClass = introspectedClass;
+    }
+
+    /**
+     * Return the metadata of the given class.
+     */
+    public static ClassMetadata forClass(Class<?> clazz) {
+        return metadataCache.get(clazz);
+    }
+
+    public Class<?> getIntrospectedClass() {
+        return introspectedClass;
+    }
+
+    /**
+     * Return the merged annotations of the class, including inherited ones
+     * and meta-annotations.
+     */
+    public MergedAnnotations getMergedAnnotations() {
+        MergedAnnotations mergedAnnotations = this.mergedAnnotations;
+        if (mergedAnnotations == null) {
+            mergedAnnotations = MergedAnnotations.of(introspectedClass.getAnnotations());
+            this.mergedAnnotations = mergedAnnotations;
+        }
+        return mergedAnnotations;
+    }
+
+    public boolean hasAnnotation(Class<? extends Annotation> annotationType) {
+        return getMergedAnnotations().isPresent(annotationType);
+    }
+
+    public <A extends Annotation> A getAnnotation(Class<A> annotationType) {
+        return getMergedAnnotations().get(annotationType);
+    }
+
+    /**
+     * Return the methods declared by the class and its superclasses up to
+     * Object, subclass methods first. Bridge and synthetic methods and
+     * methods overridden further down are left out.
+     */
+    public List<Method> getMethods() {
+        List<Method> methods = this.methods;
+        if (methods == null) {
+            methods = Collections.unmodifiableList(introspectMethods(introspectedClass));
+            this.methods = methods;
+        }
+        return methods;
+    }
+
+    /**
+     * Return the fields declared by the class and its superclasses up to
+     * Object, subclass fields first.
+     */
+    public List<Field> getFields() {
+        List<Field> fields = this.fields;
+        if (fields == null) {
+            List<Field> result = new ArrayList<>();
+            for (Class<?> clazz = introspectedClass; clazz != null && clazz != Object.class;
+                 clazz = clazz.getSuperclass()) {
+                result.addAll(Arrays.asList(clazz.getDeclaredFields()));
+            }
+            fields = Collections.unmodifiableList(result);
+            this.fields = fields;
+        }
+        return fields;
+    }
+
+    /**
+     * Return the methods of {@link #getMethods()} carrying the given
+     * annotation, directly, as a meta-annotation or from a method they
+     * override.
+     */
+    public List<Method> getAnnotatedMethods(Class<? extends Annotation> annotationType) {
+        List<Method> methods = annotatedMethods.get(annotationType);
+        if (methods == null) {
+            List<Method> result = new ArrayList<>();
+            for (Method method : getMethods()) {
+                if (getMergedAnnotations(method).isPresent(annotationType)) {
+                    result.add(method);
+                }
+            }
+            methods = result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+            annotatedMethods.put(annotationType, methods);
+        }
+        return methods;
+    }
+
+    public boolean hasAnnotatedMethods(Class<? extends Annotation> annotationType) {
+        return !getAnnotatedMethods(annotationType).isEmpty();
+    }
+
+    /**
+     * Return the fields of {@link #getFields()} carrying the given
+     * annotation, directly or as a meta-annotation.
+     */
+    public List<Field> getAnnotatedFields(Class<? extends Annotation> annotationType) {
+        List<Field> fields = annotatedFields.get(annotationType);
+        if (fields == null) {
+            List<Field> result = new ArrayList<>();
+            for (Field field : getFields()) {
+                if (getMergedAnnotations(field).isPresent(annotationType)) {
+                    result.add(field);
+                }
+            }
+            fields = result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+            annotatedFields.put(annotationType, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * Return the merged annotations of a member or parameter of this class.
+     */
+    MergedAnnotations getMergedAnnotations(AnnotatedElement element) {
+        MergedAnnotations annotations = memberAnnotations.get(element);
+        if (annotations == null) {
+            annotations = element instanceof Method ? MergedAnnotations.forMethod((Method) element)
+                    : MergedAnnotations.of(element.getAnnotations());
+            memberAnnotations.put(element, annotations);
+        }
+        return annotations;
+    }
+
+    private static List<Method> introspectMethods(Class<?> type) {
+        List<Method> methods = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+                boolean overridable = !Modifier.isPrivate(method.getModifiers())
+                        && !Modifier.isStatic(method.getModifiers());
+                if (!overridable || signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+}
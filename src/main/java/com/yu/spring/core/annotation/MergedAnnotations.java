@@ -0,0 +1,166 @@
+package com.yu.spring.core.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The annotations of an element merged with their meta-annotations, so that
+ * a {@code @Configuration} class is found as a {@code @Component} and a
+ * composed annotation carrying {@code @Profile} counts as {@code @Profile}.
+ * A method also carries the annotations of the methods it overrides or
+ * implements, so subclass proxies and overriding methods keep them.
+ *
+ * <p>Where an annotation type occurs more than once the one nearest to the
+ * element wins: direct annotations before meta-annotations, and a method's
+ * own annotations before those of the method it overrides.
+ *
+ * <p>Instances for classes and their members are computed once and cached
+ * in the {@link ClassMetadata} of the declaring class; use {@link #from}
+ * rather than reading annotations through reflection.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public final class MergedAnnotations {
+
+    static final MergedAnnotations NONE = new MergedAnnotations(new Annotation[0], Collections.emptyMap());
+
+    private final Annotation[] directAnnotations;
+    private final Map<Class<? extends Annotation>, Annotation> annotations;
+
+    private MergedAnnotations(Annotation[] directAnnotations, Map<Class<? extends Annotation>, Annotation> annotations) {
+        this.directAnnotations = directAnnotations;
+        this.annotations = annotations;
+    }
+
+    /**
+     * Return the merged annotations of a class, method, field, constructor or
+     * parameter, cached in the metadata of its declaring class.
+     */
+    public static MergedAnnotations from(AnnotatedElement element) {
+        if (element instanceof Class) {
+            return ClassMetadata.forClass((Class<?>) element).getMergedAnnotations();
+        }
+        if (element instanceof Member) {
+            return ClassMetadata.forClass(((Member) element).getDeclaringClass()).getMergedAnnotations(element);
+        }
+        if (element instanceof Parameter) {
+            Executable executable = ((Parameter) element).getDeclaringExecutable();
+            return ClassMetadata.forClass(executable.getDeclaringClass()).getMergedAnnotations(element);
+        }
+        return of(element.getAnnotations());
+    }
+
+    /**
+     * Return whether an annotation of the given type is present, directly or
+     * as a meta-annotation.
+     */
+    public boolean isPresent(Class<? extends Annotation> annotationType) {
+        return annotations.containsKey(annotationType);
+    }
+
+    /**
+     * Return the nearest annotation of the given type, or null.
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Annotation> A get(Class<A> annotationType) {
+        return (A) annotations.get(annotationType);
+    }
+
+    /**
+     * Return the annotations declared on the element itself, or inherited
+     * through {@code @Inherited}, without meta-annotations.
+     */
+    public Annotation[] getDirectAnnotations() {
+        return directAnnotations.clone();
+    }
+
+    /**
+     * Return all merged annotations, nearest first.
+     */
+    public List<Annotation> asList() {
+        return new ArrayList<>(annotations.values());
+    }
+
+    public boolean isEmpty() {
+        return annotations.isEmpty();
+    }
+
+    static MergedAnnotations of(Annotation[] directAnnotations) {
+        return merge(directAnnotations, null);
+    }
+
+    /**
+     * Compute the merged annotations of a method, followed by those of the
+     * methods it overrides in superclasses and interfaces.
+     */
+    static MergedAnnotations forMethod(Method method) {
+        if (Modifier.isPrivate(method.getModifiers()) || Modifier.isStatic(method.getModifiers())) {
+            return of(method.getAnnotations());
+        }
+        List<Annotation> inherited = new ArrayList<>();
+        collectOverriddenAnnotations(method, method.getDeclaringClass(), inherited);
+        return merge(method.getAnnotations(), inherited);
+    }
+
+    private static void collectOverriddenAnnotations(Method method, Class<?> clazz, List<Annotation> result) {
+        Class<?> superclass = clazz.getSuperclass();
+        List<Class<?>> supertypes = new ArrayList<>();
+        if (superclass != null && superclass != Object.class) {
+            supertypes.add(superclass);
+        }
+        Collections.addAll(supertypes, clazz.getInterfaces());
+        for (Class<?> supertype : supertypes) {
+            try {
+                Method overridden = supertype.getDeclaredMethod(method.getName(), method.getParameterTypes());
+                if (!Modifier.isPrivate(overridden.getModifiers()) && !Modifier.isStatic(overridden.getModifiers())) {
+                    Collections.addAll(result, overridden.getAnnotations());
+                }
+            } catch (NoSuchMethodException e) {
+                // Not declared at this level, look further up
+            }
+            collectOverriddenAnnotations(method, supertype, result);
+        }
+    }
+
+    private static MergedAnnotations merge(Annotation[] directAnnotations, List<Annotation> inheritedAnnotations) {
+        if (directAnnotations.length == 0 && (inheritedAnnotations == null || inheritedAnnotations.isEmpty())) {
+            return NONE;
+        }
+        Map<Class<? extends Annotation>, Annotation> annotations = new LinkedHashMap<>();
+        Deque<Annotation> queue = new ArrayDeque<>();
+        Collections.addAll(queue, directAnnotations);
+        if (inheritedAnnotations != null) {
+            queue.addAll(inheritedAnnotations);
+        }
+        // Breadth first, so nearer annotations win and cyclic meta-annotations terminate
+        while (!queue.isEmpty()) {
+            Annotation annotation = queue.poll();
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (annotations.putIfAbsent(annotationType, annotation) == null) {
+                for (Annotation metaAnnotation : annotationType.getAnnotations()) {
+                    if (!isJavaLangAnnotation(metaAnnotation)) {
+                        queue.add(metaAnnotation);
+                    }
+                }
+            }
+        }
+        return new MergedAnnotations(directAnnotations, Collections.unmodifiableMap(annotations));
+    }
+
+    private static boolean isJavaLangAnnotation(Annotation annotation) {
+        return annotation.annotationType().getName().startsWith("java.lang.annotation.");
+    }
+}
@@ -0,0 +1,21 @@
+package com.yu.spring.core.convert;
+
+/**
+ * Thrown when a value cannot be converted, either because no converter is
+ * registered for the types or because the converter failed.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ConversionException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConversionException(String message) {
+        super(message);
+    }
+
+    public ConversionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
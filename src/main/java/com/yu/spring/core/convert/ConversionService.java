@@ -0,0 +1,44 @@
+package com.yu.spring.core.convert;
+
+/**
+ * A service interface for type conversion, used when injecting property
+ * values into beans and when reading typed properties from the Environment.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface ConversionService {
+
+    /**
+     * Return whether values of the source type can be converted to the
+     * target type.
+     */
+    boolean canConvert(Class<?> sourceType, Class<?> targetType);
+
+    /**
+     * Return whether values of the source type can be converted to the
+     * described target type.
+     */
+    boolean canConvert(Class<?> sourceType, TypeDescriptor targetType);
+
+    /**
+     * Convert the given source to the target type.
+     *
+     * @param source     the value to convert, may be null
+     * @param targetType the type to convert to
+     * @return the converted value
+     * @throws ConversionException if the value cannot be converted
+     */
+    <T> T convert(Object source, Class<T> targetType);
+
+    /**
+     * Convert the given source to the described target type, converting the
+     * elements of arrays, collections and maps to the declared element types.
+     *
+     * @param source     the value to convert, may be null
+     * @param targetType the type to convert to
+     * @return the converted value
+     * @throws ConversionException if the value cannot be converted
+     */
+    Object convert(Object source, TypeDescriptor targetType);
+}
@@ -0,0 +1,255 @@
+package com.yu.spring.core.convert;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Describes a conversion target: a class together with the declared element
+ * type of an array or collection, or the key and value types of a map, so
+ * that {@code List<Integer>} and {@code List<String>} convert differently.
+ *
+ * <p>Descriptors are immutable and compare by value, which makes them usable
+ * as cache keys. Descriptors for plain classes are cached.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public final class TypeDescriptor {
+
+    private static final Map<Class<?>, TypeDescriptor> commonTypesCache = new ConcurrentHashMap<>(128);
+
+    private final Class<?> type;
+    private final Class<?> objectType;
+    private final TypeDescriptor elementTypeDescriptor;
+    private final TypeDescriptor mapKeyTypeDescriptor;
+    private final TypeDescriptor mapValueTypeDescriptor;
+    private final int hash;
+
+    private TypeDescriptor(Class<?> type, TypeDescriptor elementTypeDescriptor,
+                           TypeDescriptor mapKeyTypeDescriptor, TypeDescriptor mapValueTypeDescriptor) {
+        this.type = type;
+        this.objectType = wrapperType(type);
+        this.elementTypeDescriptor = elementTypeDescriptor;
+        this.mapKeyTypeDescriptor = mapKeyTypeDescriptor;
+        this.mapValueTypeDescriptor = mapValueTypeDescriptor;
+        this.hash = Objects.hash(type, elementTypeDescriptor, mapKeyTypeDescriptor, mapValueTypeDescriptor);
+    }
+
+    /**
+     * Return the descriptor for the given class. Arrays describe their
+     * component type; collections and maps have no declared element types.
+     */
+    public static TypeDescriptor valueOf(Class<?> type) {
+        TypeDescriptor descriptor = commonTypesCache.get(type);
+        if (descriptor == null) {
+            descriptor = type.isArray() ? new TypeDescriptor(type, valueOf(type.getComponentType()), null, null)
+                    : new TypeDescriptor(type, null, null, null);
+            TypeDescriptor existing = commonTypesCache.putIfAbsent(type, descriptor);
+            if (existing != null) {
+                descriptor = existing;
+            }
+        }
+        return descriptor;
+    }
+
+    /**
+     * Return the descriptor for a collection type with the given element type.
+     */
+    public static TypeDescriptor collection(Class<?> collectionType, TypeDescriptor elementTypeDescriptor) {
+        if (!Collection.class.isAssignableFrom(collectionType)) {
+            throw new IllegalArgumentException("Collection type must be a java.util.Collection: "
+                    + collectionType.getName());
+        }
+        return new TypeDescriptor(collectionType, elementTypeDescriptor, null, null);
+    }
+
+    /**
+     * Return the descriptor for a map type with the given key and value types.
+     */
+    public static TypeDescriptor map(Class<?> mapType, TypeDescriptor keyTypeDescriptor,
+                                     TypeDescriptor valueTypeDescriptor) {
+        if (!Map.class.isAssignableFrom(mapType)) {
+            throw new IllegalArgumentException("Map type must be a java.util.Map: " + mapType.getName());
+        }
+        return new TypeDescriptor(mapType, null, keyTypeDescriptor, valueTypeDescriptor);
+    }
+
+    /**
+     * Return the descriptor for a generic type as declared on a field,
+     * parameter or return type. Type variables and wildcards resolve to their
+     * first upper bound.
+     */
+    public static TypeDescriptor forType(Type type) {
+        if (type instanceof Class) {
+            return valueOf((Class<?>) type);
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Class<?> rawType = (Class<?>) parameterizedType.getRawType();
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            if (Collection.class.isAssignableFrom(rawType) && arguments.length == 1) {
+                return new TypeDescriptor(rawType, forType(arguments[0]), null, null);
+            }
+            if (Map.class.isAssignableFrom(rawType) && arguments.length == 2) {
+                return new TypeDescriptor(rawType, null, forType(arguments[0]), forType(arguments[1]));
+            }
+            return valueOf(rawType);
+        }
+        if (type instanceof GenericArrayType) {
+            TypeDescriptor component = forType(((GenericArrayType) type).getGenericComponentType());
+            return new TypeDescriptor(Array.newInstance(component.getType(), 0).getClass(), component, null, null);
+        }
+        if (type instanceof WildcardType) {
+            return forType(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable) {
+            return forType(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return valueOf(Object.class);
+    }
+
+    /**
+     * Return the descriptor for the declared type of the given field.
+     */
+    public static TypeDescriptor forField(Field field) {
+        return forType(field.getGenericType());
+    }
+
+    /**
+     * Return the descriptor for the declared type of a method parameter.
+     */
+    public static TypeDescriptor forMethodParameter(Method method, int index) {
+        Type[] genericTypes = method.getGenericParameterTypes();
+        return forType(genericTypes.length == method.getParameterCount()
+                ? genericTypes[index] : method.getParameterTypes()[index]);
+    }
+
+    /**
+     * Return the described class, which may be primitive.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Return the described class, with primitives as their wrapper.
+     */
+    public Class<?> getObjectType() {
+        return objectType;
+    }
+
+    public boolean isPrimitive() {
+        return type.isPrimitive();
+    }
+
+    public boolean isArray() {
+        return type.isArray();
+    }
+
+    public boolean isCollection() {
+        return Collection.class.isAssignableFrom(type);
+    }
+
+    public boolean isMap() {
+        return Map.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Return whether values need no more than an instance check to conform
+     * to this descriptor, that is, no declared element, key or value types.
+     */
+    public boolean isPlain() {
+        return elementTypeDescriptor == null && mapKeyTypeDescriptor == null && mapValueTypeDescriptor == null;
+    }
+
+    /**
+     * Return the element type of an array or collection, or null if it is
+     * not declared.
+     */
+    public TypeDescriptor getElementTypeDescriptor() {
+        return elementTypeDescriptor;
+    }
+
+    public TypeDescriptor getMapKeyTypeDescriptor() {
+        return mapKeyTypeDescriptor;
+    }
+
+    public TypeDescriptor getMapValueTypeDescriptor() {
+        return mapValueTypeDescriptor;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof TypeDescriptor)) {
+            return false;
+        }
+        TypeDescriptor that = (TypeDescriptor) other;
+        return hash == that.hash && type == that.type
+                && Objects.equals(elementTypeDescriptor, that.elementTypeDescriptor)
+                && Objects.equals(mapKeyTypeDescriptor, that.mapKeyTypeDescriptor)
+                && Objects.equals(mapValueTypeDescriptor, that.mapValueTypeDescriptor);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        if (type.isArray()) {
+            return elementTypeDescriptor + "[]";
+        }
+        if (elementTypeDescriptor != null) {
+            return type.getName() + "<" + elementTypeDescriptor + ">";
+        }
+        if (mapKeyTypeDescriptor != null) {
+            return type.getName() + "<" + mapKeyTypeDescriptor + ", " + mapValueTypeDescriptor + ">";
+        }
+        return type.getName();
+    }
+
+    private static Class<?> wrapperType(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        }
+        if (type == long.class) {
+            return Long.class;
+        }
+        if (type == boolean.class) {
+            return Boolean.class;
+        }
+        if (type == double.class) {
+            return Double.class;
+        }
+        if (type == float.class) {
+            return Float.class;
+        }
+        if (type == short.class) {
+            return Short.class;
+        }
+        if (type == byte.class) {
+            return Byte.class;
+        }
+        if (type == char.class) {
+            return Character.class;
+        }
+        return Void.class;
+    }
+}
@@ -0,0 +1,16 @@
+package com.yu.spring.core.convert.converter;
+
+/**
+ * Converts a source object of type S to a target of type T.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@FunctionalInterface
+public interface Converter<S, T> {
+
+    /**
+     * Convert the source, which is never null.
+     */
+    T convert(S source);
+}
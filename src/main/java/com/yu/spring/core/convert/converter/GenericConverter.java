@@ -0,0 +1,73 @@
+package com.yu.spring.core.convert.converter;
+
+import com.yu.spring.core.convert.TypeDescriptor;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Converter between one or more pairs of types, given the full target
+ * descriptor. Used for conversions that depend on the exact target class,
+ * such as String to any enum, or on declared element types, such as
+ * collections.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface GenericConverter {
+
+    /**
+     * Return the source and target types this converter handles. A pair also
+     * matches subtypes of its source and target types.
+     */
+    Set<ConvertiblePair> getConvertibleTypes();
+
+    /**
+     * Convert the source, which is never null, to the described target type.
+     */
+    Object convert(Object source, TypeDescriptor targetType);
+
+    /**
+     * Holder for a source-to-target class pair.
+     */
+    final class ConvertiblePair {
+
+        private final Class<?> sourceType;
+        private final Class<?> targetType;
+
+        public ConvertiblePair(Class<?> sourceType, Class<?> targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        public Class<?> getSourceType() {
+            return sourceType;
+        }
+
+        public Class<?> getTargetType() {
+            return targetType;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ConvertiblePair)) {
+                return false;
+            }
+            ConvertiblePair that = (ConvertiblePair) other;
+            return sourceType == that.sourceType && targetType == that.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sourceType, targetType);
+        }
+
+        @Override
+        public String toString() {
+            return sourceType.getName() + " -> " + targetType.getName();
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.yu.spring.core.convert.support;
+
+import com.yu.spring.core.convert.ConversionException;
+import com.yu.spring.core.convert.TypeDescriptor;
+import com.yu.spring.core.convert.converter.GenericConverter;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Converters between Strings (comma-separated), arrays, collections and
+ * maps, converting each element to the declared element type.
+ *
+ * <p>The element converter is looked up once per element class rather than
+ * once per element, so a large homogeneous collection costs one lookup.
+ * Conversions to {@code int[]}, {@code long[]} and {@code double[]} parse
+ * String elements straight into the primitive array without boxing them,
+ * and a comma-separated String converts to {@code int[]} without being split.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+final class CollectionConverters {
+
+    private CollectionConverters() {
+    }
+
+    static void register(GenericConversionService service) {
+        service.addConverter(new ToCollectionConverter(service));
+        service.addConverter(new ToArrayConverter(service));
+        service.addConverter(new MapToMapConverter(service));
+        service.addConverter(new ToStringConverter());
+    }
+
+    /**
+     * Return the elements of a String, array or collection source.
+     */
+    static Collection<?> asCollection(Object source) {
+        if (source instanceof Collection) {
+            return (Collection<?>) source;
+        }
+        if (source instanceof Object[]) {
+            return Arrays.asList((Object[]) source);
+        }
+        if (source instanceof String) {
+            return split((String) source);
+        }
+        int length = Array.getLength(source);
+        List<Object> elements = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            elements.add(Array.get(source, i));
+        }
+        return elements;
+    }
+
+    /**
+     * Split a comma-separated String into trimmed, non-empty elements.
+     */
+    static List<String> split(String text) {
+        List<String> elements = new ArrayList<>();
+        int start = 0;
+        while (start <= text.length()) {
+            int end = text.indexOf(',', start);
+            if (end < 0) {
+                end = text.length();
+            }
+            String element = text.substring(start, end).trim();
+            if (!element.isEmpty()) {
+                elements.add(element);
+            }
+            start = end + 1;
+        }
+        return elements;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> createCollection(Class<?> collectionType, int size) {
+        if (!collectionType.isInterface() && !Modifier.isAbstract(collectionType.getModifiers())) {
+            try {
+                return (Collection<Object>) collectionType.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Cannot instantiate collection type " + collectionType.getName(), e);
+            }
+        }
+        if (SortedSet.class.isAssignableFrom(collectionType)) {
+            return new TreeSet<>();
+        }
+        if (Set.class.isAssignableFrom(collectionType)) {
+            return new LinkedHashSet<>(Math.max((int) (size / .75f) + 1, 16));
+        }
+        if (Queue.class.isAssignableFrom(collectionType)) {
+            return new ArrayDeque<>(size);
+        }
+        return new ArrayList<>(size);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> createMap(Class<?> mapType, int size) {
+        if (!mapType.isInterface() && !Modifier.isAbstract(mapType.getModifiers())) {
+            try {
+                return (Map<Object, Object>) mapType.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Cannot instantiate map type " + mapType.getName(), e);
+            }
+        }
+        if (SortedMap.class.isAssignableFrom(mapType)) {
+            return new TreeMap<>();
+        }
+        return new LinkedHashMap<>(Math.max((int) (size / .75f) + 1, 16));
+    }
+
+    private static Set<GenericConverter.ConvertiblePair> convertiblePairs(Class<?> targetType, Class<?>... sourceTypes) {
+        Set<GenericConverter.ConvertiblePair> pairs = new LinkedHashSet<>();
+        for (Class<?> sourceType : sourceTypes) {
+            pairs.add(new GenericConverter.ConvertiblePair(sourceType, targetType));
+        }
+        return pairs;
+    }
+
+    /**
+     * Converts the elements of one source to a declared element type,
+     * reusing the converter while the element class stays the same.
+     */
+    static final class ElementConverter {
+
+        private final GenericConversionService service;
+        private final TypeDescriptor elementType;
+        private Class<?> lastSourceType;
+        private GenericConverter lastConverter;
+
+        ElementConverter(GenericConversionService service, TypeDescriptor elementType) {
+            this.service = service;
+            this.elementType = elementType;
+        }
+
+        Object convert(Object element) {
+            if (elementType == null) {
+                return element;
+            }
+            if (element == null) {
+                return service.convert(null, elementType);
+            }
+            Class<?> sourceType = element.getClass();
+            if (sourceType != lastSourceType) {
+                lastConverter = service.getRequiredConverter(sourceType, elementType);
+                lastSourceType = sourceType;
+            }
+            return service.invokeConverter(lastConverter, element, elementType);
+        }
+    }
+
+    /**
+     * String, array or collection to a collection.
+     */
+    private static final class ToCollectionConverter implements GenericConverter {
+
+        private final GenericConversionService service;
+
+        ToCollectionConverter(GenericConversionService service) {
+            this.service = service;
+        }
+
+        @Override
+        public Set<ConvertiblePair> getConvertibleTypes() {
+            return convertiblePairs(Collection.class, String.class, Object[].class, Collection.class);
+        }
+
+        @Override
+        public Object convert(Object source, TypeDescriptor targetType) {
+            Collection<?> elements = asCollection(source);
+            Collection<Object> target = createCollection(targetType.getType(), elements.size());
+            ElementConverter elementConverter = new ElementConverter(service, targetType.getElementTypeDescriptor());
+            boolean copyRequired = !targetType.getType().isInstance(source);
+            for (Object element : elements) {
+                Object converted = elementConverter.convert(element);
+                target.add(converted);
+                copyRequired |= converted != element;
+            }
+            return copyRequired ? target : source;
+        }
+    }
+
+    /**
+     * String, array or collection to an array.
+     */
+    private static final class ToArrayConverter implements GenericConverter {
+
+        private final GenericConversionService service;
+
+        ToArrayConverter(GenericConversionService service) {
+            this.service = service;
+        }
+
+        @Override
+        public Set<ConvertiblePair> getConvertibleTypes() {
+            return convertiblePairs(Object[].class, String.class, Object[].class, Collection.class);
+        }
+
+        @Override
+        public Object convert(Object source, TypeDescriptor targetType) {
+            Class<?> componentType = targetType.getType().getComponentType();
+            if (componentType == int.class && source instanceof String) {
+                try {
+                    return parseIntArray((String) source);
+                } catch (NumberFormatException e) {
+                    throw new ConversionException("Cannot convert value '" + source + "' to type " + targetType, e);
+                }
+            }
+            Collection<?> elements = asCollection(source);
+            ElementConverter elementConverter = new ElementConverter(service, targetType.getElementTypeDescriptor());
+            Iterator<?> it = elements.iterator();
+            int size = elements.size();
+            try {
+                if (componentType == int.class) {
+                    int[] array = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        Object element = it.next();
+                        array[i] = element instanceof String ? Integer.parseInt(((String) element).trim())
+                                : (Integer) elementConverter.convert(element);
+                    }
+                    return array;
+                }
+                if (componentType == long.class) {
+                    long[] array = new long[size];
+                    for (int i = 0; i < size; i++) {
+                        Object element = it.next();
+                        array[i] = element instanceof String ? Long.parseLong(((String) element).trim())
+                                : (Long) elementConverter.convert(element);
+                    }
+                    return array;
+                }
+                if (componentType == double.class) {
+                    double[] array = new double[size];
+                    for (int i = 0; i < size; i++) {
+                        Object element = it.next();
+                        array[i] = element instanceof String ? Double.parseDouble(((String) element).trim())
+                                : (Double) elementConverter.convert(element);
+                    }
+                    return array;
+                }
+            } catch (NumberFormatException e) {
+                throw new ConversionException("Cannot convert value '" + source + "' to type " + targetType, e);
+            }
+            Object array = Array.newInstance(componentType, size);
+            for (int i = 0; i < size; i++) {
+                Array.set(array, i, elementConverter.convert(it.next()));
+            }
+            return array;
+        }
+    }
+
+    /**
+     * Parse a comma-separated String into an int array in place, without the
+     * substrings and boxed values of the general path.
+     */
+    static int[] parseIntArray(String text) {
+        int[] values = new int[countElements(text)];
+        int count = 0;
+        int length = text.length();
+        for (int start = 0; start <= length; ) {
+            int end = text.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int from = start;
+            int to = end;
+            while (from < to && Character.isWhitespace(text.charAt(from))) {
+                from++;
+            }
+            while (to > from && Character.isWhitespace(text.charAt(to - 1))) {
+                to--;
+            }
+            if (from < to) {
+                values[count++] = parseInt(text, from, to);
+            }
+            start = end + 1;
+        }
+        return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+
+    private static int countElements(String text) {
+        int count = 1;
+        for (int i = text.indexOf(','); i >= 0; i = text.indexOf(',', i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static int parseInt(String text, int from, int to) {
+        char first = text.charAt(from);
+        boolean negative = first == '-';
+        int i = negative || first == '+' ? from + 1 : from;
+        if (i == to) {
+            throw new NumberFormatException("For input string: \"" + text.substring(from, to) + "\"");
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || (value = value * 10 + digit) > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("For input string: \"" + text.substring(from, to) + "\"");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("For input string: \"" + text.substring(from, to) + "\"");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Map to a map, converting keys and values.
+     */
+    private static final class MapToMapConverter implements GenericConverter {
+
+        private final GenericConversionService service;
+
+        MapToMapConverter(GenericConversionService service) {
+            this.service = service;
+        }
+
+        @Override
+        public Set<ConvertiblePair> getConvertibleTypes() {
+            return convertiblePairs(Map.class, Map.class);
+        }
+
+        @Override
+        public Object convert(Object source, TypeDescriptor targetType) {
+            Map<?, ?> sourceMap = (Map<?, ?>) source;
+            Map<Object, Object> target = createMap(targetType.getType(), sourceMap.size());
+            ElementConverter keyConverter = new ElementConverter(service, targetType.getMapKeyTypeDescriptor());
+            ElementConverter valueConverter = new ElementConverter(service, targetType.getMapValueTypeDescriptor());
+            boolean copyRequired = !targetType.getType().isInstance(source);
+            for (Map.Entry<?, ?> entry : sourceMap.entrySet()) {
+                Object key = keyConverter.convert(entry.getKey());
+                Object value = valueConverter.convert(entry.getValue());
+                target.put(key, value);
+                copyRequired |= key != entry.getKey() || value != entry.getValue();
+            }
+            return copyRequired ? target : source;
+        }
+    }
+
+    /**
+     * Array or collection to a comma-separated String.
+     */
+    private static final class ToStringConverter implements GenericConverter {
+
+        @Override
+        public Set<ConvertiblePair> getConvertibleTypes() {
+            return convertiblePairs(String.class, Object[].class, Collection.class);
+        }
+
+        @Override
+        public Object convert(Object source, TypeDescriptor targetType) {
+            StringBuilder sb = new StringBuilder();
+            boolean first = true;
+            for (Object element : asCollection(source)) {
+                if (!first) {
+                    sb.append(',');
+                }
+                sb.append(element);
+                first = false;
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.yu.spring.core.convert.support;
+
+import com.yu.spring.core.convert.ConversionService;
+import com.yu.spring.core.convert.TypeDescriptor;
+import com.yu.spring.core.convert.converter.GenericConverter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A GenericConversionService with the converters most applications need:
+ * Strings to numbers, booleans, characters, enums, durations, charsets and
+ * UUIDs, numbers to other numeric types, anything to a String, and
+ * Strings, arrays, collections and maps to arrays, collections and maps of
+ * any of those.
+ *
+ * <p>Booleans accept {@code true/false}, {@code on/off}, {@code yes/no} and
+ * {@code 1/0}. Durations accept ISO-8601 ({@code PT30S}) or a number with an
+ * optional unit suffix ({@code 500ms}, {@code 30s}, {@code 5m}, {@code 2h},
+ * {@code 1d}); a bare number is in milliseconds.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class DefaultConversionService extends GenericConversionService {
+
+    private static volatile DefaultConversionService sharedInstance;
+
+    public DefaultConversionService() {
+        addDefaultConverters(this);
+    }
+
+    /**
+     * Return a shared default ConversionService, created on first use.
+     * Callers must not register converters on it.
+     */
+    public static ConversionService getSharedInstance() {
+        DefaultConversionService instance = sharedInstance;
+        if (instance == null) {
+            synchronized (DefaultConversionService.class) {
+                instance = sharedInstance;
+                if (instance == null) {
+                    instance = new DefaultConversionService();
+                    sharedInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Register the default converters with the given service.
+     */
+    public static void addDefaultConverters(GenericConversionService service) {
+        service.addConverter(String.class, Integer.class, source -> Integer.valueOf(source.trim()));
+        service.addConverter(String.class, Long.class, source -> Long.valueOf(source.trim()));
+        service.addConverter(String.class, Short.class, source -> Short.valueOf(source.trim()));
+        service.addConverter(String.class, Byte.class, source -> Byte.valueOf(source.trim()));
+        service.addConverter(String.class, Double.class, source -> Double.valueOf(source.trim()));
+        service.addConverter(String.class, Float.class, source -> Float.valueOf(source.trim()));
+        service.addConverter(String.class, BigInteger.class, source -> new BigInteger(source.trim()));
+        service.addConverter(String.class, BigDecimal.class, source -> new BigDecimal(source.trim()));
+        service.addConverter(String.class, Boolean.class, DefaultConversionService::parseBoolean);
+        service.addConverter(String.class, Character.class, DefaultConversionService::parseCharacter);
+        service.addConverter(String.class, Duration.class, DefaultConversionService::parseDuration);
+        service.addConverter(String.class, Charset.class, source -> Charset.forName(source.trim()));
+        service.addConverter(String.class, UUID.class, source -> UUID.fromString(source.trim()));
+        service.addConverter(new StringToEnumConverter());
+        service.addConverter(new NumberToNumberConverter());
+        service.addConverter(Enum.class, String.class, source -> ((Enum<?>) source).name());
+        service.addConverter(Object.class, String.class, Object::toString);
+        CollectionConverters.register(service);
+    }
+
+    private static Boolean parseBoolean(String source) {
+        switch (source.trim().toLowerCase()) {
+            case "true":
+            case "on":
+            case "yes":
+            case "1":
+                return Boolean.TRUE;
+            case "false":
+            case "off":
+            case "no":
+            case "0":
+                return Boolean.FALSE;
+            default:
+                throw new IllegalArgumentException("Invalid boolean value '" + source + "'");
+        }
+    }
+
+    private static Character parseCharacter(String source) {
+        if (source.length() != 1) {
+            throw new IllegalArgumentException("Can only convert a String of length 1 to a Character: '"
+                    + source + "'");
+        }
+        return source.charAt(0);
+    }
+
+    static Duration parseDuration(String source) {
+        String text = source.trim();
+        int signLength = text.startsWith("-") || text.startsWith("+") ? 1 : 0;
+        if (text.length() > signLength && Character.toUpperCase(text.charAt(signLength)) == 'P') {
+            return Duration.parse(text);
+        }
+        int unitStart = text.length();
+        while (unitStart > 0 && Character.isLetter(text.charAt(unitStart - 1))) {
+            unitStart--;
+        }
+        long amount = Long.parseLong(text.substring(0, unitStart));
+        switch (text.substring(unitStart).toLowerCase()) {
+            case "":
+            case "ms":
+                return Duration.ofMillis(amount);
+            case "ns":
+                return Duration.ofNanos(amount);
+            case "us":
+                return Duration.of(amount, ChronoUnit.MICROS);
+            case "s":
+                return Duration.ofSeconds(amount);
+            case "m":
+                return Duration.ofMinutes(amount);
+            case "h":
+                return Duration.ofHours(amount);
+            case "d":
+                return Duration.ofDays(amount);
+            default:
+                throw new IllegalArgumentException("Unknown duration unit in '" + source + "'");
+        }
+    }
+
+    /**
+     * String to any enum type, by constant name.
+     */
+    private static final class StringToEnumConverter implements GenericConverter {
+
+        @Override
+        public Set<ConvertiblePair> getConvertibleTypes() {
+            return Collections.singleton(new ConvertiblePair(String.class, Enum.class));
+        }
+
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public Object convert(Object source, TypeDescriptor targetType) {
+            Class<?> enumType = targetType.getType();
+            while (enumType != null && !enumType.isEnum()) {
+                // A constant with a body has an anonymous subclass of the enum
+                enumType = enumType.getSuperclass();
+            }
+            if (enumType == null) {
+                throw new IllegalArgumentException(targetType + " is not an enum type");
+            }
+            return Enum.valueOf((Class<? extends Enum>) enumType, ((String) source).trim());
+        }
+    }
+
+    /**
+     * Number to another numeric type.
+     */
+    private static final class NumberToNumberConverter implements GenericConverter {
+
+        @Override
+        public Set<ConvertiblePair> getConvertibleTypes() {
+            return Collections.singleton(new ConvertiblePair(Number.class, Number.class));
+        }
+
+        @Override
+        public Object convert(Object source, TypeDescriptor targetType) {
+            Number number = (Number) source;
+            Class<?> type = targetType.getObjectType();
+            if (type == Integer.class) {
+                return number.intValue();
+            }
+            if (type == Long.class) {
+                return number.longValue();
+            }
+            if (type == Double.class) {
+                return number.doubleValue();
+            }
+            if (type == Float.class) {
+                return number.floatValue();
+            }
+            if (type == Short.class) {
+                return number.shortValue();
+            }
+            if (type == Byte.class) {
+                return number.byteValue();
+            }
+            if (type == BigInteger.class) {
+                return number instanceof BigDecimal ? ((BigDecimal) number).toBigInteger()
+                        : BigInteger.valueOf(number.longValue());
+            }
+            if (type == BigDecimal.class) {
+                return number instanceof BigInteger ? new BigDecimal((BigInteger) number)
+                        : new BigDecimal(number.toString());
+            }
+            if (type.isInstance(number)) {
+                return number;
+            }
+            throw new IllegalArgumentException("Cannot convert number " + number + " to type " + type.getName());
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.yu.spring.core.convert.support;
+
+import com.yu.spring.core.convert.ConversionException;
+import com.yu.spring.core.convert.ConversionService;
+import com.yu.spring.core.convert.TypeDescriptor;
+import com.yu.spring.core.convert.converter.Converter;
+import com.yu.spring.core.convert.converter.GenericConverter;
+import com.yu.spring.core.convert.converter.GenericConverter.ConvertiblePair;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base ConversionService implementation with a registry of converters.
+ *
+ * <p>Converters are registered for (source class, target class) pairs. The
+ * converter for a concrete (source class, target descriptor) pair is found by
+ * walking the class hierarchies of both, most specific first, so that a
+ * converter for String to Enum serves every enum type. The result of that
+ * search, including a miss, is cached per pair; registering a converter
+ * clears the cache. Values that already are instances of a plain target type
+ * are returned as they are without a search.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class GenericConversionService implements ConversionService {
+
+    /** Cache marker for type pairs without a converter */
+    private static final GenericConverter NO_MATCH = new NoOpConverter("NO_MATCH");
+
+    /** Converter for values that already conform to the target type */
+    private static final GenericConverter NO_OP = new NoOpConverter("NO_OP");
+
+    private final Map<ConvertiblePair, GenericConverter> converters = new ConcurrentHashMap<>(64);
+    private final Map<ConverterCacheKey, GenericConverter> converterCache = new ConcurrentHashMap<>(256);
+
+    /**
+     * Register a converter from the source type, or any subtype, to the
+     * target type.
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> void addConverter(Class<S> sourceType, Class<T> targetType,
+                                    Converter<? super S, ? extends T> converter) {
+        addConverter(new ConverterAdapter(new ConvertiblePair(sourceType, targetType),
+                (Converter<Object, Object>) converter));
+    }
+
+    /**
+     * Register a generic converter for all of its convertible pairs,
+     * replacing any converter registered for the same pair.
+     */
+    public void addConverter(GenericConverter converter) {
+        for (ConvertiblePair pair : converter.getConvertibleTypes()) {
+            converters.put(pair, converter);
+        }
+        converterCache.clear();
+    }
+
+    @Override
+    public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+        return canConvert(sourceType, TypeDescriptor.valueOf(targetType));
+    }
+
+    @Override
+    public boolean canConvert(Class<?> sourceType, TypeDescriptor targetType) {
+        return sourceType == null || getConverter(sourceType, targetType) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T convert(Object source, Class<T> targetType) {
+        return (T) convert(source, TypeDescriptor.valueOf(targetType));
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor targetType) {
+        if (source == null) {
+            if (targetType.isPrimitive()) {
+                throw new ConversionException("Cannot convert null to primitive type " + targetType);
+            }
+            return null;
+        }
+        return invokeConverter(getRequiredConverter(source.getClass(), targetType), source, targetType);
+    }
+
+    /**
+     * Return the converter for the given pair, or null if there is none.
+     */
+    protected GenericConverter getConverter(Class<?> sourceType, TypeDescriptor targetType) {
+        ConverterCacheKey key = new ConverterCacheKey(sourceType, targetType);
+        GenericConverter converter = converterCache.get(key);
+        if (converter == null) {
+            converter = findConverter(sourceType, targetType);
+            converterCache.put(key, converter != null ? converter : NO_MATCH);
+        }
+        return converter != NO_MATCH ? converter : null;
+    }
+
+    GenericConverter getRequiredConverter(Class<?> sourceType, TypeDescriptor targetType) {
+        GenericConverter converter = getConverter(sourceType, targetType);
+        if (converter == null) {
+            throw new ConversionException("No converter found capable of converting from type "
+                    + sourceType.getName() + " to type " + targetType);
+        }
+        return converter;
+    }
+
+    Object invokeConverter(GenericConverter converter, Object source, TypeDescriptor targetType) {
+        if (converter == NO_OP) {
+            return source;
+        }
+        try {
+            return converter.convert(source, targetType);
+        } catch (ConversionException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new ConversionException("Cannot convert value '" + source + "' to type " + targetType, e);
+        }
+    }
+
+    private GenericConverter findConverter(Class<?> sourceType, TypeDescriptor targetType) {
+        boolean assignable = targetType.getObjectType().isAssignableFrom(sourceType);
+        if (assignable && targetType.isPlain()) {
+            return NO_OP;
+        }
+        Set<Class<?>> targetHierarchy = getClassHierarchy(targetType.getObjectType());
+        for (Class<?> sourceCandidate : getClassHierarchy(sourceType)) {
+            for (Class<?> targetCandidate : targetHierarchy) {
+                GenericConverter converter = converters.get(new ConvertiblePair(sourceCandidate, targetCandidate));
+                if (converter != null) {
+                    return converter;
+                }
+            }
+        }
+        return assignable ? NO_OP : null;
+    }
+
+    /**
+     * Return the class, its superclasses and interfaces, most specific
+     * first and Object last. Arrays are followed by Object[], which is the
+     * type array converters register for.
+     */
+    private static Set<Class<?>> getClassHierarchy(Class<?> type) {
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        if (type.isArray()) {
+            hierarchy.add(type);
+            hierarchy.add(Object[].class);
+        } else {
+            for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                hierarchy.add(clazz);
+                addInterfaces(clazz, hierarchy);
+            }
+        }
+        hierarchy.add(Object.class);
+        return hierarchy;
+    }
+
+    private static void addInterfaces(Class<?> type, Set<Class<?>> hierarchy) {
+        for (Class<?> ifc : type.getInterfaces()) {
+            if (hierarchy.add(ifc)) {
+                addInterfaces(ifc, hierarchy);
+            }
+        }
+    }
+
+    /**
+     * Adapts a Converter to a GenericConverter for one pair.
+     */
+    private static final class ConverterAdapter implements GenericConverter {
+
+        private final ConvertiblePair pair;
+        private final Converter<Object, Object> converter;
+
+        ConverterAdapter(ConvertiblePair pair, Converter<Object, Object> converter) {
+            this.pair = pair;
+            this.converter = converter;
+        }
+
+        @Override
+        public Set<ConvertiblePair> getConvertibleTypes() {
+            return Collections.singleton(pair);
+        }
+
+        @Override
+        public Object convert(Object source, TypeDescriptor targetType) {
+            return converter.convert(source);
+        }
+
+        @Override
+        public String toString() {
+            return pair + " : " + converter;
+        }
+    }
+
+    private static final class NoOpConverter implements GenericConverter {
+
+        private final String name;
+
+        NoOpConverter(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Set<ConvertiblePair> getConvertibleTypes() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Object convert(Object source, TypeDescriptor targetType) {
+            return source;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static final class ConverterCacheKey {
+
+        private final Class<?> sourceType;
+        private final TypeDescriptor targetType;
+
+        ConverterCacheKey(Class<?> sourceType, TypeDescriptor targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ConverterCacheKey)) {
+                return false;
+            }
+            ConverterCacheKey that = (ConverterCacheKey) other;
+            return sourceType == that.sourceType && targetType.equals(that.targetType);
+        }
+
+        @Override
+        public int hashCode() {
+            return sourceType.hashCode() * 29 + targetType.hashCode();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.yu.spring.core.env;
+
+import com.yu.spring.core.convert.ConversionService;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Abstract base class for Environment implementations. Subclasses contribute
+ * their default property sources through {@link #customizePropertySources}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public abstract class AbstractEnvironment implements ConfigurableEnvironment {
+
+    /**
+     * Name of the property to set to specify active profiles, as a comma
+     * separated list.
+     */
+    public static final String ACTIVE_PROFILES_PROPERTY_NAME = "spring.profiles.active";
+
+    public static final String DEFAULT_PROFILE_NAME = "default";
+
+    private final MutablePropertySources propertySources = new MutablePropertySources();
+    private final PropertySourcesPropertyResolver propertyResolver;
+
+    private final Set<String> activeProfiles = new LinkedHashSet<>();
+    private final Set<String> defaultProfiles = new LinkedHashSet<>(Collections.singleton(DEFAULT_PROFILE_NAME));
+
+    public AbstractEnvironment() {
+        this.propertyResolver = new PropertySourcesPropertyResolver(propertySources);
+        customizePropertySources(propertySources);
+    }
+
+    /**
+     * Customize the set of property sources this environment starts with.
+     *
+     * @param propertySources the sources to add to
+     */
+    protected void customizePropertySources(MutablePropertySources propertySources) {
+    }
+
+    @Override
+    public MutablePropertySources getPropertySources() {
+        return propertySources;
+    }
+
+    @Override
+    public String[] getActiveProfiles() {
+        synchronized (activeProfiles) {
+            if (activeProfiles.isEmpty()) {
+                String profiles = getProperty(ACTIVE_PROFILES_PROPERTY_NAME);
+                if (profiles != null) {
+                    for (String profile : profiles.split(",")) {
+                        if (!profile.trim().isEmpty()) {
+                            activeProfiles.add(profile.trim());
+                        }
+                    }
+                }
+            }
+            return activeProfiles.toArray(new String[0]);
+        }
+    }
+
+    @Override
+    public void setActiveProfiles(String... profiles) {
+        synchronized (activeProfiles) {
+            activeProfiles.clear();
+            Collections.addAll(activeProfiles, profiles);
+        }
+    }
+
+    @Override
+    public void addActiveProfile(String profile) {
+        getActiveProfiles();
+        synchronized (activeProfiles) {
+            activeProfiles.add(profile);
+        }
+    }
+
+    @Override
+    public String[] getDefaultProfiles() {
+        synchronized (defaultProfiles) {
+            return defaultProfiles.toArray(new String[0]);
+        }
+    }
+
+    @Override
+    public void setDefaultProfiles(String... profiles) {
+        synchronized (defaultProfiles) {
+            defaultProfiles.clear();
+            Collections.addAll(defaultProfiles, profiles);
+        }
+    }
+
+    @Override
+    public boolean acceptsProfiles(String... profiles) {
+        for (String profile : profiles) {
+            if (profile.startsWith("!")) {
+                if (!isProfileActive(profile.substring(1))) {
+                    return true;
+                }
+            } else if (isProfileActive(profile)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean isProfileActive(String profile) {
+        String[] active = getActiveProfiles();
+        String[] candidates = active.length > 0 ? active : getDefaultProfiles();
+        for (String candidate : candidates) {
+            if (candidate.equals(profile)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public ConversionService getConversionService() {
+        return propertyResolver.getConversionService();
+    }
+
+    @Override
+    public void setConversionService(ConversionService conversionService) {
+        propertyResolver.setConversionService(conversionService);
+    }
+
+    @Override
+    public boolean containsProperty(String key) {
+        return propertyResolver.containsProperty(key);
+    }
+
+    @Override
+    public String getProperty(String key) {
+        return propertyResolver.getProperty(key);
+    }
+
+    @Override
+    public String getProperty(String key, String defaultValue) {
+        return propertyResolver.getProperty(key, defaultValue);
+    }
+
+    @Override
+    public <T> T getProperty(String key, Class<T> targetType) {
+        return propertyResolver.getProperty(key, targetType);
+    }
+
+    @Override
+    public String getRequiredProperty(String key) {
+        return propertyResolver.getRequiredProperty(key);
+    }
+
+    @Override
+    public String resolvePlaceholders(String text) {
+        return propertyResolver.resolvePlaceholders(text);
+    }
+
+    @Override
+    public String resolveRequiredPlaceholders(String text) {
+        return propertyResolver.resolveRequiredPlaceholders(text);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " {activeProfiles=" + activeProfiles + ", defaultProfiles="
+                + defaultProfiles + ", propertySources=" + propertySources + "}";
+    }
+}
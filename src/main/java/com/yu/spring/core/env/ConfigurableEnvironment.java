@@ -0,0 +1,31 @@
+package com.yu.spring.core.env;
+
+import com.yu.spring.core.convert.ConversionService;
+
+/**
+ * Configuration interface to be implemented by most Environment types: gives
+ * access to the property sources and allows setting profiles.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface ConfigurableEnvironment extends Environment {
+
+    /**
+     * Return the property sources in mutable form, to add or reorder sources.
+     */
+    MutablePropertySources getPropertySources();
+
+    void setActiveProfiles(String... profiles);
+
+    void addActiveProfile(String profile);
+
+    void setDefaultProfiles(String... profiles);
+
+    /**
+     * Return the ConversionService used to convert typed properties.
+     */
+    ConversionService getConversionService();
+
+    void setConversionService(ConversionService conversionService);
+}
@@ -0,0 +1,19 @@
+package com.yu.spring.core.env;
+
+/**
+ * A PropertySource that can enumerate its property names.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public abstract class EnumerablePropertySource<T> extends PropertySource<T> {
+
+    public EnumerablePropertySource(String name, T source) {
+        super(name, source);
+    }
+
+    /**
+     * Return the names of all properties contained by this source.
+     */
+    public abstract String[] getPropertyNames();
+}
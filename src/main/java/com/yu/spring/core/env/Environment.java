@@ -0,0 +1,28 @@
+package com.yu.spring.core.env;
+
+/**
+ * Interface representing the environment in which the application is
+ * running: its properties and its profiles.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface Environment extends PropertyResolver {
+
+    /**
+     * Return the profiles explicitly made active, or read from the
+     * {@value AbstractEnvironment#ACTIVE_PROFILES_PROPERTY_NAME} property.
+     */
+    String[] getActiveProfiles();
+
+    /**
+     * Return the profiles that are active when no profile has been activated.
+     */
+    String[] getDefaultProfiles();
+
+    /**
+     * Return whether one or more of the given profiles is active. A profile
+     * prefixed with '!' matches when that profile is not active.
+     */
+    boolean acceptsProfiles(String... profiles);
+}
@@ -0,0 +1,60 @@
+package com.yu.spring.core.env;
+
+import java.util.Map;
+
+/**
+ * PropertySource that reads keys and values from a Map.
+ *
+ * <p>Changes made through {@link #setProperty} and {@link #removeProperty}
+ * bump the version, so resolvers drop their cached values. Changes made
+ * directly to the underlying map are not noticed until
+ * {@link #markChanged()} is called.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class MapPropertySource extends EnumerablePropertySource<Map<String, Object>> {
+
+    private volatile long version;
+
+    public MapPropertySource(String name, Map<String, Object> source) {
+        super(name, source);
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return source.get(name);
+    }
+
+    @Override
+    public boolean containsProperty(String name) {
+        return source.containsKey(name);
+    }
+
+    @Override
+    public String[] getPropertyNames() {
+        return source.keySet().toArray(new String[0]);
+    }
+
+    public void setProperty(String name, Object value) {
+        source.put(name, value);
+        markChanged();
+    }
+
+    public void removeProperty(String name) {
+        source.remove(name);
+        markChanged();
+    }
+
+    /**
+     * Signal that the underlying map has been modified directly.
+     */
+    public void markChanged() {
+        version = MutablePropertySources.nextChangeStamp();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,143 @@
+package com.yu.spring.core.env;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An ordered, mutable list of property sources. Earlier sources take
+ * precedence over later ones.
+ *
+ * <p>{@link #getModificationStamp()} changes whenever a source is added,
+ * removed or replaced, or a contained source reports a new version, and is
+ * what resolvers key their caches on.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class MutablePropertySources implements Iterable<PropertySource<?>> {
+
+    /** Shared by all sources, so a stamp never repeats after a removal */
+    private static final AtomicLong CHANGE_COUNTER = new AtomicLong();
+
+    private final List<PropertySource<?>> propertySourceList = new CopyOnWriteArrayList<>();
+    private volatile long modificationStamp = nextChangeStamp();
+
+    @Override
+    public Iterator<PropertySource<?>> iterator() {
+        return propertySourceList.iterator();
+    }
+
+    public boolean contains(String name) {
+        return get(name) != null;
+    }
+
+    public PropertySource<?> get(String name) {
+        for (PropertySource<?> propertySource : propertySourceList) {
+            if (propertySource.getName().equals(name)) {
+                return propertySource;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Add the given source with the highest precedence.
+     */
+    public void addFirst(PropertySource<?> propertySource) {
+        synchronized (propertySourceList) {
+            propertySourceList.remove(propertySource);
+            propertySourceList.add(0, propertySource);
+            markChanged();
+        }
+    }
+
+    /**
+     * Add the given source with the lowest precedence.
+     */
+    public void addLast(PropertySource<?> propertySource) {
+        synchronized (propertySourceList) {
+            propertySourceList.remove(propertySource);
+            propertySourceList.add(propertySource);
+            markChanged();
+        }
+    }
+
+    public void addBefore(String relativeName, PropertySource<?> propertySource) {
+        synchronized (propertySourceList) {
+            propertySourceList.remove(propertySource);
+            propertySourceList.add(indexOf(relativeName), propertySource);
+            markChanged();
+        }
+    }
+
+    public void addAfter(String relativeName, PropertySource<?> propertySource) {
+        synchronized (propertySourceList) {
+            propertySourceList.remove(propertySource);
+            propertySourceList.add(indexOf(relativeName) + 1, propertySource);
+            markChanged();
+        }
+    }
+
+    public PropertySource<?> remove(String name) {
+        synchronized (propertySourceList) {
+            PropertySource<?> propertySource = get(name);
+            if (propertySource != null) {
+                propertySourceList.remove(propertySource);
+                markChanged();
+            }
+            return propertySource;
+        }
+    }
+
+    public void replace(String name, PropertySource<?> propertySource) {
+        synchronized (propertySourceList) {
+            propertySourceList.set(indexOf(name), propertySource);
+            markChanged();
+        }
+    }
+
+    public int size() {
+        return propertySourceList.size();
+    }
+
+    /**
+     * Signal that a contained source changed in a way its version does not
+     * reflect, for example after {@link System#setProperty}.
+     */
+    public void markChanged() {
+        modificationStamp = nextChangeStamp();
+    }
+
+    /**
+     * Return a stamp that grows whenever the sources or their content
+     * change. Source versions and this list's own changes are drawn from one
+     * global counter, so the largest of them identifies the current state.
+     */
+    public long getModificationStamp() {
+        long stamp = modificationStamp;
+        for (PropertySource<?> propertySource : propertySourceList) {
+            stamp = Math.max(stamp, propertySource.getVersion());
+        }
+        return stamp;
+    }
+
+    static long nextChangeStamp() {
+        return CHANGE_COUNTER.incrementAndGet();
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < propertySourceList.size(); i++) {
+            if (propertySourceList.get(i).getName().equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("PropertySource named '" + name + "' does not exist");
+    }
+
+    @Override
+    public String toString() {
+        return propertySourceList.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package com.yu.spring.core.env;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * PropertySource implementation that extracts properties from a
+ * {@link java.util.Properties} object.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class PropertiesPropertySource extends MapPropertySource {
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public PropertiesPropertySource(String name, Properties source) {
+        super(name, (Map) source);
+    }
+
+    protected PropertiesPropertySource(String name, Map<String, Object> source) {
+        super(name, source);
+    }
+
+    @Override
+    public String[] getPropertyNames() {
+        synchronized (source) {
+            return super.getPropertyNames();
+        }
+    }
+}
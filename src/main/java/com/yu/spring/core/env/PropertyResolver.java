@@ -0,0 +1,58 @@
+package com.yu.spring.core.env;
+
+/**
+ * Interface for resolving properties against any underlying source.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface PropertyResolver {
+
+    /**
+     * Return whether the given property key is available for resolution.
+     */
+    boolean containsProperty(String key);
+
+    /**
+     * Return the property value associated with the given key, with nested
+     * placeholders resolved, or null if the key cannot be resolved.
+     *
+     * @param key the property name to resolve
+     */
+    String getProperty(String key);
+
+    /**
+     * Return the property value associated with the given key, or
+     * defaultValue if the key cannot be resolved.
+     */
+    String getProperty(String key, String defaultValue);
+
+    /**
+     * Return the property value associated with the given key converted to
+     * the target type, or null if the key cannot be resolved.
+     */
+    <T> T getProperty(String key, Class<T> targetType);
+
+    /**
+     * Return the property value associated with the given key.
+     *
+     * @throws IllegalStateException if the key cannot be resolved
+     */
+    String getRequiredProperty(String key);
+
+    /**
+     * Resolve ${...} placeholders in the given text. Unresolvable placeholders
+     * with no default value are left unchanged.
+     *
+     * @param text the String to resolve
+     * @return the resolved String
+     */
+    String resolvePlaceholders(String text);
+
+    /**
+     * Resolve ${...} placeholders in the given text.
+     *
+     * @throws IllegalArgumentException if any placeholder is unresolvable
+     */
+    String resolveRequiredPlaceholders(String text);
+}
@@ -0,0 +1,63 @@
+package com.yu.spring.core.env;
+
+/**
+ * Abstract base class representing a source of name/value property pairs.
+ * Property sources are identified by name; two sources with the same name
+ * are equal.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public abstract class PropertySource<T> {
+
+    protected final String name;
+    protected final T source;
+
+    public PropertySource(String name, T source) {
+        this.name = name;
+        this.source = source;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public T getSource() {
+        return source;
+    }
+
+    /**
+     * Return the value associated with the given name, or null if not found.
+     *
+     * @param name the property to find
+     */
+    public abstract Object getProperty(String name);
+
+    public boolean containsProperty(String name) {
+        return getProperty(name) != null;
+    }
+
+    /**
+     * Return a version that grows whenever the content of this source
+     * changes through its own API, drawn from the counter shared with
+     * MutablePropertySources. Sources that never change return 0.
+     */
+    public long getVersion() {
+        return 0L;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof PropertySource && name.equals(((PropertySource<?>) other).name));
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " {name='" + name + "'}";
+    }
+}
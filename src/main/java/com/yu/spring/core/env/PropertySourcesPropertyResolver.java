@@ -0,0 +1,168 @@
+package com.yu.spring.core.env;
+
+import com.yu.spring.core.convert.ConversionService;
+import com.yu.spring.core.convert.support.DefaultConversionService;
+import com.yu.spring.util.PropertyPlaceholderHelper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PropertyResolver implementation that resolves property values against a
+ * set of property sources.
+ *
+ * <p>Placeholder texts are compiled once by the PropertyPlaceholderHelper.
+ * Resolved property values and resolved texts are cached per modification
+ * stamp of the property sources: any change to the sources starts a new, empty
+ * cache, so repeated lookups during startup (one per {@code @Value}
+ * injection point) cost a stamp check and a map lookup.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class PropertySourcesPropertyResolver implements PropertyResolver {
+
+    private static final int MAX_CACHED_VALUES = 65536;
+
+    /** Cache marker for keys that do not resolve */
+    private static final String NOT_FOUND = new String("<not found>");
+
+    private final MutablePropertySources propertySources;
+
+    private final PropertyPlaceholderHelper strictHelper =
+            new PropertyPlaceholderHelper("${", "}", ":", false);
+    private final PropertyPlaceholderHelper nonStrictHelper =
+            new PropertyPlaceholderHelper("${", "}", ":", true);
+
+    private volatile ResolvedValues resolvedValues = new ResolvedValues(Long.MIN_VALUE);
+
+    private volatile ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+    public PropertySourcesPropertyResolver(MutablePropertySources propertySources) {
+        this.propertySources = propertySources;
+    }
+
+    /**
+     * Return the ConversionService used by {@link #getProperty(String, Class)}.
+     */
+    public ConversionService getConversionService() {
+        return conversionService;
+    }
+
+    public void setConversionService(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    @Override
+    public boolean containsProperty(String key) {
+        for (PropertySource<?> propertySource : propertySources) {
+            if (propertySource.containsProperty(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String getProperty(String key) {
+        ResolvedValues cache = currentValues();
+        String value = cache.properties.get(key);
+        if (value == null) {
+            String raw = getRawProperty(key);
+            value = raw != null ? strictHelper.replacePlaceholders(raw, this::getRawProperty) : NOT_FOUND;
+            ResolvedValues.put(cache.properties, key, value);
+        }
+        return value != NOT_FOUND ? value : null;
+    }
+
+    @Override
+    public String getProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public <T> T getProperty(String key, Class<T> targetType) {
+        String value = getProperty(key);
+        return value != null ? conversionService.convert(value, targetType) : null;
+    }
+
+    @Override
+    public String getRequiredProperty(String key) {
+        String value = getProperty(key);
+        if (value == null) {
+            throw new IllegalStateException("Required key '" + key + "' not found");
+        }
+        return value;
+    }
+
+    @Override
+    public String resolvePlaceholders(String text) {
+        return resolve(text, nonStrictHelper, currentValues().texts);
+    }
+
+    @Override
+    public String resolveRequiredPlaceholders(String text) {
+        return resolve(text, strictHelper, currentValues().requiredTexts);
+    }
+
+    private String resolve(String text, PropertyPlaceholderHelper helper, Map<String, String> cache) {
+        PropertyPlaceholderHelper.Template template = helper.compile(text);
+        if (!template.hasPlaceholders()) {
+            return text;
+        }
+        String value = cache.get(text);
+        if (value == null) {
+            value = template.resolve(this::getRawProperty);
+            ResolvedValues.put(cache, text, value);
+        }
+        return value;
+    }
+
+    /**
+     * Return the value of the first property source containing the key, as
+     * a String and without placeholder resolution.
+     */
+    protected String getRawProperty(String key) {
+        for (PropertySource<?> propertySource : propertySources) {
+            Object value = propertySource.getProperty(key);
+            if (value != null) {
+                return value.toString();
+            }
+        }
+        return null;
+    }
+
+    private ResolvedValues currentValues() {
+        long stamp = propertySources.getModificationStamp();
+        ResolvedValues values = this.resolvedValues;
+        if (values.stamp != stamp) {
+            values = new ResolvedValues(stamp);
+            this.resolvedValues = values;
+        }
+        return values;
+    }
+
+    /**
+     * Resolved values for one state of the property sources. A value computed
+     * while the sources change lands in a generation that is already stale
+     * and is never read again.
+     */
+    private static final class ResolvedValues {
+
+        final long stamp;
+        final Map<String, String> properties = new ConcurrentHashMap<>(256);
+        final Map<String, String> texts = new ConcurrentHashMap<>(256);
+        final Map<String, String> requiredTexts = new ConcurrentHashMap<>(256);
+
+        ResolvedValues(long stamp) {
+            this.stamp = stamp;
+        }
+
+        static void put(Map<String, String> cache, String key, String value) {
+            if (cache.size() < MAX_CACHED_VALUES) {
+                cache.put(key, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.yu.spring.core.env;
+
+import com.yu.spring.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * PropertySource loaded from a Resource. Resources ending in ".yml" or
+ * ".yaml" are read as YAML and flattened into dotted keys
+ * ({@code server.port}, {@code hosts[0]}); anything else is read as a
+ * properties file.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ResourcePropertySource extends MapPropertySource {
+
+    public ResourcePropertySource(Resource resource) throws IOException {
+        this(resource.toString(), resource);
+    }
+
+    public ResourcePropertySource(String name, Resource resource) throws IOException {
+        super(name, load(resource));
+    }
+
+    private static Map<String, Object> load(Resource resource) throws IOException {
+        String path = resource.exists() ? resource.getURL().getPath() : resource.toString();
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            if (path.endsWith(".yml") || path.endsWith(".yaml")) {
+                return new YamlPropertiesParser(resource.toString()).parse(reader);
+            }
+            Properties properties = new Properties();
+            properties.load(reader);
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (String key : properties.stringPropertyNames()) {
+                map.put(key, properties.getProperty(key));
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.yu.spring.core.env;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Environment suitable for standalone applications: system properties take
+ * precedence over system environment variables.
+ *
+ * <p>Resolved values are cached, and {@link System#setProperty} does not
+ * notify the environment. Call {@code getPropertySources().markChanged()}
+ * after changing system properties at runtime.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class StandardEnvironment extends AbstractEnvironment {
+
+    public static final String SYSTEM_PROPERTIES_PROPERTY_SOURCE_NAME = "systemProperties";
+
+    public static final String SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME = "systemEnvironment";
+
+    @Override
+    protected void customizePropertySources(MutablePropertySources propertySources) {
+        propertySources.addLast(new PropertiesPropertySource(SYSTEM_PROPERTIES_PROPERTY_SOURCE_NAME, System.getProperties()));
+        propertySources.addLast(new SystemEnvironmentPropertySource(SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME, systemEnvironment()));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Map<String, Object> systemEnvironment() {
+        try {
+            return (Map) System.getenv();
+        } catch (SecurityException e) {
+            return Collections.emptyMap();
+        }
+    }
+}
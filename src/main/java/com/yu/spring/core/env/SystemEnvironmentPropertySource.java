@@ -0,0 +1,49 @@
+package com.yu.spring.core.env;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * MapPropertySource for system environment variables. Since environment
+ * variable names cannot contain dots or dashes, a property name such as
+ * "server.port" also matches "server_port", "SERVER.PORT" and "SERVER_PORT".
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class SystemEnvironmentPropertySource extends MapPropertySource {
+
+    public SystemEnvironmentPropertySource(String name, Map<String, Object> source) {
+        super(name, source);
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        String actualName = resolvePropertyName(name);
+        return actualName != null ? source.get(actualName) : null;
+    }
+
+    @Override
+    public boolean containsProperty(String name) {
+        return resolvePropertyName(name) != null;
+    }
+
+    private String resolvePropertyName(String name) {
+        if (source.containsKey(name)) {
+            return name;
+        }
+        String underscored = name.replace('.', '_').replace('-', '_');
+        if (!underscored.equals(name) && source.containsKey(underscored)) {
+            return underscored;
+        }
+        String upper = name.toUpperCase(Locale.ROOT);
+        if (!upper.equals(name) && source.containsKey(upper)) {
+            return upper;
+        }
+        String upperUnderscored = underscored.toUpperCase(Locale.ROOT);
+        if (!upperUnderscored.equals(underscored) && source.containsKey(upperUnderscored)) {
+            return upperUnderscored;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,264 @@
+package com.yu.spring.core.env;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal YAML reader producing flattened properties, for configuration
+ * files. Supports nested mappings, block and flow sequences of scalars,
+ * sequences of mappings, quoted scalars, comments and multiple documents
+ * (later documents override earlier ones). Anchors, tags and block scalars
+ * ({@code |}, {@code >}) are not supported.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+final class YamlPropertiesParser {
+
+    private final String description;
+    private final Map<String, Object> result = new LinkedHashMap<>();
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private int lineNumber;
+
+    YamlPropertiesParser(String description) {
+        this.description = description;
+    }
+
+    Map<String, Object> parse(Reader reader) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        stack.push(new Frame(-1, "", false));
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            String content = stripComment(line);
+            if (content.trim().isEmpty()) {
+                continue;
+            }
+            if (content.startsWith("---") || content.startsWith("...")) {
+                closeFramesUntil(Integer.MIN_VALUE, false);
+                continue;
+            }
+            int indent = 0;
+            while (indent < content.length() && content.charAt(indent) == ' ') {
+                indent++;
+            }
+            if (content.charAt(indent) == '\t') {
+                throw error("Tabs are not allowed for indentation");
+            }
+            String text = content.substring(indent).trim();
+            boolean item = text.equals("-") || text.startsWith("- ");
+            closeFramesUntil(indent, item);
+            if (item) {
+                parseItem(indent, text);
+            } else {
+                parseEntry(indent, text, stack.peek().prefix);
+            }
+        }
+        closeFramesUntil(Integer.MIN_VALUE, false);
+        return result;
+    }
+
+    private void parseItem(int indent, String text) {
+        Frame parent = stack.peek();
+        if (!parent.sequence) {
+            throw error("Sequence item outside of a sequence");
+        }
+        parent.children++;
+        String prefix = parent.prefix + "[" + parent.nextIndex++ + "]";
+        String rest = text.substring(1).trim();
+        if (rest.isEmpty()) {
+            stack.push(new Frame(indent, prefix, false));
+            return;
+        }
+        int column = indent + text.indexOf(rest, 1);
+        if (keySeparator(rest) > 0) {
+            Frame itemFrame = new Frame(column - 1, prefix, false);
+            itemFrame.children++;
+            stack.push(itemFrame);
+            parseEntry(column, rest, prefix);
+        } else {
+            result.put(prefix, scalar(rest));
+        }
+    }
+
+    private void parseEntry(int indent, String text, String prefix) {
+        int separator = keySeparator(text);
+        if (separator <= 0) {
+            throw error("Expected 'key: value'");
+        }
+        stack.peek().children++;
+        String key = unquote(text.substring(0, separator).trim());
+        String fullKey = prefix.isEmpty() ? key : prefix + "." + key;
+        String value = text.substring(separator + 1).trim();
+        if (value.isEmpty()) {
+            stack.push(new Frame(indent, fullKey, true));
+        } else if (value.startsWith("[") && value.endsWith("]")) {
+            String[] elements = splitFlowSequence(value.substring(1, value.length() - 1));
+            for (int i = 0; i < elements.length; i++) {
+                result.put(fullKey + "[" + i + "]", scalar(elements[i]));
+            }
+        } else if (value.startsWith("|") || value.startsWith(">") || value.startsWith("&") || value.startsWith("*")
+                || value.startsWith("!")) {
+            throw error("Block scalars, anchors, aliases and tags are not supported");
+        } else {
+            result.put(fullKey, scalar(value));
+        }
+    }
+
+    /**
+     * Pop frames that the line at the given indent does not belong to. A
+     * key with no value may be followed by a sequence at the same indent.
+     */
+    private void closeFramesUntil(int indent, boolean item) {
+        while (stack.size() > 1) {
+            Frame frame = stack.peek();
+            boolean belongs = indent > frame.indent || (item && frame.sequence && indent == frame.indent);
+            if (belongs) {
+                return;
+            }
+            stack.pop();
+            if (frame.children == 0) {
+                // "key:" without children is an empty value
+                result.put(frame.prefix, "");
+            }
+        }
+    }
+
+    private static int keySeparator(String text) {
+        char quote = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                if (i == 0) {
+                    quote = c;
+                } else {
+                    return -1;
+                }
+            } else if (c == ':' && (i == text.length() - 1 || text.charAt(i + 1) == ' ')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String[] splitFlowSequence(String content) {
+        if (content.trim().isEmpty()) {
+            return new String[0];
+        }
+        List<String> elements = new ArrayList<>();
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == ',') {
+                elements.add(content.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        elements.add(content.substring(start).trim());
+        return elements.toArray(new String[0]);
+    }
+
+    private static String stripComment(String line) {
+        char quote = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '#' && (i == 0 || Character.isWhitespace(line.charAt(i - 1)))) {
+                return line.substring(0, i);
+            }
+        }
+        return line;
+    }
+
+    private static String scalar(String value) {
+        if (value.equals("~") || value.equals("null")) {
+            return "";
+        }
+        return unquote(value);
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2) {
+            char first = value.charAt(0);
+            if (first == '\'' && value.charAt(value.length() - 1) == '\'') {
+                return value.substring(1, value.length() - 1).replace("''", "'");
+            }
+            if (first == '"' && value.charAt(value.length() - 1) == '"') {
+                return unescape(value.substring(1, value.length() - 1));
+            }
+        }
+        return value;
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') == -1) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                switch (next) {
+                    case 'n':
+                        result.append('\n');
+                        break;
+                    case 't':
+                        result.append('\t');
+                        break;
+                    default:
+                        result.append(next);
+                }
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private IllegalStateException error(String message) {
+        return new IllegalStateException(message + " in YAML " + description + " (line " + lineNumber + ")");
+    }
+
+    /**
+     * An open mapping key or sequence item whose children are indented
+     * deeper than {@code indent}.
+     */
+    private static final class Frame {
+
+        final int indent;
+        final String prefix;
+        final boolean sequence;
+        int nextIndex;
+        int children;
+
+        Frame(int indent, String prefix, boolean sequence) {
+            this.indent = indent;
+            this.prefix = prefix;
+            this.sequence = sequence;
+        }
+    }
+}
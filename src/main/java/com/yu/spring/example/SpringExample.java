@@ -1,6 +1,8 @@
 package com.yu.spring.example;
 
 import com.yu.spring.aop.*;
+import com.yu.spring.aop.intercept.MethodInterceptor;
+import com.yu.spring.aop.intercept.MethodInvocation;
 import com.yu.spring.beans.BeanDefinition;
 import com.yu.spring.beans.BeanPostProcessor;
 import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
@@ -79,7 +81,7 @@ public class SpringExample {
 
         // Create AOP configuration
         AdvisedSupport advised = new AdvisedSupport(target);
-        advised.setPointcut(Pointcut.TRUE);
+        advised.addAdvisor(new DefaultPointcutAdvisor(Pointcut.TRUE, new TraceInterceptor()));
 
         // Create JDK proxy
         JdkDynamicAopProxy jdkProxy = new JdkDynamicAopProxy(advised);
@@ -131,4 +133,14 @@ public class SpringExample {
             return bean;
         }
     }
-}
\ No newline at end of file
+
+    public static class TraceInterceptor implements MethodInterceptor {
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            System.out.println("Before method: " + invocation.getMethod().getName());
+            Object result = invocation.proceed();
+            System.out.println("After method: " + invocation.getMethod().getName());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.yu.spring.expression;
+
+/**
+ * Resolves {@code @beanName} references in expressions.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@FunctionalInterface
+public interface BeanResolver {
+
+    /**
+     * Look up a bean by the given name.
+     *
+     * @param context  the current evaluation context
+     * @param beanName the name of the bean to look up
+     * @return the bean
+     * @throws EvaluationException if the bean cannot be resolved
+     */
+    Object resolve(EvaluationContext context, String beanName) throws EvaluationException;
+}
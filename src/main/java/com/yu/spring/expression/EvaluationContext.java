@@ -0,0 +1,40 @@
+package com.yu.spring.expression;
+
+import java.util.List;
+
+/**
+ * The context in which an expression is evaluated: the root object,
+ * variables, property accessors and the bean resolver for {@code @name}
+ * references.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface EvaluationContext {
+
+    /**
+     * Return the default root context object against which unqualified
+     * property and method references are resolved.
+     */
+    Object getRootObject();
+
+    /**
+     * Return the accessors that will be asked in turn to read a property.
+     */
+    List<PropertyAccessor> getPropertyAccessors();
+
+    /**
+     * Return the bean resolver for {@code @beanName} references, or null.
+     */
+    BeanResolver getBeanResolver();
+
+    /**
+     * Look up a named variable ({@code #name}) within this context.
+     *
+     * @param name variable to lookup
+     * @return the value of the variable, or null if not found
+     */
+    Object lookupVariable(String name);
+
+    void setVariable(String name, Object value);
+}
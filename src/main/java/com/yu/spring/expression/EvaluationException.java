@@ -0,0 +1,27 @@
+package com.yu.spring.expression;
+
+/**
+ * Represents an exception that occurs during expression evaluation.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class EvaluationException extends ExpressionException {
+
+    private static final long serialVersionUID = 1L;
+
+    public EvaluationException(int position, String message) {
+        super(position, message);
+    }
+
+    public EvaluationException(int position, String message, Throwable cause) {
+        super(position, message, cause);
+    }
+
+    /**
+     * Copy the given exception, adding the expression string for context.
+     */
+    public EvaluationException(String expressionString, EvaluationException cause) {
+        super(expressionString, cause.getPosition(), cause.getSimpleMessage(), cause.getCause());
+    }
+}
@@ -0,0 +1,34 @@
+package com.yu.spring.expression;
+
+/**
+ * An expression capable of evaluating itself against context objects.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface Expression {
+
+    /**
+     * Return the original String used to create this expression.
+     */
+    String getExpressionString();
+
+    /**
+     * Evaluate this expression in a default context with no root object.
+     */
+    Object getValue() throws EvaluationException;
+
+    /**
+     * Evaluate this expression in the provided context.
+     *
+     * @param context the context in which to evaluate the expression
+     * @return the evaluation result
+     */
+    Object getValue(EvaluationContext context) throws EvaluationException;
+
+    /**
+     * Evaluate this expression in the provided context and check that the
+     * result is of the expected type.
+     */
+    <T> T getValue(EvaluationContext context, Class<T> expectedResultType) throws EvaluationException;
+}
@@ -0,0 +1,64 @@
+package com.yu.spring.expression;
+
+/**
+ * Super class for exceptions that can occur whilst processing expressions.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ExpressionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String expressionString;
+    private final int position;
+
+    public ExpressionException(String expressionString, int position, String message, Throwable cause) {
+        super(message, cause);
+        this.expressionString = expressionString;
+        this.position = position;
+    }
+
+    public ExpressionException(int position, String message) {
+        this(null, position, message, null);
+    }
+
+    public ExpressionException(int position, String message, Throwable cause) {
+        this(null, position, message, cause);
+    }
+
+    public String getExpressionString() {
+        return expressionString;
+    }
+
+    /**
+     * Return the position in the expression string where the problem
+     * occurred, or -1 if unknown.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Return the exception message without the expression and position.
+     */
+    public String getSimpleMessage() {
+        return super.getMessage();
+    }
+
+    @Override
+    public String getMessage() {
+        String message = getSimpleMessage();
+        StringBuilder output = new StringBuilder();
+        if (expressionString != null) {
+            output.append("Expression [").append(expressionString).append("]");
+            if (position >= 0) {
+                output.append(" @").append(position);
+            }
+            output.append(": ");
+        } else if (position >= 0) {
+            output.append("@").append(position).append(": ");
+        }
+        return output.append(message).toString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.yu.spring.expression;
+
+/**
+ * Parses expression strings into compiled expressions that can be evaluated.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface ExpressionParser {
+
+    /**
+     * Parse the expression string and return an Expression object.
+     *
+     * @param expressionString the raw expression string to parse
+     * @return an evaluator for the parsed expression
+     * @throws ParseException an exception occurred during parsing
+     */
+    Expression parseExpression(String expressionString) throws ParseException;
+
+    /**
+     * Parse the expression string, honouring the given context: a template
+     * context treats text outside the expression delimiters as literal.
+     */
+    Expression parseExpression(String expressionString, ParserContext context) throws ParseException;
+}
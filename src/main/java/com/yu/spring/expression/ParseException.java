@@ -0,0 +1,16 @@
+package com.yu.spring.expression;
+
+/**
+ * Represents an exception that occurs during expression parsing.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ParseException extends ExpressionException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ParseException(String expressionString, int position, String message) {
+        super(expressionString, position, message, null);
+    }
+}
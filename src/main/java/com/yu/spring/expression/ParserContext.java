@@ -0,0 +1,41 @@
+package com.yu.spring.expression;
+
+/**
+ * Input provided to an expression parser that can influence parsing.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface ParserContext {
+
+    /**
+     * Whether the expression being parsed is a template: literal text with
+     * embedded expressions delimited by the prefix and suffix.
+     */
+    boolean isTemplate();
+
+    String getExpressionPrefix();
+
+    String getExpressionSuffix();
+
+    /**
+     * The default template context, using "#{" and "}" as delimiters.
+     */
+    ParserContext TEMPLATE_EXPRESSION = new ParserContext() {
+
+        @Override
+        public boolean isTemplate() {
+            return true;
+        }
+
+        @Override
+        public String getExpressionPrefix() {
+            return "#{";
+        }
+
+        @Override
+        public String getExpressionSuffix() {
+            return "}";
+        }
+    };
+}
@@ -0,0 +1,27 @@
+package com.yu.spring.expression;
+
+/**
+ * A property accessor is able to read from certain types of objects.
+ * Accessors that name specific target classes are asked before general ones.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface PropertyAccessor {
+
+    /**
+     * Return the classes this accessor handles, or null for a general
+     * accessor that is asked about every target.
+     */
+    Class<?>[] getSpecificTargetClasses();
+
+    /**
+     * Whether this accessor can read the named property of the target.
+     */
+    boolean canRead(EvaluationContext context, Object target, String name) throws EvaluationException;
+
+    /**
+     * Read the named property of the target.
+     */
+    Object read(EvaluationContext context, Object target, String name) throws EvaluationException;
+}
@@ -0,0 +1,74 @@
+package com.yu.spring.expression.common;
+
+import com.yu.spring.core.convert.support.DefaultConversionService;
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.Expression;
+
+/**
+ * A template made of literal text and embedded expressions, evaluating to
+ * the concatenation of their values.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class CompositeStringExpression implements Expression {
+
+    private final String expressionString;
+    private final Expression[] expressions;
+
+    public CompositeStringExpression(String expressionString, Expression[] expressions) {
+        this.expressionString = expressionString;
+        this.expressions = expressions;
+    }
+
+    @Override
+    public String getExpressionString() {
+        return expressionString;
+    }
+
+    public Expression[] getExpressions() {
+        return expressions;
+    }
+
+    @Override
+    public String getValue() throws EvaluationException {
+        StringBuilder sb = new StringBuilder();
+        for (Expression expression : expressions) {
+            Object value = expression.getValue();
+            if (value != null) {
+                sb.append(value);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String getValue(EvaluationContext context) throws EvaluationException {
+        StringBuilder sb = new StringBuilder();
+        for (Expression expression : expressions) {
+            Object value = expression.getValue(context);
+            if (value != null) {
+                sb.append(value);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(EvaluationContext context, Class<T> expectedResultType) throws EvaluationException {
+        String value = getValue(context);
+        try {
+            return expectedResultType != null
+                    ? DefaultConversionService.getSharedInstance().convert(value, expectedResultType) : (T) value;
+        } catch (IllegalArgumentException ex) {
+            throw new EvaluationException(-1, ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return expressionString;
+    }
+}
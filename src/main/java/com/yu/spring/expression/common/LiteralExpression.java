@@ -0,0 +1,53 @@
+package com.yu.spring.expression.common;
+
+import com.yu.spring.core.convert.support.DefaultConversionService;
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.Expression;
+
+/**
+ * A piece of template text that evaluates to itself.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class LiteralExpression implements Expression {
+
+    private final String literalValue;
+
+    public LiteralExpression(String literalValue) {
+        this.literalValue = literalValue;
+    }
+
+    @Override
+    public String getExpressionString() {
+        return literalValue;
+    }
+
+    @Override
+    public Object getValue() {
+        return literalValue;
+    }
+
+    @Override
+    public Object getValue(EvaluationContext context) {
+        return literalValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(EvaluationContext context, Class<T> expectedResultType) throws EvaluationException {
+        try {
+            return expectedResultType != null
+                    ? DefaultConversionService.getSharedInstance().convert(literalValue, expectedResultType)
+                    : (T) literalValue;
+        } catch (IllegalArgumentException ex) {
+            throw new EvaluationException(-1, ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return literalValue;
+    }
+}
@@ -0,0 +1,121 @@
+package com.yu.spring.expression.common;
+
+import com.yu.spring.expression.Expression;
+import com.yu.spring.expression.ExpressionParser;
+import com.yu.spring.expression.ParseException;
+import com.yu.spring.expression.ParserContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An expression parser that understands templates: literal text with
+ * embedded expressions between the context's prefix and suffix, as in
+ * {@code "pool-#{poolSize * 2}"}. A template with a single expression and no
+ * literal text parses to that expression alone, keeping its result type.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public abstract class TemplateAwareExpressionParser implements ExpressionParser {
+
+    @Override
+    public Expression parseExpression(String expressionString) throws ParseException {
+        return parseExpression(expressionString, null);
+    }
+
+    @Override
+    public Expression parseExpression(String expressionString, ParserContext context) throws ParseException {
+        if (context != null && context.isTemplate()) {
+            return parseTemplate(expressionString, context);
+        }
+        return doParseExpression(expressionString);
+    }
+
+    private Expression parseTemplate(String expressionString, ParserContext context) {
+        if (expressionString.isEmpty()) {
+            return new LiteralExpression("");
+        }
+        List<Expression> expressions = parseExpressions(expressionString, context);
+        if (expressions.size() == 1) {
+            return expressions.get(0);
+        }
+        return new CompositeStringExpression(expressionString, expressions.toArray(new Expression[0]));
+    }
+
+    private List<Expression> parseExpressions(String expressionString, ParserContext context) {
+        List<Expression> expressions = new ArrayList<>();
+        String prefix = context.getExpressionPrefix();
+        String suffix = context.getExpressionSuffix();
+        int startIdx = 0;
+        while (startIdx < expressionString.length()) {
+            int prefixIndex = expressionString.indexOf(prefix, startIdx);
+            if (prefixIndex == -1) {
+                expressions.add(new LiteralExpression(expressionString.substring(startIdx)));
+                break;
+            }
+            if (prefixIndex > startIdx) {
+                expressions.add(new LiteralExpression(expressionString.substring(startIdx, prefixIndex)));
+            }
+            int afterPrefixIndex = prefixIndex + prefix.length();
+            int suffixIndex = skipToCorrectEndSuffix(suffix, expressionString, afterPrefixIndex);
+            if (suffixIndex == -1) {
+                throw new ParseException(expressionString, prefixIndex,
+                        "No ending suffix '" + suffix + "' for expression starting at character " + prefixIndex);
+            }
+            String expr = expressionString.substring(afterPrefixIndex, suffixIndex).trim();
+            if (expr.isEmpty()) {
+                throw new ParseException(expressionString, prefixIndex, "No expression defined within delimiter '"
+                        + prefix + suffix + "' at character " + prefixIndex);
+            }
+            expressions.add(doParseExpression(expr));
+            startIdx = suffixIndex + suffix.length();
+        }
+        return expressions;
+    }
+
+    /**
+     * Find the suffix closing the expression that starts after the prefix,
+     * skipping quoted text and nested brackets.
+     */
+    private static int skipToCorrectEndSuffix(String suffix, String expressionString, int afterPrefixIndex) {
+        int pos = afterPrefixIndex;
+        int maxlen = expressionString.length();
+        int depth = 0;
+        while (pos < maxlen) {
+            if (depth == 0 && expressionString.startsWith(suffix, pos)) {
+                return pos;
+            }
+            char ch = expressionString.charAt(pos);
+            switch (ch) {
+                case '{':
+                case '[':
+                case '(':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                case ')':
+                    depth--;
+                    break;
+                case '\'':
+                case '"':
+                    int end = expressionString.indexOf(ch, pos + 1);
+                    if (end == -1) {
+                        return -1;
+                    }
+                    pos = end;
+                    break;
+                default:
+                    break;
+            }
+            pos++;
+        }
+        return -1;
+    }
+
+    /**
+     * Parse a single expression, without template delimiters.
+     */
+    protected abstract Expression doParseExpression(String expressionString) throws ParseException;
+}
@@ -0,0 +1,214 @@
+package com.yu.spring.expression.spel;
+
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Tracks state while generating the bytecode of a compiled expression, and
+ * provides the boxing and conversion helpers the nodes share.
+ *
+ * <p>The generated method is {@code getValue(Object root, EvaluationContext
+ * context)}: the root is local 1 and the context local 2. Within a chain such
+ * as {@code a.b.c}, each step after the first finds its target on the operand
+ * stack; nested expressions such as method arguments start a new scope whose
+ * references apply to the root again.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class CodeFlow implements Opcodes {
+
+    private static final String RUNTIME = Type.getInternalName(SpelRuntime.class);
+
+    private final Deque<Boolean> targetOnStack = new ArrayDeque<>();
+
+    public CodeFlow() {
+        targetOnStack.push(Boolean.FALSE);
+    }
+
+    public boolean isTargetOnStack() {
+        return targetOnStack.peek();
+    }
+
+    public void setTargetOnStack(boolean onStack) {
+        targetOnStack.pop();
+        targetOnStack.push(onStack);
+    }
+
+    public void enterScope() {
+        targetOnStack.push(Boolean.FALSE);
+    }
+
+    public void exitScope() {
+        targetOnStack.pop();
+    }
+
+    /**
+     * Load the root object unless a chain target is already on the stack.
+     */
+    public void loadTarget(MethodVisitor mv) {
+        if (!isTargetOnStack()) {
+            mv.visitVarInsn(ALOAD, 1);
+        }
+    }
+
+    public void loadEvaluationContext(MethodVisitor mv) {
+        mv.visitVarInsn(ALOAD, 2);
+    }
+
+    public static String internalName(Class<?> clazz) {
+        return Type.getInternalName(clazz);
+    }
+
+    /**
+     * Return the nearest public class a value of the given type can be cast
+     * to from generated code.
+     */
+    public static Class<?> publicType(Class<?> clazz) {
+        if (clazz == null || clazz.isPrimitive()) {
+            return clazz;
+        }
+        if (clazz.isArray()) {
+            return publicType(clazz.getComponentType()) == clazz.getComponentType() ? clazz : Object.class;
+        }
+        Class<?> current = clazz;
+        while (current != null && !Modifier.isPublic(current.getModifiers())) {
+            current = current.getSuperclass();
+        }
+        return current != null ? current : Object.class;
+    }
+
+    public static void insertCheckCast(MethodVisitor mv, Class<?> type) {
+        if (type != null && !type.isPrimitive() && type != Object.class) {
+            mv.visitTypeInsn(CHECKCAST, internalName(type));
+        }
+    }
+
+    /**
+     * Box the primitive on top of the stack, if it is one.
+     */
+    public static void insertBoxIfNecessary(MethodVisitor mv, Class<?> type) {
+        if (type == null || !type.isPrimitive()) {
+            return;
+        }
+        if (type == int.class) {
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;", false);
+        } else if (type == long.class) {
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/Long", "valueOf", "(J)Ljava/lang/Long;", false);
+        } else if (type == double.class) {
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/Double", "valueOf", "(D)Ljava/lang/Double;", false);
+        } else if (type == boolean.class) {
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/Boolean", "valueOf", "(Z)Ljava/lang/Boolean;", false);
+        } else if (type == float.class) {
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/Float", "valueOf", "(F)Ljava/lang/Float;", false);
+        } else if (type == short.class) {
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/Short", "valueOf", "(S)Ljava/lang/Short;", false);
+        } else if (type == byte.class) {
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/Byte", "valueOf", "(B)Ljava/lang/Byte;", false);
+        } else if (type == char.class) {
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/Character", "valueOf", "(C)Ljava/lang/Character;", false);
+        }
+    }
+
+    /**
+     * Convert the value on top of the stack, of the given static type, to the
+     * primitive of the given numeric kind. Boxed numbers are unboxed, anything
+     * else goes through the strict SpelRuntime conversions.
+     */
+    public static void insertNumericConversion(MethodVisitor mv, Class<?> stackType, int kind) {
+        if (stackType == int.class || stackType == short.class || stackType == byte.class || stackType == char.class) {
+            if (kind == SpelRuntime.KIND_LONG) {
+                mv.visitInsn(I2L);
+            } else if (kind == SpelRuntime.KIND_DOUBLE) {
+                mv.visitInsn(I2D);
+            }
+        } else if (stackType == long.class) {
+            if (kind == SpelRuntime.KIND_DOUBLE) {
+                mv.visitInsn(L2D);
+            } else if (kind == SpelRuntime.KIND_INT) {
+                throw new IllegalStateException("Narrowing long to int");
+            }
+        } else if (stackType == double.class || stackType == float.class) {
+            if (stackType == float.class) {
+                mv.visitInsn(F2D);
+            }
+            if (kind != SpelRuntime.KIND_DOUBLE) {
+                throw new IllegalStateException("Narrowing floating point to integral");
+            }
+        } else if (isIntegralBox(stackType) || (kind == SpelRuntime.KIND_DOUBLE && Number.class.isAssignableFrom(stackType))) {
+            String method = kind == SpelRuntime.KIND_INT ? "intValue" : kind == SpelRuntime.KIND_LONG ? "longValue" : "doubleValue";
+            String descriptor = kind == SpelRuntime.KIND_INT ? "()I" : kind == SpelRuntime.KIND_LONG ? "()J" : "()D";
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Number", method, descriptor, false);
+        } else {
+            String method = kind == SpelRuntime.KIND_INT ? "toInt" : kind == SpelRuntime.KIND_LONG ? "toLong" : "toDouble";
+            String descriptor = kind == SpelRuntime.KIND_INT ? "(Ljava/lang/Object;)I"
+                    : kind == SpelRuntime.KIND_LONG ? "(Ljava/lang/Object;)J" : "(Ljava/lang/Object;)D";
+            mv.visitMethodInsn(INVOKESTATIC, RUNTIME, method, descriptor, false);
+        }
+    }
+
+    /**
+     * Convert the value on top of the stack to a primitive boolean.
+     */
+    public static void insertBooleanConversion(MethodVisitor mv, Class<?> stackType) {
+        if (stackType == boolean.class) {
+            return;
+        }
+        if (stackType == Boolean.class) {
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Boolean", "booleanValue", "()Z", false);
+            return;
+        }
+        insertBoxIfNecessary(mv, stackType);
+        mv.visitMethodInsn(INVOKESTATIC, RUNTIME, "toBoolean", "(Ljava/lang/Object;)Z", false);
+    }
+
+    /**
+     * Whether a value of the given static type can be converted to the
+     * numeric kind without narrowing.
+     */
+    public static boolean isNumericConvertible(Class<?> stackType, int kind) {
+        if (stackType == null || stackType == boolean.class) {
+            return false;
+        }
+        if (stackType == long.class) {
+            return kind != SpelRuntime.KIND_INT;
+        }
+        if (stackType == double.class || stackType == float.class) {
+            return kind == SpelRuntime.KIND_DOUBLE;
+        }
+        if (stackType == Long.class) {
+            return kind != SpelRuntime.KIND_INT;
+        }
+        if (stackType == Double.class || stackType == Float.class) {
+            return kind == SpelRuntime.KIND_DOUBLE;
+        }
+        return true;
+    }
+
+    /**
+     * Return the primitive type holding values of the given numeric kind.
+     */
+    public static Class<?> kindType(int kind) {
+        switch (kind) {
+            case SpelRuntime.KIND_INT:
+                return int.class;
+            case SpelRuntime.KIND_LONG:
+                return long.class;
+            case SpelRuntime.KIND_DOUBLE:
+                return double.class;
+            case SpelRuntime.KIND_STRING:
+                return String.class;
+            default:
+                return Object.class;
+        }
+    }
+
+    private static boolean isIntegralBox(Class<?> type) {
+        return type == Integer.class || type == Long.class || type == Short.class || type == Byte.class;
+    }
+}
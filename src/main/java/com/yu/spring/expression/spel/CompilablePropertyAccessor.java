@@ -0,0 +1,29 @@
+package com.yu.spring.expression.spel;
+
+import com.yu.spring.expression.PropertyAccessor;
+import org.objectweb.asm.MethodVisitor;
+
+/**
+ * A property accessor that can generate bytecode for its read operation.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface CompilablePropertyAccessor extends PropertyAccessor {
+
+    /**
+     * Whether this accessor is currently suitable for compilation.
+     */
+    boolean isCompilable();
+
+    /**
+     * Return the static type of the value the generated code leaves on the stack.
+     */
+    Class<?> getPropertyType();
+
+    /**
+     * Generate the read of the named property. The target is on top of the
+     * stack, typed as Object or more specifically.
+     */
+    void generateCode(String propertyName, MethodVisitor mv, CodeFlow cf);
+}
@@ -0,0 +1,23 @@
+package com.yu.spring.expression.spel;
+
+import com.yu.spring.expression.EvaluationContext;
+
+/**
+ * Base superclass for compiled expressions. Each generated subclass
+ * implements {@link #getValue} with bytecode equivalent to the interpreted
+ * expression for the types observed while it was interpreted.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public abstract class CompiledExpression {
+
+    /**
+     * Evaluate the compiled expression.
+     *
+     * @param root    the root object
+     * @param context the evaluation context
+     * @return the result, boxed if primitive
+     */
+    public abstract Object getValue(Object root, EvaluationContext context) throws Exception;
+}
@@ -0,0 +1,62 @@
+package com.yu.spring.expression.spel;
+
+import com.yu.spring.expression.EvaluationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * State for one interpreted evaluation: the evaluation context and the
+ * stack of active context objects that chained property and method
+ * references apply to.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ExpressionState {
+
+    private final EvaluationContext evaluationContext;
+    private final Object rootObject;
+    private final List<Object> contextObjects = new ArrayList<>(4);
+
+    public ExpressionState(EvaluationContext evaluationContext) {
+        this.evaluationContext = evaluationContext;
+        this.rootObject = evaluationContext.getRootObject();
+    }
+
+    public EvaluationContext getEvaluationContext() {
+        return evaluationContext;
+    }
+
+    public Object getRootObject() {
+        return rootObject;
+    }
+
+    /**
+     * Return the object that an unqualified reference applies to: the result
+     * of the previous step of a chain, or the root object.
+     */
+    public Object getActiveContextObject() {
+        return contextObjects.isEmpty() ? rootObject : contextObjects.get(contextObjects.size() - 1);
+    }
+
+    public void pushActiveContextObject(Object object) {
+        contextObjects.add(object);
+    }
+
+    public void popActiveContextObject() {
+        contextObjects.remove(contextObjects.size() - 1);
+    }
+
+    /**
+     * Evaluate nested expressions such as method arguments against the root
+     * object rather than the current chain target.
+     */
+    public void enterScope() {
+        contextObjects.add(rootObject);
+    }
+
+    public void exitScope() {
+        popActiveContextObject();
+    }
+}
@@ -0,0 +1,308 @@
+package com.yu.spring.expression.spel;
+
+import com.yu.spring.expression.ParseException;
+import com.yu.spring.expression.spel.ast.BeanReference;
+import com.yu.spring.expression.spel.ast.CompoundExpression;
+import com.yu.spring.expression.spel.ast.Elvis;
+import com.yu.spring.expression.spel.ast.Indexer;
+import com.yu.spring.expression.spel.ast.Literal;
+import com.yu.spring.expression.spel.ast.MethodReference;
+import com.yu.spring.expression.spel.ast.OpAnd;
+import com.yu.spring.expression.spel.ast.OpArithmetic;
+import com.yu.spring.expression.spel.ast.OpComparison;
+import com.yu.spring.expression.spel.ast.OpOr;
+import com.yu.spring.expression.spel.ast.OperatorNot;
+import com.yu.spring.expression.spel.ast.PropertyOrFieldReference;
+import com.yu.spring.expression.spel.ast.SpelNodeImpl;
+import com.yu.spring.expression.spel.ast.Ternary;
+import com.yu.spring.expression.spel.ast.UnaryMinus;
+import com.yu.spring.expression.spel.ast.VariableReference;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recursive descent parser producing the AST of one expression. Operator
+ * precedence, from lowest: ternary and Elvis, {@code or}, {@code and},
+ * relational, additive, multiplicative, unary, then references with their
+ * {@code .member} and {@code [index]} chain.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+final class InternalSpelExpressionParser {
+
+    private final String expression;
+    private final List<Token> tokens;
+    private int index;
+
+    InternalSpelExpressionParser(String expression) {
+        this.expression = expression;
+        this.tokens = new Tokenizer(expression).process();
+    }
+
+    SpelNodeImpl parse() {
+        if (tokens.isEmpty()) {
+            throw new ParseException(expression, 0, "Expression is empty");
+        }
+        SpelNodeImpl ast = eatExpression();
+        if (index < tokens.size()) {
+            Token token = tokens.get(index);
+            throw new ParseException(expression, token.startPos, "Unexpected token " + token);
+        }
+        return ast;
+    }
+
+    private SpelNodeImpl eatExpression() {
+        SpelNodeImpl expr = eatLogicalOr();
+        Token token = peek();
+        if (token == null) {
+            return expr;
+        }
+        if (token.kind == TokenKind.QMARK) {
+            next();
+            SpelNodeImpl ifTrue = eatExpression();
+            eat(TokenKind.COLON);
+            SpelNodeImpl ifFalse = eatExpression();
+            return new Ternary(token.startPos, expr, ifTrue, ifFalse);
+        }
+        if (token.kind == TokenKind.ELVIS) {
+            next();
+            return new Elvis(token.startPos, expr, eatExpression());
+        }
+        return expr;
+    }
+
+    private SpelNodeImpl eatLogicalOr() {
+        SpelNodeImpl expr = eatLogicalAnd();
+        Token token;
+        while ((token = peek()) != null && (token.kind == TokenKind.SYMBOLIC_OR || token.isIdentifier("or"))) {
+            next();
+            expr = new OpOr(token.startPos, expr, eatLogicalAnd());
+        }
+        return expr;
+    }
+
+    private SpelNodeImpl eatLogicalAnd() {
+        SpelNodeImpl expr = eatRelational();
+        Token token;
+        while ((token = peek()) != null && (token.kind == TokenKind.SYMBOLIC_AND || token.isIdentifier("and"))) {
+            next();
+            expr = new OpAnd(token.startPos, expr, eatRelational());
+        }
+        return expr;
+    }
+
+    private SpelNodeImpl eatRelational() {
+        SpelNodeImpl expr = eatSum();
+        Token token = peek();
+        OpComparison.Operator operator = token != null ? relationalOperator(token) : null;
+        if (operator == null) {
+            return expr;
+        }
+        next();
+        return new OpComparison(token.startPos, operator, expr, eatSum());
+    }
+
+    private static OpComparison.Operator relationalOperator(Token token) {
+        switch (token.kind) {
+            case EQ:
+                return OpComparison.Operator.EQ;
+            case NE:
+                return OpComparison.Operator.NE;
+            case LT:
+                return OpComparison.Operator.LT;
+            case LE:
+                return OpComparison.Operator.LE;
+            case GT:
+                return OpComparison.Operator.GT;
+            case GE:
+                return OpComparison.Operator.GE;
+            case IDENTIFIER:
+                for (OpComparison.Operator operator : OpComparison.Operator.values()) {
+                    if (token.isIdentifier(operator.name())) {
+                        return operator;
+                    }
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private SpelNodeImpl eatSum() {
+        SpelNodeImpl expr = eatProduct();
+        Token token;
+        while ((token = peek()) != null && (token.kind == TokenKind.PLUS || token.kind == TokenKind.MINUS)) {
+            next();
+            OpArithmetic.Operator operator = token.kind == TokenKind.PLUS
+                    ? OpArithmetic.Operator.PLUS : OpArithmetic.Operator.MINUS;
+            expr = new OpArithmetic(token.startPos, operator, expr, eatProduct());
+        }
+        return expr;
+    }
+
+    private SpelNodeImpl eatProduct() {
+        SpelNodeImpl expr = eatUnary();
+        Token token;
+        while ((token = peek()) != null) {
+            OpArithmetic.Operator operator;
+            if (token.kind == TokenKind.STAR) {
+                operator = OpArithmetic.Operator.MULTIPLY;
+            } else if (token.kind == TokenKind.DIV || token.isIdentifier("div")) {
+                operator = OpArithmetic.Operator.DIVIDE;
+            } else if (token.kind == TokenKind.MOD || token.isIdentifier("mod")) {
+                operator = OpArithmetic.Operator.MODULUS;
+            } else {
+                break;
+            }
+            next();
+            expr = new OpArithmetic(token.startPos, operator, expr, eatUnary());
+        }
+        return expr;
+    }
+
+    private SpelNodeImpl eatUnary() {
+        Token token = peek();
+        if (token != null && token.kind == TokenKind.MINUS) {
+            next();
+            return new UnaryMinus(token.startPos, eatUnary());
+        }
+        if (token != null && (token.kind == TokenKind.NOT || token.isIdentifier("not"))) {
+            next();
+            return new OperatorNot(token.startPos, eatUnary());
+        }
+        if (token != null && token.kind == TokenKind.PLUS) {
+            next();
+            return eatUnary();
+        }
+        return eatPrimary();
+    }
+
+    private SpelNodeImpl eatPrimary() {
+        Token start = peek();
+        List<SpelNodeImpl> steps = new ArrayList<>(4);
+        steps.add(eatStartNode());
+        Token token;
+        while ((token = peek()) != null) {
+            if (token.kind == TokenKind.DOT) {
+                next();
+                Token name = eat(TokenKind.IDENTIFIER);
+                steps.add(eatMemberReference(name));
+            } else if (token.kind == TokenKind.LSQUARE) {
+                steps.add(eatIndexer());
+            } else {
+                break;
+            }
+        }
+        if (steps.size() == 1) {
+            return steps.get(0);
+        }
+        return new CompoundExpression(start.startPos, steps.toArray(new SpelNodeImpl[0]));
+    }
+
+    private SpelNodeImpl eatStartNode() {
+        Token token = next();
+        switch (token.kind) {
+            case LITERAL_INT:
+                return parseInt(token);
+            case LITERAL_LONG:
+                try {
+                    return new Literal(token.startPos, Long.valueOf(token.data), token.data + "L");
+                } catch (NumberFormatException e) {
+                    throw new ParseException(expression, token.startPos, "Invalid long literal " + token.data);
+                }
+            case LITERAL_REAL:
+                return new Literal(token.startPos, Double.valueOf(token.data), token.data);
+            case LITERAL_STRING:
+                return new Literal(token.startPos, token.data, "'" + token.data.replace("'", "''") + "'");
+            case LPAREN:
+                SpelNodeImpl expr = eatExpression();
+                eat(TokenKind.RPAREN);
+                return expr;
+            case HASH:
+                Token variable = eat(TokenKind.IDENTIFIER);
+                return new VariableReference(token.startPos, variable.data);
+            case BEAN_REF:
+                Token beanName = next();
+                if (beanName.kind != TokenKind.IDENTIFIER && beanName.kind != TokenKind.LITERAL_STRING) {
+                    throw new ParseException(expression, beanName.startPos, "Expected a bean name after '@'");
+                }
+                return new BeanReference(token.startPos, beanName.data);
+            case LSQUARE:
+                // An indexer applied to the root object
+                index--;
+                return eatIndexer();
+            case IDENTIFIER:
+                if (token.isIdentifier("true") || token.isIdentifier("false")) {
+                    return new Literal(token.startPos, Boolean.valueOf(token.data), token.data);
+                }
+                if (token.isIdentifier("null")) {
+                    return new Literal(token.startPos, null, "null");
+                }
+                if (token.data.equals("T") && peekKind(TokenKind.LPAREN)) {
+                    throw new ParseException(expression, token.startPos, "Type references T(...) are not supported");
+                }
+                return eatMemberReference(token);
+            default:
+                throw new ParseException(expression, token.startPos, "Unexpected token " + token);
+        }
+    }
+
+    private SpelNodeImpl parseInt(Token token) {
+        try {
+            return new Literal(token.startPos, Integer.valueOf(token.data), token.data);
+        } catch (NumberFormatException e) {
+            throw new ParseException(expression, token.startPos, "Invalid int literal " + token.data
+                    + ", use an 'L' suffix for long values");
+        }
+    }
+
+    private SpelNodeImpl eatMemberReference(Token name) {
+        if (!peekKind(TokenKind.LPAREN)) {
+            return new PropertyOrFieldReference(name.startPos, name.data);
+        }
+        next();
+        List<SpelNodeImpl> arguments = new ArrayList<>(2);
+        if (!peekKind(TokenKind.RPAREN)) {
+            arguments.add(eatExpression());
+            while (peekKind(TokenKind.COMMA)) {
+                next();
+                arguments.add(eatExpression());
+            }
+        }
+        eat(TokenKind.RPAREN);
+        return new MethodReference(name.startPos, name.data, arguments.toArray(new SpelNodeImpl[0]));
+    }
+
+    private SpelNodeImpl eatIndexer() {
+        Token open = eat(TokenKind.LSQUARE);
+        SpelNodeImpl indexExpression = eatExpression();
+        eat(TokenKind.RSQUARE);
+        return new Indexer(open.startPos, indexExpression);
+    }
+
+    private Token peek() {
+        return index < tokens.size() ? tokens.get(index) : null;
+    }
+
+    private boolean peekKind(TokenKind kind) {
+        Token token = peek();
+        return token != null && token.kind == kind;
+    }
+
+    private Token next() {
+        if (index >= tokens.size()) {
+            throw new ParseException(expression, expression.length(), "Unexpectedly ran out of input");
+        }
+        return tokens.get(index++);
+    }
+
+    private Token eat(TokenKind kind) {
+        Token token = next();
+        if (token.kind != kind) {
+            throw new ParseException(expression, token.startPos, "Expected " + kind + " but found " + token);
+        }
+        return token;
+    }
+}
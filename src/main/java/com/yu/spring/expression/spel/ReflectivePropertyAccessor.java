@@ -0,0 +1,273 @@
+package com.yu.spring.expression.spel;
+
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.PropertyAccessor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Property accessor that reads JavaBean getters ({@code getX()},
+ * {@code isX()}) or fields through reflection. Resolved members are cached
+ * per class and name.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ReflectivePropertyAccessor implements PropertyAccessor {
+
+    private static final Member NO_MEMBER = ReflectivePropertyAccessor.class.getDeclaredFields()[0];
+
+    private final Map<MemberKey, Member> readerCache = new ConcurrentHashMap<>(64);
+
+    @Override
+    public Class<?>[] getSpecificTargetClasses() {
+        return null;
+    }
+
+    @Override
+    public boolean canRead(EvaluationContext context, Object target, String name) {
+        return target != null && findReader(target.getClass(), name) != null;
+    }
+
+    @Override
+    public Object read(EvaluationContext context, Object target, String name) {
+        Member member = target != null ? findReader(target.getClass(), name) : null;
+        if (member == null) {
+            throw new EvaluationException(-1, "Property '" + name + "' cannot be found on "
+                    + (target != null ? "object of type '" + target.getClass().getName() + "'" : "null"));
+        }
+        return readMember(member, target, name);
+    }
+
+    /**
+     * Return an accessor bound to the member that reads the named property
+     * of the target's class, which can be compiled.
+     */
+    public PropertyAccessor createOptimalAccessor(Object target, String name) {
+        Member member = findReader(target.getClass(), name);
+        return member != null ? new OptimalPropertyAccessor(member) : this;
+    }
+
+    private Member findReader(Class<?> clazz, String name) {
+        MemberKey key = new MemberKey(clazz, name);
+        Member member = readerCache.get(key);
+        if (member == null) {
+            member = resolveReader(clazz, name);
+            readerCache.put(key, member != null ? member : NO_MEMBER);
+        }
+        return member != NO_MEMBER ? member : null;
+    }
+
+    private static Member resolveReader(Class<?> clazz, String name) {
+        if (name.isEmpty()) {
+            return null;
+        }
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Method getter = findGetter(clazz, "get" + suffix);
+        if (getter == null) {
+            getter = findGetter(clazz, "is" + suffix);
+            if (getter != null && getter.getReturnType() != boolean.class && getter.getReturnType() != Boolean.class) {
+                getter = null;
+            }
+        }
+        if (getter != null) {
+            return getter;
+        }
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField(name);
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            } catch (NoSuchFieldException e) {
+                // continue with the superclass
+            }
+        }
+        return null;
+    }
+
+    private static Method findGetter(Class<?> clazz, String methodName) {
+        try {
+            Method method = clazz.getMethod(methodName);
+            return method.getReturnType() != void.class ? method : null;
+        } catch (NoSuchMethodException e) {
+            for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+                try {
+                    Method method = current.getDeclaredMethod(methodName);
+                    if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class) {
+                        return method;
+                    }
+                } catch (NoSuchMethodException ignored) {
+                    // continue with the superclass
+                }
+            }
+            return null;
+        }
+    }
+
+    static Object readMember(Member member, Object target, String name) {
+        try {
+            if (member instanceof Method) {
+                // Prefer the public declaration: members of non-public JDK classes cannot be made accessible
+                Method method = findPublicMethod((Method) member);
+                if (method == null) {
+                    method = (Method) member;
+                    makeAccessible(method);
+                }
+                return method.invoke(target);
+            }
+            Field field = (Field) member;
+            makeAccessible(field);
+            return field.get(target);
+        } catch (InvocationTargetException e) {
+            throw new EvaluationException(-1, "Failed to read property '" + name + "'", e.getTargetException());
+        } catch (IllegalAccessException e) {
+            throw new EvaluationException(-1, "Cannot access property '" + name + "'", e);
+        }
+    }
+
+    private static void makeAccessible(AccessibleObject member) {
+        Member m = (Member) member;
+        if (!Modifier.isPublic(m.getModifiers()) || !Modifier.isPublic(m.getDeclaringClass().getModifiers())) {
+            try {
+                member.setAccessible(true);
+            } catch (RuntimeException ignored) {
+                // let the access fail with a meaningful exception
+            }
+        }
+    }
+
+    /**
+     * Return a method with the same signature declared on a public class or
+     * interface, so that generated code can invoke it, or null.
+     */
+    public static Method findPublicMethod(Method method) {
+        if (Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            return method;
+        }
+        if (!Modifier.isPublic(method.getModifiers())) {
+            return null;
+        }
+        return findPublicMethod(method.getDeclaringClass(), method.getName(), method.getParameterTypes());
+    }
+
+    private static Method findPublicMethod(Class<?> clazz, String name, Class<?>[] parameterTypes) {
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            if (Modifier.isPublic(current.getModifiers())) {
+                try {
+                    return current.getMethod(name, parameterTypes);
+                } catch (NoSuchMethodException ignored) {
+                    // not declared here
+                }
+            }
+            for (Class<?> ifc : current.getInterfaces()) {
+                if (Modifier.isPublic(ifc.getModifiers())) {
+                    try {
+                        return ifc.getMethod(name, parameterTypes);
+                    } catch (NoSuchMethodException ignored) {
+                        // not declared here
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Accessor bound to one getter or field.
+     */
+    public static class OptimalPropertyAccessor implements CompilablePropertyAccessor, Opcodes {
+
+        private final Member member;
+        private final Member publicMember;
+
+        OptimalPropertyAccessor(Member member) {
+            this.member = member;
+            if (member instanceof Method) {
+                this.publicMember = findPublicMethod((Method) member);
+            } else {
+                Field field = (Field) member;
+                this.publicMember = Modifier.isPublic(field.getModifiers())
+                        && Modifier.isPublic(field.getDeclaringClass().getModifiers()) ? field : null;
+            }
+        }
+
+        @Override
+        public Class<?>[] getSpecificTargetClasses() {
+            return new Class<?>[] { member.getDeclaringClass() };
+        }
+
+        @Override
+        public boolean canRead(EvaluationContext context, Object target, String name) {
+            return target != null && member.getDeclaringClass().isInstance(target);
+        }
+
+        @Override
+        public Object read(EvaluationContext context, Object target, String name) {
+            return readMember(publicMember != null ? publicMember : member, target, name);
+        }
+
+        @Override
+        public boolean isCompilable() {
+            return publicMember != null;
+        }
+
+        @Override
+        public Class<?> getPropertyType() {
+            return member instanceof Method ? ((Method) member).getReturnType() : ((Field) member).getType();
+        }
+
+        @Override
+        public void generateCode(String propertyName, MethodVisitor mv, CodeFlow cf) {
+            Class<?> owner = publicMember.getDeclaringClass();
+            CodeFlow.insertCheckCast(mv, owner);
+            if (publicMember instanceof Method) {
+                Method method = (Method) publicMember;
+                boolean isInterface = owner.isInterface();
+                mv.visitMethodInsn(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL, Type.getInternalName(owner),
+                        method.getName(), Type.getMethodDescriptor(method), isInterface);
+            } else {
+                Field field = (Field) publicMember;
+                mv.visitFieldInsn(GETFIELD, Type.getInternalName(owner), field.getName(),
+                        Type.getDescriptor(field.getType()));
+            }
+        }
+    }
+
+    private static final class MemberKey {
+
+        final Class<?> clazz;
+        final String name;
+
+        MemberKey(Class<?> clazz, String name) {
+            this.clazz = clazz;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof MemberKey)) {
+                return false;
+            }
+            MemberKey otherKey = (MemberKey) other;
+            return clazz == otherKey.clazz && name.equals(otherKey.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(clazz, name);
+        }
+    }
+}
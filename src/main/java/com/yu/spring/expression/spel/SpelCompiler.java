@@ -0,0 +1,137 @@
+package com.yu.spring.expression.spel;
+
+import com.yu.spring.expression.spel.ast.SpelNodeImpl;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles the AST of an expression into a {@link CompiledExpression}
+ * subclass whose {@code getValue} is straight-line bytecode for the types
+ * observed while interpreting.
+ *
+ * <p>One compiler exists per class loader. Generated classes are defined in
+ * a child loader that is replaced after a number of classes, so expressions
+ * that are no longer referenced can be unloaded with their loader.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public final class SpelCompiler implements Opcodes {
+
+    private static final int CLASSES_DEFINED_LIMIT = 100;
+
+    private static final Map<ClassLoader, SpelCompiler> compilers = new WeakHashMap<>();
+
+    private static final AtomicInteger suffixId = new AtomicInteger(1);
+
+    private final ClassLoader parent;
+    private volatile ChildClassLoader childClassLoader;
+
+    private SpelCompiler(ClassLoader classLoader) {
+        this.parent = classLoader;
+        this.childClassLoader = new ChildClassLoader(classLoader);
+    }
+
+    /**
+     * Return the compiler for the given class loader, or for the loader of
+     * this class if none is given.
+     */
+    public static SpelCompiler getCompiler(ClassLoader classLoader) {
+        ClassLoader loader = classLoader != null ? classLoader : SpelCompiler.class.getClassLoader();
+        synchronized (compilers) {
+            return compilers.computeIfAbsent(loader, SpelCompiler::new);
+        }
+    }
+
+    /**
+     * Generate and load a compiled form of the given AST.
+     *
+     * @return the compiled expression, or null if the AST is not compilable
+     *         or generation failed
+     */
+    public CompiledExpression compile(SpelNodeImpl ast) {
+        if (!ast.isCompilable()) {
+            return null;
+        }
+        String className = "spel/Ex" + suffixId.getAndIncrement();
+        try {
+            byte[] bytes = generate(ast, className);
+            Class<?> clazz = loadClass(className.replace('/', '.'), bytes);
+            return (CompiledExpression) clazz.getDeclaredConstructor().newInstance();
+        } catch (Throwable ex) {
+            // Not compilable after all, for example a node with an unexpected type
+            return null;
+        }
+    }
+
+    private static byte[] generate(SpelNodeImpl ast, String className) {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                // Frames are only merged at branches of boolean and boxed values
+                return "java/lang/Object";
+            }
+        };
+        String superName = CodeFlow.internalName(CompiledExpression.class);
+        cw.visit(V1_8, ACC_PUBLIC | ACC_SUPER, className, null, superName, null);
+
+        MethodVisitor constructor = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, superName, "<init>", "()V", false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getValue",
+                "(Ljava/lang/Object;Lcom/yu/spring/expression/EvaluationContext;)Ljava/lang/Object;", null,
+                new String[] { "java/lang/Exception" });
+        mv.visitCode();
+        CodeFlow cf = new CodeFlow();
+        ast.generateCode(mv, cf);
+        CodeFlow.insertBoxIfNecessary(mv, ast.getExitType());
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private Class<?> loadClass(String name, byte[] bytes) {
+        ChildClassLoader loader = childClassLoader;
+        if (loader.getClassesDefinedCount() >= CLASSES_DEFINED_LIMIT) {
+            synchronized (this) {
+                loader = childClassLoader;
+                if (loader.getClassesDefinedCount() >= CLASSES_DEFINED_LIMIT) {
+                    loader = new ChildClassLoader(parent);
+                    childClassLoader = loader;
+                }
+            }
+        }
+        return loader.defineClass(name, bytes);
+    }
+
+    private static final class ChildClassLoader extends ClassLoader {
+
+        private final AtomicInteger classesDefinedCount = new AtomicInteger();
+
+        ChildClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> defineClass(String name, byte[] bytes) {
+            Class<?> clazz = super.defineClass(name, bytes, 0, bytes.length);
+            classesDefinedCount.incrementAndGet();
+            return clazz;
+        }
+
+        int getClassesDefinedCount() {
+            return classesDefinedCount.get();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.yu.spring.expression.spel;
+
+import com.yu.spring.core.convert.support.DefaultConversionService;
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.Expression;
+import com.yu.spring.expression.spel.ast.SpelNodeImpl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A parsed expression, interpreted at first and compiled to bytecode once
+ * it has been interpreted a number of times.
+ *
+ * <p>Interpretation records the types flowing through each node, and the
+ * compiled form is specialised for them. If the compiled form fails, for
+ * instance because a property now holds a value of another type, it is
+ * discarded and the expression is interpreted again; it recompiles after
+ * another round of interpreted evaluations. An expression whose compiled
+ * forms keep failing stays interpreted.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class SpelExpression implements Expression {
+
+    private static final int FAILED_ATTEMPTS_THRESHOLD = 10;
+
+    private final String expression;
+    private final SpelNodeImpl ast;
+    private final int compileThreshold;
+
+    private volatile CompiledExpression compiledAst;
+    private volatile EvaluationContext defaultContext;
+
+    private final AtomicInteger interpretedCount = new AtomicInteger();
+    private final AtomicInteger failedAttempts = new AtomicInteger();
+
+    /**
+     * @param compileThreshold the number of interpreted evaluations before
+     *                         compiling; negative to never compile
+     */
+    public SpelExpression(String expression, SpelNodeImpl ast, int compileThreshold) {
+        this.expression = expression;
+        this.ast = ast;
+        this.compileThreshold = compileThreshold;
+    }
+
+    @Override
+    public String getExpressionString() {
+        return expression;
+    }
+
+    public SpelNodeImpl getAST() {
+        return ast;
+    }
+
+    @Override
+    public Object getValue() throws EvaluationException {
+        EvaluationContext context = defaultContext;
+        if (context == null) {
+            context = new StandardEvaluationContext();
+            defaultContext = context;
+        }
+        return getValue(context);
+    }
+
+    @Override
+    public Object getValue(EvaluationContext context) throws EvaluationException {
+        CompiledExpression compiled = compiledAst;
+        if (compiled != null) {
+            try {
+                return compiled.getValue(context.getRootObject(), context);
+            } catch (Throwable ex) {
+                // Types changed since compilation: interpret, and compile again later
+                compiledAst = null;
+                interpretedCount.set(0);
+                failedAttempts.incrementAndGet();
+            }
+        }
+        Object result;
+        try {
+            result = ast.getValue(new ExpressionState(context));
+        } catch (EvaluationException ex) {
+            throw new EvaluationException(expression, ex);
+        }
+        checkCompile();
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(EvaluationContext context, Class<T> expectedResultType) throws EvaluationException {
+        Object value = getValue(context);
+        if (expectedResultType == null) {
+            return (T) value;
+        }
+        try {
+            return DefaultConversionService.getSharedInstance().convert(value, expectedResultType);
+        } catch (IllegalArgumentException ex) {
+            throw new EvaluationException(expression, new EvaluationException(-1, ex.getMessage(), ex));
+        }
+    }
+
+    private void checkCompile() {
+        if (compileThreshold < 0 || failedAttempts.get() >= FAILED_ATTEMPTS_THRESHOLD) {
+            return;
+        }
+        if (interpretedCount.incrementAndGet() >= compileThreshold && !compileExpression()) {
+            // Try again after another round of interpreted evaluations
+            interpretedCount.set(0);
+        }
+    }
+
+    /**
+     * Compile the expression now, if it can be.
+     *
+     * @return whether the expression is compiled
+     */
+    public boolean compileExpression() {
+        if (compiledAst != null) {
+            return true;
+        }
+        synchronized (this) {
+            if (compiledAst == null) {
+                ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+                compiledAst = SpelCompiler.getCompiler(classLoader).compile(ast);
+            }
+            return compiledAst != null;
+        }
+    }
+
+    /**
+     * Discard the compiled form and interpret from now on, until the
+     * threshold is reached again.
+     */
+    public void revertToInterpreted() {
+        compiledAst = null;
+        interpretedCount.set(0);
+    }
+
+    public boolean isCompiled() {
+        return compiledAst != null;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,46 @@
+package com.yu.spring.expression.spel;
+
+import com.yu.spring.expression.ParseException;
+import com.yu.spring.expression.common.TemplateAwareExpressionParser;
+
+/**
+ * Parser for the expression language.
+ *
+ * <p>Expressions are interpreted at first and compiled to bytecode after
+ * the configured number of interpreted evaluations.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class SpelExpressionParser extends TemplateAwareExpressionParser {
+
+    /** Interpreted evaluations before an expression is compiled */
+    public static final int DEFAULT_COMPILE_THRESHOLD = 100;
+
+    private final int compileThreshold;
+
+    public SpelExpressionParser() {
+        this(DEFAULT_COMPILE_THRESHOLD);
+    }
+
+    /**
+     * @param compileThreshold the number of interpreted evaluations before
+     *                         compiling; negative to never compile
+     */
+    public SpelExpressionParser(int compileThreshold) {
+        this.compileThreshold = compileThreshold;
+    }
+
+    /**
+     * Parse a single expression, without template delimiters.
+     */
+    public SpelExpression parseRaw(String expressionString) throws ParseException {
+        return doParseExpression(expressionString);
+    }
+
+    @Override
+    protected SpelExpression doParseExpression(String expressionString) throws ParseException {
+        return new SpelExpression(expressionString, new InternalSpelExpressionParser(expressionString).parse(),
+                compileThreshold);
+    }
+}
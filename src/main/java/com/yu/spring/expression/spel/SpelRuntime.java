@@ -0,0 +1,300 @@
+package com.yu.spring.expression.spel;
+
+/**
+ * Operator semantics shared by the interpreter and compiled expressions.
+ * Public because generated classes call these methods.
+ *
+ * <p>Numeric operators accept Numbers and numeric Strings (property values
+ * are Strings), promoting to the widest operand kind: int, then long, then
+ * double. {@code +} concatenates when either operand is a String.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public final class SpelRuntime {
+
+    public static final int KIND_OTHER = 0;
+    public static final int KIND_INT = 1;
+    public static final int KIND_LONG = 2;
+    public static final int KIND_DOUBLE = 3;
+    public static final int KIND_STRING = 4;
+
+    private SpelRuntime() {
+    }
+
+    /**
+     * Return the numeric value of the given operand, or null if it is not a
+     * Number or a numeric String.
+     */
+    public static Number toNumber(Object value) {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        if (value instanceof String) {
+            return parseNumber((String) value);
+        }
+        return null;
+    }
+
+    static Number parseNumber(String value) {
+        String text = value.trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            if (text.indexOf('.') != -1 || text.indexOf('e') != -1 || text.indexOf('E') != -1) {
+                return Double.valueOf(text);
+            }
+            long number = Long.parseLong(text);
+            if (number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+                return (int) number;
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public static int kindOf(Number number) {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return KIND_INT;
+        }
+        if (number instanceof Long) {
+            return KIND_LONG;
+        }
+        return KIND_DOUBLE;
+    }
+
+    /**
+     * Return the operand kind of a binary numeric operation, or KIND_OTHER
+     * if either operand is not numeric.
+     */
+    public static int numericKind(Object left, Object right) {
+        Number leftNumber = toNumber(left);
+        Number rightNumber = toNumber(right);
+        if (leftNumber == null || rightNumber == null) {
+            return KIND_OTHER;
+        }
+        return Math.max(kindOf(leftNumber), kindOf(rightNumber));
+    }
+
+    public static Object add(Object left, Object right) {
+        if (left instanceof String || right instanceof String || left instanceof Character || right instanceof Character) {
+            return concat(left, right);
+        }
+        return arithmetic('+', left, right);
+    }
+
+    public static Object subtract(Object left, Object right) {
+        return arithmetic('-', left, right);
+    }
+
+    public static Object multiply(Object left, Object right) {
+        return arithmetic('*', left, right);
+    }
+
+    public static Object divide(Object left, Object right) {
+        return arithmetic('/', left, right);
+    }
+
+    public static Object modulus(Object left, Object right) {
+        return arithmetic('%', left, right);
+    }
+
+    public static Object negate(Object operand) {
+        Number number = toNumber(operand);
+        if (number == null) {
+            throw new IllegalArgumentException("Unary '-' not supported for " + typeName(operand));
+        }
+        switch (kindOf(number)) {
+            case KIND_INT:
+                return -number.intValue();
+            case KIND_LONG:
+                return -number.longValue();
+            default:
+                return -number.doubleValue();
+        }
+    }
+
+    private static Object arithmetic(char operator, Object left, Object right) {
+        Number leftNumber = toNumber(left);
+        Number rightNumber = toNumber(right);
+        if (leftNumber == null || rightNumber == null) {
+            throw new IllegalArgumentException("Operator '" + operator + "' not supported between "
+                    + typeName(left) + " and " + typeName(right));
+        }
+        switch (Math.max(kindOf(leftNumber), kindOf(rightNumber))) {
+            case KIND_INT:
+                return intOp(operator, leftNumber.intValue(), rightNumber.intValue());
+            case KIND_LONG:
+                return longOp(operator, leftNumber.longValue(), rightNumber.longValue());
+            default:
+                return doubleOp(operator, leftNumber.doubleValue(), rightNumber.doubleValue());
+        }
+    }
+
+    private static int intOp(char operator, int left, int right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            case '/':
+                return left / right;
+            default:
+                return left % right;
+        }
+    }
+
+    private static long longOp(char operator, long left, long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            case '/':
+                return left / right;
+            default:
+                return left % right;
+        }
+    }
+
+    private static double doubleOp(char operator, double left, double right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            case '/':
+                return left / right;
+            default:
+                return left % right;
+        }
+    }
+
+    public static String concat(Object left, Object right) {
+        return String.valueOf(left).concat(String.valueOf(right));
+    }
+
+    /**
+     * Equality: numerically when both operands are numeric and at least one
+     * is a Number, otherwise with equals.
+     */
+    public static boolean equalityCheck(Object left, Object right) {
+        if (left instanceof Number || right instanceof Number) {
+            Number leftNumber = toNumber(left);
+            Number rightNumber = toNumber(right);
+            if (leftNumber != null && rightNumber != null) {
+                return compareNumbers(leftNumber, rightNumber) == 0;
+            }
+        }
+        return left == null ? right == null : left.equals(right);
+    }
+
+    /**
+     * Ordering: numerically when both operands are numeric and at least one
+     * is a Number, otherwise through Comparable.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static int compare(Object left, Object right) {
+        if (left instanceof Number || right instanceof Number) {
+            Number leftNumber = toNumber(left);
+            Number rightNumber = toNumber(right);
+            if (leftNumber != null && rightNumber != null) {
+                return compareNumbers(leftNumber, rightNumber);
+            }
+        }
+        if (left instanceof Comparable && right != null && left.getClass().isInstance(right)) {
+            return ((Comparable) left).compareTo(right);
+        }
+        throw new IllegalArgumentException("Cannot compare " + typeName(left) + " with " + typeName(right));
+    }
+
+    private static int compareNumbers(Number left, Number right) {
+        switch (Math.max(kindOf(left), kindOf(right))) {
+            case KIND_INT:
+                return Integer.compare(left.intValue(), right.intValue());
+            case KIND_LONG:
+                return Long.compare(left.longValue(), right.longValue());
+            default:
+                return Double.compare(left.doubleValue(), right.doubleValue());
+        }
+    }
+
+    /**
+     * Numeric operand kind of a comparison: numeric only when at least one
+     * operand is a Number, matching {@link #compare} and {@link #equalityCheck}.
+     */
+    public static int comparisonKind(Object left, Object right) {
+        if (left instanceof Number || right instanceof Number) {
+            return numericKind(left, right);
+        }
+        return KIND_OTHER;
+    }
+
+    public static boolean toBoolean(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof String) {
+            String text = ((String) value).trim();
+            if ("true".equalsIgnoreCase(text)) {
+                return true;
+            }
+            if ("false".equalsIgnoreCase(text)) {
+                return false;
+            }
+        }
+        throw new IllegalArgumentException("Cannot convert " + typeName(value) + " to boolean");
+    }
+
+    /**
+     * Whether the Elvis operator should use its right-hand side: the left
+     * value is null or an empty String.
+     */
+    public static boolean isNullOrEmpty(Object value) {
+        return value == null || (value instanceof String && ((String) value).isEmpty());
+    }
+
+    // Strict conversions used by compiled code; failures make the expression fall back to the interpreter
+
+    public static int toInt(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            return Integer.parseInt(((String) value).trim());
+        }
+        throw new ClassCastException("Not an int: " + typeName(value));
+    }
+
+    public static long toLong(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            return Long.parseLong(((String) value).trim());
+        }
+        throw new ClassCastException("Not a long: " + typeName(value));
+    }
+
+    public static double toDouble(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof String) {
+            return Double.parseDouble(((String) value).trim());
+        }
+        throw new ClassCastException("Not a double: " + typeName(value));
+    }
+
+    private static String typeName(Object value) {
+        return value == null ? "null" : value.getClass().getName();
+    }
+}
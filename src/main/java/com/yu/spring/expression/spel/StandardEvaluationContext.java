@@ -0,0 +1,109 @@
+package com.yu.spring.expression.spel;
+
+import com.yu.spring.expression.BeanResolver;
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.PropertyAccessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A general purpose EvaluationContext. Property access is reflective by
+ * default; further accessors can be added for Maps, environments and the
+ * like.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class StandardEvaluationContext implements EvaluationContext {
+
+    private static final Object NULL_VARIABLE = new Object();
+
+    private volatile Object rootObject;
+    private final List<PropertyAccessor> propertyAccessors = new CopyOnWriteArrayList<>();
+    private volatile BeanResolver beanResolver;
+    private final Map<String, Object> variables = new ConcurrentHashMap<>();
+
+    public StandardEvaluationContext() {
+        propertyAccessors.add(new ReflectivePropertyAccessor());
+    }
+
+    public StandardEvaluationContext(Object rootObject) {
+        this();
+        this.rootObject = rootObject;
+    }
+
+    public void setRootObject(Object rootObject) {
+        this.rootObject = rootObject;
+    }
+
+    @Override
+    public Object getRootObject() {
+        return rootObject;
+    }
+
+    @Override
+    public List<PropertyAccessor> getPropertyAccessors() {
+        return propertyAccessors;
+    }
+
+    /**
+     * Add a property accessor, asked before the reflective accessor.
+     */
+    public void addPropertyAccessor(PropertyAccessor accessor) {
+        propertyAccessors.add(propertyAccessors.size() - 1, accessor);
+    }
+
+    public void setBeanResolver(BeanResolver beanResolver) {
+        this.beanResolver = beanResolver;
+    }
+
+    @Override
+    public BeanResolver getBeanResolver() {
+        return beanResolver;
+    }
+
+    @Override
+    public Object lookupVariable(String name) {
+        Object value = variables.get(name);
+        return value != NULL_VARIABLE ? value : null;
+    }
+
+    @Override
+    public void setVariable(String name, Object value) {
+        variables.put(name, value != null ? value : NULL_VARIABLE);
+    }
+
+    public void setVariables(Map<String, Object> variables) {
+        variables.forEach(this::setVariable);
+    }
+
+    /**
+     * Return the accessors to ask for the given target: those naming a
+     * matching target class first, then the general ones.
+     */
+    public static List<PropertyAccessor> getAccessorsToTry(Class<?> targetType, List<PropertyAccessor> accessors) {
+        List<PropertyAccessor> specific = new ArrayList<>(2);
+        List<PropertyAccessor> general = new ArrayList<>(2);
+        for (PropertyAccessor accessor : accessors) {
+            Class<?>[] targets = accessor.getSpecificTargetClasses();
+            if (targets == null) {
+                general.add(accessor);
+                continue;
+            }
+            if (targetType != null) {
+                for (Class<?> target : targets) {
+                    if (target.isAssignableFrom(targetType)) {
+                        specific.add(accessor);
+                        break;
+                    }
+                }
+            }
+        }
+        specific.addAll(general);
+        return specific;
+    }
+}
@@ -0,0 +1,29 @@
+package com.yu.spring.expression.spel;
+
+/**
+ * A token of an expression string.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+final class Token {
+
+    final TokenKind kind;
+    final String data;
+    final int startPos;
+
+    Token(TokenKind kind, String data, int startPos) {
+        this.kind = kind;
+        this.data = data;
+        this.startPos = startPos;
+    }
+
+    boolean isIdentifier(String identifier) {
+        return kind == TokenKind.IDENTIFIER && data.equalsIgnoreCase(identifier);
+    }
+
+    @Override
+    public String toString() {
+        return data != null ? kind + "(" + data + ")" : kind.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package com.yu.spring.expression.spel;
+
+/**
+ * Kinds of tokens produced by the {@link Tokenizer}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+enum TokenKind {
+
+    LITERAL_INT,
+    LITERAL_LONG,
+    LITERAL_REAL,
+    LITERAL_STRING,
+    IDENTIFIER,
+    LPAREN("("),
+    RPAREN(")"),
+    LSQUARE("["),
+    RSQUARE("]"),
+    COMMA(","),
+    DOT("."),
+    HASH("#"),
+    BEAN_REF("@"),
+    PLUS("+"),
+    MINUS("-"),
+    STAR("*"),
+    DIV("/"),
+    MOD("%"),
+    NOT("!"),
+    EQ("=="),
+    NE("!="),
+    LT("<"),
+    LE("<="),
+    GT(">"),
+    GE(">="),
+    SYMBOLIC_AND("&&"),
+    SYMBOLIC_OR("||"),
+    QMARK("?"),
+    ELVIS("?:"),
+    COLON(":");
+
+    final String text;
+
+    TokenKind() {
+        this(null);
+    }
+
+    TokenKind(String text) {
+        this.text = text;
+    }
+
+    @Override
+    public String toString() {
+        return text != null ? "'" + text + "'" : name();
+    }
+}
@@ -0,0 +1,208 @@
+package com.yu.spring.expression.spel;
+
+import com.yu.spring.expression.ParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits an expression string into tokens.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+final class Tokenizer {
+
+    private final String expression;
+    private final List<Token> tokens = new ArrayList<>();
+    private int pos;
+
+    Tokenizer(String expression) {
+        this.expression = expression;
+    }
+
+    List<Token> process() {
+        int length = expression.length();
+        while (pos < length) {
+            char ch = expression.charAt(pos);
+            if (Character.isWhitespace(ch)) {
+                pos++;
+            } else if (Character.isDigit(ch)) {
+                lexNumber();
+            } else if (Character.isJavaIdentifierStart(ch)) {
+                lexIdentifier();
+            } else if (ch == '\'' || ch == '"') {
+                lexString(ch);
+            } else {
+                lexSymbol(ch);
+            }
+        }
+        return tokens;
+    }
+
+    private void lexSymbol(char ch) {
+        switch (ch) {
+            case '(':
+                single(TokenKind.LPAREN);
+                break;
+            case ')':
+                single(TokenKind.RPAREN);
+                break;
+            case '[':
+                single(TokenKind.LSQUARE);
+                break;
+            case ']':
+                single(TokenKind.RSQUARE);
+                break;
+            case ',':
+                single(TokenKind.COMMA);
+                break;
+            case '.':
+                single(TokenKind.DOT);
+                break;
+            case '#':
+                single(TokenKind.HASH);
+                break;
+            case '@':
+                single(TokenKind.BEAN_REF);
+                break;
+            case '+':
+                single(TokenKind.PLUS);
+                break;
+            case '-':
+                single(TokenKind.MINUS);
+                break;
+            case '*':
+                single(TokenKind.STAR);
+                break;
+            case '/':
+                single(TokenKind.DIV);
+                break;
+            case '%':
+                single(TokenKind.MOD);
+                break;
+            case ':':
+                single(TokenKind.COLON);
+                break;
+            case '!':
+                pair('=', TokenKind.NE, TokenKind.NOT);
+                break;
+            case '<':
+                pair('=', TokenKind.LE, TokenKind.LT);
+                break;
+            case '>':
+                pair('=', TokenKind.GE, TokenKind.GT);
+                break;
+            case '?':
+                pair(':', TokenKind.ELVIS, TokenKind.QMARK);
+                break;
+            case '=':
+                required('=', TokenKind.EQ);
+                break;
+            case '&':
+                required('&', TokenKind.SYMBOLIC_AND);
+                break;
+            case '|':
+                required('|', TokenKind.SYMBOLIC_OR);
+                break;
+            default:
+                throw new ParseException(expression, pos, "Unexpected character '" + ch + "'");
+        }
+    }
+
+    private void single(TokenKind kind) {
+        tokens.add(new Token(kind, null, pos));
+        pos++;
+    }
+
+    private void pair(char next, TokenKind pairKind, TokenKind singleKind) {
+        if (pos + 1 < expression.length() && expression.charAt(pos + 1) == next) {
+            tokens.add(new Token(pairKind, null, pos));
+            pos += 2;
+        } else {
+            single(singleKind);
+        }
+    }
+
+    private void required(char next, TokenKind kind) {
+        if (pos + 1 >= expression.length() || expression.charAt(pos + 1) != next) {
+            throw new ParseException(expression, pos, "Expected '" + next + "' after '" + expression.charAt(pos) + "'");
+        }
+        tokens.add(new Token(kind, null, pos));
+        pos += 2;
+    }
+
+    private void lexNumber() {
+        int start = pos;
+        int length = expression.length();
+        boolean real = false;
+        while (pos < length && Character.isDigit(expression.charAt(pos))) {
+            pos++;
+        }
+        // A dot starts a fraction only if a digit follows, so that 1.toString() still parses
+        if (pos + 1 < length && expression.charAt(pos) == '.' && Character.isDigit(expression.charAt(pos + 1))) {
+            real = true;
+            pos++;
+            while (pos < length && Character.isDigit(expression.charAt(pos))) {
+                pos++;
+            }
+        }
+        if (pos < length && (expression.charAt(pos) == 'e' || expression.charAt(pos) == 'E')) {
+            real = true;
+            pos++;
+            if (pos < length && (expression.charAt(pos) == '+' || expression.charAt(pos) == '-')) {
+                pos++;
+            }
+            while (pos < length && Character.isDigit(expression.charAt(pos))) {
+                pos++;
+            }
+        }
+        String text = expression.substring(start, pos);
+        if (pos < length) {
+            char suffix = expression.charAt(pos);
+            if ((suffix == 'L' || suffix == 'l') && !real) {
+                pos++;
+                tokens.add(new Token(TokenKind.LITERAL_LONG, text, start));
+                return;
+            }
+            if (suffix == 'd' || suffix == 'D') {
+                pos++;
+                real = true;
+            }
+        }
+        tokens.add(new Token(real ? TokenKind.LITERAL_REAL : TokenKind.LITERAL_INT, text, start));
+    }
+
+    private void lexIdentifier() {
+        int start = pos;
+        while (pos < expression.length() && Character.isJavaIdentifierPart(expression.charAt(pos))) {
+            pos++;
+        }
+        tokens.add(new Token(TokenKind.IDENTIFIER, expression.substring(start, pos), start));
+    }
+
+    private void lexString(char quote) {
+        int start = pos;
+        StringBuilder sb = new StringBuilder();
+        pos++;
+        while (true) {
+            if (pos >= expression.length()) {
+                throw new ParseException(expression, start, "Unterminated string literal");
+            }
+            char ch = expression.charAt(pos);
+            if (ch == quote) {
+                // A doubled quote is an escaped quote
+                if (pos + 1 < expression.length() && expression.charAt(pos + 1) == quote) {
+                    sb.append(quote);
+                    pos += 2;
+                    continue;
+                }
+                pos++;
+                break;
+            }
+            sb.append(ch);
+            pos++;
+        }
+        tokens.add(new Token(TokenKind.LITERAL_STRING, sb.toString(), start));
+    }
+}
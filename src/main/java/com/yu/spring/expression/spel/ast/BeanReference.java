@@ -0,0 +1,67 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.BeanResolver;
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * A bean reference such as {@code @dataSource} or {@code @'my.bean'},
+ * resolved through the context's bean resolver.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class BeanReference extends SpelNodeImpl implements Opcodes {
+
+    private final String beanName;
+
+    public BeanReference(int startPos, String beanName) {
+        super(startPos);
+        this.beanName = beanName;
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        Object bean = resolveBean(state.getEvaluationContext(), beanName);
+        updateExitType(Object.class, bean);
+        return bean;
+    }
+
+    /**
+     * Resolve the bean; public because compiled expressions call it.
+     */
+    public static Object resolveBean(EvaluationContext context, String beanName) {
+        BeanResolver beanResolver = context.getBeanResolver();
+        if (beanResolver == null) {
+            throw new EvaluationException(-1, "No bean resolver registered in the context to resolve access to bean '"
+                    + beanName + "'");
+        }
+        return beanResolver.resolve(context, beanName);
+    }
+
+    @Override
+    public String toStringAST() {
+        return "@" + beanName;
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return exitType != null;
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        if (cf.isTargetOnStack()) {
+            mv.visitInsn(POP);
+        }
+        cf.loadEvaluationContext(mv);
+        mv.visitLdcInsn(beanName);
+        mv.visitMethodInsn(INVOKESTATIC, CodeFlow.internalName(BeanReference.class), "resolveBean",
+                "(Lcom/yu/spring/expression/EvaluationContext;Ljava/lang/String;)Ljava/lang/Object;", false);
+        CodeFlow.insertCheckCast(mv, exitType);
+    }
+}
@@ -0,0 +1,63 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import org.objectweb.asm.MethodVisitor;
+
+/**
+ * A chain of references such as {@code a.b['c'].d()}: each step is
+ * evaluated against the result of the previous one.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class CompoundExpression extends SpelNodeImpl {
+
+    public CompoundExpression(int startPos, SpelNodeImpl... steps) {
+        super(startPos, steps);
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        Object result = children[0].getValue(state);
+        for (int i = 1; i < children.length; i++) {
+            state.pushActiveContextObject(result);
+            try {
+                result = children[i].getValue(state);
+            } finally {
+                state.popActiveContextObject();
+            }
+        }
+        exitType = children[children.length - 1].getExitType();
+        return result;
+    }
+
+    @Override
+    public String toStringAST() {
+        StringBuilder sb = new StringBuilder(children[0].toStringAST());
+        for (int i = 1; i < children.length; i++) {
+            if (!(children[i] instanceof Indexer)) {
+                sb.append('.');
+            }
+            sb.append(children[i].toStringAST());
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return childrenCompilable();
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        boolean targetOnStack = cf.isTargetOnStack();
+        children[0].generateCode(mv, cf);
+        for (int i = 1; i < children.length; i++) {
+            CodeFlow.insertBoxIfNecessary(mv, children[i - 1].getExitType());
+            cf.setTargetOnStack(true);
+            children[i].generateCode(mv, cf);
+        }
+        cf.setTargetOnStack(targetOnStack);
+    }
+}
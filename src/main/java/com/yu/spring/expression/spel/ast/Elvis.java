@@ -0,0 +1,66 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import com.yu.spring.expression.spel.SpelRuntime;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * The Elvis operator {@code a ?: b}: the left value unless it is null or an
+ * empty String, otherwise the right value.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class Elvis extends SpelNodeImpl implements Opcodes {
+
+    public Elvis(int startPos, SpelNodeImpl value, SpelNodeImpl fallback) {
+        super(startPos, value, fallback);
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        Object value = getNestedValue(children[0], state);
+        if (SpelRuntime.isNullOrEmpty(value)) {
+            value = getNestedValue(children[1], state);
+        }
+        computeExitType();
+        return value;
+    }
+
+    private void computeExitType() {
+        Class<?> valueType = children[0].getExitType();
+        Class<?> fallbackType = children[1].getExitType();
+        if (valueType != null && fallbackType != null) {
+            exitType = valueType == fallbackType && !valueType.isPrimitive() ? valueType : Object.class;
+        }
+    }
+
+    @Override
+    public String toStringAST() {
+        return children[0].toStringAST() + " ?: " + children[1].toStringAST();
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return exitType != null && childrenCompilable();
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        Label endLabel = new Label();
+        generateNested(children[0], mv, cf);
+        CodeFlow.insertBoxIfNecessary(mv, children[0].getExitType());
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESTATIC, CodeFlow.internalName(SpelRuntime.class), "isNullOrEmpty",
+                "(Ljava/lang/Object;)Z", false);
+        mv.visitJumpInsn(IFEQ, endLabel);
+        mv.visitInsn(POP);
+        generateNested(children[1], mv, cf);
+        CodeFlow.insertBoxIfNecessary(mv, children[1].getExitType());
+        mv.visitLabel(endLabel);
+        CodeFlow.insertCheckCast(mv, exitType);
+    }
+}
@@ -0,0 +1,158 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import com.yu.spring.expression.spel.SpelRuntime;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index into a Map, List or array, such as {@code map['key']} or
+ * {@code list[0]}. On any other target a String index names a property read
+ * through the property accessors, so {@code env['pool.size']} reads the
+ * property from the environment.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class Indexer extends SpelNodeImpl implements Opcodes {
+
+    private static final int MODE_MAP = 1;
+    private static final int MODE_LIST = 2;
+    private static final int MODE_ARRAY = 3;
+    private static final int MODE_PROPERTY = 4;
+    private static final int MODE_MIXED = -1;
+
+    private final PropertyOrFieldReference propertyReference;
+
+    private volatile int mode;
+    private volatile Class<?> arrayType;
+
+    public Indexer(int startPos, SpelNodeImpl index) {
+        super(startPos, index);
+        this.propertyReference = new PropertyOrFieldReference(startPos, "[]");
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        Object target = state.getActiveContextObject();
+        Object index = getNestedValue(children[0], state);
+        if (target == null) {
+            throw new EvaluationException(startPos, "Cannot index into a null value");
+        }
+        if (target instanceof Map) {
+            recordMode(MODE_MAP);
+            Object value = ((Map<?, ?>) target).get(index);
+            updateExitType(Object.class, value);
+            return value;
+        }
+        if (target instanceof List) {
+            recordMode(MODE_LIST);
+            Object value = ((List<?>) target).get(toIndex(index));
+            updateExitType(Object.class, value);
+            return value;
+        }
+        if (target.getClass().isArray()) {
+            recordMode(MODE_ARRAY);
+            if (arrayType != null && arrayType != target.getClass()) {
+                mode = MODE_MIXED;
+            }
+            arrayType = target.getClass();
+            Object value = Array.get(target, toIndex(index));
+            updateExitType(CodeFlow.publicType(target.getClass().getComponentType()), value);
+            return value;
+        }
+        if (index instanceof String) {
+            recordMode(MODE_PROPERTY);
+            Object value = propertyReference.readProperty(state.getEvaluationContext(), target, (String) index);
+            updateExitType(Object.class, value);
+            return value;
+        }
+        throw new EvaluationException(startPos, "Indexing into type '" + target.getClass().getName() + "' is not supported");
+    }
+
+    private int toIndex(Object index) {
+        Number number = SpelRuntime.toNumber(index);
+        if (number == null || SpelRuntime.kindOf(number) != SpelRuntime.KIND_INT) {
+            throw new EvaluationException(startPos, "Index must be an int, not " + index);
+        }
+        return number.intValue();
+    }
+
+    private void recordMode(int observed) {
+        int current = mode;
+        if (current == 0) {
+            mode = observed;
+        } else if (current != observed) {
+            mode = MODE_MIXED;
+        }
+    }
+
+    @Override
+    public String toStringAST() {
+        return "[" + children[0].toStringAST() + "]";
+    }
+
+    @Override
+    public boolean isCompilable() {
+        if (exitType == null || !children[0].isCompilable()) {
+            return false;
+        }
+        switch (mode) {
+            case MODE_MAP:
+                return true;
+            case MODE_LIST:
+                return CodeFlow.isNumericConvertible(children[0].getExitType(), SpelRuntime.KIND_INT);
+            case MODE_ARRAY:
+                return !arrayType.getComponentType().isPrimitive() && CodeFlow.publicType(arrayType) == arrayType
+                        && CodeFlow.isNumericConvertible(children[0].getExitType(), SpelRuntime.KIND_INT);
+            case MODE_PROPERTY:
+                // The accessor is bound to one name, so the index must be constant
+                return children[0] instanceof Literal && propertyReference.isAccessorCompilable();
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        Class<?> indexType = children[0].getExitType();
+        switch (mode) {
+            case MODE_MAP:
+                cf.loadTarget(mv);
+                mv.visitTypeInsn(CHECKCAST, "java/util/Map");
+                generateNested(children[0], mv, cf);
+                CodeFlow.insertBoxIfNecessary(mv, indexType);
+                mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "get", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
+                CodeFlow.insertCheckCast(mv, exitType);
+                break;
+            case MODE_LIST:
+                cf.loadTarget(mv);
+                mv.visitTypeInsn(CHECKCAST, "java/util/List");
+                generateNested(children[0], mv, cf);
+                CodeFlow.insertNumericConversion(mv, indexType, SpelRuntime.KIND_INT);
+                mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "get", "(I)Ljava/lang/Object;", true);
+                CodeFlow.insertCheckCast(mv, exitType);
+                break;
+            case MODE_ARRAY:
+                cf.loadTarget(mv);
+                CodeFlow.insertCheckCast(mv, arrayType);
+                generateNested(children[0], mv, cf);
+                CodeFlow.insertNumericConversion(mv, indexType, SpelRuntime.KIND_INT);
+                mv.visitInsn(AALOAD);
+                if (exitType != CodeFlow.publicType(arrayType.getComponentType())) {
+                    CodeFlow.insertCheckCast(mv, exitType);
+                }
+                break;
+            default:
+                String name = String.valueOf(((Literal) children[0]).getLiteralValue());
+                propertyReference.exitType = exitType;
+                propertyReference.generateRead(name, mv, cf);
+        }
+    }
+}
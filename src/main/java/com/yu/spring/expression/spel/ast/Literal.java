@@ -0,0 +1,68 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * A literal value: a number, a quoted String, a boolean or null. Numbers
+ * compile to primitive constants.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class Literal extends SpelNodeImpl implements Opcodes {
+
+    private final Object value;
+    private final String text;
+
+    public Literal(int startPos, Object value, String text) {
+        super(startPos);
+        this.value = value;
+        this.text = text;
+        if (value instanceof Integer) {
+            this.exitType = int.class;
+        } else if (value instanceof Long) {
+            this.exitType = long.class;
+        } else if (value instanceof Double) {
+            this.exitType = double.class;
+        } else if (value instanceof Boolean) {
+            this.exitType = boolean.class;
+        } else if (value instanceof String) {
+            this.exitType = String.class;
+        } else {
+            this.exitType = Object.class;
+        }
+    }
+
+    public Object getLiteralValue() {
+        return value;
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        return value;
+    }
+
+    @Override
+    public String toStringAST() {
+        return text;
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return true;
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        if (value == null) {
+            mv.visitInsn(ACONST_NULL);
+        } else if (value instanceof Boolean) {
+            mv.visitInsn((Boolean) value ? ICONST_1 : ICONST_0);
+        } else {
+            mv.visitLdcInsn(value);
+        }
+    }
+}
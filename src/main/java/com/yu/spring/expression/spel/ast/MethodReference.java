@@ -0,0 +1,234 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import com.yu.spring.expression.spel.ReflectivePropertyAccessor;
+import com.yu.spring.expression.spel.SpelRuntime;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A method invocation such as {@code name.toUpperCase()} or
+ * {@code substring(1, 3)}. The resolved method is cached per target class
+ * and argument types; arguments are matched allowing boxing and numeric
+ * widening.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class MethodReference extends SpelNodeImpl implements Opcodes {
+
+    private final String name;
+
+    private volatile CachedMethod cachedMethod;
+    private volatile boolean polymorphic;
+
+    public MethodReference(int startPos, String name, SpelNodeImpl... arguments) {
+        super(startPos, arguments);
+        this.name = name;
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        Object target = state.getActiveContextObject();
+        if (target == null) {
+            throw new EvaluationException(startPos, "Method call: Attempted to call method " + name + "() on null context object");
+        }
+        Object[] arguments = new Object[children.length];
+        for (int i = 0; i < children.length; i++) {
+            arguments[i] = getNestedValue(children[i], state);
+        }
+        CachedMethod resolved = resolveMethod(target.getClass(), arguments);
+        Method method = resolved.method;
+        Object[] converted = convertArguments(method.getParameterTypes(), arguments);
+        Object value;
+        try {
+            // Prefer the public declaration: members of non-public JDK classes cannot be made accessible
+            if (resolved.publicMethod != null) {
+                value = resolved.publicMethod.invoke(target, converted);
+            } else {
+                method.setAccessible(true);
+                value = method.invoke(target, converted);
+            }
+        } catch (InvocationTargetException e) {
+            throw new EvaluationException(startPos, "Method '" + name + "' threw exception", e.getTargetException());
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new EvaluationException(startPos, "Cannot invoke method '" + name + "'", e);
+        }
+        updateExitType(CodeFlow.publicType(method.getReturnType()), value);
+        return value;
+    }
+
+    private CachedMethod resolveMethod(Class<?> targetClass, Object[] arguments) {
+        CachedMethod cached = cachedMethod;
+        if (cached != null && cached.targetClass == targetClass && isApplicable(cached.method.getParameterTypes(), arguments)) {
+            return cached;
+        }
+        Method found = null;
+        for (Method method : targetClass.getMethods()) {
+            if (method.getName().equals(name) && !method.isBridge()
+                    && isApplicable(method.getParameterTypes(), arguments)) {
+                found = method;
+                break;
+            }
+        }
+        if (found == null) {
+            throw new EvaluationException(startPos, "Method " + name + "() with " + arguments.length
+                    + " argument(s) cannot be found on type " + targetClass.getName());
+        }
+        if (cached != null) {
+            polymorphic = true;
+        }
+        CachedMethod resolved = new CachedMethod(targetClass, found);
+        cachedMethod = resolved;
+        return resolved;
+    }
+
+    private static boolean isApplicable(Class<?>[] parameterTypes, Object[] arguments) {
+        if (parameterTypes.length != arguments.length) {
+            return false;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            Object argument = arguments[i];
+            if (argument == null) {
+                if (parameterType.isPrimitive()) {
+                    return false;
+                }
+            } else if (parameterType.isPrimitive()) {
+                if (!isPrimitiveCompatible(parameterType, argument)) {
+                    return false;
+                }
+            } else if (!parameterType.isInstance(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPrimitiveCompatible(Class<?> parameterType, Object argument) {
+        if (parameterType == boolean.class) {
+            return argument instanceof Boolean;
+        }
+        if (parameterType == char.class) {
+            return argument instanceof Character;
+        }
+        if (!(argument instanceof Number)) {
+            return false;
+        }
+        int kind = SpelRuntime.kindOf((Number) argument);
+        if (parameterType == int.class) {
+            return kind == SpelRuntime.KIND_INT;
+        }
+        if (parameterType == long.class) {
+            return kind != SpelRuntime.KIND_DOUBLE;
+        }
+        return parameterType == double.class;
+    }
+
+    private static Object[] convertArguments(Class<?>[] parameterTypes, Object[] arguments) {
+        Object[] converted = arguments.clone();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i] == long.class) {
+                converted[i] = ((Number) arguments[i]).longValue();
+            } else if (parameterTypes[i] == double.class) {
+                converted[i] = ((Number) arguments[i]).doubleValue();
+            } else if (parameterTypes[i] == int.class) {
+                converted[i] = ((Number) arguments[i]).intValue();
+            }
+        }
+        return converted;
+    }
+
+    @Override
+    public String toStringAST() {
+        StringBuilder sb = new StringBuilder(name).append('(');
+        for (int i = 0; i < children.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(children[i].toStringAST());
+        }
+        return sb.append(')').toString();
+    }
+
+    @Override
+    public boolean isCompilable() {
+        CachedMethod cached = cachedMethod;
+        if (cached == null || polymorphic || exitType == null || cached.publicMethod == null
+                || Modifier.isStatic(cached.method.getModifiers()) || cached.method.getReturnType() == void.class
+                || !childrenCompilable()) {
+            return false;
+        }
+        Class<?>[] parameterTypes = cached.publicMethod.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!isArgumentCompilable(parameterTypes[i], children[i].getExitType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isArgumentCompilable(Class<?> parameterType, Class<?> argumentType) {
+        if (!parameterType.isPrimitive()) {
+            return CodeFlow.publicType(parameterType) == parameterType;
+        }
+        if (parameterType == boolean.class) {
+            return true;
+        }
+        int kind = parameterType == int.class ? SpelRuntime.KIND_INT : parameterType == long.class
+                ? SpelRuntime.KIND_LONG : parameterType == double.class ? SpelRuntime.KIND_DOUBLE : SpelRuntime.KIND_OTHER;
+        return kind != SpelRuntime.KIND_OTHER && CodeFlow.isNumericConvertible(argumentType, kind);
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        Method method = cachedMethod.publicMethod;
+        Class<?> owner = method.getDeclaringClass();
+        cf.loadTarget(mv);
+        CodeFlow.insertCheckCast(mv, owner);
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            generateNested(children[i], mv, cf);
+            Class<?> argumentType = children[i].getExitType();
+            Class<?> parameterType = parameterTypes[i];
+            if (parameterType == boolean.class) {
+                CodeFlow.insertBooleanConversion(mv, argumentType);
+            } else if (parameterType.isPrimitive()) {
+                int kind = parameterType == int.class ? SpelRuntime.KIND_INT
+                        : parameterType == long.class ? SpelRuntime.KIND_LONG : SpelRuntime.KIND_DOUBLE;
+                CodeFlow.insertNumericConversion(mv, argumentType, kind);
+            } else {
+                CodeFlow.insertBoxIfNecessary(mv, argumentType);
+                if (!parameterType.isAssignableFrom(argumentType)) {
+                    CodeFlow.insertCheckCast(mv, parameterType);
+                }
+            }
+        }
+        boolean isInterface = owner.isInterface();
+        mv.visitMethodInsn(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL, Type.getInternalName(owner),
+                method.getName(), Type.getMethodDescriptor(method), isInterface);
+        if (!exitType.isPrimitive() && exitType != method.getReturnType()) {
+            CodeFlow.insertCheckCast(mv, exitType);
+        }
+    }
+
+    private static final class CachedMethod {
+
+        final Class<?> targetClass;
+        final Method method;
+        final Method publicMethod;
+
+        CachedMethod(Class<?> targetClass, Method method) {
+            this.targetClass = targetClass;
+            this.method = method;
+            this.publicMethod = ReflectivePropertyAccessor.findPublicMethod(method);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Logical and ({@code and}, {@code &&}), evaluating the right operand only
+ * when the left one is true.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class OpAnd extends SpelNodeImpl implements Opcodes {
+
+    public OpAnd(int startPos, SpelNodeImpl left, SpelNodeImpl right) {
+        super(startPos, left, right);
+        this.exitType = boolean.class;
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        if (!OperatorNot.getBooleanValue(children[0], state)) {
+            return false;
+        }
+        return OperatorNot.getBooleanValue(children[1], state);
+    }
+
+    @Override
+    public String toStringAST() {
+        return "(" + children[0].toStringAST() + " and " + children[1].toStringAST() + ")";
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return childrenCompilable();
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        Label falseLabel = new Label();
+        Label endLabel = new Label();
+        generateNested(children[0], mv, cf);
+        CodeFlow.insertBooleanConversion(mv, children[0].getExitType());
+        mv.visitJumpInsn(IFEQ, falseLabel);
+        generateNested(children[1], mv, cf);
+        CodeFlow.insertBooleanConversion(mv, children[1].getExitType());
+        mv.visitJumpInsn(GOTO, endLabel);
+        mv.visitLabel(falseLabel);
+        mv.visitInsn(ICONST_0);
+        mv.visitLabel(endLabel);
+    }
+}
@@ -0,0 +1,169 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import com.yu.spring.expression.spel.SpelRuntime;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * The binary arithmetic operators {@code + - * / %}.
+ *
+ * <p>The interpreter records the operand kind of every evaluation. While it
+ * stays the same the operator compiles to the primitive instruction for that
+ * kind (or to String concatenation for {@code +} with a String operand);
+ * once it varies the compiled form calls the generic SpelRuntime operation.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class OpArithmetic extends SpelNodeImpl implements Opcodes {
+
+    public enum Operator {
+        PLUS("+", "add", IADD, LADD, DADD),
+        MINUS("-", "subtract", ISUB, LSUB, DSUB),
+        MULTIPLY("*", "multiply", IMUL, LMUL, DMUL),
+        DIVIDE("/", "divide", IDIV, LDIV, DDIV),
+        MODULUS("%", "modulus", IREM, LREM, DREM);
+
+        final String symbol;
+        final String runtimeMethod;
+        final int intOpcode;
+        final int longOpcode;
+        final int doubleOpcode;
+
+        Operator(String symbol, String runtimeMethod, int intOpcode, int longOpcode, int doubleOpcode) {
+            this.symbol = symbol;
+            this.runtimeMethod = runtimeMethod;
+            this.intOpcode = intOpcode;
+            this.longOpcode = longOpcode;
+            this.doubleOpcode = doubleOpcode;
+        }
+    }
+
+    private static final int KIND_UNSET = -1;
+    private static final int KIND_MIXED = -2;
+
+    private final Operator operator;
+
+    private volatile int observedKind = KIND_UNSET;
+
+    public OpArithmetic(int startPos, Operator operator, SpelNodeImpl left, SpelNodeImpl right) {
+        super(startPos, left, right);
+        this.operator = operator;
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        Object left = children[0].getValue(state);
+        Object right = children[1].getValue(state);
+        int kind = operator == Operator.PLUS && (left instanceof String || right instanceof String)
+                ? SpelRuntime.KIND_STRING : SpelRuntime.numericKind(left, right);
+        recordKind(kind);
+        try {
+            switch (operator) {
+                case PLUS:
+                    return SpelRuntime.add(left, right);
+                case MINUS:
+                    return SpelRuntime.subtract(left, right);
+                case MULTIPLY:
+                    return SpelRuntime.multiply(left, right);
+                case DIVIDE:
+                    return SpelRuntime.divide(left, right);
+                default:
+                    return SpelRuntime.modulus(left, right);
+            }
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new EvaluationException(startPos, e.getMessage(), e);
+        }
+    }
+
+    private void recordKind(int kind) {
+        int current = observedKind;
+        if (kind == SpelRuntime.KIND_OTHER || (current != KIND_UNSET && current != kind)) {
+            observedKind = KIND_MIXED;
+            exitType = Object.class;
+        } else {
+            observedKind = kind;
+            exitType = CodeFlow.kindType(kind);
+        }
+    }
+
+    @Override
+    public String toStringAST() {
+        return "(" + children[0].toStringAST() + " " + operator.symbol + " " + children[1].toStringAST() + ")";
+    }
+
+    @Override
+    public boolean isCompilable() {
+        int kind = observedKind;
+        if (kind == KIND_UNSET || !childrenCompilable()) {
+            return false;
+        }
+        if (usePrimitiveOperation(kind)) {
+            return CodeFlow.isNumericConvertible(children[0].getExitType(), kind)
+                    && CodeFlow.isNumericConvertible(children[1].getExitType(), kind);
+        }
+        return true;
+    }
+
+    /**
+     * Whether the compiled form can use the primitive instruction. For
+     * {@code +} both operands must be statically numeric: a String operand
+     * would turn the addition into a concatenation.
+     */
+    private boolean usePrimitiveOperation(int kind) {
+        if (kind != SpelRuntime.KIND_INT && kind != SpelRuntime.KIND_LONG && kind != SpelRuntime.KIND_DOUBLE) {
+            return false;
+        }
+        return operator != Operator.PLUS
+                || (isNumericType(children[0].getExitType()) && isNumericType(children[1].getExitType()));
+    }
+
+    private static boolean isNumericType(Class<?> type) {
+        return (type.isPrimitive() && type != boolean.class) || Number.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        int kind = observedKind;
+        Class<?> leftType = children[0].getExitType();
+        Class<?> rightType = children[1].getExitType();
+        if (usePrimitiveOperation(kind)) {
+            generateNested(children[0], mv, cf);
+            CodeFlow.insertNumericConversion(mv, leftType, kind);
+            generateNested(children[1], mv, cf);
+            CodeFlow.insertNumericConversion(mv, rightType, kind);
+            mv.visitInsn(kind == SpelRuntime.KIND_INT ? operator.intOpcode
+                    : kind == SpelRuntime.KIND_LONG ? operator.longOpcode : operator.doubleOpcode);
+            return;
+        }
+        generateNested(children[0], mv, cf);
+        CodeFlow.insertBoxIfNecessary(mv, leftType);
+        generateNested(children[1], mv, cf);
+        CodeFlow.insertBoxIfNecessary(mv, rightType);
+        String runtime = CodeFlow.internalName(SpelRuntime.class);
+        if (kind == SpelRuntime.KIND_STRING && (leftType == String.class || rightType == String.class)) {
+            mv.visitMethodInsn(INVOKESTATIC, runtime, "concat",
+                    "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/String;", false);
+            return;
+        }
+        mv.visitMethodInsn(INVOKESTATIC, runtime, operator.runtimeMethod,
+                "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", false);
+        // Check the result has the recorded kind, so the compiled form fails
+        // rather than returning a value of a different kind
+        if (kind == SpelRuntime.KIND_INT) {
+            mv.visitTypeInsn(CHECKCAST, "java/lang/Integer");
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Integer", "intValue", "()I", false);
+        } else if (kind == SpelRuntime.KIND_LONG) {
+            mv.visitTypeInsn(CHECKCAST, "java/lang/Long");
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Long", "longValue", "()J", false);
+        } else if (kind == SpelRuntime.KIND_DOUBLE) {
+            mv.visitTypeInsn(CHECKCAST, "java/lang/Double");
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Double", "doubleValue", "()D", false);
+        } else if (kind == SpelRuntime.KIND_STRING) {
+            mv.visitTypeInsn(CHECKCAST, "java/lang/String");
+        }
+    }
+}
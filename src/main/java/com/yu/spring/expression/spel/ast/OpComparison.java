@@ -0,0 +1,148 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import com.yu.spring.expression.spel.SpelRuntime;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * The relational operators {@code == != < <= > >=}, also written
+ * {@code eq ne lt le gt ge}. Like {@link OpArithmetic}, a comparison whose
+ * operands were always numbers of one kind compiles to a primitive compare.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class OpComparison extends SpelNodeImpl implements Opcodes {
+
+    public enum Operator {
+        EQ("==", IF_ICMPNE, IFNE),
+        NE("!=", IF_ICMPEQ, IFEQ),
+        LT("<", IF_ICMPGE, IFGE),
+        LE("<=", IF_ICMPGT, IFGT),
+        GT(">", IF_ICMPLE, IFLE),
+        GE(">=", IF_ICMPLT, IFLT);
+
+        final String symbol;
+        /** Jump taken when the int comparison is false */
+        final int intFalseOpcode;
+        /** Jump taken when the comparison against zero is false */
+        final int falseOpcode;
+
+        Operator(String symbol, int intFalseOpcode, int falseOpcode) {
+            this.symbol = symbol;
+            this.intFalseOpcode = intFalseOpcode;
+            this.falseOpcode = falseOpcode;
+        }
+
+        boolean isEquality() {
+            return this == EQ || this == NE;
+        }
+    }
+
+    private static final int KIND_UNSET = -1;
+    private static final int KIND_MIXED = -2;
+
+    private final Operator operator;
+
+    private volatile int observedKind = KIND_UNSET;
+
+    public OpComparison(int startPos, Operator operator, SpelNodeImpl left, SpelNodeImpl right) {
+        super(startPos, left, right);
+        this.operator = operator;
+        this.exitType = boolean.class;
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        Object left = children[0].getValue(state);
+        Object right = children[1].getValue(state);
+        int kind = SpelRuntime.comparisonKind(left, right);
+        int current = observedKind;
+        observedKind = current == KIND_UNSET || current == kind ? kind : KIND_MIXED;
+        if (operator.isEquality()) {
+            boolean equal = SpelRuntime.equalityCheck(left, right);
+            return operator == Operator.EQ ? equal : !equal;
+        }
+        int comparison;
+        try {
+            comparison = SpelRuntime.compare(left, right);
+        } catch (IllegalArgumentException e) {
+            throw new EvaluationException(startPos, e.getMessage(), e);
+        }
+        switch (operator) {
+            case LT:
+                return comparison < 0;
+            case LE:
+                return comparison <= 0;
+            case GT:
+                return comparison > 0;
+            default:
+                return comparison >= 0;
+        }
+    }
+
+    @Override
+    public String toStringAST() {
+        return "(" + children[0].toStringAST() + " " + operator.symbol + " " + children[1].toStringAST() + ")";
+    }
+
+    @Override
+    public boolean isCompilable() {
+        if (observedKind == KIND_UNSET || !childrenCompilable()) {
+            return false;
+        }
+        int kind = observedKind;
+        if (isNumeric(kind)) {
+            return CodeFlow.isNumericConvertible(children[0].getExitType(), kind)
+                    && CodeFlow.isNumericConvertible(children[1].getExitType(), kind);
+        }
+        return true;
+    }
+
+    private static boolean isNumeric(int kind) {
+        return kind == SpelRuntime.KIND_INT || kind == SpelRuntime.KIND_LONG || kind == SpelRuntime.KIND_DOUBLE;
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        int kind = observedKind;
+        Class<?> leftType = children[0].getExitType();
+        Class<?> rightType = children[1].getExitType();
+        Label falseLabel = new Label();
+        Label endLabel = new Label();
+        if (isNumeric(kind)) {
+            generateNested(children[0], mv, cf);
+            CodeFlow.insertNumericConversion(mv, leftType, kind);
+            generateNested(children[1], mv, cf);
+            CodeFlow.insertNumericConversion(mv, rightType, kind);
+            if (kind == SpelRuntime.KIND_INT) {
+                mv.visitJumpInsn(operator.intFalseOpcode, falseLabel);
+            } else {
+                mv.visitInsn(kind == SpelRuntime.KIND_LONG ? LCMP : DCMPG);
+                mv.visitJumpInsn(operator.falseOpcode, falseLabel);
+            }
+        } else {
+            generateNested(children[0], mv, cf);
+            CodeFlow.insertBoxIfNecessary(mv, leftType);
+            generateNested(children[1], mv, cf);
+            CodeFlow.insertBoxIfNecessary(mv, rightType);
+            String runtime = CodeFlow.internalName(SpelRuntime.class);
+            if (operator.isEquality()) {
+                mv.visitMethodInsn(INVOKESTATIC, runtime, "equalityCheck", "(Ljava/lang/Object;Ljava/lang/Object;)Z", false);
+                mv.visitJumpInsn(operator == Operator.EQ ? IFEQ : IFNE, falseLabel);
+            } else {
+                mv.visitMethodInsn(INVOKESTATIC, runtime, "compare", "(Ljava/lang/Object;Ljava/lang/Object;)I", false);
+                mv.visitJumpInsn(operator.falseOpcode, falseLabel);
+            }
+        }
+        mv.visitInsn(ICONST_1);
+        mv.visitJumpInsn(GOTO, endLabel);
+        mv.visitLabel(falseLabel);
+        mv.visitInsn(ICONST_0);
+        mv.visitLabel(endLabel);
+    }
+}
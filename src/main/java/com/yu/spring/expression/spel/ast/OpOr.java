@@ -0,0 +1,55 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Logical or ({@code or}, {@code ||}), evaluating the right operand only
+ * when the left one is false.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class OpOr extends SpelNodeImpl implements Opcodes {
+
+    public OpOr(int startPos, SpelNodeImpl left, SpelNodeImpl right) {
+        super(startPos, left, right);
+        this.exitType = boolean.class;
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        if (OperatorNot.getBooleanValue(children[0], state)) {
+            return true;
+        }
+        return OperatorNot.getBooleanValue(children[1], state);
+    }
+
+    @Override
+    public String toStringAST() {
+        return "(" + children[0].toStringAST() + " or " + children[1].toStringAST() + ")";
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return childrenCompilable();
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        Label trueLabel = new Label();
+        Label endLabel = new Label();
+        generateNested(children[0], mv, cf);
+        CodeFlow.insertBooleanConversion(mv, children[0].getExitType());
+        mv.visitJumpInsn(IFNE, trueLabel);
+        generateNested(children[1], mv, cf);
+        CodeFlow.insertBooleanConversion(mv, children[1].getExitType());
+        mv.visitJumpInsn(GOTO, endLabel);
+        mv.visitLabel(trueLabel);
+        mv.visitInsn(ICONST_1);
+        mv.visitLabel(endLabel);
+    }
+}
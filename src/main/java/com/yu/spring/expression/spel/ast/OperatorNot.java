@@ -0,0 +1,54 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import com.yu.spring.expression.spel.SpelRuntime;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Logical negation ({@code not}, {@code !}).
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class OperatorNot extends SpelNodeImpl implements Opcodes {
+
+    public OperatorNot(int startPos, SpelNodeImpl operand) {
+        super(startPos, operand);
+        this.exitType = boolean.class;
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        return !getBooleanValue(children[0], state);
+    }
+
+    static boolean getBooleanValue(SpelNodeImpl node, ExpressionState state) {
+        Object value = getNestedValue(node, state);
+        try {
+            return SpelRuntime.toBoolean(value);
+        } catch (IllegalArgumentException e) {
+            throw new EvaluationException(node.getStartPosition(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toStringAST() {
+        return "!" + children[0].toStringAST();
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return childrenCompilable();
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        generateNested(children[0], mv, cf);
+        CodeFlow.insertBooleanConversion(mv, children[0].getExitType());
+        mv.visitInsn(ICONST_1);
+        mv.visitInsn(IXOR);
+    }
+}
@@ -0,0 +1,121 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.PropertyAccessor;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.CompilablePropertyAccessor;
+import com.yu.spring.expression.spel.ExpressionState;
+import com.yu.spring.expression.spel.ReflectivePropertyAccessor;
+import com.yu.spring.expression.spel.StandardEvaluationContext;
+import org.objectweb.asm.MethodVisitor;
+
+import java.util.List;
+
+/**
+ * A property or field reference such as {@code name} or {@code a.name}.
+ *
+ * <p>The accessor that read the property is cached together with the target
+ * class, so repeated evaluations against targets of the same class skip the
+ * accessor search. Reflective reads are bound to the resolved member.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class PropertyOrFieldReference extends SpelNodeImpl {
+
+    private final String name;
+
+    private volatile CachedAccessor cachedAccessor;
+    private volatile boolean polymorphic;
+
+    public PropertyOrFieldReference(int startPos, String name) {
+        super(startPos);
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        Object target = state.getActiveContextObject();
+        Object value = readProperty(state.getEvaluationContext(), target, name);
+        CachedAccessor cached = cachedAccessor;
+        PropertyAccessor accessor = cached != null ? cached.accessor : null;
+        Class<?> declaredType = accessor instanceof CompilablePropertyAccessor
+                ? CodeFlow.publicType(((CompilablePropertyAccessor) accessor).getPropertyType()) : Object.class;
+        updateExitType(declaredType, value);
+        return value;
+    }
+
+    Object readProperty(EvaluationContext context, Object target, String propertyName) {
+        Class<?> targetClass = target != null ? target.getClass() : null;
+        CachedAccessor cached = cachedAccessor;
+        if (cached != null && cached.targetClass == targetClass) {
+            return cached.accessor.read(context, target, propertyName);
+        }
+        List<PropertyAccessor> accessors = StandardEvaluationContext.getAccessorsToTry(targetClass,
+                context.getPropertyAccessors());
+        for (PropertyAccessor accessor : accessors) {
+            if (accessor.canRead(context, target, propertyName)) {
+                if (accessor instanceof ReflectivePropertyAccessor) {
+                    accessor = ((ReflectivePropertyAccessor) accessor).createOptimalAccessor(target, propertyName);
+                }
+                if (cached != null) {
+                    // Targets of several classes: keep interpreting
+                    polymorphic = true;
+                }
+                this.cachedAccessor = new CachedAccessor(targetClass, accessor);
+                return accessor.read(context, target, propertyName);
+            }
+        }
+        throw new EvaluationException(startPos, "Property or field '" + propertyName + "' cannot be found on "
+                + (target != null ? "object of type '" + target.getClass().getName() + "'" : "null"));
+    }
+
+    /**
+     * Whether the cached accessor can generate code for the read.
+     */
+    boolean isAccessorCompilable() {
+        CachedAccessor cached = cachedAccessor;
+        return cached != null && !polymorphic && cached.accessor instanceof CompilablePropertyAccessor
+                && ((CompilablePropertyAccessor) cached.accessor).isCompilable();
+    }
+
+    void generateRead(String propertyName, MethodVisitor mv, CodeFlow cf) {
+        CompilablePropertyAccessor accessor = (CompilablePropertyAccessor) cachedAccessor.accessor;
+        cf.loadTarget(mv);
+        accessor.generateCode(propertyName, mv, cf);
+        if (!exitType.isPrimitive() && exitType != accessor.getPropertyType()) {
+            CodeFlow.insertCheckCast(mv, exitType);
+        }
+    }
+
+    @Override
+    public String toStringAST() {
+        return name;
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return exitType != null && isAccessorCompilable();
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        generateRead(name, mv, cf);
+    }
+
+    static final class CachedAccessor {
+
+        final Class<?> targetClass;
+        final PropertyAccessor accessor;
+
+        CachedAccessor(Class<?> targetClass, PropertyAccessor accessor) {
+            this.targetClass = targetClass;
+            this.accessor = accessor;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import org.objectweb.asm.MethodVisitor;
+
+/**
+ * Base class of the nodes of a parsed expression.
+ *
+ * <p>While interpreted, each node records its exit type: the static type the
+ * compiled form of the node leaves on the operand stack. For operations with
+ * a fixed result type this is that type; for values typed as Object (map
+ * entries, variables, beans) it is the runtime class observed so far, or
+ * Object once different classes have been seen. The compiled code casts to
+ * the recorded type, so a class that changes later makes the compiled
+ * expression fail and fall back to interpretation.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public abstract class SpelNodeImpl {
+
+    private static final SpelNodeImpl[] NO_CHILDREN = new SpelNodeImpl[0];
+
+    protected final int startPos;
+    protected final SpelNodeImpl[] children;
+
+    /** Static type of the compiled value, null until the node has been evaluated */
+    protected volatile Class<?> exitType;
+
+    protected SpelNodeImpl(int startPos, SpelNodeImpl... children) {
+        this.startPos = startPos;
+        this.children = children != null && children.length > 0 ? children : NO_CHILDREN;
+    }
+
+    /**
+     * Evaluate this node in the given state.
+     */
+    public abstract Object getValue(ExpressionState state) throws EvaluationException;
+
+    /**
+     * Render this node back as expression text.
+     */
+    public abstract String toStringAST();
+
+    public int getStartPosition() {
+        return startPos;
+    }
+
+    public Class<?> getExitType() {
+        return exitType;
+    }
+
+    /**
+     * Whether this node, as interpreted so far, can be compiled.
+     */
+    public boolean isCompilable() {
+        return false;
+    }
+
+    /**
+     * Generate bytecode leaving this node's value, of the exit type, on the
+     * operand stack.
+     */
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        throw new IllegalStateException(getClass().getSimpleName() + " has no compiled form");
+    }
+
+    /**
+     * Record the exit type for a value whose declared type is the given one:
+     * the declared type when it is specific, otherwise the observed class.
+     */
+    protected void updateExitType(Class<?> declaredType, Object value) {
+        if (declaredType != null && declaredType != Object.class) {
+            if (exitType == null || exitType == declaredType) {
+                exitType = declaredType;
+            } else {
+                exitType = Object.class;
+            }
+            return;
+        }
+        if (value == null) {
+            if (exitType == null) {
+                exitType = Object.class;
+            }
+            return;
+        }
+        Class<?> observed = CodeFlow.publicType(value.getClass());
+        Class<?> current = exitType;
+        if (current == null) {
+            exitType = observed;
+        } else if (current != observed) {
+            exitType = Object.class;
+        }
+    }
+
+    protected boolean childrenCompilable() {
+        for (SpelNodeImpl child : children) {
+            if (!child.isCompilable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generate the child as a nested expression: references inside it apply
+     * to the root object, not to the current chain target.
+     */
+    protected static void generateNested(SpelNodeImpl child, MethodVisitor mv, CodeFlow cf) {
+        cf.enterScope();
+        try {
+            child.generateCode(mv, cf);
+        } finally {
+            cf.exitScope();
+        }
+    }
+
+    protected static Object getNestedValue(SpelNodeImpl child, ExpressionState state) {
+        state.enterScope();
+        try {
+            return child.getValue(state);
+        } finally {
+            state.exitScope();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toStringAST();
+    }
+}
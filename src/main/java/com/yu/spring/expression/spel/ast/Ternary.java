@@ -0,0 +1,67 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * The ternary operator {@code condition ? a : b}. Compiles only once both
+ * branches have been evaluated, so that their types are known.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class Ternary extends SpelNodeImpl implements Opcodes {
+
+    public Ternary(int startPos, SpelNodeImpl condition, SpelNodeImpl ifTrue, SpelNodeImpl ifFalse) {
+        super(startPos, condition, ifTrue, ifFalse);
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        boolean condition = OperatorNot.getBooleanValue(children[0], state);
+        Object value = getNestedValue(children[condition ? 1 : 2], state);
+        computeExitType();
+        return value;
+    }
+
+    private void computeExitType() {
+        Class<?> trueType = children[1].getExitType();
+        Class<?> falseType = children[2].getExitType();
+        if (trueType != null && falseType != null) {
+            exitType = trueType == falseType ? trueType : Object.class;
+        }
+    }
+
+    @Override
+    public String toStringAST() {
+        return children[0].toStringAST() + " ? " + children[1].toStringAST() + " : " + children[2].toStringAST();
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return exitType != null && childrenCompilable();
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        Label elseLabel = new Label();
+        Label endLabel = new Label();
+        generateNested(children[0], mv, cf);
+        CodeFlow.insertBooleanConversion(mv, children[0].getExitType());
+        mv.visitJumpInsn(IFEQ, elseLabel);
+        generateNested(children[1], mv, cf);
+        if (exitType == Object.class) {
+            CodeFlow.insertBoxIfNecessary(mv, children[1].getExitType());
+        }
+        mv.visitJumpInsn(GOTO, endLabel);
+        mv.visitLabel(elseLabel);
+        generateNested(children[2], mv, cf);
+        if (exitType == Object.class) {
+            CodeFlow.insertBoxIfNecessary(mv, children[2].getExitType());
+        }
+        mv.visitLabel(endLabel);
+    }
+}
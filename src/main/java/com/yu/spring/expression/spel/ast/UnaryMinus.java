@@ -0,0 +1,74 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import com.yu.spring.expression.spel.SpelRuntime;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Unary minus, compiled to a primitive negation while the operand kind is
+ * stable.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class UnaryMinus extends SpelNodeImpl implements Opcodes {
+
+    private static final int KIND_UNSET = -1;
+    private static final int KIND_MIXED = -2;
+
+    private volatile int observedKind = KIND_UNSET;
+
+    public UnaryMinus(int startPos, SpelNodeImpl operand) {
+        super(startPos, operand);
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        Object operand = children[0].getValue(state);
+        Number number = SpelRuntime.toNumber(operand);
+        if (number == null) {
+            throw new EvaluationException(startPos, "Unary '-' not supported for " + operand);
+        }
+        int kind = SpelRuntime.kindOf(number);
+        int current = observedKind;
+        if (current == KIND_UNSET || current == kind) {
+            observedKind = kind;
+            exitType = CodeFlow.kindType(kind);
+        } else {
+            observedKind = KIND_MIXED;
+            exitType = Object.class;
+        }
+        return SpelRuntime.negate(operand);
+    }
+
+    @Override
+    public String toStringAST() {
+        return "-" + children[0].toStringAST();
+    }
+
+    @Override
+    public boolean isCompilable() {
+        int kind = observedKind;
+        if (kind == KIND_UNSET || !childrenCompilable()) {
+            return false;
+        }
+        return kind == KIND_MIXED || CodeFlow.isNumericConvertible(children[0].getExitType(), kind);
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        int kind = observedKind;
+        children[0].generateCode(mv, cf);
+        if (kind == KIND_MIXED) {
+            CodeFlow.insertBoxIfNecessary(mv, children[0].getExitType());
+            mv.visitMethodInsn(INVOKESTATIC, CodeFlow.internalName(SpelRuntime.class), "negate",
+                    "(Ljava/lang/Object;)Ljava/lang/Object;", false);
+            return;
+        }
+        CodeFlow.insertNumericConversion(mv, children[0].getExitType(), kind);
+        mv.visitInsn(kind == SpelRuntime.KIND_INT ? INEG : kind == SpelRuntime.KIND_LONG ? LNEG : DNEG);
+    }
+}
@@ -0,0 +1,71 @@
+package com.yu.spring.expression.spel.ast;
+
+import com.yu.spring.expression.spel.CodeFlow;
+import com.yu.spring.expression.spel.ExpressionState;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * A variable reference: {@code #name}, or the special {@code #root} and
+ * {@code #this}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class VariableReference extends SpelNodeImpl implements Opcodes {
+
+    private static final String ROOT = "root";
+    private static final String THIS = "this";
+
+    private final String name;
+
+    public VariableReference(int startPos, String name) {
+        super(startPos);
+        this.name = name;
+    }
+
+    @Override
+    public Object getValue(ExpressionState state) {
+        Object value;
+        if (ROOT.equals(name)) {
+            value = state.getRootObject();
+        } else if (THIS.equals(name)) {
+            value = state.getActiveContextObject();
+        } else {
+            value = state.getEvaluationContext().lookupVariable(name);
+        }
+        updateExitType(Object.class, value);
+        return value;
+    }
+
+    @Override
+    public String toStringAST() {
+        return "#" + name;
+    }
+
+    @Override
+    public boolean isCompilable() {
+        return exitType != null;
+    }
+
+    @Override
+    public void generateCode(MethodVisitor mv, CodeFlow cf) {
+        if (THIS.equals(name)) {
+            // The active context object is the chain target, or the root
+            cf.loadTarget(mv);
+        } else {
+            if (cf.isTargetOnStack()) {
+                mv.visitInsn(POP);
+            }
+            if (ROOT.equals(name)) {
+                mv.visitVarInsn(ALOAD, 1);
+            } else {
+                cf.loadEvaluationContext(mv);
+                mv.visitLdcInsn(name);
+                mv.visitMethodInsn(INVOKEINTERFACE, "com/yu/spring/expression/EvaluationContext", "lookupVariable",
+                        "(Ljava/lang/String;)Ljava/lang/Object;", true);
+            }
+        }
+        CodeFlow.insertCheckCast(mv, exitType);
+    }
+}
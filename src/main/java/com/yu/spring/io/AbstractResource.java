@@ -0,0 +1,187 @@
+package com.yu.spring.io;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Convenience base class for Resource implementations, deriving file, channel
+ * and mapping access from {@link #getURL()}.
+ *
+ * <p>Jar entries cannot be mapped in place since they are usually deflated, so
+ * {@link #mapReadOnly()} extracts such an entry to a temporary file once per
+ * jar entry and maps that file.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public abstract class AbstractResource implements Resource {
+
+    public static final String URL_PROTOCOL_FILE = "file";
+    public static final String URL_PROTOCOL_JAR = "jar";
+
+    /** Temporary copies of mapped jar entries, keyed by jar entry URL and timestamp */
+    private static final Map<String, File> extractedJarEntries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean exists() {
+        try {
+            File file = getFile();
+            return file.exists();
+        } catch (IOException e) {
+            // Not file-backed: fall back to opening the stream
+        }
+        try {
+            getInputStream().close();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public URL getURL() throws IOException {
+        throw new FileNotFoundException(this + " cannot be resolved to URL");
+    }
+
+    @Override
+    public File getFile() throws IOException {
+        URL url = getURL();
+        if (!URL_PROTOCOL_FILE.equals(url.getProtocol())) {
+            throw new FileNotFoundException(this + " cannot be resolved to absolute file path because it does"
+                    + " not reside in the file system: " + url);
+        }
+        try {
+            return new File(toURI(url).getSchemeSpecificPart());
+        } catch (URISyntaxException e) {
+            return new File(url.getFile());
+        }
+    }
+
+    @Override
+    public ReadableByteChannel readableChannel() throws IOException {
+        if (isFileBacked()) {
+            return FileChannel.open(getFile().toPath(), StandardOpenOption.READ);
+        }
+        return Channels.newChannel(getInputStream());
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        if (isFileBacked()) {
+            File file = getFile();
+            if (!file.exists()) {
+                throw new FileNotFoundException(this + " does not exist");
+            }
+            return file.length();
+        }
+        URLConnection connection = getURL().openConnection();
+        long length = connection.getContentLengthLong();
+        if (length >= 0) {
+            return length;
+        }
+        // Length unknown upfront: count the bytes
+        try (InputStream inputStream = connection.getInputStream()) {
+            long size = 0;
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                size += read;
+            }
+            return size;
+        }
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        if (isFileBacked()) {
+            File file = getFile();
+            long lastModified = file.lastModified();
+            if (lastModified == 0L && !file.exists()) {
+                throw new FileNotFoundException(this + " does not exist");
+            }
+            return lastModified;
+        }
+        URLConnection connection = getURL().openConnection();
+        if (connection instanceof JarURLConnection) {
+            JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+            if (entry != null) {
+                return entry.getTime();
+            }
+        }
+        return connection.getLastModified();
+    }
+
+    @Override
+    public MappedByteBuffer mapReadOnly() throws IOException {
+        File file;
+        if (isFileBacked()) {
+            file = getFile();
+        } else if (URL_PROTOCOL_JAR.equals(getURL().getProtocol())) {
+            file = extractJarEntry(getURL());
+        } else {
+            throw new IOException(this + " is neither file- nor jar-backed and cannot be mapped");
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Whether this resource resolves to a file in the file system.
+     */
+    protected boolean isFileBacked() {
+        try {
+            return URL_PROTOCOL_FILE.equals(getURL().getProtocol());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static File extractJarEntry(URL jarUrl) throws IOException {
+        JarURLConnection connection = (JarURLConnection) jarUrl.openConnection();
+        JarFile jarFile = connection.getJarFile();
+        JarEntry entry = connection.getJarEntry();
+        if (entry == null || entry.isDirectory()) {
+            throw new FileNotFoundException(jarUrl + " is not a jar file entry");
+        }
+        String key = jarUrl.toExternalForm() + '@' + entry.getTime();
+        File extracted = extractedJarEntries.get(key);
+        if (extracted != null && extracted.exists()) {
+            return extracted;
+        }
+        synchronized (extractedJarEntries) {
+            extracted = extractedJarEntries.get(key);
+            if (extracted == null || !extracted.exists()) {
+                extracted = File.createTempFile("tiny-spring-", ".mapped");
+                extracted.deleteOnExit();
+                try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                    Files.copy(inputStream, extracted.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+                extractedJarEntries.put(key, extracted);
+            }
+            return extracted;
+        }
+    }
+
+    static URI toURI(URL url) throws URISyntaxException {
+        return new URI(url.toString().replace(" ", "%20"));
+    }
+}
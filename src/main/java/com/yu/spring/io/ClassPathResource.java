@@ -1,43 +1,99 @@
 package com.yu.spring.io;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
 
 /**
  * Resource implementation for classpath resources.
+ *
+ * <p>The class loader is asked for the resource URL only once; the result,
+ * including a miss, is kept for the lifetime of this resource. File-backed
+ * resources are then read straight from the file system.
  * 
  * @author yuhangbin
  * @date 2022/5/8
  **/
-public class ClassPathResource implements Resource {
+public class ClassPathResource extends AbstractResource {
 
     private final String path;
     private final ClassLoader classLoader;
 
+    private volatile boolean resolved;
+    private volatile URL resolvedUrl;
+
     public ClassPathResource(String path) {
         this(path, null);
     }
 
     public ClassPathResource(String path, ClassLoader classLoader) {
-        this.path = path;
+        this.path = path.startsWith("/") ? path.substring(1) : path;
         this.classLoader = classLoader != null ? classLoader : Thread.currentThread().getContextClassLoader();
     }
 
     @Override
     public InputStream getInputStream() throws IOException {
-        InputStream inputStream = classLoader.getResourceAsStream(path);
-        if (inputStream == null) {
+        URL url = resolveURL();
+        if (url == null) {
             throw new IOException("Resource not found: " + path);
         }
-        return inputStream;
+        if (URL_PROTOCOL_FILE.equals(url.getProtocol())) {
+            return Files.newInputStream(getFile().toPath());
+        }
+        return url.openStream();
+    }
+
+    @Override
+    public boolean exists() {
+        return resolveURL() != null;
+    }
+
+    @Override
+    public URL getURL() throws IOException {
+        URL url = resolveURL();
+        if (url == null) {
+            throw new FileNotFoundException(this + " cannot be resolved to URL because it does not exist");
+        }
+        return url;
+    }
+
+    private URL resolveURL() {
+        if (!resolved) {
+            resolvedUrl = classLoader.getResource(path);
+            resolved = true;
+        }
+        return resolvedUrl;
     }
 
     public String getPath() {
         return path;
     }
 
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ClassPathResource)) {
+            return false;
+        }
+        ClassPathResource that = (ClassPathResource) other;
+        return path.equals(that.path) && classLoader.equals(that.classLoader);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
     @Override
     public String toString() {
         return "ClassPathResource{" + "path='" + path + '\'' + '}';
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,23 @@
 package com.yu.spring.io;
 
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Default implementation of ResourceLoader.
+ *
+ * <p>Resolved class path resources are cached per location. Since a
+ * ClassPathResource remembers whether the class loader found it, repeated
+ * lookups of both existing and missing locations are served without
+ * touching the class loader again. The cache holds the most recently used
+ * {@link #setResourceCacheLimit limit} locations, so lookups of arbitrary
+ * locations cannot grow it without bound. File and URL resources are cheap
+ * to create and check the file system or server on every access anyway, so
+ * they are not cached. Call {@link #clearResourceCache()} if the class path
+ * changes.
  * 
  * @author yuhangbin
  * @date 2022/5/8
@@ -9,9 +25,24 @@ package com.yu.spring.io;
 public class DefaultResourceLoader implements ResourceLoader {
 
     public static final String CLASSPATH_URL_PREFIX = "classpath:";
+    public static final String FILE_URL_PREFIX = "file:";
 
     private ClassLoader classLoader;
 
+    public static final int DEFAULT_RESOURCE_CACHE_LIMIT = 256;
+
+    private volatile int resourceCacheLimit = DEFAULT_RESOURCE_CACHE_LIMIT;
+
+    /** Class path resources by location, in access order for LRU eviction */
+    private final Map<String, Resource> resourceCache = new LinkedHashMap<String, Resource>(64, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Resource> eldest) {
+            return size() > resourceCacheLimit;
+        }
+    };
+
     public DefaultResourceLoader() {
         this.classLoader = Thread.currentThread().getContextClassLoader();
     }
@@ -22,14 +53,83 @@ public class DefaultResourceLoader implements ResourceLoader {
 
     @Override
     public Resource getResource(String location) {
+        synchronized (resourceCache) {
+            Resource cached = resourceCache.get(location);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Resource resource = resolveResource(location);
+        if (resource instanceof ClassPathResource && resourceCacheLimit > 0) {
+            synchronized (resourceCache) {
+                Resource cached = resourceCache.putIfAbsent(location, resource);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+        return resource;
+    }
+
+    /**
+     * Resolve a location without consulting the cache.
+     *
+     * @param location the resource location
+     * @return the resource, which may not exist
+     */
+    protected Resource resolveResource(String location) {
         if (location.startsWith(CLASSPATH_URL_PREFIX)) {
             return new ClassPathResource(location.substring(CLASSPATH_URL_PREFIX.length()), getClassLoader());
-        } else {
+        }
+        if (location.startsWith(FILE_URL_PREFIX)) {
+            try {
+                return new FileSystemResource(AbstractResource.toURI(new URL(location)).getSchemeSpecificPart());
+            } catch (Exception e) {
+                return new FileSystemResource(location.substring(FILE_URL_PREFIX.length()));
+            }
+        }
+        try {
+            return new UrlResource(new URL(location));
+        } catch (MalformedURLException e) {
             // Default to classpath resource
             return new ClassPathResource(location, getClassLoader());
         }
     }
 
+    /**
+     * Drop all cached resources, including cached misses.
+     */
+    public void clearResourceCache() {
+        synchronized (resourceCache) {
+            resourceCache.clear();
+        }
+    }
+
+    /**
+     * Set the maximum number of class path resources to cache; the least
+     * recently used are evicted beyond it. 0 disables the cache.
+     *
+     * @param resourceCacheLimit the maximum number of cached resources
+     */
+    public void setResourceCacheLimit(int resourceCacheLimit) {
+        if (resourceCacheLimit < 0) {
+            throw new IllegalArgumentException("Resource cache limit must not be negative");
+        }
+        this.resourceCacheLimit = resourceCacheLimit;
+        synchronized (resourceCache) {
+            // Evict down to the new limit
+            Iterator<String> locations = resourceCache.keySet().iterator();
+            while (resourceCache.size() > resourceCacheLimit && locations.hasNext()) {
+                locations.next();
+                locations.remove();
+            }
+        }
+    }
+
+    public int getResourceCacheLimit() {
+        return resourceCacheLimit;
+    }
+
     @Override
     public ClassLoader getClassLoader() {
         return classLoader;
@@ -37,5 +137,6 @@ public class DefaultResourceLoader implements ResourceLoader {
 
     public void setClassLoader(ClassLoader classLoader) {
         this.classLoader = classLoader;
+        clearResourceCache();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package com.yu.spring.io;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Resource implementation for files in the file system.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class FileSystemResource extends AbstractResource {
+
+    private final File file;
+    private final Path filePath;
+
+    public FileSystemResource(String path) {
+        this(new File(path));
+    }
+
+    public FileSystemResource(File file) {
+        this.file = file;
+        this.filePath = file.toPath();
+    }
+
+    public FileSystemResource(Path filePath) {
+        this.file = filePath.toFile();
+        this.filePath = filePath;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        try {
+            return Files.newInputStream(filePath);
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean exists() {
+        return file.exists();
+    }
+
+    @Override
+    public URL getURL() throws IOException {
+        return file.toURI().toURL();
+    }
+
+    @Override
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public ReadableByteChannel readableChannel() throws IOException {
+        try {
+            return FileChannel.open(filePath, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(e.getMessage());
+        }
+    }
+
+    @Override
+    public long contentLength() throws IOException {
+        return Files.size(filePath);
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return Files.getLastModifiedTime(filePath).toMillis();
+    }
+
+    @Override
+    public MappedByteBuffer mapReadOnly() throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    protected boolean isFileBacked() {
+        return true;
+    }
+
+    public String getPath() {
+        return file.getPath();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof FileSystemResource
+                && filePath.equals(((FileSystemResource) other).filePath));
+    }
+
+    @Override
+    public int hashCode() {
+        return filePath.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "FileSystemResource{" + "path='" + file.getPath() + '\'' + '}';
+    }
+}
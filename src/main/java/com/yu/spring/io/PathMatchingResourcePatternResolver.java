@@ -0,0 +1,290 @@
+package com.yu.spring.io;
+
+import com.yu.spring.util.AntPathMatcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+/**
+ * ResourcePatternResolver that resolves "classpath*:" locations and Ant-style
+ * patterns such as {@code classpath*:config/**&#47;*.properties}.
+ *
+ * <p>The fixed root directory of a pattern is looked up in every class path
+ * root. The roots are then searched in parallel: directory trees are walked
+ * with fork/join tasks that prune subdirectories which cannot match, and jar
+ * files are searched through their central directory. Results are sorted per
+ * root and kept in class path order, so the outcome is deterministic.
+ *
+ * <p>The resolved resources are cached per location pattern. Call
+ * {@link #clearCache()} if the class path or file system contents change.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class PathMatchingResourcePatternResolver implements ResourcePatternResolver {
+
+    private static final Resource[] NO_RESOURCES = new Resource[0];
+
+    private final ResourceLoader resourceLoader;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Resource[]> resolvedPatterns = new ConcurrentHashMap<>(32);
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    public PathMatchingResourcePatternResolver() {
+        this(new DefaultResourceLoader());
+    }
+
+    public PathMatchingResourcePatternResolver(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    /**
+     * Set the pool used to search class path roots in parallel.
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public AntPathMatcher getPathMatcher() {
+        return pathMatcher;
+    }
+
+    @Override
+    public Resource getResource(String location) {
+        return resourceLoader.getResource(location);
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return resourceLoader.getClassLoader();
+    }
+
+    @Override
+    public Resource[] getResources(String locationPattern) throws IOException {
+        Resource[] cached = resolvedPatterns.get(locationPattern);
+        if (cached == null) {
+            cached = resolveResources(locationPattern);
+            resolvedPatterns.putIfAbsent(locationPattern, cached);
+        }
+        return cached.clone();
+    }
+
+    /**
+     * Drop all cached pattern resolutions.
+     */
+    public void clearCache() {
+        resolvedPatterns.clear();
+    }
+
+    protected Resource[] resolveResources(String locationPattern) throws IOException {
+        if (locationPattern.startsWith(CLASSPATH_ALL_URL_PREFIX)) {
+            String path = locationPattern.substring(CLASSPATH_ALL_URL_PREFIX.length());
+            if (pathMatcher.isPattern(path)) {
+                return findPathMatchingResources(locationPattern);
+            }
+            return findAllClassPathResources(path);
+        }
+        int prefixEnd = locationPattern.indexOf(':') + 1;
+        if (pathMatcher.isPattern(locationPattern.substring(prefixEnd))) {
+            return findPathMatchingResources(locationPattern);
+        }
+        Resource resource = getResource(locationPattern);
+        return resource.exists() ? new Resource[] { resource } : NO_RESOURCES;
+    }
+
+    /**
+     * Find the given location in every class path root.
+     */
+    protected Resource[] findAllClassPathResources(String location) throws IOException {
+        String path = location.startsWith("/") ? location.substring(1) : location;
+        Set<Resource> result = new LinkedHashSet<>();
+        Enumeration<URL> urls = getClassLoader().getResources(path);
+        while (urls.hasMoreElements()) {
+            result.add(new UrlResource(urls.nextElement()));
+        }
+        if (path.isEmpty()) {
+            // getResources("") only reports directories; add the jar roots too
+            addClassPathJarRoots(result);
+        }
+        return result.toArray(NO_RESOURCES);
+    }
+
+    private void addClassPathJarRoots(Set<Resource> result) throws IOException {
+        String classPath = System.getProperty("java.class.path", "");
+        for (String entry : classPath.split(File.pathSeparator)) {
+            if (entry.endsWith(".jar")) {
+                File jar = new File(entry);
+                if (jar.isFile()) {
+                    result.add(new UrlResource(new URL("jar:" + jar.toURI().toURL() + "!/")));
+                }
+            }
+        }
+    }
+
+    protected Resource[] findPathMatchingResources(String locationPattern) throws IOException {
+        String rootDirPath = determineRootDir(locationPattern);
+        String subPattern = locationPattern.substring(rootDirPath.length());
+        Resource[] rootDirResources = getResources(rootDirPath);
+        if (rootDirResources.length == 0) {
+            return NO_RESOURCES;
+        }
+
+        List<List<Resource>> perRoot;
+        try {
+            perRoot = pool.submit(() -> Arrays.stream(rootDirResources).parallel()
+                    .map(root -> findInRoot(root, subPattern))
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while resolving " + locationPattern, e);
+        } catch (java.util.concurrent.ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw new IOException("Failed to resolve " + locationPattern, cause);
+        }
+
+        Set<Resource> result = new LinkedHashSet<>();
+        for (List<Resource> resources : perRoot) {
+            result.addAll(resources);
+        }
+        return result.toArray(NO_RESOURCES);
+    }
+
+    private List<Resource> findInRoot(Resource rootDirResource, String subPattern) {
+        try {
+            URL rootUrl = rootDirResource.getURL();
+            if (AbstractResource.URL_PROTOCOL_JAR.equals(rootUrl.getProtocol())) {
+                return findInJar(rootUrl, subPattern);
+            }
+            if (AbstractResource.URL_PROTOCOL_FILE.equals(rootUrl.getProtocol())) {
+                File rootDir = rootDirResource.getFile().getAbsoluteFile();
+                if (!rootDir.isDirectory()) {
+                    return Collections.emptyList();
+                }
+                List<File> files = new DirectoryMatchTask(rootDir, "", subPattern).compute();
+                List<Resource> resources = new ArrayList<>(files.size());
+                for (File file : files) {
+                    resources.add(new FileSystemResource(file));
+                }
+                return resources;
+            }
+            return Collections.emptyList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Resource> findInJar(URL rootUrl, String subPattern) throws IOException {
+        URLConnection connection = rootUrl.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return Collections.emptyList();
+        }
+        JarURLConnection jarConnection = (JarURLConnection) connection;
+        JarFile jarFile = jarConnection.getJarFile();
+        String rootEntryPath = jarConnection.getEntryName() == null ? "" : jarConnection.getEntryName();
+        if (!rootEntryPath.isEmpty() && !rootEntryPath.endsWith("/")) {
+            rootEntryPath += "/";
+        }
+        String jarFileUrl = jarConnection.getJarFileURL().toExternalForm();
+
+        List<String> matches = new ArrayList<>();
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            String entryPath = entries.nextElement().getName();
+            if (entryPath.startsWith(rootEntryPath) && !entryPath.endsWith("/")) {
+                String relativePath = entryPath.substring(rootEntryPath.length());
+                if (pathMatcher.match(subPattern, relativePath)) {
+                    matches.add(entryPath);
+                }
+            }
+        }
+        Collections.sort(matches);
+        List<Resource> resources = new ArrayList<>(matches.size());
+        for (String entryPath : matches) {
+            resources.add(new UrlResource(new URL("jar:" + jarFileUrl + "!/" + entryPath)));
+        }
+        return resources;
+    }
+
+    /**
+     * Determine the root directory of a pattern, i.e. the part up to the
+     * last '/' before the first wildcard.
+     */
+    protected String determineRootDir(String location) {
+        int prefixEnd = location.indexOf(':') + 1;
+        int rootDirEnd = location.length();
+        while (rootDirEnd > prefixEnd && pathMatcher.isPattern(location.substring(prefixEnd, rootDirEnd))) {
+            rootDirEnd = location.lastIndexOf('/', rootDirEnd - 2) + 1;
+        }
+        if (rootDirEnd == 0) {
+            rootDirEnd = prefixEnd;
+        }
+        return location.substring(0, rootDirEnd);
+    }
+
+    /**
+     * Walks one directory, forking a subtask per subdirectory that could still
+     * contain matches.
+     */
+    private final class DirectoryMatchTask extends RecursiveTask<List<File>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final File dir;
+        private final String relativeDir;
+        private final String pattern;
+
+        DirectoryMatchTask(File dir, String relativeDir, String pattern) {
+            this.dir = dir;
+            this.relativeDir = relativeDir;
+            this.pattern = pattern;
+        }
+
+        @Override
+        protected List<File> compute() {
+            File[] children = dir.listFiles();
+            if (children == null) {
+                return Collections.emptyList();
+            }
+            Arrays.sort(children);
+            List<File> matches = new ArrayList<>();
+            List<DirectoryMatchTask> subtasks = new ArrayList<>();
+            for (File child : children) {
+                String relativePath = relativeDir + child.getName();
+                if (child.isDirectory()) {
+                    if (pathMatcher.matchStart(pattern, relativePath + "/")) {
+                        DirectoryMatchTask subtask = new DirectoryMatchTask(child, relativePath + "/", pattern);
+                        subtask.fork();
+                        subtasks.add(subtask);
+                    }
+                } else if (pathMatcher.match(pattern, relativePath)) {
+                    matches.add(child);
+                }
+            }
+            for (DirectoryMatchTask subtask : subtasks) {
+                matches.addAll(subtask.join());
+            }
+            return matches;
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package com.yu.spring.io;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 
 /**
+ * Interface for a resource descriptor that abstracts from the actual
+ * type of underlying resource, such as a file or class path resource.
+ *
  * @author yuhangbin
  * @date 2022/5/8
  **/
@@ -11,4 +18,47 @@ public interface Resource {
 
 	InputStream getInputStream() throws IOException;
 
+	/**
+	 * Determine whether this resource actually exists.
+	 */
+	boolean exists();
+
+	/**
+	 * Return a URL handle for this resource.
+	 *
+	 * @throws IOException if the resource cannot be resolved as URL
+	 */
+	URL getURL() throws IOException;
+
+	/**
+	 * Return a File handle for this resource.
+	 *
+	 * @throws java.io.FileNotFoundException if the resource is not backed by a file
+	 */
+	File getFile() throws IOException;
+
+	/**
+	 * Return a channel for reading the content. File-backed resources return
+	 * a FileChannel, which supports positional reads and transfers.
+	 */
+	ReadableByteChannel readableChannel() throws IOException;
+
+	/**
+	 * Determine the content length for this resource in bytes.
+	 */
+	long contentLength() throws IOException;
+
+	/**
+	 * Determine the last-modified timestamp for this resource.
+	 */
+	long lastModified() throws IOException;
+
+	/**
+	 * Map the content of this resource read-only into memory. Supported for
+	 * file-backed resources and entries of jar files.
+	 *
+	 * @throws IOException if the resource cannot be mapped
+	 */
+	MappedByteBuffer mapReadOnly() throws IOException;
+
 }
@@ -0,0 +1,29 @@
+package com.yu.spring.io;
+
+import java.io.IOException;
+
+/**
+ * Strategy interface for resolving a location pattern (for example, an
+ * Ant-style path pattern) into Resource objects.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface ResourcePatternResolver extends ResourceLoader {
+
+    /**
+     * Pseudo URL prefix for all matching resources from the class path:
+     * "classpath*:". Unlike "classpath:", it finds a location in every class
+     * path root, not just the first one.
+     */
+    String CLASSPATH_ALL_URL_PREFIX = "classpath*:";
+
+    /**
+     * Resolve the given location pattern into Resource objects.
+     *
+     * @param locationPattern the location pattern to resolve
+     * @return the corresponding Resource objects, in a deterministic order
+     * @throws IOException in case of I/O errors
+     */
+    Resource[] getResources(String locationPattern) throws IOException;
+}
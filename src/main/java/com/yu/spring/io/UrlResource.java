@@ -0,0 +1,83 @@
+package com.yu.spring.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+
+/**
+ * Resource implementation for URL locations: file:, jar:, http: and any
+ * other protocol with a registered handler.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class UrlResource extends AbstractResource {
+
+    private final URL url;
+
+    public UrlResource(URL url) {
+        this.url = url;
+    }
+
+    public UrlResource(String location) throws MalformedURLException {
+        this(new URL(location));
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        URLConnection connection = url.openConnection();
+        try {
+            return connection.getInputStream();
+        } catch (IOException e) {
+            if (connection instanceof HttpURLConnection) {
+                ((HttpURLConnection) connection).disconnect();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean exists() {
+        if (isFileBacked()) {
+            return super.exists();
+        }
+        try {
+            URLConnection connection = url.openConnection();
+            if (connection instanceof HttpURLConnection) {
+                HttpURLConnection httpConnection = (HttpURLConnection) connection;
+                httpConnection.setRequestMethod("HEAD");
+                int code = httpConnection.getResponseCode();
+                httpConnection.disconnect();
+                return code >= 200 && code < 300;
+            }
+            connection.getInputStream().close();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public URL getURL() {
+        return url;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof UrlResource
+                && url.toExternalForm().equals(((UrlResource) other).url.toExternalForm()));
+    }
+
+    @Override
+    public int hashCode() {
+        return url.toExternalForm().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "UrlResource{" + "url='" + url + '\'' + '}';
+    }
+}
@@ -1,5 +1,9 @@
 package com.yu.spring.learning;
 
+import com.yu.spring.aop.DefaultAdvisorAutoProxyCreator;
+import com.yu.spring.aop.DefaultPointcutAdvisor;
+import com.yu.spring.aop.intercept.MethodInterceptor;
+import com.yu.spring.aop.intercept.MethodInvocation;
 import com.yu.spring.beans.BeanPostProcessor;
 import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
 import com.yu.spring.beans.BeanDefinition;
@@ -69,10 +73,7 @@ public class BeanPostProcessorUnderstanding {
         System.out.println("演示2: BeanPostProcessor 返回代理对象");
         System.out.println("----------------------------------------");
 
-        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
-
-        // 添加一个创建代理的 BeanPostProcessor
-        beanFactory.addBeanPostProcessor(new ProxyBeanPostProcessor());
+        DefaultListableBeanFactory beanFactory = createProxyingBeanFactory();
 
         // 注册一个需要代理的 bean
         registerBean(beanFactory, "userService", UserService.class);
@@ -83,7 +84,7 @@ public class BeanPostProcessorUnderstanding {
         System.out.println("\n检查返回的对象类型:");
         System.out.println("原始类型: " + UserService.class.getName());
         System.out.println("实际返回类型: " + userService.getClass().getName());
-        System.out.println("是否是代理: " + userService.getClass().getName().contains("$Proxy"));
+        System.out.println("是否是代理: " + (userService.getClass() != UserService.class));
 
         // 调用方法验证代理功能
         if (userService instanceof UserService) {
@@ -102,10 +103,7 @@ public class BeanPostProcessorUnderstanding {
         System.out.println("演示3: 实际应用场景");
         System.out.println("----------------------------------------");
 
-        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
-
-        // 添加一个创建代理的 BeanPostProcessor
-        beanFactory.addBeanPostProcessor(new ProxyBeanPostProcessor());
+        DefaultListableBeanFactory beanFactory = createProxyingBeanFactory();
 
         // 注册服务
         registerBean(beanFactory, "userService", UserService.class);
@@ -116,9 +114,11 @@ public class BeanPostProcessorUnderstanding {
         Object orderService = beanFactory.getBean("orderService");
 
         System.out.println("\n调用服务方法:");
-        // 注意：代理对象不能直接转换为原始类型，需要通过反射调用
+        // 没有接口的类由 CGLIB 生成子类代理，可以直接转换为原始类型
         System.out.println("    userService 类型: " + userService.getClass().getName());
         System.out.println("    orderService 类型: " + orderService.getClass().getName());
+        ((UserService) userService).createUser("李四");
+        ((OrderService) orderService).createOrder("订单001");
 
         System.out.println("\n结论: 在实际应用中，BeanPostProcessor 用于:");
         System.out.println("1. 依赖注入 (@Autowired, @Resource)");
@@ -128,6 +128,17 @@ public class BeanPostProcessorUnderstanding {
         System.out.println("5. 缓存处理");
     }
 
+    /**
+     * 创建会返回代理的 BeanFactory：DefaultAdvisorAutoProxyCreator 本身就是一个
+     * BeanPostProcessor，它为 Advisor bean 匹配的 bean 返回代理对象
+     */
+    private static DefaultListableBeanFactory createProxyingBeanFactory() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.addBeanPostProcessor(new DefaultAdvisorAutoProxyCreator(beanFactory));
+        registerBean(beanFactory, "loggingAdvisor", LoggingAdvisor.class);
+        return beanFactory;
+    }
+
     private static void registerBean(DefaultListableBeanFactory beanFactory, String name, Class<?> clazz) {
         BeanDefinition beanDefinition = new BeanDefinition();
         beanDefinition.setBeanClass(clazz);
@@ -175,30 +186,29 @@ public class BeanPostProcessorUnderstanding {
         }
     }
 
+    // ==================== Advisor 实现 ====================
+
     /**
-     * 创建代理的 BeanPostProcessor - 返回代理对象
+     * 日志 Advisor - 对所有方法生效，由 DefaultAdvisorAutoProxyCreator 创建代理
      */
-    public static class ProxyBeanPostProcessor implements BeanPostProcessor {
-        @Override
-        public Object postProcessBeforeInitialization(Object bean, String beanName) throws Exception {
-            System.out.println("    [ProxyBeanPostProcessor] Before: " + beanName);
-            return bean;
+    public static class LoggingAdvisor extends DefaultPointcutAdvisor {
+
+        public LoggingAdvisor() {
+            super(new LoggingInterceptor());
         }
+    }
+
+    /**
+     * 日志拦截器 - 在代理中包裹每次方法调用
+     */
+    public static class LoggingInterceptor implements MethodInterceptor {
 
         @Override
-        public Object postProcessAfterInitialization(Object bean, String beanName) throws Exception {
-            System.out.println("    [ProxyBeanPostProcessor] After: " + beanName + " - 创建代理");
-
-            // 创建简单的代理对象
-            return java.lang.reflect.Proxy.newProxyInstance(
-                    bean.getClass().getClassLoader(),
-                    bean.getClass().getInterfaces(),
-                    (proxy, method, args) -> {
-                        System.out.println("    [代理] 调用方法: " + method.getName());
-                        Object result = method.invoke(bean, args);
-                        System.out.println("    [代理] 方法执行完成");
-                        return result;
-                    });
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            System.out.println("    [代理] 调用方法: " + invocation.getMethod().getName());
+            Object result = invocation.proceed();
+            System.out.println("    [代理] 方法执行完成");
+            return result;
         }
     }
-}
\ No newline at end of file
+}
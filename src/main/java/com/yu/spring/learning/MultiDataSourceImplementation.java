@@ -1,8 +1,14 @@
 package com.yu.spring.learning;
 
-import com.yu.spring.beans.BeanPostProcessor;
+import com.yu.spring.aop.DefaultAdvisorAutoProxyCreator;
+import com.yu.spring.aop.DefaultPointcutAdvisor;
+import com.yu.spring.aop.aspectj.AspectJExpressionPointcut;
+import com.yu.spring.aop.intercept.MethodInterceptor;
+import com.yu.spring.aop.intercept.MethodInvocation;
 import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
 import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.core.annotation.ClassMetadata;
+import com.yu.spring.core.annotation.MergedAnnotations;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -50,8 +56,7 @@ public class MultiDataSourceImplementation {
         System.out.println("演示1: 基本的多数据源路由");
         System.out.println("----------------------------------------");
 
-        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
-        beanFactory.addBeanPostProcessor(new MultiDataSourceBeanPostProcessor());
+        DefaultListableBeanFactory beanFactory = createBeanFactory();
 
         // 注册多数据源服务
         registerBean(beanFactory, "userService", UserService.class);
@@ -89,21 +94,20 @@ public class MultiDataSourceImplementation {
         System.out.println("演示2: 事务传播和数据源切换");
         System.out.println("----------------------------------------");
 
-        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
-        beanFactory.addBeanPostProcessor(new MultiDataSourceBeanPostProcessor());
+        DefaultListableBeanFactory beanFactory = createBeanFactory();
 
         registerBean(beanFactory, "businessService", BusinessService.class);
         registerBean(beanFactory, "userService", UserService.class);
         registerBean(beanFactory, "orderService", OrderService.class);
 
-        Object businessService = beanFactory.getBean("businessService");
+        BusinessService businessService = (BusinessService) beanFactory.getBean("businessService");
 
         System.out.println("\n执行业务操作 (涉及多个数据源):");
         System.out.println("BusinessService 类型: " + businessService.getClass().getName());
-        System.out.println("BusinessService 是代理: " + businessService.getClass().getName().contains("$Proxy"));
+        // 没有接口的类由 CGLIB 生成子类代理，可以直接转换为原始类型
+        System.out.println("BusinessService 是代理: " + (businessService.getClass() != BusinessService.class));
+        businessService.processBusinessLogic("业务001");
 
-        // 注意：代理对象不能直接转换为原始类型
-        // 在实际使用中，Spring 会通过接口或依赖注入来访问代理对象
         System.out.println("\n结论: 多数据源环境下，每个服务都会根据 @Transactional 注解确定使用哪个数据源！");
     }
 
@@ -130,6 +134,17 @@ public class MultiDataSourceImplementation {
         DataSourceContextHolder.clear();
     }
 
+    /**
+     * 创建带有自动代理的 BeanFactory：多数据源 Advisor 注册为普通 bean，
+     * DefaultAdvisorAutoProxyCreator 为它匹配的 bean 创建代理
+     */
+    private static DefaultListableBeanFactory createBeanFactory() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.addBeanPostProcessor(new DefaultAdvisorAutoProxyCreator(beanFactory));
+        registerBean(beanFactory, "multiDataSourceAdvisor", MultiDataSourceAdvisor.class);
+        return beanFactory;
+    }
+
     private static void registerBean(DefaultListableBeanFactory beanFactory, String name, Class<?> clazz) {
         BeanDefinition beanDefinition = new BeanDefinition();
         beanDefinition.setBeanClass(clazz);
@@ -198,16 +213,18 @@ public class MultiDataSourceImplementation {
 
         public static String determineDataSource(Method method, Class<?> targetClass) {
             // 1. 优先使用方法上的注解
-            if (method.isAnnotationPresent(Transactional.class)) {
-                String dataSource = method.getAnnotation(Transactional.class).dataSource();
+            Transactional methodTransactional = MergedAnnotations.from(method).get(Transactional.class);
+            if (methodTransactional != null) {
+                String dataSource = methodTransactional.dataSource();
                 if (!"master".equals(dataSource)) {
                     return dataSource;
                 }
             }
 
             // 2. 检查类上的注解
-            if (targetClass.isAnnotationPresent(Transactional.class)) {
-                String dataSource = targetClass.getAnnotation(Transactional.class).dataSource();
+            Transactional classTransactional = ClassMetadata.forClass(targetClass).getAnnotation(Transactional.class);
+            if (classTransactional != null) {
+                String dataSource = classTransactional.dataSource();
                 if (!"master".equals(dataSource)) {
                     return dataSource;
                 }
@@ -315,11 +332,13 @@ public class MultiDataSourceImplementation {
     /**
      * 多数据源事务拦截器
      */
-    public static class MultiDataSourceTransactionInterceptor {
+    public static class MultiDataSourceTransactionInterceptor implements MethodInterceptor {
 
-        public Object invoke(Object target, Method method, Object[] args) {
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
             // 确定使用哪个数据源
-            String dataSource = DataSourceRouter.determineDataSource(method, target.getClass());
+            Method method = invocation.getMethod();
+            String dataSource = DataSourceRouter.determineDataSource(method, invocation.getThis().getClass());
 
             System.out.println("    [多数据源事务拦截器] 方法: " + method.getName());
             System.out.println("    [多数据源事务拦截器] 确定数据源: " + dataSource);
@@ -332,18 +351,18 @@ public class MultiDataSourceImplementation {
                 beginTransaction(dataSource);
 
                 // 执行业务逻辑
-                Object result = method.invoke(target, args);
+                Object result = invocation.proceed();
 
                 // 提交事务
                 commitTransaction(dataSource);
 
                 return result;
 
-            } catch (Exception e) {
+            } catch (Throwable e) {
                 // 回滚事务
                 rollbackTransaction(dataSource);
                 System.out.println("    [多数据源事务拦截器] 事务回滚: " + e.getMessage());
-                throw new RuntimeException(e);
+                throw e;
             } finally {
                 // 清理数据源上下文
                 DataSourceContextHolder.clear();
@@ -363,59 +382,17 @@ public class MultiDataSourceImplementation {
         }
     }
 
-    // ==================== BeanPostProcessor 实现 ====================
+    // ==================== Advisor 实现 ====================
 
     /**
-     * 多数据源 BeanPostProcessor
+     * 多数据源 Advisor - 匹配带有 @Transactional 的方法或类，
+     * 由 DefaultAdvisorAutoProxyCreator 为匹配的 bean 创建代理
      */
-    public static class MultiDataSourceBeanPostProcessor implements BeanPostProcessor {
-
-        private final MultiDataSourceTransactionInterceptor interceptor = new MultiDataSourceTransactionInterceptor();
-
-        @Override
-        public Object postProcessBeforeInitialization(Object bean, String beanName) throws Exception {
-            return bean;
-        }
-
-        @Override
-        public Object postProcessAfterInitialization(Object bean, String beanName) throws Exception {
-            System.out.println("    [MultiDataSourceBeanPostProcessor] 检查 bean: " + beanName);
-
-            if (needsTransactionalProxy(bean)) {
-                System.out.println("    [MultiDataSourceBeanPostProcessor] 为 " + beanName + " 创建多数据源代理");
-                return createMultiDataSourceProxy(bean);
-            }
-
-            return bean;
-        }
-
-        private boolean needsTransactionalProxy(Object bean) {
-            Class<?> clazz = bean.getClass();
-
-            if (clazz.isAnnotationPresent(Transactional.class)) {
-                return true;
-            }
-
-            for (Method method : clazz.getMethods()) {
-                if (method.isAnnotationPresent(Transactional.class)) {
-                    return true;
-                }
-            }
-
-            return false;
-        }
+    public static class MultiDataSourceAdvisor extends DefaultPointcutAdvisor {
 
-        private Object createMultiDataSourceProxy(Object bean) {
-            return java.lang.reflect.Proxy.newProxyInstance(
-                    bean.getClass().getClassLoader(),
-                    bean.getClass().getInterfaces(),
-                    (proxy, method, args) -> {
-                        if (method.isAnnotationPresent(Transactional.class)) {
-                            return interceptor.invoke(bean, method, args);
-                        } else {
-                            return method.invoke(bean, args);
-                        }
-                    });
+        public MultiDataSourceAdvisor() {
+            super(new AspectJExpressionPointcut("@annotation(" + Transactional.class.getName() + ") || @within("
+                    + Transactional.class.getName() + ")"), new MultiDataSourceTransactionInterceptor());
         }
     }
-}
\ No newline at end of file
+}
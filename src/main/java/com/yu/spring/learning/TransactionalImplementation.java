@@ -1,6 +1,12 @@
 package com.yu.spring.learning;
 
-import com.yu.spring.beans.BeanPostProcessor;
+import com.yu.spring.aop.AdvisedSupport;
+import com.yu.spring.aop.DefaultAdvisorAutoProxyCreator;
+import com.yu.spring.aop.DefaultAopProxyFactory;
+import com.yu.spring.aop.DefaultPointcutAdvisor;
+import com.yu.spring.aop.aspectj.AspectJExpressionPointcut;
+import com.yu.spring.aop.intercept.MethodInterceptor;
+import com.yu.spring.aop.intercept.MethodInvocation;
 import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
 import com.yu.spring.beans.BeanDefinition;
 
@@ -8,16 +14,15 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
-import java.lang.reflect.Method;
 
 /**
  * 演示 Spring 如何实现 @Transactional 代理创建
  * 
  * 关键组件：
  * 1. @Transactional 注解
- * 2. TransactionalBeanPostProcessor - 检测需要事务的 bean
+ * 2. TransactionAdvisor - 匹配 @Transactional 方法的 Advisor
  * 3. TransactionInterceptor - 事务拦截器
- * 4. AOP 代理创建机制
+ * 4. DefaultAdvisorAutoProxyCreator - 为 Advisor 匹配的 bean 创建代理
  * 
  * @author yuhangbin
  */
@@ -47,10 +52,7 @@ public class TransactionalImplementation {
         System.out.println("演示1: 基本的事务代理创建");
         System.out.println("----------------------------------------");
 
-        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
-
-        // 添加事务 BeanPostProcessor
-        beanFactory.addBeanPostProcessor(new TransactionalBeanPostProcessor());
+        DefaultListableBeanFactory beanFactory = createBeanFactory();
 
         // 注册带有 @Transactional 的服务
         registerBean(beanFactory, "userService", UserService.class);
@@ -62,8 +64,8 @@ public class TransactionalImplementation {
 
         System.out.println("UserService 类型: " + userService.getClass().getName());
         System.out.println("OrderService 类型: " + orderService.getClass().getName());
-        System.out.println("UserService 是代理: " + userService.getClass().getName().contains("$Proxy"));
-        System.out.println("OrderService 是代理: " + orderService.getClass().getName().contains("$Proxy"));
+        System.out.println("UserService 是代理: " + (userService.getClass() != UserService.class));
+        System.out.println("OrderService 是代理: " + (orderService.getClass() != OrderService.class));
 
         System.out.println("\n调用事务方法:");
         if (userService instanceof UserService) {
@@ -79,14 +81,23 @@ public class TransactionalImplementation {
         System.out.println("演示2: 事务拦截器的工作机制");
         System.out.println("----------------------------------------");
 
-        // 创建事务拦截器
-        TransactionInterceptor interceptor = new TransactionInterceptor();
+        // 不经过 BeanFactory，直接用 Advisor 创建代理
+        AdvisedSupport advised = new AdvisedSupport(new UserService());
+        advised.addAdvisor(new TransactionAdvisor());
+        UserService service = (UserService) new DefaultAopProxyFactory().createAopProxy(advised).getProxy();
+
+        System.out.println("\n调用事务方法:");
+        service.createUser("李四");
+
+        System.out.println("\n调用非事务方法 (不经过拦截器):");
+        service.updateUser("王五");
 
-        // 模拟事务方法调用
-        System.out.println("\n模拟事务方法调用:");
-        interceptor.invoke("createUser", new Object[] { "李四" });
-        interceptor.invoke("updateUser", new Object[] { "王五" });
-        interceptor.invoke("deleteUser", new Object[] { "赵六" });
+        System.out.println("\n事务方法抛出异常:");
+        try {
+            service.createUser("error");
+        } catch (RuntimeException e) {
+            System.out.println("    调用方收到异常: " + e.getMessage());
+        }
     }
 
     /**
@@ -96,22 +107,39 @@ public class TransactionalImplementation {
         System.out.println("演示3: 完整的事务管理流程");
         System.out.println("----------------------------------------");
 
-        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
-        beanFactory.addBeanPostProcessor(new TransactionalBeanPostProcessor());
+        DefaultListableBeanFactory beanFactory = createBeanFactory();
 
         registerBean(beanFactory, "bankService", BankService.class);
 
-        Object bankService = beanFactory.getBean("bankService");
+        BankService bankService = (BankService) beanFactory.getBean("bankService");
 
         System.out.println("\n执行银行转账操作:");
         System.out.println("BankService 类型: " + bankService.getClass().getName());
-        System.out.println("BankService 是代理: " + bankService.getClass().getName().contains("$Proxy"));
+        // 没有接口的类由 CGLIB 生成子类代理，可以直接转换为原始类型
+        System.out.println("BankService 是代理: " + (bankService.getClass() != BankService.class));
+        bankService.transfer("A", "B", 1000);
+
+        System.out.println("\n转账金额超过限制:");
+        try {
+            bankService.transfer("A", "B", 8000);
+        } catch (RuntimeException e) {
+            System.out.println("    调用方收到异常: " + e.getMessage());
+        }
 
-        // 注意：代理对象不能直接转换为原始类型
-        // 在实际使用中，Spring 会通过接口或父类来访问代理对象
         System.out.println("\n结论: @Transactional 注解会触发代理创建！");
     }
 
+    /**
+     * 创建带有自动代理的 BeanFactory：事务 Advisor 注册为普通 bean，
+     * DefaultAdvisorAutoProxyCreator 为它匹配的 bean 创建代理
+     */
+    private static DefaultListableBeanFactory createBeanFactory() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.addBeanPostProcessor(new DefaultAdvisorAutoProxyCreator(beanFactory));
+        registerBean(beanFactory, "transactionAdvisor", TransactionAdvisor.class);
+        return beanFactory;
+    }
+
     private static void registerBean(DefaultListableBeanFactory beanFactory, String name, Class<?> clazz) {
         BeanDefinition beanDefinition = new BeanDefinition();
         beanDefinition.setBeanClass(clazz);
@@ -194,25 +222,25 @@ public class TransactionalImplementation {
     /**
      * 事务拦截器 - 处理事务逻辑
      */
-    public static class TransactionInterceptor {
+    public static class TransactionInterceptor implements MethodInterceptor {
 
-        public Object invoke(String methodName, Object[] args) {
-            System.out.println("    [事务拦截器] 开始处理事务");
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            System.out.println("    [事务拦截器] 开始处理事务: " + invocation.getMethod().getName());
 
+            // 1. 开启事务
+            beginTransaction();
             try {
-                // 1. 开启事务
-                beginTransaction();
-
-                // 2. 执行业务逻辑（这里只是模拟）
-                System.out.println("    [事务拦截器] 执行业务方法: " + methodName);
+                // 2. 执行业务逻辑
+                Object result = invocation.proceed();
 
                 // 3. 提交事务
                 commitTransaction();
 
                 System.out.println("    [事务拦截器] 事务处理完成");
-                return null;
+                return result;
 
-            } catch (Exception e) {
+            } catch (Throwable e) {
                 // 4. 回滚事务
                 rollbackTransaction();
                 System.out.println("    [事务拦截器] 事务回滚: " + e.getMessage());
@@ -233,73 +261,17 @@ public class TransactionalImplementation {
         }
     }
 
-    // ==================== BeanPostProcessor 实现 ====================
+    // ==================== Advisor 实现 ====================
 
     /**
-     * 事务 BeanPostProcessor - Spring 中的核心组件
-     * 对应 Spring 的 AbstractAutoProxyCreator
+     * 事务 Advisor - 对应 Spring 的 BeanFactoryTransactionAttributeSourceAdvisor
+     * 匹配带有 @Transactional 的方法或类，由 DefaultAdvisorAutoProxyCreator 应用
      */
-    public static class TransactionalBeanPostProcessor implements BeanPostProcessor {
-
-        private final TransactionInterceptor transactionInterceptor = new TransactionInterceptor();
-
-        @Override
-        public Object postProcessBeforeInitialization(Object bean, String beanName) throws Exception {
-            return bean;
-        }
-
-        @Override
-        public Object postProcessAfterInitialization(Object bean, String beanName) throws Exception {
-            System.out.println("    [TransactionalBeanPostProcessor] 检查 bean: " + beanName);
-
-            // 检查是否需要事务代理
-            if (needsTransactionalProxy(bean)) {
-                System.out.println("    [TransactionalBeanPostProcessor] 为 " + beanName + " 创建事务代理");
-                return createTransactionalProxy(bean);
-            }
-
-            System.out.println("    [TransactionalBeanPostProcessor] " + beanName + " 不需要事务代理");
-            return bean;
-        }
-
-        /**
-         * 检查 bean 是否需要事务代理
-         */
-        private boolean needsTransactionalProxy(Object bean) {
-            Class<?> clazz = bean.getClass();
-
-            // 检查类级别注解
-            if (clazz.isAnnotationPresent(Transactional.class)) {
-                return true;
-            }
-
-            // 检查方法级别注解
-            for (Method method : clazz.getMethods()) {
-                if (method.isAnnotationPresent(Transactional.class)) {
-                    return true;
-                }
-            }
-
-            return false;
-        }
+    public static class TransactionAdvisor extends DefaultPointcutAdvisor {
 
-        /**
-         * 创建事务代理 - 简化版本，直接使用 JDK 动态代理
-         */
-        private Object createTransactionalProxy(Object bean) {
-            return java.lang.reflect.Proxy.newProxyInstance(
-                    bean.getClass().getClassLoader(),
-                    bean.getClass().getInterfaces(),
-                    (proxy, method, args) -> {
-                        // 检查方法是否有 @Transactional 注解
-                        if (method.isAnnotationPresent(Transactional.class)) {
-                            System.out.println("    [事务代理] 拦截事务方法: " + method.getName());
-                            return transactionInterceptor.invoke(method.getName(), args);
-                        } else {
-                            // 非事务方法，直接调用
-                            return method.invoke(bean, args);
-                        }
-                    });
+        public TransactionAdvisor() {
+            super(new AspectJExpressionPointcut("@annotation(" + Transactional.class.getName() + ") || @within("
+                    + Transactional.class.getName() + ")"), new TransactionInterceptor());
         }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.yu.spring.learning;
 
 import com.yu.spring.aop.*;
+import com.yu.spring.aop.intercept.MethodInterceptor;
 import com.yu.spring.beans.BeanDefinition;
 import com.yu.spring.beans.BeanPostProcessor;
 import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
@@ -144,7 +145,13 @@ public class UnderstandingExercises {
 
         // Configure AOP
         AdvisedSupport advised = new AdvisedSupport(target);
-        advised.setPointcut(Pointcut.TRUE); // Match all methods
+        // Trace all methods
+        advised.addAdvisor(new DefaultPointcutAdvisor(Pointcut.TRUE, (MethodInterceptor) invocation -> {
+            System.out.println("Before method: " + invocation.getMethod().getName());
+            Object result = invocation.proceed();
+            System.out.println("After method: " + invocation.getMethod().getName());
+            return result;
+        }));
 
         // Create JDK proxy
         JdkDynamicAopProxy jdkProxy = new JdkDynamicAopProxy(advised);
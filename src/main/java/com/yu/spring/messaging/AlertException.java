@@ -0,0 +1,20 @@
+package com.yu.spring.messaging;
+
+/**
+ * Thrown to a waiting consumer when its SequenceBarrier is alerted, e.g.
+ * because the pipeline is shutting down. A shared instance without a stack
+ * trace is used, since it is a control-flow signal.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public final class AlertException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	public static final AlertException INSTANCE = new AlertException();
+
+	private AlertException() {
+		super("Sequence barrier alerted", null, false, false);
+	}
+}
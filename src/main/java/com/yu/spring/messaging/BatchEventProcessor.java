@@ -0,0 +1,112 @@
+package com.yu.spring.messaging;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Consumer loop that hands every available event to an EventHandler and
+ * publishes its progress once per batch rather than once per event.
+ *
+ * <p>An exception thrown by the handler goes to the ExceptionHandler and the
+ * event is skipped, so one bad message cannot stall the pipeline. Without an
+ * ExceptionHandler it is reported to the thread's uncaught exception
+ * handler. Errors are not caught and stop the processor.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public final class BatchEventProcessor<E> implements Runnable {
+
+	private final RingBuffer<E> ringBuffer;
+	private final SequenceBarrier sequenceBarrier;
+	private final EventHandler<? super E> eventHandler;
+	private final Sequence sequence = new Sequence();
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile ExceptionHandler<? super E> exceptionHandler;
+
+	public BatchEventProcessor(RingBuffer<E> ringBuffer, SequenceBarrier sequenceBarrier,
+			EventHandler<? super E> eventHandler) {
+		this.ringBuffer = ringBuffer;
+		this.sequenceBarrier = sequenceBarrier;
+		this.eventHandler = eventHandler;
+	}
+
+	/**
+	 * Return the sequence of the last event this processor has handled.
+	 */
+	public Sequence getSequence() {
+		return sequence;
+	}
+
+	public EventHandler<? super E> getEventHandler() {
+		return eventHandler;
+	}
+
+	/**
+	 * Set the callback for exceptions thrown by the event handler.
+	 *
+	 * @param exceptionHandler the callback, or null to report to the thread's
+	 *                         uncaught exception handler
+	 */
+	public void setExceptionHandler(ExceptionHandler<? super E> exceptionHandler) {
+		this.exceptionHandler = exceptionHandler;
+	}
+
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	/**
+	 * Signal the processor to stop once it is done with the current batch.
+	 */
+	public void halt() {
+		running.set(false);
+		sequenceBarrier.alert();
+	}
+
+	@Override
+	public void run() {
+		if (!running.compareAndSet(false, true)) {
+			throw new IllegalStateException("BatchEventProcessor is already running");
+		}
+		sequenceBarrier.clearAlert();
+
+		try {
+			processEvents();
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private void processEvents() {
+		long nextSequence = sequence.get() + 1L;
+		while (true) {
+			try {
+				long availableSequence = sequenceBarrier.waitFor(nextSequence);
+				while (nextSequence <= availableSequence) {
+					eventHandler.onEvent(ringBuffer.get(nextSequence), nextSequence, nextSequence == availableSequence);
+					nextSequence++;
+				}
+				sequence.set(availableSequence);
+			} catch (AlertException e) {
+				if (!running.get()) {
+					break;
+				}
+			} catch (Exception e) {
+				handleEventException(e, nextSequence);
+				// Skip the failed event so one bad message cannot stall the pipeline
+				sequence.set(nextSequence);
+				nextSequence++;
+			}
+		}
+	}
+
+	private void handleEventException(Exception e, long failedSequence) {
+		ExceptionHandler<? super E> handler = this.exceptionHandler;
+		if (handler != null) {
+			handler.handleEventException(e, failedSequence, ringBuffer.get(failedSequence));
+		} else {
+			Thread thread = Thread.currentThread();
+			thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+		}
+	}
+}
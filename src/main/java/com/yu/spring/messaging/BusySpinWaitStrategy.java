@@ -0,0 +1,20 @@
+package com.yu.spring.messaging;
+
+/**
+ * Spins in a tight loop. Lowest latency, but burns a core per consumer, so
+ * only use it when consumers have dedicated cores.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class BusySpinWaitStrategy implements WaitStrategy {
+
+	@Override
+	public long waitFor(long sequence, Sequence dependentSequence, SequenceBarrier barrier) throws AlertException {
+		long availableSequence;
+		while ((availableSequence = dependentSequence.get()) < sequence) {
+			barrier.checkAlert();
+		}
+		return availableSequence;
+	}
+}
@@ -0,0 +1,14 @@
+package com.yu.spring.messaging;
+
+/**
+ * Creates the events that preallocate a RingBuffer. Events are reused for
+ * the lifetime of the buffer, so they should be mutable holders.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@FunctionalInterface
+public interface EventFactory<E> {
+
+	E newInstance();
+}
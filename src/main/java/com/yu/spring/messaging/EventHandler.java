@@ -0,0 +1,22 @@
+package com.yu.spring.messaging;
+
+/**
+ * Callback for consuming events from a RingBuffer. Handlers are usually beans
+ * resolved by a {@link ManagedRingBufferPipeline}.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@FunctionalInterface
+public interface EventHandler<E> {
+
+	/**
+	 * Called when a published event is available.
+	 *
+	 * @param event      the event; only valid for the duration of the call
+	 * @param sequence   the sequence of the event
+	 * @param endOfBatch whether this is the last event of the current batch,
+	 *                   a good point to flush buffered work
+	 */
+	void onEvent(E event, long sequence, boolean endOfBatch) throws Exception;
+}
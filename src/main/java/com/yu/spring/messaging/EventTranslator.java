@@ -0,0 +1,20 @@
+package com.yu.spring.messaging;
+
+/**
+ * Copies data into a claimed, preallocated event before it is published.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@FunctionalInterface
+public interface EventTranslator<E, A> {
+
+	/**
+	 * Populate the event.
+	 *
+	 * @param event    the preallocated event to fill
+	 * @param sequence the sequence assigned to the event
+	 * @param arg      the value to copy into the event
+	 */
+	void translateTo(E event, long sequence, A arg);
+}
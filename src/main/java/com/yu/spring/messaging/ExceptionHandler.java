@@ -0,0 +1,22 @@
+package com.yu.spring.messaging;
+
+/**
+ * Callback for exceptions thrown by an EventHandler. The processor skips the
+ * failed event once the callback returns; an exception thrown by the
+ * callback stops the processor.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+@FunctionalInterface
+public interface ExceptionHandler<E> {
+
+	/**
+	 * Report that an event could not be handled.
+	 *
+	 * @param ex       the exception thrown by the handler
+	 * @param sequence the sequence of the failed event
+	 * @param event    the failed event
+	 */
+	void handleEventException(Exception ex, long sequence, E event);
+}
@@ -0,0 +1,145 @@
+package com.yu.spring.messaging;
+
+import com.yu.spring.beans.factory.BeanFactory;
+import com.yu.spring.context.ApplicationListener;
+import com.yu.spring.context.event.ApplicationContextEvent;
+import com.yu.spring.context.event.ContextClosedEvent;
+import com.yu.spring.context.event.ContextRefreshedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A RingBufferPipeline whose lifecycle follows the application context and
+ * whose handlers are beans. Register a subclass as a bean and declare the
+ * stages by bean name:
+ *
+ * <pre>
+ * public class IngestPipeline extends ManagedRingBufferPipeline&lt;Message&gt; {
+ *     public IngestPipeline() {
+ *         super(Message::new, 4096, ProducerType.MULTI, new YieldingWaitStrategy());
+ *         stage("parser", "validator");
+ *         stage("writer");
+ *     }
+ * }
+ * </pre>
+ *
+ * Handler beans are resolved and the threads started on ContextRefreshedEvent.
+ * On ContextClosedEvent the pipeline drains and stops before the handler beans
+ * are destroyed.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ManagedRingBufferPipeline<E> implements ApplicationListener<ApplicationContextEvent> {
+
+	private final EventFactory<E> eventFactory;
+	private final int bufferSize;
+	private final ProducerType producerType;
+	private final WaitStrategy waitStrategy;
+	private final List<String[]> stages = new ArrayList<>();
+	private long shutdownTimeoutMillis = TimeUnit.SECONDS.toMillis(30);
+	private ExceptionHandler<? super E> exceptionHandler;
+
+	private volatile RingBufferPipeline<E> pipeline;
+
+	public ManagedRingBufferPipeline(EventFactory<E> eventFactory, int bufferSize, ProducerType producerType,
+			WaitStrategy waitStrategy) {
+		this.eventFactory = eventFactory;
+		this.bufferSize = bufferSize;
+		this.producerType = producerType;
+		this.waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * Append a stage whose handlers are the named EventHandler beans.
+	 *
+	 * @param handlerBeanNames the bean names of the stage's handlers
+	 * @return this pipeline, for chaining
+	 */
+	public ManagedRingBufferPipeline<E> stage(String... handlerBeanNames) {
+		stages.add(handlerBeanNames);
+		return this;
+	}
+
+	public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+		this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+	}
+
+	/**
+	 * Set the callback for exceptions thrown by the handler beans.
+	 *
+	 * @see RingBufferPipeline#setExceptionHandler
+	 */
+	public void setExceptionHandler(ExceptionHandler<? super E> exceptionHandler) {
+		this.exceptionHandler = exceptionHandler;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationContextEvent event) {
+		if (event instanceof ContextRefreshedEvent) {
+			start(event.getApplicationContext());
+		} else if (event instanceof ContextClosedEvent) {
+			stop();
+		}
+	}
+
+	protected synchronized void start(BeanFactory beanFactory) {
+		if (pipeline != null) {
+			return;
+		}
+		if (stages.isEmpty()) {
+			throw new IllegalStateException("No stages declared for " + getClass().getName());
+		}
+		RingBufferPipeline<E> newPipeline = new RingBufferPipeline<>(eventFactory, bufferSize, producerType,
+				waitStrategy, RingBufferPipeline.daemonThreadFactory(getClass().getSimpleName()));
+		newPipeline.setExceptionHandler(exceptionHandler);
+		RingBufferPipeline<E>.Stage stage = newPipeline.handleEventsWith(resolveHandlers(beanFactory, stages.get(0)));
+		for (int i = 1; i < stages.size(); i++) {
+			stage = stage.then(resolveHandlers(beanFactory, stages.get(i)));
+		}
+		newPipeline.start();
+		this.pipeline = newPipeline;
+	}
+
+	protected synchronized void stop() {
+		RingBufferPipeline<E> current = this.pipeline;
+		if (current != null) {
+			this.pipeline = null;
+			current.shutdown(shutdownTimeoutMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<EventHandler<? super E>> resolveHandlers(BeanFactory beanFactory, String[] beanNames) {
+		List<EventHandler<? super E>> handlers = new ArrayList<>(beanNames.length);
+		for (String beanName : beanNames) {
+			Object bean = beanFactory.getBean(beanName);
+			if (!(bean instanceof EventHandler)) {
+				throw new RuntimeException("Bean '" + beanName + "' is not an EventHandler");
+			}
+			handlers.add((EventHandler<? super E>) bean);
+		}
+		return handlers;
+	}
+
+	/**
+	 * Publish an event through the running pipeline.
+	 */
+	public <A> void publishEvent(EventTranslator<E, A> translator, A arg) {
+		getPipeline().publishEvent(translator, arg);
+	}
+
+	public RingBuffer<E> getRingBuffer() {
+		return getPipeline().getRingBuffer();
+	}
+
+	private RingBufferPipeline<E> getPipeline() {
+		RingBufferPipeline<E> current = this.pipeline;
+		if (current == null) {
+			throw new IllegalStateException("Pipeline not running - the context is not refreshed or already closed");
+		}
+		return current;
+	}
+}
@@ -0,0 +1,44 @@
+package com.yu.spring.messaging;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spins, yields, and finally parks for a short time between checks. Uses the
+ * least CPU while idle, at the cost of wake-up latency.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ParkingWaitStrategy implements WaitStrategy {
+
+	private static final int SPIN_TRIES = 100;
+	private static final int YIELD_TRIES = 100;
+
+	private final long parkNanos;
+
+	public ParkingWaitStrategy() {
+		this(50_000L);
+	}
+
+	public ParkingWaitStrategy(long parkNanos) {
+		this.parkNanos = parkNanos;
+	}
+
+	@Override
+	public long waitFor(long sequence, Sequence dependentSequence, SequenceBarrier barrier) throws AlertException {
+		long availableSequence;
+		int counter = SPIN_TRIES + YIELD_TRIES;
+		while ((availableSequence = dependentSequence.get()) < sequence) {
+			barrier.checkAlert();
+			if (counter > YIELD_TRIES) {
+				counter--;
+			} else if (counter > 0) {
+				counter--;
+				Thread.yield();
+			} else {
+				LockSupport.parkNanos(parkNanos);
+			}
+		}
+		return availableSequence;
+	}
+}
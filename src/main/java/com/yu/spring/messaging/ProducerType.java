@@ -0,0 +1,20 @@
+package com.yu.spring.messaging;
+
+/**
+ * Whether a RingBuffer is published to by one thread or several.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public enum ProducerType {
+
+	/**
+	 * Exactly one publishing thread; claims need no CAS.
+	 */
+	SINGLE,
+
+	/**
+	 * Any number of publishing threads.
+	 */
+	MULTI
+}
@@ -0,0 +1,262 @@
+package com.yu.spring.messaging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Preallocated ring of events shared between producers and consumers.
+ *
+ * <p>Producers claim a sequence with {@link #next()}, fill the event at that
+ * sequence and {@link #publish(long)} it. Consumers track their own progress
+ * in a {@link Sequence}; producers never overwrite an event that the slowest
+ * gating consumer has not processed yet.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public final class RingBuffer<E> {
+
+	private static final Sequence[] NO_SEQUENCES = new Sequence[0];
+
+	private final Object[] entries;
+	private final int bufferSize;
+	private final int indexMask;
+	private final ProducerType producerType;
+	private final WaitStrategy waitStrategy;
+
+	private final Sequence cursor = new Sequence();
+	private volatile Sequence[] gatingSequences = NO_SEQUENCES;
+
+	// Single producer state, only touched by the publishing thread
+	private long nextValue = Sequence.INITIAL_VALUE;
+	private long cachedGatingValue = Sequence.INITIAL_VALUE;
+
+	// Multi producer state
+	private final Sequence gatingSequenceCache = new Sequence();
+	private final AtomicIntegerArray availableBuffer;
+	private final int indexShift;
+
+	public RingBuffer(EventFactory<E> eventFactory, int bufferSize, ProducerType producerType, WaitStrategy waitStrategy) {
+		if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+			throw new IllegalArgumentException("bufferSize must be a positive power of 2: " + bufferSize);
+		}
+		this.bufferSize = bufferSize;
+		this.indexMask = bufferSize - 1;
+		this.producerType = producerType;
+		this.waitStrategy = waitStrategy;
+		this.entries = new Object[bufferSize];
+		for (int i = 0; i < bufferSize; i++) {
+			entries[i] = eventFactory.newInstance();
+		}
+		if (producerType == ProducerType.MULTI) {
+			this.availableBuffer = new AtomicIntegerArray(bufferSize);
+			for (int i = 0; i < bufferSize; i++) {
+				availableBuffer.set(i, -1);
+			}
+			this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+		} else {
+			this.availableBuffer = null;
+			this.indexShift = 0;
+		}
+	}
+
+	/**
+	 * Return the event for the given sequence.
+	 */
+	@SuppressWarnings("unchecked")
+	public E get(long sequence) {
+		return (E) entries[(int) sequence & indexMask];
+	}
+
+	public long next() {
+		return next(1);
+	}
+
+	/**
+	 * Claim the next n sequences, waiting while the buffer is full.
+	 *
+	 * @param n the number of sequences to claim
+	 * @return the highest claimed sequence
+	 */
+	public long next(int n) {
+		if (n < 1 || n > bufferSize) {
+			throw new IllegalArgumentException("n must be > 0 and <= bufferSize");
+		}
+		return producerType == ProducerType.SINGLE ? nextSingle(n) : nextMulti(n);
+	}
+
+	private long nextSingle(int n) {
+		long nextValue = this.nextValue;
+		long nextSequence = nextValue + n;
+		long wrapPoint = nextSequence - bufferSize;
+		long cachedGatingSequence = this.cachedGatingValue;
+
+		if (wrapPoint > cachedGatingSequence || cachedGatingSequence > nextValue) {
+			// Full fence so consumers see our progress before we read theirs
+			cursor.setVolatile(nextValue);
+			long minSequence;
+			while (wrapPoint > (minSequence = Sequence.getMinimumSequence(gatingSequences, nextValue))) {
+				LockSupport.parkNanos(1L);
+			}
+			this.cachedGatingValue = minSequence;
+		}
+		this.nextValue = nextSequence;
+		return nextSequence;
+	}
+
+	private long nextMulti(int n) {
+		long current;
+		long next;
+		do {
+			current = cursor.get();
+			next = current + n;
+			long wrapPoint = next - bufferSize;
+			long cachedGatingSequence = gatingSequenceCache.get();
+
+			if (wrapPoint > cachedGatingSequence || cachedGatingSequence > current) {
+				long gatingSequence = Sequence.getMinimumSequence(gatingSequences, current);
+				if (wrapPoint > gatingSequence) {
+					LockSupport.parkNanos(1L);
+					continue;
+				}
+				gatingSequenceCache.set(gatingSequence);
+			} else if (cursor.compareAndSet(current, next)) {
+				break;
+			}
+		} while (true);
+		return next;
+	}
+
+	/**
+	 * Make the event at the given sequence visible to consumers.
+	 */
+	public void publish(long sequence) {
+		if (producerType == ProducerType.SINGLE) {
+			cursor.set(sequence);
+		} else {
+			setAvailable(sequence);
+		}
+		waitStrategy.signalAllWhenBlocking();
+	}
+
+	/**
+	 * Publish a claimed range of sequences, inclusive.
+	 */
+	public void publish(long lo, long hi) {
+		if (producerType == ProducerType.SINGLE) {
+			cursor.set(hi);
+		} else {
+			for (long sequence = lo; sequence <= hi; sequence++) {
+				setAvailable(sequence);
+			}
+		}
+		waitStrategy.signalAllWhenBlocking();
+	}
+
+	/**
+	 * Claim a sequence, let the translator fill the event and publish it.
+	 */
+	public <A> void publishEvent(EventTranslator<E, A> translator, A arg) {
+		long sequence = next();
+		try {
+			translator.translateTo(get(sequence), sequence, arg);
+		} finally {
+			publish(sequence);
+		}
+	}
+
+	/**
+	 * Create a barrier for a consumer that depends on the given sequences, or
+	 * directly on the producers if none are given.
+	 */
+	public SequenceBarrier newBarrier(Sequence... sequencesToTrack) {
+		return new SequenceBarrier(this, waitStrategy, sequencesToTrack);
+	}
+
+	/**
+	 * Add consumer sequences that producers must not overtake. They are
+	 * started at the current cursor.
+	 */
+	public synchronized void addGatingSequences(Sequence... sequences) {
+		long cursorValue = cursor.get();
+		for (Sequence sequence : sequences) {
+			sequence.set(cursorValue);
+		}
+		Sequence[] updated = Arrays.copyOf(gatingSequences, gatingSequences.length + sequences.length);
+		System.arraycopy(sequences, 0, updated, gatingSequences.length, sequences.length);
+		this.gatingSequences = updated;
+	}
+
+	public synchronized boolean removeGatingSequence(Sequence sequence) {
+		Sequence[] current = gatingSequences;
+		for (int i = 0; i < current.length; i++) {
+			if (current[i] == sequence) {
+				Sequence[] updated = new Sequence[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, i);
+				System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+				this.gatingSequences = updated;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the highest sequence that is published, scanning from lowerBound
+	 * up to availableSequence. With several producers, claims can be published
+	 * out of order, so the cursor alone is not enough.
+	 */
+	long getHighestPublishedSequence(long lowerBound, long availableSequence) {
+		if (producerType == ProducerType.SINGLE) {
+			return availableSequence;
+		}
+		for (long sequence = lowerBound; sequence <= availableSequence; sequence++) {
+			if (!isAvailable(sequence)) {
+				return sequence - 1;
+			}
+		}
+		return availableSequence;
+	}
+
+	private void setAvailable(long sequence) {
+		availableBuffer.lazySet((int) sequence & indexMask, (int) (sequence >>> indexShift));
+	}
+
+	private boolean isAvailable(long sequence) {
+		return availableBuffer.get((int) sequence & indexMask) == (int) (sequence >>> indexShift);
+	}
+
+	Sequence getCursorSequence() {
+		return cursor;
+	}
+
+	/**
+	 * Return the highest claimed sequence. For single producers this is also
+	 * the highest published one.
+	 */
+	public long getCursor() {
+		return cursor.get();
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * Return the number of slots producers can claim without waiting.
+	 */
+	public long remainingCapacity() {
+		long produced = producerType == ProducerType.SINGLE ? nextValue : cursor.get();
+		long consumed = Sequence.getMinimumSequence(gatingSequences, produced);
+		return bufferSize - (produced - consumed);
+	}
+
+	/**
+	 * Whether every gating consumer has processed everything claimed so far.
+	 */
+	public boolean isDrained() {
+		long produced = cursor.get();
+		return Sequence.getMinimumSequence(gatingSequences, produced) >= produced;
+	}
+}
@@ -0,0 +1,218 @@
+package com.yu.spring.messaging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Builds and runs a multi-stage consumer graph over a RingBuffer.
+ *
+ * <pre>
+ * RingBufferPipeline&lt;Message&gt; pipeline = new RingBufferPipeline&lt;&gt;(Message::new, 1024);
+ * pipeline.handleEventsWith(parser, validator).then(writer);
+ * pipeline.start();
+ * pipeline.publishEvent((event, sequence, payload) -&gt; event.setPayload(payload), bytes);
+ * </pre>
+ *
+ * Handlers within a stage run in parallel, each on its own thread, and see
+ * every event. A stage only sees an event after all handlers of the previous
+ * stage are done with it.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class RingBufferPipeline<E> {
+
+	private final RingBuffer<E> ringBuffer;
+	private final ThreadFactory threadFactory;
+	private final List<BatchEventProcessor<E>> processors = new ArrayList<>();
+	private final Set<Sequence> endOfChain = new LinkedHashSet<>();
+	private final List<Thread> threads = new ArrayList<>();
+	private final AtomicBoolean started = new AtomicBoolean();
+	private ExceptionHandler<? super E> exceptionHandler;
+
+	public RingBufferPipeline(EventFactory<E> eventFactory, int bufferSize) {
+		this(eventFactory, bufferSize, ProducerType.MULTI, new ParkingWaitStrategy());
+	}
+
+	public RingBufferPipeline(EventFactory<E> eventFactory, int bufferSize, ProducerType producerType,
+			WaitStrategy waitStrategy) {
+		this(eventFactory, bufferSize, producerType, waitStrategy, daemonThreadFactory("ringbuffer"));
+	}
+
+	public RingBufferPipeline(EventFactory<E> eventFactory, int bufferSize, ProducerType producerType,
+			WaitStrategy waitStrategy, ThreadFactory threadFactory) {
+		this.ringBuffer = new RingBuffer<>(eventFactory, bufferSize, producerType, waitStrategy);
+		this.threadFactory = threadFactory;
+	}
+
+	/**
+	 * Add a first stage consuming directly from the producers.
+	 *
+	 * @param handlers the handlers of the stage
+	 * @return the stage, to chain dependent stages with {@link Stage#then}
+	 */
+	@SafeVarargs
+	public final Stage handleEventsWith(EventHandler<? super E>... handlers) {
+		// Copied element-wise, as handing the generic varargs array on is not heap-safe
+		List<EventHandler<? super E>> handlerList = new ArrayList<>(handlers.length);
+		for (EventHandler<? super E> handler : handlers) {
+			handlerList.add(handler);
+		}
+		return handleEventsWith(handlerList);
+	}
+
+	/**
+	 * Add a first stage consuming directly from the producers.
+	 *
+	 * @param handlers the handlers of the stage
+	 * @return the stage, to chain dependent stages with {@link Stage#then}
+	 */
+	public Stage handleEventsWith(List<? extends EventHandler<? super E>> handlers) {
+		return createStage(new Sequence[0], handlers);
+	}
+
+	private Stage createStage(Sequence[] dependencies, List<? extends EventHandler<? super E>> handlers) {
+		if (started.get()) {
+			throw new IllegalStateException("Pipeline already started");
+		}
+		SequenceBarrier barrier = ringBuffer.newBarrier(dependencies);
+		Sequence[] sequences = new Sequence[handlers.size()];
+		for (int i = 0; i < sequences.length; i++) {
+			BatchEventProcessor<E> processor = new BatchEventProcessor<>(ringBuffer, barrier, handlers.get(i));
+			processor.setExceptionHandler(exceptionHandler);
+			processors.add(processor);
+			sequences[i] = processor.getSequence();
+		}
+		endOfChain.removeAll(Arrays.asList(dependencies));
+		endOfChain.addAll(Arrays.asList(sequences));
+		return new Stage(sequences);
+	}
+
+	/**
+	 * Set the callback for exceptions thrown by the handlers of every stage.
+	 * By default they are reported to the handler thread's uncaught
+	 * exception handler. Either way the failed event is skipped.
+	 */
+	public void setExceptionHandler(ExceptionHandler<? super E> exceptionHandler) {
+		if (started.get()) {
+			throw new IllegalStateException("Pipeline already started");
+		}
+		this.exceptionHandler = exceptionHandler;
+		for (BatchEventProcessor<E> processor : processors) {
+			processor.setExceptionHandler(exceptionHandler);
+		}
+	}
+
+	/**
+	 * Start a thread per handler. Producers are gated on the last stages.
+	 */
+	public void start() {
+		if (!started.compareAndSet(false, true)) {
+			throw new IllegalStateException("Pipeline already started");
+		}
+		ringBuffer.addGatingSequences(endOfChain.toArray(new Sequence[0]));
+		for (BatchEventProcessor<E> processor : processors) {
+			Thread thread = threadFactory.newThread(processor);
+			threads.add(thread);
+			thread.start();
+		}
+	}
+
+	/**
+	 * Wait until every published event has been processed, then stop all
+	 * handler threads.
+	 *
+	 * @param timeout the maximum time to wait for the backlog to drain
+	 * @param unit    the unit of the timeout
+	 * @return true if the pipeline drained before the timeout
+	 */
+	public boolean shutdown(long timeout, TimeUnit unit) {
+		if (!started.get()) {
+			return true;
+		}
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		boolean drained;
+		while (!(drained = ringBuffer.isDrained()) && System.nanoTime() < deadline) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+		}
+		halt();
+		return drained;
+	}
+
+	/**
+	 * Stop all handler threads without waiting for the backlog.
+	 */
+	public void halt() {
+		for (BatchEventProcessor<E> processor : processors) {
+			processor.halt();
+		}
+		for (Thread thread : threads) {
+			try {
+				thread.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	public <A> void publishEvent(EventTranslator<E, A> translator, A arg) {
+		ringBuffer.publishEvent(translator, arg);
+	}
+
+	public RingBuffer<E> getRingBuffer() {
+		return ringBuffer;
+	}
+
+	public boolean isStarted() {
+		return started.get();
+	}
+
+	static ThreadFactory daemonThreadFactory(String prefix) {
+		AtomicInteger counter = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * A group of handlers that other stages can depend on.
+	 */
+	public final class Stage {
+
+		private final Sequence[] sequences;
+
+		private Stage(Sequence[] sequences) {
+			this.sequences = sequences;
+		}
+
+		/**
+		 * Add a stage that only sees events once this stage has handled them.
+		 */
+		@SafeVarargs
+		public final Stage then(EventHandler<? super E>... handlers) {
+			List<EventHandler<? super E>> handlerList = new ArrayList<>(handlers.length);
+			for (EventHandler<? super E> handler : handlers) {
+				handlerList.add(handler);
+			}
+			return then(handlerList);
+		}
+
+		/**
+		 * Add a stage that only sees events once this stage has handled them.
+		 */
+		public Stage then(List<? extends EventHandler<? super E>> handlers) {
+			return createStage(sequences, handlers);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.yu.spring.messaging;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+class LhsPadding {
+	protected long p1, p2, p3, p4, p5, p6, p7;
+}
+
+class SequenceValue extends LhsPadding {
+	protected volatile long value;
+}
+
+class RhsPadding extends SequenceValue {
+	protected long p9, p10, p11, p12, p13, p14, p15;
+}
+
+/**
+ * A sequence counter padded to its own cache line so producers and
+ * consumers updating neighbouring sequences do not false-share.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class Sequence extends RhsPadding {
+
+	static final long INITIAL_VALUE = -1L;
+
+	private static final AtomicLongFieldUpdater<SequenceValue> UPDATER =
+			AtomicLongFieldUpdater.newUpdater(SequenceValue.class, "value");
+
+	public Sequence() {
+		this(INITIAL_VALUE);
+	}
+
+	public Sequence(long initialValue) {
+		UPDATER.lazySet(this, initialValue);
+	}
+
+	public long get() {
+		return value;
+	}
+
+	/**
+	 * Ordered write: visible to other threads without a full fence.
+	 */
+	public void set(long value) {
+		UPDATER.lazySet(this, value);
+	}
+
+	public void setVolatile(long value) {
+		this.value = value;
+	}
+
+	public boolean compareAndSet(long expectedValue, long newValue) {
+		return UPDATER.compareAndSet(this, expectedValue, newValue);
+	}
+
+	public long addAndGet(long increment) {
+		return UPDATER.addAndGet(this, increment);
+	}
+
+	/**
+	 * Return the minimum of the given sequences, or the default if there are none.
+	 */
+	static long getMinimumSequence(Sequence[] sequences, long defaultValue) {
+		long minimum = defaultValue;
+		for (Sequence sequence : sequences) {
+			long value = sequence.get();
+			if (value < minimum) {
+				minimum = value;
+			}
+		}
+		return minimum;
+	}
+
+	@Override
+	public String toString() {
+		return Long.toString(get());
+	}
+}
@@ -0,0 +1,85 @@
+package com.yu.spring.messaging;
+
+/**
+ * Coordinates a consumer with the sequences it depends on: the producer
+ * cursor for a first stage, or the slowest upstream consumer otherwise.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public final class SequenceBarrier {
+
+	private final RingBuffer<?> ringBuffer;
+	private final WaitStrategy waitStrategy;
+	private final Sequence dependentSequence;
+	private volatile boolean alerted;
+
+	SequenceBarrier(RingBuffer<?> ringBuffer, WaitStrategy waitStrategy, Sequence[] dependentSequences) {
+		this.ringBuffer = ringBuffer;
+		this.waitStrategy = waitStrategy;
+		if (dependentSequences.length == 0) {
+			this.dependentSequence = ringBuffer.getCursorSequence();
+		} else if (dependentSequences.length == 1) {
+			this.dependentSequence = dependentSequences[0];
+		} else {
+			this.dependentSequence = new SequenceGroup(dependentSequences);
+		}
+	}
+
+	/**
+	 * Wait for the given sequence to be available for consumption.
+	 *
+	 * @param sequence the sequence to wait for
+	 * @return the highest available sequence, possibly beyond the requested one
+	 * @throws AlertException if the barrier was alerted while waiting
+	 */
+	public long waitFor(long sequence) throws AlertException {
+		checkAlert();
+		long availableSequence = waitStrategy.waitFor(sequence, dependentSequence, this);
+		if (availableSequence < sequence) {
+			return availableSequence;
+		}
+		return ringBuffer.getHighestPublishedSequence(sequence, availableSequence);
+	}
+
+	public void alert() {
+		alerted = true;
+		waitStrategy.signalAllWhenBlocking();
+	}
+
+	public void clearAlert() {
+		alerted = false;
+	}
+
+	public boolean isAlerted() {
+		return alerted;
+	}
+
+	public void checkAlert() throws AlertException {
+		if (alerted) {
+			throw AlertException.INSTANCE;
+		}
+	}
+
+	/**
+	 * Read-only view over several sequences that reports their minimum.
+	 */
+	private static final class SequenceGroup extends Sequence {
+
+		private final Sequence[] sequences;
+
+		SequenceGroup(Sequence[] sequences) {
+			this.sequences = sequences.clone();
+		}
+
+		@Override
+		public long get() {
+			return getMinimumSequence(sequences, Long.MAX_VALUE);
+		}
+
+		@Override
+		public void set(long value) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
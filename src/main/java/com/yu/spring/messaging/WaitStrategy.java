@@ -0,0 +1,28 @@
+package com.yu.spring.messaging;
+
+/**
+ * Strategy used by consumers to wait for a sequence to become available.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public interface WaitStrategy {
+
+	/**
+	 * Wait until the given sequence is available.
+	 *
+	 * @param sequence          the sequence to wait for
+	 * @param dependentSequence the sequence this consumer depends on: the
+	 *                          producer cursor or the slowest upstream stage
+	 * @param barrier           the barrier to check for alerts
+	 * @return the highest sequence that is available, which may be greater
+	 *         than the one requested
+	 */
+	long waitFor(long sequence, Sequence dependentSequence, SequenceBarrier barrier) throws AlertException;
+
+	/**
+	 * Wake up consumers that block instead of spinning.
+	 */
+	default void signalAllWhenBlocking() {
+	}
+}
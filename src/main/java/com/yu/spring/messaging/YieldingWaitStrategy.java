@@ -0,0 +1,28 @@
+package com.yu.spring.messaging;
+
+/**
+ * Spins for a while, then calls {@link Thread#yield()} between checks. A good
+ * compromise between latency and CPU use when there are spare cores.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class YieldingWaitStrategy implements WaitStrategy {
+
+	private static final int SPIN_TRIES = 100;
+
+	@Override
+	public long waitFor(long sequence, Sequence dependentSequence, SequenceBarrier barrier) throws AlertException {
+		long availableSequence;
+		int counter = SPIN_TRIES;
+		while ((availableSequence = dependentSequence.get()) < sequence) {
+			barrier.checkAlert();
+			if (counter > 0) {
+				counter--;
+			} else {
+				Thread.yield();
+			}
+		}
+		return availableSequence;
+	}
+}
@@ -0,0 +1,180 @@
+package com.yu.spring.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Path matcher for Ant-style patterns: {@code ?} matches one character,
+ * {@code *} zero or more characters within a path segment, and {@code **}
+ * zero or more whole segments.
+ *
+ * <p>Each pattern is tokenized and its wildcard segments compiled to regular
+ * expressions once; the compiled form is cached, so matching thousands of
+ * paths against the same pattern does no re-parsing.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class AntPathMatcher {
+
+    public static final String DEFAULT_PATH_SEPARATOR = "/";
+
+    private final String pathSeparator;
+    private final Map<String, CompiledPattern> compiledPatterns = new ConcurrentHashMap<>(64);
+
+    public AntPathMatcher() {
+        this(DEFAULT_PATH_SEPARATOR);
+    }
+
+    public AntPathMatcher(String pathSeparator) {
+        this.pathSeparator = pathSeparator;
+    }
+
+    /**
+     * Whether the given path contains wildcards.
+     */
+    public boolean isPattern(String path) {
+        return path != null && (path.indexOf('*') != -1 || path.indexOf('?') != -1);
+    }
+
+    /**
+     * Match the whole path against the pattern.
+     */
+    public boolean match(String pattern, String path) {
+        return compile(pattern).matches(tokenize(path), true);
+    }
+
+    /**
+     * Whether the pattern could match the given path or any path below it.
+     * Used to prune directories that cannot contain matches.
+     */
+    public boolean matchStart(String pattern, String path) {
+        return compile(pattern).matches(tokenize(path), false);
+    }
+
+    private CompiledPattern compile(String pattern) {
+        CompiledPattern compiled = compiledPatterns.get(pattern);
+        if (compiled == null) {
+            compiled = compiledPatterns.computeIfAbsent(pattern, p -> new CompiledPattern(tokenize(p)));
+        }
+        return compiled;
+    }
+
+    private String[] tokenize(String path) {
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        int length = path.length();
+        while (start <= length) {
+            int end = path.indexOf(pathSeparator, start);
+            if (end == -1) {
+                end = length;
+            }
+            if (end > start) {
+                tokens.add(path.substring(start, end));
+            }
+            start = end + pathSeparator.length();
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    /**
+     * A tokenized pattern whose wildcard segments are precompiled.
+     */
+    private static final class CompiledPattern {
+
+        private final String[] literals;
+        private final Pattern[] wildcards;
+        private final boolean[] doubleWildcard;
+
+        CompiledPattern(String[] segments) {
+            this.literals = new String[segments.length];
+            this.wildcards = new Pattern[segments.length];
+            this.doubleWildcard = new boolean[segments.length];
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if ("**".equals(segment)) {
+                    doubleWildcard[i] = true;
+                } else if (segment.indexOf('*') != -1 || segment.indexOf('?') != -1) {
+                    wildcards[i] = Pattern.compile(toRegex(segment));
+                } else {
+                    literals[i] = segment;
+                }
+            }
+        }
+
+        boolean matches(String[] path, boolean fullMatch) {
+            return matches(0, path, 0, fullMatch);
+        }
+
+        private boolean matches(int patternIndex, String[] path, int pathIndex, boolean fullMatch) {
+            int patternLength = literals.length;
+            while (patternIndex < patternLength && pathIndex < path.length) {
+                if (doubleWildcard[patternIndex]) {
+                    // Collapse consecutive '**' and try every split point
+                    while (patternIndex + 1 < patternLength && doubleWildcard[patternIndex + 1]) {
+                        patternIndex++;
+                    }
+                    if (patternIndex + 1 == patternLength) {
+                        return true;
+                    }
+                    for (int i = pathIndex; i <= path.length; i++) {
+                        if (matches(patternIndex + 1, path, i, fullMatch)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+                if (!matchSegment(patternIndex, path[pathIndex])) {
+                    return false;
+                }
+                patternIndex++;
+                pathIndex++;
+            }
+
+            if (pathIndex == path.length) {
+                if (!fullMatch) {
+                    return true;
+                }
+                for (int i = patternIndex; i < patternLength; i++) {
+                    if (!doubleWildcard[i]) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private boolean matchSegment(int patternIndex, String segment) {
+            String literal = literals[patternIndex];
+            if (literal != null) {
+                return literal.equals(segment);
+            }
+            return wildcards[patternIndex].matcher(segment).matches();
+        }
+
+        private static String toRegex(String segment) {
+            StringBuilder regex = new StringBuilder(segment.length() + 8);
+            StringBuilder literal = new StringBuilder();
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                if (c == '*' || c == '?') {
+                    if (literal.length() > 0) {
+                        regex.append(Pattern.quote(literal.toString()));
+                        literal.setLength(0);
+                    }
+                    regex.append(c == '*' ? ".*" : ".");
+                } else {
+                    literal.append(c);
+                }
+            }
+            if (literal.length() > 0) {
+                regex.append(Pattern.quote(literal.toString()));
+            }
+            return regex.toString();
+        }
+    }
+}
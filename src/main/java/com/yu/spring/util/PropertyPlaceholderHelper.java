@@ -0,0 +1,276 @@
+package com.yu.spring.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility for working with Strings that contain placeholder values such as
+ * {@code ${name}}, {@code ${name:default}} and nested forms like
+ * {@code ${${env}.url:${fallback.url}}}.
+ *
+ * <p>Each distinct text is parsed once into a {@link Template}, a flat array of
+ * literal and placeholder parts, and the template is cached. Resolving a text
+ * again only walks its parts. Values returned by the resolver are themselves
+ * resolved recursively, with cycle detection.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class PropertyPlaceholderHelper {
+
+    /** Upper bound on cached templates, so arbitrary runtime strings cannot grow the cache without limit */
+    private static final int MAX_CACHED_TEMPLATES = 16384;
+
+    private final String placeholderPrefix;
+    private final String placeholderSuffix;
+    private final String valueSeparator;
+    private final boolean ignoreUnresolvablePlaceholders;
+
+    private final Map<String, Template> templateCache = new ConcurrentHashMap<>(256);
+
+    public PropertyPlaceholderHelper(String placeholderPrefix, String placeholderSuffix) {
+        this(placeholderPrefix, placeholderSuffix, ":", true);
+    }
+
+    /**
+     * @param placeholderPrefix              the prefix that denotes the start of a placeholder
+     * @param placeholderSuffix              the suffix that denotes the end of a placeholder
+     * @param valueSeparator                 the separator between placeholder and default value, or null
+     * @param ignoreUnresolvablePlaceholders whether unresolvable placeholders are left as they are
+     *                                       (true) or cause an exception (false)
+     */
+    public PropertyPlaceholderHelper(String placeholderPrefix, String placeholderSuffix,
+                                     String valueSeparator, boolean ignoreUnresolvablePlaceholders) {
+        this.placeholderPrefix = placeholderPrefix;
+        this.placeholderSuffix = placeholderSuffix;
+        this.valueSeparator = valueSeparator;
+        this.ignoreUnresolvablePlaceholders = ignoreUnresolvablePlaceholders;
+    }
+
+    /**
+     * Replace all placeholders in the given value with the values returned by
+     * the resolver.
+     *
+     * @param value               the value containing placeholders
+     * @param placeholderResolver the resolver for placeholder names
+     * @return the resolved value
+     * @throws IllegalArgumentException for unresolvable or circular placeholders,
+     *                                  unless unresolvable ones are ignored
+     */
+    public String replacePlaceholders(String value, PlaceholderResolver placeholderResolver) {
+        Template template = compile(value);
+        if (!template.hasPlaceholders()) {
+            return value;
+        }
+        return template.resolve(placeholderResolver, null);
+    }
+
+    /**
+     * Return the compiled template for the given text, parsing it on first use.
+     */
+    public Template compile(String text) {
+        Template template = templateCache.get(text);
+        if (template == null) {
+            template = parse(text);
+            if (templateCache.size() < MAX_CACHED_TEMPLATES) {
+                templateCache.putIfAbsent(text, template);
+            }
+        }
+        return template;
+    }
+
+    private Template parse(String text) {
+        int start = text.indexOf(placeholderPrefix);
+        if (start == -1) {
+            return new Template(text, new Part[] { new Literal(text) }, false);
+        }
+        List<Part> parts = new ArrayList<>();
+        int position = 0;
+        while (start != -1) {
+            int end = findPlaceholderEnd(text, start);
+            if (end == -1) {
+                break;
+            }
+            if (start > position) {
+                parts.add(new Literal(text.substring(position, start)));
+            }
+            String content = text.substring(start + placeholderPrefix.length(), end);
+            int separator = valueSeparator != null ? findValueSeparator(content) : -1;
+            Template key = separator == -1 ? parse(content) : parse(content.substring(0, separator));
+            Template defaultValue = separator == -1 ? null : parse(content.substring(separator + valueSeparator.length()));
+            parts.add(new Placeholder(text.substring(start, end + placeholderSuffix.length()), key, defaultValue));
+            position = end + placeholderSuffix.length();
+            start = text.indexOf(placeholderPrefix, position);
+        }
+        if (position < text.length()) {
+            parts.add(new Literal(text.substring(position)));
+        }
+        return new Template(text, parts.toArray(new Part[0]), true);
+    }
+
+    private int findPlaceholderEnd(String text, int start) {
+        int index = start + placeholderPrefix.length();
+        int nested = 0;
+        while (index < text.length()) {
+            if (text.startsWith(placeholderSuffix, index)) {
+                if (nested == 0) {
+                    return index;
+                }
+                nested--;
+                index += placeholderSuffix.length();
+            } else if (text.startsWith(placeholderPrefix, index)) {
+                nested++;
+                index += placeholderPrefix.length();
+            } else {
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the first value separator that is not inside a nested placeholder.
+     */
+    private int findValueSeparator(String content) {
+        int nested = 0;
+        int index = 0;
+        while (index < content.length()) {
+            if (content.startsWith(placeholderPrefix, index)) {
+                nested++;
+                index += placeholderPrefix.length();
+            } else if (nested > 0 && content.startsWith(placeholderSuffix, index)) {
+                nested--;
+                index += placeholderSuffix.length();
+            } else if (nested == 0 && content.startsWith(valueSeparator, index)) {
+                return index;
+            } else {
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Strategy interface used to resolve replacement values for placeholders.
+     */
+    @FunctionalInterface
+    public interface PlaceholderResolver {
+
+        /**
+         * Resolve the supplied placeholder name to the replacement value.
+         *
+         * @param placeholderName the name of the placeholder to resolve
+         * @return the replacement value, or null if no replacement is to be made
+         */
+        String resolvePlaceholder(String placeholderName);
+    }
+
+    /**
+     * A parsed text: literal parts and placeholders whose names and defaults
+     * are templates themselves.
+     */
+    public final class Template {
+
+        private final String text;
+        private final Part[] parts;
+        private final boolean hasPlaceholders;
+
+        Template(String text, Part[] parts, boolean hasPlaceholders) {
+            this.text = text;
+            this.parts = parts;
+            this.hasPlaceholders = hasPlaceholders;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public boolean hasPlaceholders() {
+            return hasPlaceholders;
+        }
+
+        public String resolve(PlaceholderResolver placeholderResolver) {
+            return hasPlaceholders ? resolve(placeholderResolver, null) : text;
+        }
+
+        String resolve(PlaceholderResolver placeholderResolver, Set<String> visiting) {
+            if (!hasPlaceholders) {
+                return text;
+            }
+            if (parts.length == 1) {
+                return parts[0].resolve(placeholderResolver, visiting);
+            }
+            StringBuilder result = new StringBuilder(text.length() + 16);
+            for (Part part : parts) {
+                result.append(part.resolve(placeholderResolver, visiting));
+            }
+            return result.toString();
+        }
+    }
+
+    private interface Part {
+
+        String resolve(PlaceholderResolver placeholderResolver, Set<String> visiting);
+    }
+
+    private static final class Literal implements Part {
+
+        private final String text;
+
+        Literal(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public String resolve(PlaceholderResolver placeholderResolver, Set<String> visiting) {
+            return text;
+        }
+    }
+
+    private final class Placeholder implements Part {
+
+        private final String original;
+        private final Template key;
+        private final Template defaultValue;
+
+        Placeholder(String original, Template key, Template defaultValue) {
+            this.original = original;
+            this.key = key;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public String resolve(PlaceholderResolver placeholderResolver, Set<String> visiting) {
+            String name = key.resolve(placeholderResolver, visiting);
+            String value = placeholderResolver.resolvePlaceholder(name);
+            if (value != null) {
+                Template valueTemplate = compile(value);
+                if (!valueTemplate.hasPlaceholders()) {
+                    return value;
+                }
+                if (visiting == null) {
+                    visiting = new HashSet<>(4);
+                }
+                if (!visiting.add(name)) {
+                    throw new IllegalArgumentException("Circular placeholder reference '" + name + "' in property definitions");
+                }
+                try {
+                    return valueTemplate.resolve(placeholderResolver, visiting);
+                } finally {
+                    visiting.remove(name);
+                }
+            }
+            if (defaultValue != null) {
+                return defaultValue.resolve(placeholderResolver, visiting);
+            }
+            if (ignoreUnresolvablePlaceholders) {
+                return original;
+            }
+            throw new IllegalArgumentException("Could not resolve placeholder '" + name + "' in value \"" + original + "\"");
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.yu.spring;
+
+import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.annotation.Value;
+import com.yu.spring.context.AnnotationConfigApplicationContext;
+import com.yu.spring.context.properties.ConfigurationProperties;
+import com.yu.spring.core.convert.ConversionException;
+import com.yu.spring.core.convert.TypeDescriptor;
+import com.yu.spring.core.convert.support.DefaultConversionService;
+import com.yu.spring.core.env.MapPropertySource;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the conversion service and its use by the bean factory.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ConversionServiceTest {
+
+    @Test
+    public void testDefaultConversions() throws Exception {
+        DefaultConversionService service = new DefaultConversionService();
+        assertEquals(Integer.valueOf(42), service.convert(" 42 ", int.class));
+        assertEquals(Long.valueOf(7), service.convert(7, Long.class));
+        assertEquals(Boolean.TRUE, service.convert("yes", boolean.class));
+        assertEquals(TimeUnit.SECONDS, service.convert("SECONDS", TimeUnit.class));
+        assertEquals("MINUTES", service.convert(TimeUnit.MINUTES, String.class));
+        assertEquals(Duration.ofMillis(500), service.convert("500ms", Duration.class));
+        assertEquals(Duration.ofMinutes(5), service.convert("5m", Duration.class));
+        assertEquals(Duration.ofSeconds(30), service.convert("PT30S", Duration.class));
+        assertThrows(ConversionException.class, () -> service.convert("maybe", Boolean.class));
+        assertThrows(ConversionException.class, () -> service.convert(null, int.class));
+        assertFalse(service.canConvert(String.class, Thread.class));
+
+        // Declared element types
+        TypeDescriptor integerList = TypeDescriptor.forType(Holder.class.getDeclaredField("numbers").getGenericType());
+        assertEquals(Arrays.asList(1, 2, 3), service.convert("1, 2,3", integerList));
+        assertArrayEquals(new int[] { 4, 5 }, service.convert(Arrays.asList("4", "5"), int[].class));
+        assertArrayEquals(new long[] { 6, 7 }, service.convert(new String[] { "6", "7" }, long[].class));
+        TypeDescriptor durationSet = TypeDescriptor.forType(Holder.class.getDeclaredField("timeouts").getGenericType());
+        assertEquals(new LinkedHashSet<>(Arrays.asList(Duration.ofSeconds(1), Duration.ofHours(2))),
+                service.convert(new String[] { "1s", "2h" }, durationSet));
+        TypeDescriptor unitMap = TypeDescriptor.forType(Holder.class.getDeclaredField("units").getGenericType());
+        assertEquals(Collections.singletonMap(1, TimeUnit.DAYS),
+                service.convert(Collections.singletonMap("1", "DAYS"), unitMap));
+        List<String> strings = Arrays.asList("a", "b");
+        TypeDescriptor stringList = TypeDescriptor.collection(List.class, TypeDescriptor.valueOf(String.class));
+        assertSame(strings, service.convert(strings, stringList));
+        assertEquals("a,b", service.convert(strings, String.class));
+
+        // Custom converters serve subtypes of their source type
+        service.addConverter(CharSequence.class, Point.class, Point::parse);
+        assertEquals(3, service.convert(new StringBuilder("3:4"), Point.class).x);
+        assertEquals(4, service.convert("3:4", Point.class).y);
+    }
+
+    @Test
+    public void testConversionInContext() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        Map<String, Object> map = new HashMap<>();
+        map.put("app.ports", "80,443");
+        map.put("app.timeout", "2s");
+        map.put("grid.origin", "1:2");
+        map.put("grid.spacing", "250ms");
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", map));
+        context.registerBeanDefinition("conversionService", new BeanDefinition(PointConversionService.class));
+        BeanDefinition holder = new BeanDefinition(Holder.class);
+        holder.getPropertyValues().add("numbers", "5,6").add("timeouts", "10s").add("origin", "7:8");
+        context.registerBeanDefinition("holder", holder);
+        context.registerBeanDefinition("grid", new BeanDefinition(GridProperties.class));
+        context.refresh();
+
+        Holder bean = context.getBean("holder", Holder.class);
+        assertEquals(Arrays.asList(5, 6), bean.numbers);
+        assertEquals(Collections.singleton(Duration.ofSeconds(10)), bean.timeouts);
+        assertEquals(7, bean.origin.x);
+        assertEquals(Arrays.asList(80, 443), bean.ports);
+        assertEquals(Duration.ofSeconds(2), bean.timeout);
+
+        GridProperties grid = context.getBean("grid", GridProperties.class);
+        assertEquals(2, grid.getOrigin().y);
+        assertEquals(Duration.ofMillis(250), grid.getSpacing());
+        assertEquals(443, context.getEnvironment().getProperty("app.ports", int[].class)[1]);
+        context.close();
+    }
+
+    public static class Point {
+        final int x;
+        final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        static Point parse(CharSequence text) {
+            String[] parts = text.toString().split(":");
+            return new Point(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        }
+    }
+
+    public static class PointConversionService extends DefaultConversionService {
+
+        public PointConversionService() {
+            addConverter(String.class, Point.class, Point::parse);
+        }
+    }
+
+    public static class Holder {
+        List<Integer> numbers;
+        Set<Duration> timeouts;
+        Map<Integer, TimeUnit> units;
+        Point origin;
+
+        @Value("${app.ports}")
+        List<Integer> ports;
+
+        @Value("${app.timeout}")
+        Duration timeout;
+
+        public void setNumbers(List<Integer> numbers) {
+            this.numbers = numbers;
+        }
+
+        public void setTimeouts(Set<Duration> timeouts) {
+            this.timeouts = timeouts;
+        }
+
+        public void setOrigin(Point origin) {
+            this.origin = origin;
+        }
+    }
+
+    @ConfigurationProperties("grid")
+    public static class GridProperties {
+        private Point origin;
+        private Duration spacing;
+
+        public Point getOrigin() {
+            return origin;
+        }
+
+        public void setOrigin(Point origin) {
+            this.origin = origin;
+        }
+
+        public Duration getSpacing() {
+            return spacing;
+        }
+
+        public void setSpacing(Duration spacing) {
+            this.spacing = spacing;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.yu.spring;
+
+import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.annotation.Value;
+import com.yu.spring.context.AnnotationConfigApplicationContext;
+import com.yu.spring.context.annotation.Component;
+import com.yu.spring.context.annotation.Condition;
+import com.yu.spring.context.annotation.ConditionContext;
+import com.yu.spring.context.annotation.Conditional;
+import com.yu.spring.context.annotation.Profile;
+import com.yu.spring.context.properties.ConfigurationProperties;
+import com.yu.spring.context.properties.ConfigurationPropertiesBinder;
+import com.yu.spring.context.properties.DefaultValue;
+import com.yu.spring.core.env.MapPropertySource;
+import com.yu.spring.core.env.MutablePropertySources;
+import com.yu.spring.core.env.ResourcePropertySource;
+import com.yu.spring.core.env.StandardEnvironment;
+import com.yu.spring.io.FileSystemResource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.AnnotatedElement;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the environment and placeholder resolution.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class EnvironmentTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testPlaceholderResolution() {
+        StandardEnvironment environment = new StandardEnvironment();
+        Map<String, Object> map = new HashMap<>();
+        map.put("app.env", "prod");
+        map.put("prod.url", "https://${app.host}:${app.port:8443}/");
+        map.put("app.host", "example.org");
+        map.put("loop.a", "${loop.b}");
+        map.put("loop.b", "${loop.a}");
+        MapPropertySource source = new MapPropertySource("test", map);
+        environment.getPropertySources().addFirst(source);
+
+        assertEquals("https://example.org:8443/", environment.resolveRequiredPlaceholders("${${app.env}.url}"));
+        assertEquals("fallback-prod", environment.resolvePlaceholders("${missing:fallback-${app.env}}"));
+        assertEquals("keep ${missing}", environment.resolvePlaceholders("keep ${missing}"));
+        assertThrows(IllegalArgumentException.class, () -> environment.resolveRequiredPlaceholders("${missing}"));
+        assertThrows(IllegalArgumentException.class, () -> environment.getProperty("loop.a"));
+
+        // Cached values are dropped when a source changes
+        assertEquals("https://example.org:8443/", environment.getProperty("prod.url"));
+        source.setProperty("app.port", "9443");
+        assertEquals("https://example.org:9443/", environment.getProperty("prod.url"));
+        environment.getPropertySources().addFirst(new MapPropertySource("override",
+                new HashMap<>(Collections.singletonMap("app.host", "override.org"))));
+        assertEquals("https://override.org:9443/", environment.resolveRequiredPlaceholders("${${app.env}.url}"));
+        assertEquals(Integer.valueOf(9443), environment.getProperty("app.port", Integer.class));
+    }
+
+    @Test
+    public void testYamlPropertySource() throws IOException {
+        Path yaml = tempDir.resolve("application.yml");
+        Files.write(yaml, ("# service settings\n"
+                + "server:\n"
+                + "  port: 8080\n"
+                + "  name: 'orders # primary'\n"
+                + "  hosts: [alpha, \"beta\"]\n"
+                + "  routes:\n"
+                + "  - path: /a\n"
+                + "    weight: 1\n"
+                + "  - /b\n"
+                + "empty:\n"
+                + "---\n"
+                + "server:\n"
+                + "  port: 9090\n").getBytes(StandardCharsets.UTF_8));
+
+        ResourcePropertySource source = new ResourcePropertySource(new FileSystemResource(yaml.toFile()));
+        assertEquals("9090", source.getProperty("server.port"));
+        assertEquals("orders # primary", source.getProperty("server.name"));
+        assertEquals("beta", source.getProperty("server.hosts[1]"));
+        assertEquals("/a", source.getProperty("server.routes[0].path"));
+        assertEquals("1", source.getProperty("server.routes[0].weight"));
+        assertEquals("/b", source.getProperty("server.routes[1]"));
+        assertEquals("", source.getProperty("empty"));
+    }
+
+    @Test
+    public void testValueInjection() throws IOException {
+        Path properties = tempDir.resolve("app.properties");
+        Files.write(properties, "service.timeout=30\nservice.unit=SECONDS\nservice.name=${service.prefix:svc}-orders\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        MutablePropertySources propertySources = context.getEnvironment().getPropertySources();
+        propertySources.addLast(new ResourcePropertySource(new FileSystemResource(properties.toFile())));
+        context.registerBeanDefinition("configured", new BeanDefinition(ConfiguredBean.class));
+        context.refresh();
+
+        ConfiguredBean bean = context.getBean("configured", ConfiguredBean.class);
+        assertEquals(30, bean.timeout);
+        assertEquals(TimeUnit.SECONDS, bean.unit);
+        assertEquals("svc-orders", bean.name);
+        assertEquals(5, bean.retries);
+        context.close();
+    }
+
+    @Test
+    public void testConfigurationPropertiesBinding() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        Map<String, Object> map = new HashMap<>();
+        map.put("pool.max-size", "${pool.core}0");
+        map.put("pool.core", "4");
+        map.put("pool.unit", "MINUTES");
+        map.put("pool.hosts", "alpha, beta");
+        map.put("pool.ports[0]", "80");
+        map.put("pool.ports[1]", "443");
+        map.put("pool.labels.zone", "eu");
+        map.put("pool.retry.attempts", "5");
+        map.put("client.url", "https://example.org");
+        map.put("client.timeout.millis", "250");
+        MapPropertySource source = new MapPropertySource("test", map);
+        context.getEnvironment().getPropertySources().addFirst(source);
+        context.registerBeanDefinition("pool", new BeanDefinition(PoolProperties.class));
+        context.registerBeanDefinition("client", new BeanDefinition(ClientProperties.class));
+        context.refresh();
+
+        PoolProperties pool = context.getBean("pool", PoolProperties.class);
+        assertEquals(40, pool.getMaxSize());
+        assertEquals(TimeUnit.MINUTES, pool.getUnit());
+        assertEquals(Arrays.asList("alpha", "beta"), pool.getHosts());
+        assertArrayEquals(new int[] { 80, 443 }, pool.getPorts());
+        assertEquals("eu", pool.getLabels().get("zone"));
+        assertEquals(5, pool.getRetry().getAttempts());
+        assertEquals(100, pool.getRetry().getBackoff());
+
+        ClientProperties client = context.getBean("client", ClientProperties.class);
+        assertEquals("https://example.org", client.url);
+        assertEquals(3, client.retries);
+        assertEquals(250, client.timeout.millis);
+        assertTrue(client.timeout.keepAlive);
+        context.close();
+
+        source.setProperty("pool.max-size", "lots");
+        ConfigurationPropertiesBinder binder = new ConfigurationPropertiesBinder(context.getEnvironment());
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> binder.bind(PoolProperties.class));
+        assertTrue(ex.getMessage().contains("pool.max-size"));
+        assertEquals(0, binder.bind("pool", PoolProperties.class, true).getMaxSize());
+    }
+
+    @Test
+    public void testConditionalRegistration() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().setActiveProfiles("dev");
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("features",
+                new HashMap<>(Collections.singletonMap("feature.cache", "true"))));
+        FeatureCondition.evaluations.set(0);
+        context.register(DevService.class, ProdService.class, NotProdService.class, CacheService.class,
+                CacheWarmer.class, MetricsService.class);
+        context.refresh();
+
+        assertTrue(context.containBean("devService"));
+        assertFalse(context.containBean("prodService"));
+        assertTrue(context.containBean("notProdService"));
+        assertTrue(context.containBean("cacheService"));
+        assertTrue(context.containBean("cacheWarmer"));
+        assertFalse(context.containBean("metricsService"));
+        // Equal @ConditionalOnFeature("cache") annotations share one evaluation
+        assertEquals(2, FeatureCondition.evaluations.get());
+        context.close();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Conditional(FeatureCondition.class)
+    public @interface ConditionalOnFeature {
+        String value();
+    }
+
+    public static class FeatureCondition implements Condition {
+        static final AtomicInteger evaluations = new AtomicInteger();
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedElement element) {
+            evaluations.incrementAndGet();
+            String feature = element.getAnnotation(ConditionalOnFeature.class).value();
+            return Boolean.parseBoolean(context.getEnvironment().getProperty("feature." + feature));
+        }
+
+        @Override
+        public boolean isElementIndependent() {
+            return true;
+        }
+    }
+
+    @Component
+    @Profile("dev")
+    public static class DevService {
+    }
+
+    @Component
+    @Profile("prod")
+    public static class ProdService {
+    }
+
+    @Component
+    @Profile("!prod")
+    public static class NotProdService {
+    }
+
+    @Component
+    @ConditionalOnFeature("cache")
+    public static class CacheService {
+    }
+
+    @Component
+    @ConditionalOnFeature("cache")
+    public static class CacheWarmer {
+    }
+
+    @Component
+    @ConditionalOnFeature("metrics")
+    public static class MetricsService {
+    }
+
+    @ConfigurationProperties(prefix = "pool")
+    public static class PoolProperties {
+        private int maxSize;
+        private TimeUnit unit;
+        private List<String> hosts;
+        private int[] ports;
+        private Map<String, String> labels;
+        private final Retry retry = new Retry();
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public TimeUnit getUnit() {
+            return unit;
+        }
+
+        public void setUnit(TimeUnit unit) {
+            this.unit = unit;
+        }
+
+        public List<String> getHosts() {
+            return hosts;
+        }
+
+        public void setHosts(List<String> hosts) {
+            this.hosts = hosts;
+        }
+
+        public int[] getPorts() {
+            return ports;
+        }
+
+        public void setPorts(int[] ports) {
+            this.ports = ports;
+        }
+
+        public Map<String, String> getLabels() {
+            return labels;
+        }
+
+        public void setLabels(Map<String, String> labels) {
+            this.labels = labels;
+        }
+
+        public Retry getRetry() {
+            return retry;
+        }
+
+        public static class Retry {
+            private int attempts = 1;
+            private long backoff = 100;
+
+            public int getAttempts() {
+                return attempts;
+            }
+
+            public void setAttempts(int attempts) {
+                this.attempts = attempts;
+            }
+
+            public long getBackoff() {
+                return backoff;
+            }
+
+            public void setBackoff(long backoff) {
+                this.backoff = backoff;
+            }
+        }
+    }
+
+    @ConfigurationProperties("client")
+    public static class ClientProperties {
+        final String url;
+        final int retries;
+        final Timeout timeout;
+
+        public ClientProperties(String url, @DefaultValue("3") int retries, Timeout timeout) {
+            this.url = url;
+            this.retries = retries;
+            this.timeout = timeout;
+        }
+
+        public static class Timeout {
+            final long millis;
+            final boolean keepAlive;
+
+            public Timeout(long millis, @DefaultValue("true") boolean keepAlive) {
+                this.millis = millis;
+                this.keepAlive = keepAlive;
+            }
+        }
+    }
+
+    public static class BaseBean {
+        @Value("${service.timeout}")
+        int timeout;
+    }
+
+    public static class ConfiguredBean extends BaseBean {
+        @Value("${service.unit}")
+        TimeUnit unit;
+
+        String name;
+        long retries;
+
+        @Value("${service.name}")
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @Value("${service.retries:5}")
+        private void retries(long retries) {
+            this.retries = retries;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.yu.spring;
+
+import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.annotation.Value;
+import com.yu.spring.context.AnnotationConfigApplicationContext;
+import com.yu.spring.core.env.MapPropertySource;
+import com.yu.spring.expression.EvaluationException;
+import com.yu.spring.expression.Expression;
+import com.yu.spring.expression.ParseException;
+import com.yu.spring.expression.ParserContext;
+import com.yu.spring.expression.spel.SpelExpression;
+import com.yu.spring.expression.spel.SpelExpressionParser;
+import com.yu.spring.expression.spel.StandardEvaluationContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the expression language and its compiler.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ExpressionTest {
+
+    @Test
+    public void testInterpretedEvaluation() {
+        SpelExpressionParser parser = new SpelExpressionParser(-1);
+        Order order = new Order("books", 3, 12.5);
+        order.attributes.put("priority", "high");
+        StandardEvaluationContext context = new StandardEvaluationContext(order);
+        context.setVariable("discount", 2);
+
+        assertEquals(7, parser.parseExpression("1 + 2 * 3").getValue());
+        assertEquals(2.5, parser.parseExpression("10 / 4.0").getValue());
+        assertEquals(8L, parser.parseExpression("5L + 3").getValue());
+        assertEquals("a1", parser.parseExpression("'a' + 1").getValue());
+        assertEquals(true, parser.parseExpression("3 > 2 and not (1 eq 2)").getValue());
+        assertEquals(35.5, parser.parseExpression("quantity * price - #discount").getValue(context));
+        assertEquals("BOOKS", parser.parseExpression("name.toUpperCase()").getValue(context));
+        assertEquals("ook", parser.parseExpression("name.substring(1, 4)").getValue(context));
+        assertEquals("high", parser.parseExpression("attributes['priority']").getValue(context));
+        assertEquals("y", parser.parseExpression("tags[1]").getValue(context));
+        assertEquals("bulk", parser.parseExpression("quantity >= 3 ? 'bulk' : 'single'").getValue(context));
+        assertEquals("none", parser.parseExpression("attributes['missing'] ?: 'none'").getValue(context));
+        assertEquals("Order books", parser.parseExpression("Order #{name}", ParserContext.TEMPLATE_EXPRESSION)
+                .getValue(context));
+        assertEquals(Long.valueOf(6), parser.parseExpression("quantity * 2").getValue(context, Long.class));
+
+        assertThrows(ParseException.class, () -> parser.parseExpression("1 +"));
+        assertThrows(ParseException.class, () -> parser.parseExpression("T(java.lang.Math).abs(1)"));
+        EvaluationException ex = assertThrows(EvaluationException.class,
+                () -> parser.parseExpression("missing + 1").getValue(context));
+        assertEquals("missing + 1", ex.getExpressionString());
+    }
+
+    @Test
+    public void testCompilationAndFallback() {
+        SpelExpressionParser parser = new SpelExpressionParser(3);
+        Order order = new Order("books", 2, 12.5);
+        order.attributes.put("factor", 2);
+        StandardEvaluationContext context = new StandardEvaluationContext(order);
+        SpelExpression expression = (SpelExpression) parser.parseExpression(
+                "quantity * attributes['factor'] + name.length() > 10 ? name.toUpperCase() : name");
+
+        assertEquals("books", expression.getValue(context));
+        order.quantity = 6;
+        assertEquals("BOOKS", expression.getValue(context));
+        assertFalse(expression.isCompiled());
+        order.quantity = 2;
+        assertEquals("books", expression.getValue(context));
+        assertTrue(expression.isCompiled());
+        order.quantity = 6;
+        assertEquals("BOOKS", expression.getValue(context));
+        assertTrue(expression.isCompiled());
+
+        // A value of another type makes the compiled form fail; the result is still correct
+        order.attributes.put("factor", 2.5);
+        assertEquals("BOOKS", expression.getValue(context));
+        assertFalse(expression.isCompiled());
+        order.attributes.put("factor", "x");
+        assertThrows(EvaluationException.class, () -> expression.getValue(context));
+
+        // '+' with a String operand concatenates in both forms
+        SpelExpression concat = (SpelExpression) parser.parseExpression("attributes['factor'] + 1");
+        for (int i = 0; i < 4; i++) {
+            assertEquals("x1", concat.getValue(context));
+        }
+        assertTrue(concat.isCompiled());
+        order.attributes.put("factor", 1);
+        assertEquals(2, concat.getValue(context));
+    }
+
+    @Test
+    public void testValueExpressions() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("pool.size", "8");
+        properties.put("pool.name", "workers");
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        context.registerBeanDefinition("order", new BeanDefinition(Order.class));
+        context.registerBeanDefinition("pool", new BeanDefinition(PoolBean.class));
+        context.refresh();
+
+        PoolBean pool = context.getBean("pool", PoolBean.class);
+        assertEquals(16, pool.size);
+        assertEquals("pool-WORKERS", pool.label);
+        assertEquals(3, pool.orderQuantity);
+        assertTrue(pool.large);
+        context.close();
+    }
+
+    public static class Order {
+        public String name;
+        public int quantity;
+        private final double price;
+        final Map<String, Object> attributes = new HashMap<>();
+
+        public Order() {
+            this("default", 3, 1.0);
+        }
+
+        Order(String name, int quantity, double price) {
+            this.name = name;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        public String[] getTags() {
+            return new String[] { "x", "y" };
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class PoolBean {
+        @Value("#{env['pool.size'] * 2}")
+        int size;
+
+        @Value("pool-#{env['pool.name'].toUpperCase()}")
+        String label;
+
+        @Value("#{@order.quantity}")
+        long orderQuantity;
+
+        @Value("#{${pool.size:1} > 4}")
+        boolean large;
+    }
+}
@@ -0,0 +1,151 @@
+package com.yu.spring;
+
+import com.yu.spring.io.DefaultResourceLoader;
+import com.yu.spring.io.FileSystemResource;
+import com.yu.spring.io.PathMatchingResourcePatternResolver;
+import com.yu.spring.io.Resource;
+import com.yu.spring.util.AntPathMatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the resource abstraction.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ResourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testFileSystemResource() throws IOException {
+        Path file = tempDir.resolve("dictionary.txt");
+        Files.write(file, "hello mapped world".getBytes(StandardCharsets.UTF_8));
+
+        Resource resource = new DefaultResourceLoader().getResource("file:" + file);
+        assertTrue(resource instanceof FileSystemResource);
+        assertTrue(resource.exists());
+        assertEquals(18L, resource.contentLength());
+        assertEquals(file.toFile(), resource.getFile());
+
+        MappedByteBuffer mapped = resource.mapReadOnly();
+        byte[] bytes = new byte[mapped.remaining()];
+        mapped.get(bytes);
+        assertEquals("hello mapped world", new String(bytes, StandardCharsets.UTF_8));
+
+        try (ReadableByteChannel channel = resource.readableChannel()) {
+            ByteBuffer buffer = ByteBuffer.allocate(5);
+            channel.read(buffer);
+            assertEquals("hello", new String(buffer.array(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testJarBackedClassPathResource() throws IOException {
+        Resource resource = new DefaultResourceLoader().getResource("classpath:net/sf/cglib/proxy/Enhancer.class");
+        assertTrue(resource.exists());
+        assertEquals("jar", resource.getURL().getProtocol());
+
+        MappedByteBuffer mapped = resource.mapReadOnly();
+        assertEquals(resource.contentLength(), mapped.remaining());
+        // Class file magic number
+        assertEquals(0xCAFEBABE, mapped.getInt(0));
+        assertTrue(resource.lastModified() > 0);
+    }
+
+    @Test
+    public void testResourceLookupsAreCached() {
+        DefaultResourceLoader loader = new DefaultResourceLoader();
+        Resource missing = loader.getResource("classpath:does/not/exist.properties");
+        assertFalse(missing.exists());
+        assertSame(missing, loader.getResource("classpath:does/not/exist.properties"));
+        assertThrows(IOException.class, () -> missing.getInputStream().close());
+
+        Resource existing = loader.getResource("com/yu/spring/ResourceTest.class");
+        assertTrue(existing.exists());
+        assertSame(existing, loader.getResource("com/yu/spring/ResourceTest.class"));
+    }
+
+    @Test
+    public void testResourceCacheIsBounded(@TempDir Path tempDir) {
+        DefaultResourceLoader loader = new DefaultResourceLoader();
+        loader.setResourceCacheLimit(2);
+        Resource first = loader.getResource("classpath:first.properties");
+        Resource second = loader.getResource("classpath:second.properties");
+        assertSame(first, loader.getResource("classpath:first.properties"));
+        // Evicts second, the least recently used
+        loader.getResource("classpath:third.properties");
+        assertSame(first, loader.getResource("classpath:first.properties"));
+        assertNotSame(second, loader.getResource("classpath:second.properties"));
+
+        String fileLocation = tempDir.resolve("app.properties").toUri().toString();
+        assertNotSame(loader.getResource(fileLocation), loader.getResource(fileLocation));
+    }
+
+    @Test
+    public void testAntPathMatcher() {
+        AntPathMatcher matcher = new AntPathMatcher();
+        assertTrue(matcher.match("config/**/*.properties", "config/app.properties"));
+        assertTrue(matcher.match("config/**/*.properties", "config/a/b/db.properties"));
+        assertFalse(matcher.match("config/**/*.properties", "config/a/b/db.xml"));
+        assertTrue(matcher.match("com/?u/**", "com/yu/spring/Foo.class"));
+        assertFalse(matcher.match("config/*.properties", "config/a/db.properties"));
+        assertTrue(matcher.matchStart("config/**/*.properties", "config/a/"));
+        assertFalse(matcher.matchStart("config/**/*.properties", "other/"));
+    }
+
+    @Test
+    public void testClasspathAllPatternAcrossDirectoriesAndJars() throws IOException {
+        Path dirRoot = tempDir.resolve("classes");
+        Files.createDirectories(dirRoot.resolve("config/nested"));
+        Files.write(dirRoot.resolve("config/app.properties"), "a=1".getBytes(StandardCharsets.UTF_8));
+        Files.write(dirRoot.resolve("config/nested/db.properties"), "b=2".getBytes(StandardCharsets.UTF_8));
+        Files.write(dirRoot.resolve("config/nested/ignored.xml"), "<x/>".getBytes(StandardCharsets.UTF_8));
+
+        Path jar = tempDir.resolve("lib.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("config/"));
+            out.closeEntry();
+            out.putNextEntry(new JarEntry("config/jar/cache.properties"));
+            out.write("c=3".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+
+        URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { dirRoot.toUri().toURL(), jar.toUri().toURL() }, null);
+        PathMatchingResourcePatternResolver resolver =
+                new PathMatchingResourcePatternResolver(new DefaultResourceLoader(classLoader));
+
+        Resource[] resources = resolver.getResources("classpath*:config/**/*.properties");
+        assertEquals(3, resources.length);
+        assertTrue(resources[0].getURL().getPath().endsWith("config/app.properties"));
+        assertTrue(resources[1].getURL().getPath().endsWith("config/nested/db.properties"));
+        assertEquals("jar", resources[2].getURL().getProtocol());
+        try (InputStream in = resources[2].getInputStream()) {
+            assertEquals('c', in.read());
+        }
+
+        // Resolution is cached per pattern
+        Files.write(dirRoot.resolve("config/late.properties"), "d=4".getBytes(StandardCharsets.UTF_8));
+        assertEquals(3, resolver.getResources("classpath*:config/**/*.properties").length);
+        resolver.clearCache();
+        assertEquals(4, resolver.getResources("classpath*:config/**/*.properties").length);
+    }
+}
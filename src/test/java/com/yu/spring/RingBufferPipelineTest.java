@@ -0,0 +1,126 @@
+package com.yu.spring;
+
+import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.context.AnnotationConfigApplicationContext;
+import com.yu.spring.messaging.BusySpinWaitStrategy;
+import com.yu.spring.messaging.EventHandler;
+import com.yu.spring.messaging.ManagedRingBufferPipeline;
+import com.yu.spring.messaging.ParkingWaitStrategy;
+import com.yu.spring.messaging.ProducerType;
+import com.yu.spring.messaging.RingBufferPipeline;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ring-buffer pipeline.
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class RingBufferPipelineTest {
+
+    @Test
+    public void testContextManagedPipeline() throws Exception {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBeanDefinition("enricher", new BeanDefinition(EnrichingHandler.class));
+        context.registerBeanDefinition("summer", new BeanDefinition(SummingHandler.class));
+        context.registerBeanDefinition("pipeline", new BeanDefinition(TestPipeline.class));
+        context.refresh();
+
+        TestPipeline pipeline = (TestPipeline) context.getBean("pipeline");
+        int perProducer = 20_000;
+        Thread[] producers = new Thread[2];
+        for (int p = 0; p < producers.length; p++) {
+            producers[p] = new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    pipeline.publishEvent((event, sequence, value) -> event.value = value, (long) i);
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        SummingHandler summer = (SummingHandler) context.getBean("summer");
+        context.close();
+
+        long expectedSum = 2L * perProducer * (perProducer + 1) / 2;
+        assertEquals(2L * perProducer, summer.count.get());
+        assertEquals(expectedSum * 10, summer.sum.get());
+    }
+
+    @Test
+    public void testBufferSmallerThanBacklog() {
+        AtomicLong received = new AtomicLong();
+        RingBufferPipeline<MessageEvent> pipeline = new RingBufferPipeline<>(MessageEvent::new, 8,
+                ProducerType.SINGLE, new BusySpinWaitStrategy());
+        pipeline.handleEventsWith((event, sequence, endOfBatch) -> received.addAndGet(event.value));
+        pipeline.start();
+        for (long i = 0; i < 1000; i++) {
+            pipeline.publishEvent((event, sequence, value) -> event.value = value, 1L);
+        }
+        assertTrue(pipeline.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(1000L, received.get());
+    }
+
+    @Test
+    public void testFailedEventsGoToExceptionHandler() {
+        AtomicLong received = new AtomicLong();
+        List<Long> failed = new CopyOnWriteArrayList<>();
+        RingBufferPipeline<MessageEvent> pipeline = new RingBufferPipeline<>(MessageEvent::new, 8,
+                ProducerType.SINGLE, new BusySpinWaitStrategy());
+        pipeline.setExceptionHandler((ex, sequence, event) -> failed.add(event.value));
+        pipeline.handleEventsWith((event, sequence, endOfBatch) -> {
+            if (event.value % 10 == 0) {
+                throw new IllegalArgumentException("Rejected " + event.value);
+            }
+            received.incrementAndGet();
+        });
+        pipeline.start();
+        for (long i = 1; i <= 100; i++) {
+            pipeline.publishEvent((event, sequence, value) -> event.value = value, i);
+        }
+        assertTrue(pipeline.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(90L, received.get());
+        assertEquals(Arrays.asList(10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L, 100L), failed);
+    }
+
+    public static class MessageEvent {
+        long value;
+        long enriched;
+    }
+
+    public static class TestPipeline extends ManagedRingBufferPipeline<MessageEvent> {
+        public TestPipeline() {
+            super(MessageEvent::new, 1024, ProducerType.MULTI, new ParkingWaitStrategy());
+            stage("enricher");
+            stage("summer");
+        }
+    }
+
+    public static class EnrichingHandler implements EventHandler<MessageEvent> {
+        @Override
+        public void onEvent(MessageEvent event, long sequence, boolean endOfBatch) {
+            event.enriched = event.value * 10;
+        }
+    }
+
+    public static class SummingHandler implements EventHandler<MessageEvent> {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong sum = new AtomicLong();
+
+        @Override
+        public void onEvent(MessageEvent event, long sequence, boolean endOfBatch) {
+            count.incrementAndGet();
+            sum.addAndGet(event.enriched);
+        }
+    }
+}
@@ -1,12 +1,64 @@
 package com.yu.spring;
 
 import com.yu.spring.aop.*;
+import com.yu.spring.aop.aspectj.AspectJExpressionPointcut;
+import com.yu.spring.aop.intercept.MethodInterceptor;
+import com.yu.spring.aop.intercept.MethodInvocation;
 import com.yu.spring.beans.BeanDefinition;
 import com.yu.spring.beans.BeanPostProcessor;
+import com.yu.spring.beans.factory.annotation.Autowired;
+import com.yu.spring.beans.factory.annotation.Qualifier;
+import com.yu.spring.beans.factory.config.BeanClassPreparingPostProcessor;
+import com.yu.spring.beans.factory.config.BeanFactoryPostProcessor;
+import com.yu.spring.beans.factory.support.BeanDefinitionRegistry;
+import com.yu.spring.beans.factory.support.BeanDefinitionRegistryPostProcessor;
 import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+import com.yu.spring.beans.factory.support.PropertiesBeanDefinitionReader;
+import com.yu.spring.beans.factory.support.XmlBeanDefinitionReader;
 import com.yu.spring.context.AnnotationConfigApplicationContext;
+import com.yu.spring.context.ApplicationEvent;
+import com.yu.spring.context.ApplicationListener;
+import com.yu.spring.context.event.ContextClosedEvent;
+import com.yu.spring.context.event.ContextRefreshedEvent;
+import com.yu.spring.context.event.SimpleApplicationEventMulticaster;
+import com.yu.spring.context.annotation.Bean;
 import com.yu.spring.context.annotation.Component;
+import com.yu.spring.context.annotation.Configuration;
+import com.yu.spring.context.annotation.Primary;
+import com.yu.spring.core.OrderComparator;
+import com.yu.spring.core.Ordered;
+import com.yu.spring.core.PriorityOrdered;
+import com.yu.spring.core.annotation.ClassMetadata;
+import com.yu.spring.core.annotation.MergedAnnotations;
+import com.yu.spring.io.FileSystemResource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -67,7 +119,11 @@ public class SpringFrameworkTest {
 
         // Create AOP configuration
         AdvisedSupport advised = new AdvisedSupport(target);
-        advised.setPointcut(Pointcut.TRUE);
+        List<String> traced = new CopyOnWriteArrayList<>();
+        advised.addAdvisor(new DefaultPointcutAdvisor(Pointcut.TRUE, (MethodInterceptor) invocation -> {
+            traced.add(invocation.getMethod().getName());
+            return invocation.proceed();
+        }));
 
         // Create JDK proxy
         JdkDynamicAopProxy jdkProxy = new JdkDynamicAopProxy(advised);
@@ -80,9 +136,975 @@ public class SpringFrameworkTest {
         TestServiceInterface service = (TestServiceInterface) proxy;
         String result = service.getMessage();
         assertEquals("Hello World", result);
+        assertEquals(Arrays.asList("getMessage"), traced);
+
+        // A pointcut alone applies no advice
+        AdvisedSupport unadvised = new AdvisedSupport(target);
+        unadvised.setPointcut(Pointcut.TRUE);
+        assertEquals(0, unadvised.getAdvisors().length);
+    }
+
+    @Test
+    public void testAdvisorChainCache() {
+        TestService target = new TestService();
+        AdvisedSupport advised = new AdvisedSupport(target);
+        AtomicInteger calls = new AtomicInteger();
+        Pointcut getters = methodNamePrefixPointcut("get");
+        MethodInterceptor brackets = invocation -> {
+            calls.incrementAndGet();
+            return "[" + invocation.proceed() + "]";
+        };
+        advised.addAdvisor(new DefaultPointcutAdvisor(getters, brackets));
+
+        TestServiceInterface jdkProxy = (TestServiceInterface) new JdkDynamicAopProxy(advised).getProxy();
+        assertEquals("[Hello World]", jdkProxy.getMessage());
+        TestService cglibProxy = (TestService) new CglibAopProxy(advised).getProxy();
+        assertEquals("[Hello World]", cglibProxy.getMessage());
+        cglibProxy.setMessage("Hi");
+        assertEquals(2, calls.get());
+        assertEquals("Hi", target.getMessage());
+
+        // The chain is cached per method and not shared with unadvised methods
+        Method getMessage = ClassMetadata.forClass(TestService.class).getMethods().stream()
+                .filter(method -> method.getName().equals("getMessage")).findFirst().get();
+        assertSame(advised.getInterceptors(getMessage, TestService.class),
+                advised.getInterceptors(getMessage, TestService.class));
+
+        // Adding an advisor drops the cached chains
+        advised.addAdvice(invocation -> "<" + invocation.proceed() + ">");
+        assertEquals("[<Hi>]", jdkProxy.getMessage());
+        assertEquals(3, calls.get());
+        assertThrows(IllegalArgumentException.class,
+                () -> advised.addAdvisor(new DefaultPointcutAdvisor(new Advice() {
+                })));
+    }
+
+    @Test
+    public void testPooledMethodInvocations() throws Throwable {
+        TestService target = new TestService();
+        AdvisedSupport advised = new AdvisedSupport(target);
+        TestService[] proxy = new TestService[1];
+        List<ReflectiveMethodInvocation> escaped = new CopyOnWriteArrayList<>();
+        MethodInterceptor interceptor = invocation -> {
+            Method method = invocation.getMethod();
+            if (method.getName().equals("getMessage")) {
+                // A nested advised call takes another pooled invocation
+                proxy[0].setMessage("nested");
+                escaped.add(((ReflectiveMethodInvocation) invocation).invocableClone());
+            }
+            Object result = invocation.proceed();
+            assertSame(method, invocation.getMethod());
+            return result;
+        };
+        advised.addAdvice(interceptor);
+        proxy[0] = (TestService) new CglibAopProxy(advised).getProxy();
+
+        assertEquals("nested", proxy[0].getMessage());
+        assertEquals("nested", proxy[0].getMessage());
+        // A clone stays usable after the call returned and its pooled original was reused
+        target.setMessage("later");
+        assertEquals("later", escaped.get(0).proceed());
+        assertEquals("getMessage", escaped.get(1).getMethod().getName());
+    }
+
+    @Test
+    public void testProxyClassCache() {
+        AdvisedSupport first = new AdvisedSupport(new TestService());
+        AdvisedSupport second = new AdvisedSupport(new TestService());
+        MethodInterceptor passThrough = invocation -> invocation.proceed();
+        MethodInterceptor upperCase = invocation -> ((String) invocation.proceed()).toUpperCase();
+        first.addAdvice(passThrough);
+        second.addAdvice(upperCase);
+
+        // Proxies advising the same methods share the generated class but not their advice
+        Class<?> cglibClass = new CglibAopProxy(first).getProxyClass();
+        TestService firstProxy = (TestService) new CglibAopProxy(first).getProxy();
+        TestService secondProxy = (TestService) new CglibAopProxy(second).getProxy();
+        assertSame(cglibClass, firstProxy.getClass());
+        assertSame(cglibClass, secondProxy.getClass());
+        assertEquals("Hello World", firstProxy.getMessage());
+        assertEquals("HELLO WORLD", secondProxy.getMessage());
+
+        Class<?> jdkClass = new JdkDynamicAopProxy(first).getProxyClass();
+        TestServiceInterface jdkProxy = (TestServiceInterface) new JdkDynamicAopProxy(second).getProxy();
+        assertSame(jdkClass, jdkProxy.getClass());
+        assertEquals("HELLO WORLD", jdkProxy.getMessage());
+    }
+
+    @Test
+    public void testCglibUnadvisedMethodDispatch() {
+        TestService target = new TestService();
+        AdvisedSupport advised = new AdvisedSupport(target);
+        MethodInterceptor upperCase = invocation -> ((String) invocation.proceed()).toUpperCase();
+        advised.addAdvisor(new DefaultPointcutAdvisor(methodNamePrefixPointcut("get"), upperCase));
+        TestService proxy = (TestService) new CglibAopProxy(advised).getProxy();
+
+        // setMessage is dispatched straight to the current target
+        proxy.setMessage("hi");
+        assertEquals("hi", target.getMessage());
+        assertEquals("HI", proxy.getMessage());
+        TestService other = new TestService();
+        advised.setTarget(other);
+        proxy.setMessage("other");
+        assertEquals("other", other.getMessage());
+        assertEquals("OTHER", proxy.getMessage());
+
+        // Proxies advising different methods get different classes
+        assertNotSame(proxy.getClass(), new CglibAopProxy(new AdvisedSupport(new TestService())).getProxyClass());
+        AdvisedSupport sameMethods = new AdvisedSupport(new TestService());
+        sameMethods.addAdvisor(new DefaultPointcutAdvisor(methodNamePrefixPointcut("get"), upperCase));
+        assertSame(proxy.getClass(), new CglibAopProxy(sameMethods).getProxyClass());
+    }
+
+    @Test
+    public void testAdvisedMethodsMatchedOncePerAdvisors() {
+        AtomicInteger matches = new AtomicInteger();
+        Pointcut countingPointcut = new Pointcut() {
+            @Override
+            public ClassFilter getClassFilter() {
+                return ClassFilter.TRUE;
+            }
+
+            @Override
+            public MethodMatcher getMethodMatcher() {
+                return (method, targetClass) -> {
+                    matches.incrementAndGet();
+                    return method.getName().startsWith("get");
+                };
+            }
+        };
+        Advisor advisor = new DefaultPointcutAdvisor(countingPointcut, (MethodInterceptor) MethodInvocation::proceed);
+        AdvisedSupport first = new AdvisedSupport(new TestService());
+        first.addAdvisor(advisor);
+        Class<?> proxyClass = new CglibAopProxy(first).getProxyClass();
+        int firstMatches = matches.get();
+        assertTrue(firstMatches > 0);
+
+        // Another configuration with the same advisors reuses the advised methods of the class
+        AdvisedSupport second = new AdvisedSupport(new TestService());
+        second.addAdvisor(advisor);
+        assertSame(proxyClass, new CglibAopProxy(second).getProxyClass());
+        assertEquals(firstMatches, matches.get());
+
+        // ASM proxies implement other methods, matched once as well
+        Class<?> asmClass = new AsmAopProxy(first).getProxyClass();
+        int asmMatches = matches.get();
+        assertTrue(asmMatches > firstMatches);
+        assertSame(asmClass, new AsmAopProxy(second).getProxyClass());
+        assertEquals(asmMatches, matches.get());
+    }
+
+    @Test
+    public void testAsmAopProxy() throws Exception {
+        Counter target = new Counter();
+        AdvisedSupport advised = new AdvisedSupport(target);
+        List<String> calls = new CopyOnWriteArrayList<>();
+        MethodInterceptor recording = invocation -> {
+            calls.add(invocation.getMethod().getName());
+            return invocation.proceed();
+        };
+        advised.addAdvisor(new DefaultPointcutAdvisor(methodNamePrefixPointcut("add"), recording));
+        AsmAopProxy asmProxy = new AsmAopProxy(advised);
+        CounterService proxy = (CounterService) asmProxy.getProxy();
+        assertSame(asmProxy.getProxyClass(), proxy.getClass());
+
+        // Advised methods with primitive arguments and results run the chain
+        assertEquals(5L, proxy.add(5));
+        assertEquals(7L, proxy.addAll(1, 1L, 0.4));
+        // Unadvised methods call the target directly
+        proxy.reset();
+        assertEquals("count=0", proxy.describe("count"));
+        assertEquals(target.hashCode(), proxy.hashCode());
+        assertEquals(Arrays.asList("add", "addAll"), calls);
+        IOException failure = assertThrows(IOException.class, () -> proxy.addOrFail(-1));
+        assertEquals("negative", failure.getMessage());
+
+        // Advice may change the arguments before the target sees them
+        MethodInterceptor doubling = invocation -> {
+            invocation.getArguments()[0] = (Integer) invocation.getArguments()[0] * 2;
+            return invocation.proceed();
+        };
+        AdvisedSupport doubled = new AdvisedSupport(new Counter());
+        doubled.addAdvisor(new DefaultPointcutAdvisor(methodNamePrefixPointcut("add"), doubling));
+        CounterService doubledProxy = (CounterService) new AsmAopProxy(doubled).getProxy();
+        assertSame(proxy.getClass(), doubledProxy.getClass());
+        assertEquals(6L, doubledProxy.add(3));
+
+        // The proxy class exposes nothing beyond its interfaces
+        assertFalse(proxy instanceof AsmAopProxy.TargetInvoker);
+        for (Field field : proxy.getClass().getDeclaredFields()) {
+            assertTrue(Modifier.isPrivate(field.getModifiers()) && Modifier.isFinal(field.getModifiers()),
+                    field.getName());
+        }
+        assertThrows(IllegalStateException.class, () -> AsmAopProxy.methodsOf(proxy.getClass()));
+    }
+
+    @Test
+    public void testAsmAopProxyCovariantMethods() {
+        // The value() methods of both interfaces are implemented, advised or not
+        AdvisedSupport plain = new AdvisedSupport(new StringValue());
+        StringValueSource plainProxy = (StringValueSource) new AsmAopProxy(plain).getProxy();
+        assertEquals("value", plainProxy.value());
+        assertEquals("value", ((ValueSource) plainProxy).value());
+
+        AdvisedSupport advised = new AdvisedSupport(new StringValue());
+        MethodInterceptor upperCase = invocation -> ((String) invocation.proceed()).toUpperCase();
+        advised.addAdvisor(new DefaultPointcutAdvisor(methodNamePrefixPointcut("value"), upperCase));
+        StringValueSource proxy = (StringValueSource) new AsmAopProxy(advised).getProxy();
+        assertEquals("VALUE", proxy.value());
+        assertEquals("VALUE", ((ValueSource) proxy).value());
+    }
+
+    @Test
+    public void testNullAdviceResultForPrimitiveReturnType() {
+        AdvisedSupport advised = new AdvisedSupport(new Counter());
+        MethodInterceptor returningNull = invocation -> null;
+        advised.addAdvisor(new DefaultPointcutAdvisor(methodNamePrefixPointcut("add"), returningNull));
+        advised.addAdvisor(new DefaultPointcutAdvisor(methodNamePrefixPointcut("reset"), returningNull));
+        for (AopProxy aopProxy : new AopProxy[] { new JdkDynamicAopProxy(advised), new CglibAopProxy(advised),
+                new AsmAopProxy(advised) }) {
+            CounterService proxy = (CounterService) aopProxy.getProxy();
+            AopInvocationException failure = assertThrows(AopInvocationException.class, () -> proxy.add(1));
+            assertTrue(failure.getMessage().contains("add(int)"), failure.getMessage());
+            // Void methods may return null
+            proxy.reset();
+        }
+    }
+
+    @Test
+    public void testDefaultAopProxyFactory() {
+        DefaultAopProxyFactory factory = new DefaultAopProxyFactory();
+        AdvisedSupport interfaces = new AdvisedSupport(new TestService());
+        assertTrue(factory.createAopProxy(interfaces) instanceof JdkDynamicAopProxy);
+        interfaces.setOptimize(true);
+        assertTrue(factory.createAopProxy(interfaces) instanceof AsmAopProxy);
+        interfaces.setProxyTargetClass(true);
+        assertTrue(factory.createAopProxy(interfaces) instanceof CglibAopProxy);
+        assertTrue(factory.createAopProxy(new AdvisedSupport(new AnnotatedTestService())) instanceof CglibAopProxy);
+        AdvisedSupport finalClass = new AdvisedSupport(new FinalService());
+        assertThrows(IllegalStateException.class, () -> factory.createAopProxy(finalClass));
+
+        // Proxy classes generated up front, before there is a target, are reused by the proxies
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBeanDefinition("proxyClassPreparer", new BeanDefinition(ProxyClassPreparer.class));
+        context.refresh();
+        ProxyClassPreparer preparer = (ProxyClassPreparer) context.getBean("proxyClassPreparer");
+        assertEquals(2, preparer.proxyClasses.size());
+        for (AdvisedSupport config : preparer.configs) {
+            config.setTarget(new TestService());
+            Object proxy = factory.createAopProxy(config).getProxy();
+            assertTrue(preparer.proxyClasses.contains(proxy.getClass()));
+        }
+
+        // Classes of the JDK cannot get an ASM proxy defined next to them, so they get a JDK proxy
+        AdvisedSupport jdkClass = new AdvisedSupport(new ArrayList<>(Arrays.asList("a", "b")));
+        jdkClass.setOptimize(true);
+        AopProxy jdkClassProxy = factory.createAopProxy(jdkClass);
+        assertTrue(jdkClassProxy instanceof JdkDynamicAopProxy);
+        assertEquals(2, ((List<?>) jdkClassProxy.getProxy()).size());
+    }
+
+    @Test
+    public void testDefaultAdvisorAutoProxyCreator() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBeanDefinition("autoProxyCreator", new BeanDefinition(DefaultAdvisorAutoProxyCreator.class));
+        context.registerBeanDefinition("upperCaseAdvisor", new BeanDefinition(UpperCaseAdvisor.class));
+        context.registerBeanDefinition("testService", prototype(TestService.class));
+        context.registerBeanDefinition("annotatedTestService", new BeanDefinition(AnnotatedTestService.class));
+        context.refresh();
+
+        TestServiceInterface service = (TestServiceInterface) context.getBean("testService");
+        assertTrue(java.lang.reflect.Proxy.isProxyClass(service.getClass()));
+        assertEquals("HELLO WORLD", service.getMessage());
+        assertNotSame(service, context.getBean("testService"));
+        AnnotatedTestService annotated = (AnnotatedTestService) context.getBean("annotatedTestService");
+        assertSame(AnnotatedTestService.class, annotated.getClass());
+
+        // The rejected class is screened once and never reaches method matching
+        UpperCaseAdvisor advisor = (UpperCaseAdvisor) context.getBean("upperCaseAdvisor");
+        assertEquals(1, java.util.Collections.frequency(advisor.filteredClasses, AnnotatedTestService.class));
+        assertFalse(advisor.matchedClasses.contains(AnnotatedTestService.class));
+
+        // Advisors defined after refresh apply to the beans created afterwards
+        context.registerBeanDefinition("exclaimingAdvisor", new BeanDefinition(ExclaimingAdvisor.class));
+        assertEquals("HELLO WORLD!", ((TestServiceInterface) context.getBean("testService")).getMessage());
+        assertEquals("HELLO WORLD", service.getMessage());
+    }
+
+    @Test
+    public void testAutoProxyAdvisorOrder() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.addBeanPostProcessor(new DefaultAdvisorAutoProxyCreator(beanFactory));
+        beanFactory.registerBeanDefinition("tx", new BeanDefinition(TxAdvisor.class));
+        beanFactory.registerBeanDefinition("logging", new BeanDefinition(LoggingAdvisor.class));
+        beanFactory.registerBeanDefinition("security", new BeanDefinition(SecurityAdvisor.class));
+        beanFactory.registerBeanDefinition("cache", new BeanDefinition(CacheAdvisor.class));
+        beanFactory.registerBeanDefinition("metrics", new BeanDefinition(MetricsAdvisor.class));
+        beanFactory.registerBeanDefinition("first", new BeanDefinition(FirstAdvisor.class));
+        beanFactory.registerBeanDefinition("testService", new BeanDefinition(TestService.class));
+
+        // Ordered advisors come first, the others run in definition order
+        TestServiceInterface service = (TestServiceInterface) beanFactory.getBean("testService");
+        assertEquals("First>Tx>Logging>Security>Cache>Metrics>Hello World", service.getMessage());
+    }
+
+    @Test
+    public void testAspectJExpressionPointcut() throws Exception {
+        AspectJExpressionPointcut pointcut =
+                new AspectJExpressionPointcut("within(com.yu.spring..*Service) && execution(String get*(..))");
+        assertTrue(pointcut.matches(TestService.class));
+        assertFalse(pointcut.matches(Counter.class));
+        Method getMessage = TestService.class.getMethod("getMessage");
+        assertTrue(pointcut.matches(getMessage, TestService.class));
+        assertFalse(pointcut.matches(TestService.class.getMethod("setMessage", String.class), TestService.class));
+        // Interface methods are matched as the target class's implementation
+        assertTrue(pointcut.matches(TestServiceInterface.class.getMethod("getMessage"), TestService.class));
+        assertFalse(pointcut.matches(TestServiceInterface.class.getMethod("getMessage"), TestServiceInterface.class));
+        assertSame(pointcut.getPointcutExpression(), pointcut.getPointcutExpression());
+
+        AdvisedSupport advised = new AdvisedSupport(new TestService());
+        advised.addAdvisor(new DefaultPointcutAdvisor(pointcut,
+                (MethodInterceptor) invocation -> ((String) invocation.proceed()).toUpperCase()));
+        assertEquals("HELLO WORLD", ((TestServiceInterface) new JdkDynamicAopProxy(advised).getProxy()).getMessage());
+
+        // Expressions are parsed on first use; primitives needing the call's arguments are rejected
+        assertThrows(IllegalArgumentException.class,
+                () -> new AspectJExpressionPointcut("execution(* *(").matches(Counter.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AspectJExpressionPointcut("args(String)").matches(Counter.class));
+    }
+
+    @Test
+    public void testLoadTimeWeaving() throws Exception {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.enableLoadTimeWeaving();
+        // The test runner loaded every test class before weaving started, so load the woven ones again
+        String greeterName = WovenGreeter.class.getName();
+        ClassLoader loader = new ShadowingClassLoader(getClass().getClassLoader(),
+                greeterName, UpperCaseNameAspect.class.getName());
+        context.registerBeanDefinition("wovenGreeter", new BeanDefinition(loader.loadClass(greeterName)));
+        context.refresh();
+
+        TestServiceInterface greeter = (TestServiceInterface) context.getBean("wovenGreeter");
+        assertEquals(greeterName, greeter.getClass().getName());
+        assertFalse(java.lang.reflect.Proxy.isProxyClass(greeter.getClass()));
+        // The advice is inline, so the call from getMessage() to name() is advised too
+        assertEquals("Hello WORLD", greeter.getMessage());
+    }
+
+    private static Pointcut methodNamePrefixPointcut(String prefix) {
+        return new Pointcut() {
+            @Override
+            public ClassFilter getClassFilter() {
+                return ClassFilter.TRUE;
+            }
+
+            @Override
+            public MethodMatcher getMethodMatcher() {
+                return (method, targetClass) -> method.getName().startsWith(prefix);
+            }
+        };
+    }
+
+    @Test
+    public void testBackgroundBeanInitialization() throws Exception {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        BeanDefinition slowDefinition = new BeanDefinition(SlowInitService.class);
+        slowDefinition.setInitMethodName("warmUp");
+        slowDefinition.setBackgroundInit(true);
+        context.registerBeanDefinition("slowService", slowDefinition);
+        context.registerBeanDefinition("testService", new BeanDefinition(TestService.class));
+
+        SlowInitService.release = new CountDownLatch(1);
+        context.refresh();
+
+        // refresh() returned while the slow bean is still warming up
+        assertFalse(context.isReady());
+        assertNotNull(context.getBean("testService"));
+
+        SlowInitService.release.countDown();
+        SlowInitService service = (SlowInitService) context.getBeanAsync("slowService").get(5, TimeUnit.SECONDS);
+        assertTrue(service.isWarm());
+        assertSame(service, context.getBean("slowService"));
+
+        context.whenReady().get(5, TimeUnit.SECONDS);
+        assertTrue(context.isReady());
+    }
+
+    @Test
+    public void testCircularReferenceAcrossThreads() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        CountDownLatch aStarted = new CountDownLatch(1);
+        CountDownLatch bStarted = new CountDownLatch(1);
+        BeanDefinition a = new BeanDefinition();
+        a.setInstanceSupplier(() -> {
+            aStarted.countDown();
+            await(bStarted);
+            return beanFactory.getBean("b");
+        });
+        BeanDefinition b = new BeanDefinition();
+        b.setInstanceSupplier(() -> {
+            bStarted.countDown();
+            await(aStarted);
+            return beanFactory.getBean("a");
+        });
+        beanFactory.registerBeanDefinition("a", a);
+        beanFactory.registerBeanDefinition("b", b);
+
+        // "a" is created in the background and needs "b", which this thread creates and which needs "a"
+        CompletableFuture<Object> background = beanFactory.getBeanAsync("a");
+        RuntimeException ex = assertTimeoutPreemptively(java.time.Duration.ofSeconds(10),
+                () -> assertThrows(RuntimeException.class, () -> beanFactory.getBean("b")));
+        assertTrue(ex.getMessage().contains("Circular reference"), ex.getMessage());
+        assertThrows(Exception.class, () -> background.get(10, TimeUnit.SECONDS));
+        beanFactory.destroySingletons();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void testSingletonsDestroyedInReverseCreationOrder() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        List<String> destroyed = new CopyOnWriteArrayList<>();
+        for (String name : Arrays.asList("first", "second", "failing", "third")) {
+            BeanDefinition definition = new BeanDefinition();
+            definition.setInstanceSupplier(() -> new DisposableService(name, destroyed));
+            definition.setDestroyMethodName("destroy");
+            beanFactory.registerBeanDefinition(name, definition);
+        }
+        beanFactory.getBean("second");
+        beanFactory.getBean("first");
+        beanFactory.getBean("failing");
+        beanFactory.getBean("third");
+
+        // A failing destroy method does not stop the others and is rethrown afterwards
+        RuntimeException ex = assertThrows(RuntimeException.class, beanFactory::destroySingletons);
+        assertTrue(ex.getMessage().contains("failing"), ex.getMessage());
+        assertEquals(Arrays.asList("third", "failing", "first", "second"), destroyed);
+    }
+
+    public static class DisposableService {
+        private final String name;
+        private final List<String> destroyed;
+
+        DisposableService(String name, List<String> destroyed) {
+            this.name = name;
+            this.destroyed = destroyed;
+        }
+
+        public void destroy() {
+            destroyed.add(name);
+            if ("failing".equals(name)) {
+                throw new IllegalStateException("Cannot destroy " + name);
+            }
+        }
+    }
+
+    @Test
+    public void testApplicationEvents() throws Exception {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBeanDefinition("recordingListener", new BeanDefinition(RecordingListener.class));
+        context.registerBeanDefinition("applicationEventMulticaster",
+                new BeanDefinition(AsyncCapableMulticaster.class));
+
+        CountDownLatch asyncDelivered = new CountDownLatch(1);
+        List<String> asyncThreads = new CopyOnWriteArrayList<>();
+        context.addApplicationListener(new ApplicationListener<TestEvent>() {
+            @Override
+            public void onApplicationEvent(TestEvent event) {
+                asyncThreads.add(Thread.currentThread().getName());
+                asyncDelivered.countDown();
+            }
+
+            @Override
+            public boolean isAsync() {
+                return true;
+            }
+        });
+        context.refresh();
+
+        RecordingListener listener = (RecordingListener) context.getBean("recordingListener");
+        context.publishEvent(new TestEvent("payload"));
+        assertTrue(asyncDelivered.await(5, TimeUnit.SECONDS));
+        assertNotEquals(Thread.currentThread().getName(), asyncThreads.get(0));
+
+        context.close();
+        assertEquals(3, listener.events.size());
+        assertTrue(listener.events.get(0) instanceof ContextRefreshedEvent);
+        assertTrue(listener.events.get(1) instanceof TestEvent);
+        assertTrue(listener.events.get(2) instanceof ContextClosedEvent);
+    }
+
+    @Test
+    public void testListenerEventTypeResolvedThroughGenericSuperclass() {
+        SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster();
+        TestEventListener listener = new TestEventListener();
+        multicaster.addApplicationListener(listener);
+
+        multicaster.multicastEvent(new ContextRefreshedEvent(new AnnotationConfigApplicationContext()));
+        multicaster.multicastEvent(new TestEvent("payload"));
+        assertEquals(1, listener.events.size());
+        assertTrue(listener.events.get(0) instanceof TestEvent);
+    }
+
+    @Test
+    public void testLambdaListenerClassCastExceptions() {
+        SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster();
+        List<TestEvent> received = new CopyOnWriteArrayList<>();
+        ApplicationListener<TestEvent> lambdaListener = received::add;
+        multicaster.addApplicationListener(lambdaListener);
+
+        // The event reaches the lambda and fails its cast to TestEvent, which is not an error
+        multicaster.multicastEvent(new ContextRefreshedEvent(new AnnotationConfigApplicationContext()));
+        multicaster.multicastEvent(new TestEvent("payload"));
+        assertEquals(1, received.size());
+
+        // A cast failing inside the listener itself is rethrown
+        multicaster.removeAllListeners();
+        ApplicationListener<TestEvent> failingListener = event -> ((String) event.getSource()).length();
+        multicaster.addApplicationListener(failingListener);
+        multicaster.multicastEvent(new TestEvent("payload"));
+        assertThrows(ClassCastException.class, () -> multicaster.multicastEvent(new TestEvent(1)));
+    }
+
+    @Test
+    public void testXmlAndPropertiesBeanDefinitionReaders(@TempDir Path tempDir) throws IOException {
+        Path services = write(tempDir.resolve("services.xml"),
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                        + "<beans>\n"
+                        + "  <bean id=\"testService\" class=\"" + TestService.class.getName() + "\">\n"
+                        + "    <property name=\"message\" value=\"from xml\"/>\n"
+                        + "  </bean>\n"
+                        + "  <bean class=\"" + TestService.class.getName() + "\"/>\n"
+                        + "</beans>\n");
+        Path overrides = write(tempDir.resolve("overrides.xml"),
+                "<beans><bean id=\"testService\" class=\"" + TestService.class.getName() + "\">"
+                        + "<property name=\"message\" value=\"overridden\"/></bean>"
+                        + "<bean class=\"" + TestService.class.getName() + "\"/></beans>");
+        Path wiring = write(tempDir.resolve("wiring.properties"),
+                "# consumer of testService\n"
+                        + "wiredBean.retries=3\n"
+                        + "wiredBean.(class)=" + WiredBean.class.getName() + "\n"
+                        + "wiredBean.unit=SECONDS\n"
+                        + "wiredBean.service(ref)=testService\n"
+                        + "wiredBean.(scope)=prototype\n");
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        int xmlCount = new XmlBeanDefinitionReader(beanFactory).loadBeanDefinitions(
+                new FileSystemResource(services.toFile()), new FileSystemResource(overrides.toFile()));
+        assertEquals(4, xmlCount);
+        // Later resources win regardless of which one finished parsing first
+        assertEquals("overridden", ((TestService) beanFactory.getBean("testService")).getMessage());
+        assertTrue(beanFactory.containsBeanDefinition(TestService.class.getName() + "#0"));
+        assertTrue(beanFactory.containsBeanDefinition(TestService.class.getName() + "#1"));
+
+        assertEquals(1, new PropertiesBeanDefinitionReader(beanFactory).loadBeanDefinitions(
+                new FileSystemResource(wiring.toFile())));
+        WiredBean wired = (WiredBean) beanFactory.getBean("wiredBean");
+        assertNotSame(wired, beanFactory.getBean("wiredBean"));
+        assertSame(beanFactory.getBean("testService"), wired.service);
+        assertEquals(3, wired.retries);
+        assertEquals(TimeUnit.SECONDS, wired.unit);
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.setConfigLocations("file:" + services, "file:" + wiring);
+        context.refresh();
+        assertEquals("from xml", context.getBean("wiredBean", WiredBean.class).service.getMessage());
+        context.close();
+
+        // Locations are loaded in the order given, whatever their format
+        Path service = write(tempDir.resolve("service.properties"),
+                "testService.(class)=" + TestService.class.getName() + "\n"
+                        + "testService.message=from properties\n");
+        context = new AnnotationConfigApplicationContext();
+        context.setConfigLocations("file:" + service, "file:" + services);
+        context.refresh();
+        assertEquals("from xml", context.getBean("testService", TestService.class).getMessage());
+        context.close();
+        context = new AnnotationConfigApplicationContext();
+        context.setConfigLocations("file:" + services, "file:" + service);
+        context.refresh();
+        assertEquals("from properties", context.getBean("testService", TestService.class).getMessage());
+        context.close();
+    }
+
+    @Test
+    public void testBeanFactoryPostProcessors() {
+        List<String> invocations = new CopyOnWriteArrayList<>();
+        ReadOnlyProcessor.barrier = new CyclicBarrier(2);
+        ReadOnlyProcessor.invocations = invocations;
+        OrderedProcessor.invocations = invocations;
+        RegisteringProcessor.invocations = invocations;
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBeanDefinition("late", new BeanDefinition(OrderedProcessor.class));
+        context.registerBeanDefinition("registering", new BeanDefinition(RegisteringProcessor.class));
+        context.registerBeanDefinition("readOnlyA", new BeanDefinition(ReadOnlyProcessor.class));
+        context.registerBeanDefinition("readOnlyB", new BeanDefinition(ReadOnlyProcessor.class));
+        context.addBeanFactoryPostProcessor(beanFactory -> invocations.add("context"));
+        context.refresh();
+
+        // The registry phase comes first and can add beans, including further processors
+        assertEquals(Arrays.asList("registry", "registering", "context"), invocations.subList(0, 3));
+        assertEquals("from processor", context.getBean("testService", TestService.class).getMessage());
+        // Both read-only processors met at the barrier, so they ran concurrently
+        assertEquals(Arrays.asList("readOnly", "readOnly"), invocations.subList(3, 5));
+        assertEquals(Arrays.asList("ordered:1", "ordered:" + Ordered.LOWEST_PRECEDENCE), invocations.subList(5, 7));
+
+        Map<String, Long> timings = context.getBeanFactoryPostProcessorTimings();
+        assertTrue(timings.keySet().containsAll(Arrays.asList("registering", "readOnlyA", "readOnlyB", "late", "early")));
+        assertTrue(timings.values().stream().allMatch(nanos -> nanos >= 0));
+        context.close();
+    }
+
+    @Test
+    public void testRegistryPostProcessorsInstantiatedInStages() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        StagedProcessor.events = events;
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBeanDefinition("plain", new BeanDefinition(PlainStagedProcessor.class));
+        context.registerBeanDefinition("ordered", new BeanDefinition(OrderedStagedProcessor.class));
+        context.registerBeanDefinition("priority", new BeanDefinition(PriorityStagedProcessor.class));
+        context.refresh();
+
+        // Each stage is only instantiated after the previous one ran
+        assertEquals(Arrays.asList("new priority", "priority", "new ordered", "ordered", "new plain", "plain"),
+                events);
+        context.close();
+    }
+
+    @Test
+    public void testUnorderedPostProcessorsRunInRegistrationOrder() {
+        List<String> invocations = new CopyOnWriteArrayList<>();
+        NamedProcessor.invocations = invocations;
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        List<String> names = Arrays.asList("tx", "logging", "security", "cache", "metrics", "audit");
+        for (String name : names) {
+            context.registerBeanDefinition(name, new BeanDefinition(NamedProcessor.class));
+        }
+        context.refresh();
+
+        assertEquals(names, invocations);
+        context.close();
+    }
+
+    @Test
+    public void testRefreshWithInstanceSupplierDefinition() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        // No bean class: the scans for post processors and listeners must skip it rather than fail
+        BeanDefinition supplied = new BeanDefinition();
+        supplied.setInstanceSupplier(TestService::new);
+        context.registerBeanDefinition("supplied", supplied);
+        context.registerBeanDefinition("listener", new BeanDefinition(RecordingListener.class));
+        context.refresh();
+
+        assertEquals("Hello World", context.getBean("supplied", TestService.class).getMessage());
+        assertTrue(context.getBean("listener", RecordingListener.class).events.stream()
+                .anyMatch(event -> event instanceof ContextRefreshedEvent));
+        context.close();
+    }
+
+    @Test
+    public void testConfigurationClasses() {
+        AnnotationConfigApplicationContext context =
+                new AnnotationConfigApplicationContext(FullConfig.class, LiteConfig.class);
+
+        // Full mode: the config class is subclassed and calls between @Bean methods return the singleton
+        Object fullConfig = context.getBean("fullConfig");
+        assertNotSame(FullConfig.class, fullConfig.getClass());
+        assertTrue(fullConfig instanceof FullConfig);
+        assertSame(context.getBean("fullService"), context.getBean("fullHolder", Holder.class).service);
+        assertSame(context.getBean("fullService"), ((FullConfig) fullConfig).fullService());
+
+        // Lite mode: no subclass, a call between @Bean methods is a plain call
+        assertSame(LiteConfig.class, context.getBean("liteConfig").getClass());
+        TestServiceInterface liteService = context.getBean("liteService", TestServiceInterface.class);
+        assertNotSame(liteService, context.getBean("liteHolder", Holder.class).service);
+        // Parameters are resolved by type, and by name among several candidates
+        assertSame(liteService, context.getBean("injectedHolder", Holder.class).service);
+        assertEquals("static", context.getBean("staticService", TestService.class).getMessage());
+        context.close();
+    }
+
+    @Test
+    public void testAutowiring() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(OrderRepository.class, CustomerRepository.class, RepositoryConfig.class,
+                EmailNotifier.class, SmsNotifier.class);
+        context.registerBeanDefinition("orderService", prototype(OrderService.class));
+        context.refresh();
+
+        // Generics select among repositories, also through a generic superclass and @Bean return types
+        OrderService orderService = context.getBean("orderService", OrderService.class);
+        assertSame(context.getBean("orderRepository"), orderService.repository);
+        assertSame(context.getBean("customerRepository"), orderService.customers);
+        assertSame(context.getBean("invoiceRepository"), orderService.invoices);
+        // @Primary breaks the tie unless a @Qualifier names the bean
+        assertSame(context.getBean("emailNotifier"), orderService.notifier);
+        assertSame(context.getBean("smsNotifier"), orderService.smsNotifier);
+        assertNull(orderService.missing);
+
+        // Later prototypes reuse the cached resolution; a new definition is picked up
+        assertNotSame(orderService, context.getBean("orderService"));
+        context.registerBeanDefinition("auditRepository", new BeanDefinition(AuditRepository.class));
+        assertNotNull(context.getBean("orderService", OrderService.class).missing);
+        context.close();
+    }
+
+    @Test
+    public void testAnnotationMetadata() {
+        AnnotationConfigApplicationContext context =
+                new AnnotationConfigApplicationContext(StereotypedService.class, FullConfig.class);
+
+        // A stereotype meta-annotated with @Component registers the class
+        assertTrue(context.containBean("stereotypedService"));
+        // The configuration subclass overrides the @Bean methods without annotations; they are merged from the superclass
+        ClassMetadata metadata = ClassMetadata.forClass(context.getBean("fullConfig").getClass());
+        assertSame(metadata, ClassMetadata.forClass(context.getBean("fullConfig").getClass()));
+        assertEquals(Arrays.asList("fullHolder", "fullService"), metadata.getAnnotatedMethods(Bean.class).stream()
+                .map(Method::getName).sorted().collect(Collectors.toList()));
+        assertTrue(MergedAnnotations.from(FullConfig.class).isPresent(Component.class));
+        context.close();
+    }
+
+    @Test
+    public void testBeansWithAnnotation() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(StereotypedService.class, FullConfig.class);
+        BeanDefinition lazyComponent = new BeanDefinition(LazyComponent.class);
+        lazyComponent.setLazyInit(true);
+        context.registerBeanDefinition("lazyComponent", lazyComponent);
+        context.refresh();
+        LazyComponent.instances.set(0);
+
+        assertEquals(Arrays.asList("stereotypedService", "fullConfig", "lazyComponent"),
+                Arrays.asList(context.getBeanNamesWithAnnotation(Component.class)));
+        assertEquals(Arrays.asList("fullHolder", "fullService"),
+                Arrays.stream(context.getBeanNamesWithAnnotation(Bean.class)).sorted().collect(Collectors.toList()));
+        Map<String, Object> services = context.getBeansWithAnnotation(Service.class);
+        assertEquals(1, services.size());
+        assertTrue(services.get("stereotypedService") instanceof StereotypedService);
+        assertEquals(0, LazyComponent.instances.get());
+
+        // Replacing a definition moves its name in the index
+        context.registerBeanDefinition("stereotypedService", new BeanDefinition(TestService.class));
+        assertEquals(0, context.getBeanNamesWithAnnotation(Service.class).length);
+        context.close();
+    }
+
+    private static BeanDefinition prototype(Class<?> beanClass) {
+        BeanDefinition beanDefinition = new BeanDefinition(beanClass);
+        beanDefinition.setScope("prototype");
+        return beanDefinition;
+    }
+
+    private static Path write(Path path, String content) throws IOException {
+        return Files.write(path, content.getBytes(StandardCharsets.UTF_8));
     }
 
     // Test classes
+    public static class RegisteringProcessor implements BeanDefinitionRegistryPostProcessor, PriorityOrdered {
+        static List<String> invocations;
+
+        @Override
+        public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+            invocations.add("registry");
+            BeanDefinition testService = new BeanDefinition(TestService.class);
+            testService.getPropertyValues().add("message", "from processor");
+            registry.registerBeanDefinition("testService", testService);
+            registry.registerBeanDefinition("early", new BeanDefinition(EarlyProcessor.class));
+        }
+
+        @Override
+        public void postProcessBeanFactory(DefaultListableBeanFactory beanFactory) {
+            invocations.add("registering");
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+
+    public static class OrderedProcessor implements BeanFactoryPostProcessor {
+        static List<String> invocations;
+
+        @Override
+        public void postProcessBeanFactory(DefaultListableBeanFactory beanFactory) {
+            invocations.add("ordered:" + OrderComparator.getOrder(this));
+        }
+    }
+
+    public static class EarlyProcessor extends OrderedProcessor implements Ordered {
+        @Override
+        public int getOrder() {
+            return 1;
+        }
+    }
+
+    public static class NamedProcessor implements BeanFactoryPostProcessor {
+        static List<String> invocations;
+
+        @Override
+        public void postProcessBeanFactory(DefaultListableBeanFactory beanFactory) {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                if (beanFactory.getBean(beanName) == this) {
+                    invocations.add(beanName);
+                }
+            }
+        }
+    }
+
+    public abstract static class StagedProcessor implements BeanDefinitionRegistryPostProcessor {
+        static List<String> events;
+
+        StagedProcessor() {
+            events.add("new " + name());
+        }
+
+        abstract String name();
+
+        @Override
+        public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+            events.add(name());
+        }
+
+        @Override
+        public void postProcessBeanFactory(DefaultListableBeanFactory beanFactory) {
+        }
+    }
+
+    public static class PriorityStagedProcessor extends StagedProcessor implements PriorityOrdered {
+        @Override
+        String name() {
+            return "priority";
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+
+    public static class OrderedStagedProcessor extends StagedProcessor implements Ordered {
+        @Override
+        String name() {
+            return "ordered";
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+
+    public static class PlainStagedProcessor extends StagedProcessor {
+        @Override
+        String name() {
+            return "plain";
+        }
+    }
+
+    public static class ReadOnlyProcessor implements BeanFactoryPostProcessor, PriorityOrdered {
+        static CyclicBarrier barrier;
+        static List<String> invocations;
+
+        @Override
+        public void postProcessBeanFactory(DefaultListableBeanFactory beanFactory) {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException("Read-only processors did not run concurrently", e);
+            }
+            invocations.add("readOnly");
+        }
+
+        @Override
+        public boolean isReadOnly() {
+            return true;
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+
+    public static class WiredBean {
+        TestServiceInterface service;
+        int retries;
+        TimeUnit unit;
+
+        public void setService(TestServiceInterface service) {
+            this.service = service;
+        }
+
+        public void setRetries(int retries) {
+            this.retries = retries;
+        }
+
+        public void setUnit(TimeUnit unit) {
+            this.unit = unit;
+        }
+    }
+
+    public static class TestEvent extends ApplicationEvent {
+        private static final long serialVersionUID = 1L;
+
+        public TestEvent(Object source) {
+            super(source);
+        }
+    }
+
+    public static class RecordingListener implements ApplicationListener<ApplicationEvent> {
+        final List<ApplicationEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onApplicationEvent(ApplicationEvent event) {
+            events.add(event);
+        }
+    }
+
+    public abstract static class CollectingListener<E extends ApplicationEvent> implements ApplicationListener<E> {
+        final List<E> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onApplicationEvent(E event) {
+            events.add(event);
+        }
+    }
+
+    public static class TestEventListener extends CollectingListener<TestEvent> {
+    }
+
+    public static class AsyncCapableMulticaster extends SimpleApplicationEventMulticaster {
+        public AsyncCapableMulticaster() {
+            super(Executors.newSingleThreadExecutor());
+        }
+    }
+
+    public static class SlowInitService {
+        static volatile CountDownLatch release;
+        private volatile boolean warm;
+
+        public void warmUp() throws InterruptedException {
+            release.await(5, TimeUnit.SECONDS);
+            warm = true;
+        }
+
+        public boolean isWarm() {
+            return warm;
+        }
+    }
+
     public static class TestService implements TestServiceInterface {
         private String message = "Hello World";
 
@@ -96,6 +1118,226 @@ public class SpringFrameworkTest {
         }
     }
 
+    public interface CounterService {
+        long add(int delta);
+
+        long addAll(int delta, long more, double fraction);
+
+        long addOrFail(int delta) throws IOException;
+
+        void reset();
+
+        String describe(String prefix);
+    }
+
+    public interface ValueSource {
+        Object value();
+    }
+
+    public interface StringValueSource {
+        String value();
+    }
+
+    public static class StringValue implements ValueSource, StringValueSource {
+        @Override
+        public String value() {
+            return "value";
+        }
+    }
+
+    public static class Counter implements CounterService {
+        private long count;
+
+        @Override
+        public long add(int delta) {
+            return count += delta;
+        }
+
+        @Override
+        public long addAll(int delta, long more, double fraction) {
+            return count += delta + more + Math.round(fraction);
+        }
+
+        @Override
+        public long addOrFail(int delta) throws IOException {
+            if (delta < 0) {
+                throw new IOException("negative");
+            }
+            return add(delta);
+        }
+
+        @Override
+        public void reset() {
+            count = 0;
+        }
+
+        @Override
+        public String describe(String prefix) {
+            return prefix + "=" + count;
+        }
+    }
+
+    public static final class FinalService {
+    }
+
+    public static class ProxyClassPreparer implements BeanClassPreparingPostProcessor {
+        final List<AdvisedSupport> configs = new CopyOnWriteArrayList<>();
+        final List<Class<?>> proxyClasses = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableFuture<Void> prepareBeanClasses(DefaultListableBeanFactory beanFactory, Executor executor) {
+            DefaultAopProxyFactory factory = new DefaultAopProxyFactory();
+            for (boolean proxyTargetClass : new boolean[] { false, true }) {
+                AdvisedSupport config = new AdvisedSupport();
+                config.setTargetClass(TestService.class);
+                config.setProxyTargetClass(proxyTargetClass);
+                config.addAdvice(invocation -> invocation.proceed());
+                configs.add(config);
+            }
+            return factory.generateProxyClasses(configs, executor).thenRun(() -> {
+                for (AdvisedSupport config : configs) {
+                    proxyClasses.add(factory.createAopProxy(config).getProxyClass());
+                }
+            });
+        }
+
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) {
+            return bean;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean;
+        }
+    }
+
+    public static class UpperCaseAdvisor extends DefaultPointcutAdvisor {
+        final List<Class<?>> filteredClasses;
+        final List<Class<?>> matchedClasses;
+
+        public UpperCaseAdvisor() {
+            this(new CopyOnWriteArrayList<>(), new CopyOnWriteArrayList<>());
+        }
+
+        private UpperCaseAdvisor(List<Class<?>> filteredClasses, List<Class<?>> matchedClasses) {
+            super(new Pointcut() {
+                @Override
+                public ClassFilter getClassFilter() {
+                    return clazz -> {
+                        filteredClasses.add(clazz);
+                        return TestServiceInterface.class.isAssignableFrom(clazz);
+                    };
+                }
+
+                @Override
+                public MethodMatcher getMethodMatcher() {
+                    return (method, targetClass) -> {
+                        matchedClasses.add(targetClass);
+                        return method.getName().equals("getMessage");
+                    };
+                }
+            }, (MethodInterceptor) invocation -> ((String) invocation.proceed()).toUpperCase());
+            this.filteredClasses = filteredClasses;
+            this.matchedClasses = matchedClasses;
+        }
+    }
+
+    public static class ExclaimingAdvisor extends DefaultPointcutAdvisor {
+        public ExclaimingAdvisor() {
+            super(methodNamePrefixPointcut("getMessage"),
+                    (MethodInterceptor) invocation -> invocation.proceed() + "!");
+        }
+    }
+
+    /** Prefixes the result of getMessage with its class name minus "Advisor" */
+    public static class NamePrefixingAdvisor implements PointcutAdvisor {
+        @Override
+        public Pointcut getPointcut() {
+            return methodNamePrefixPointcut("getMessage");
+        }
+
+        @Override
+        public Advice getAdvice() {
+            String name = getClass().getSimpleName().replace("Advisor", "");
+            return (MethodInterceptor) invocation -> name + ">" + invocation.proceed();
+        }
+    }
+
+    public static class TxAdvisor extends NamePrefixingAdvisor {
+    }
+
+    public static class LoggingAdvisor extends NamePrefixingAdvisor {
+    }
+
+    public static class SecurityAdvisor extends NamePrefixingAdvisor {
+    }
+
+    public static class CacheAdvisor extends NamePrefixingAdvisor {
+    }
+
+    public static class MetricsAdvisor extends NamePrefixingAdvisor {
+    }
+
+    public static class FirstAdvisor extends NamePrefixingAdvisor implements Ordered {
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+
+    public static class WovenGreeter implements TestServiceInterface {
+        @Override
+        public String getMessage() {
+            return "Hello " + name();
+        }
+
+        public String name() {
+            return "world";
+        }
+    }
+
+    @Aspect
+    public static class UpperCaseNameAspect {
+        @Around("execution(String com.yu.spring.SpringFrameworkTest.WovenGreeter.name())")
+        public Object upperCase(ProceedingJoinPoint joinPoint) throws Throwable {
+            return ((String) joinPoint.proceed()).toUpperCase();
+        }
+    }
+
+    /** Defines the named classes itself instead of delegating to its parent */
+    public static class ShadowingClassLoader extends ClassLoader {
+        private final List<String> classNames;
+
+        ShadowingClassLoader(ClassLoader parent, String... classNames) {
+            super(parent);
+            this.classNames = Arrays.asList(classNames);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!classNames.contains(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    try (java.io.InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+                        byte[] buffer = new byte[4096];
+                        for (int read; (read = in.read(buffer)) != -1; ) {
+                            bytes.write(buffer, 0, read);
+                        }
+                        loaded = defineClass(name, bytes.toByteArray(), 0, bytes.size());
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return loaded;
+            }
+        }
+    }
+
     public interface TestServiceInterface {
         String getMessage();
     }
@@ -107,6 +1349,141 @@ public class SpringFrameworkTest {
         }
     }
 
+    @Configuration("fullConfig")
+    public static class FullConfig {
+        @Bean
+        public TestService fullService() {
+            return new TestService();
+        }
+
+        @Bean
+        public Holder fullHolder() {
+            return new Holder(fullService());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    public static class LiteConfig {
+        @Bean
+        public TestService liteService() {
+            return new TestService();
+        }
+
+        @Bean
+        public Holder liteHolder() {
+            return new Holder(liteService());
+        }
+
+        @Bean
+        public Holder injectedHolder(TestServiceInterface liteService) {
+            return new Holder(liteService);
+        }
+
+        @Bean
+        public static TestService staticService() {
+            TestService service = new TestService();
+            service.setMessage("static");
+            return service;
+        }
+    }
+
+    public static class Holder {
+        final TestServiceInterface service;
+
+        Holder(TestServiceInterface service) {
+            this.service = service;
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Component
+    public @interface Service {
+    }
+
+    @Service
+    public static class StereotypedService {
+    }
+
+    @Component
+    public static class LazyComponent {
+        static final AtomicInteger instances = new AtomicInteger();
+
+        public LazyComponent() {
+            instances.incrementAndGet();
+        }
+    }
+
+    public interface Repository<T> {
+    }
+
+    public static class Order {
+    }
+
+    public static class Customer {
+    }
+
+    public static class Invoice {
+    }
+
+    public static class Audit {
+    }
+
+    @Component
+    public static class OrderRepository implements Repository<Order> {
+    }
+
+    @Component
+    public static class CustomerRepository implements Repository<Customer> {
+    }
+
+    public static class AuditRepository implements Repository<Audit> {
+    }
+
+    @Configuration
+    public static class RepositoryConfig {
+        @Bean
+        public Repository<Invoice> invoiceRepository() {
+            return new Repository<Invoice>() {
+            };
+        }
+    }
+
+    public interface Notifier {
+    }
+
+    @Component
+    @Primary
+    public static class EmailNotifier implements Notifier {
+    }
+
+    @Component
+    @Qualifier("sms")
+    public static class SmsNotifier implements Notifier {
+    }
+
+    public abstract static class AbstractService<T> {
+        @Autowired
+        Repository<T> repository;
+    }
+
+    public static class OrderService extends AbstractService<Order> {
+        @Autowired
+        Repository<Customer> customers;
+        Repository<? extends Invoice> invoices;
+        @Autowired
+        Notifier notifier;
+        @Autowired
+        @Qualifier("sms")
+        Notifier smsNotifier;
+        @Autowired(required = false)
+        Repository<Audit> missing;
+
+        @Autowired
+        public void setInvoices(Repository<? extends Invoice> invoices) {
+            this.invoices = invoices;
+        }
+    }
+
     public static class TestBeanPostProcessor implements BeanPostProcessor {
         @Override
         public Object postProcessBeforeInitialization(Object bean, String beanName) throws Exception {
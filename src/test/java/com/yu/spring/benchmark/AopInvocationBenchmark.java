@@ -0,0 +1,111 @@
+package com.yu.spring.benchmark;
+
+import com.yu.spring.aop.AdvisedSupport;
+import com.yu.spring.aop.AsmAopProxy;
+import com.yu.spring.aop.CglibAopProxy;
+import com.yu.spring.aop.ClassFilter;
+import com.yu.spring.aop.DefaultPointcutAdvisor;
+import com.yu.spring.aop.JdkDynamicAopProxy;
+import com.yu.spring.aop.MethodMatcher;
+import com.yu.spring.aop.Pointcut;
+import com.yu.spring.aop.intercept.MethodInterceptor;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Calls through JDK, CGLIB and ASM proxies of a target with one advised and one
+ * unadvised method, against calling the target directly. The interceptor
+ * chain of each method is looked up in the per-method cache of
+ * AdvisedSupport rather than matched on every call. The CGLIB proxy class
+ * dispatches its unadvised method straight to the target, so that call
+ * should cost about as much as a direct one. The ASM proxy class calls the
+ * target directly for both, with unboxed arguments for the unadvised one.
+ *
+ * <p>Bytes allocated per call are read from the thread's allocation counter.
+ * Advised calls reuse pooled invocations, so beyond the arguments array the
+ * proxy allocates they should allocate nothing.
+ *
+ * <pre>
+ * java --add-opens java.base/java.lang=ALL-UNNAMED \
+ *     -cp build/classes/java/main:build/classes/java/test:&lt;cglib&gt; com.yu.spring.benchmark.AopInvocationBenchmark
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class AopInvocationBenchmark {
+
+    private static final int CALLS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        Calculator target = new SimpleCalculator();
+        AdvisedSupport advised = new AdvisedSupport(target);
+        MethodInterceptor passThrough = invocation -> invocation.proceed();
+        advised.addAdvisor(new DefaultPointcutAdvisor(new Pointcut() {
+            @Override
+            public ClassFilter getClassFilter() {
+                return ClassFilter.TRUE;
+            }
+
+            @Override
+            public MethodMatcher getMethodMatcher() {
+                return (method, targetClass) -> method.getName().equals("advised");
+            }
+        }, passThrough));
+        Calculator jdk = (Calculator) new JdkDynamicAopProxy(advised).getProxy();
+        Calculator cglib = (Calculator) new CglibAopProxy(advised).getProxy();
+        Calculator asm = (Calculator) new AsmAopProxy(advised).getProxy();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            run("direct", target);
+            run("jdk proxy", jdk);
+            run("cglib proxy", cglib);
+            run("asm proxy", asm);
+            System.out.println();
+        }
+    }
+
+    private static void run(String name, Calculator calculator) {
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < CALLS; i++) {
+            checksum += calculator.unadvised(i);
+        }
+        long unadvised = System.nanoTime() - start;
+        long unadvisedBytes = allocatedBytes() - allocated;
+        allocated = allocatedBytes();
+        start = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            checksum += calculator.advised(i);
+        }
+        long advisedTime = System.nanoTime() - start;
+        long advisedBytes = allocatedBytes() - allocated;
+        System.out.printf("%-12s unadvised %6.1f ns %5.1f B/call  advised %6.1f ns %5.1f B/call (checksum %d)%n",
+                name, (double) unadvised / CALLS, (double) unadvisedBytes / CALLS,
+                (double) advisedTime / CALLS, (double) advisedBytes / CALLS, checksum);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    public interface Calculator {
+        int advised(int value);
+
+        int unadvised(int value);
+    }
+
+    public static class SimpleCalculator implements Calculator {
+        @Override
+        public int advised(int value) {
+            return value & 7;
+        }
+
+        @Override
+        public int unadvised(int value) {
+            return value & 3;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.yu.spring.benchmark;
+
+import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.annotation.Autowired;
+import com.yu.spring.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+
+/**
+ * Creating a prototype with generic {@code @Autowired} fields among a few
+ * hundred bean definitions, with the per-injection-point candidate cache
+ * warm against invalidating it before every creation, which is the cost of
+ * scanning and matching generic types each time.
+ *
+ * <pre>
+ * java -cp build/classes/java/main:build/classes/java/test com.yu.spring.benchmark.AutowireBenchmark
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class AutowireBenchmark {
+
+    private static final int FILLER_BEANS = 300;
+    private static final int CREATIONS = 20_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        for (int i = 0; i < FILLER_BEANS; i++) {
+            beanFactory.registerBeanDefinition("filler" + i, new BeanDefinition(Filler.class));
+        }
+        beanFactory.registerBeanDefinition("orderRepository", new BeanDefinition(OrderRepository.class));
+        beanFactory.registerBeanDefinition("customerRepository", new BeanDefinition(CustomerRepository.class));
+        beanFactory.registerBeanDefinition("productRepository", new BeanDefinition(ProductRepository.class));
+        BeanDefinition service = new BeanDefinition(OrderService.class);
+        service.setScope("prototype");
+        beanFactory.registerBeanDefinition("orderService", service);
+        beanFactory.addBeanPostProcessor(new AutowiredAnnotationBeanPostProcessor(beanFactory));
+        BeanDefinition marker = new BeanDefinition(Filler.class);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long checksum = 0;
+            for (int i = 0; i < CREATIONS; i++) {
+                checksum += beanFactory.getBean("orderService").hashCode() & 1;
+            }
+            report("cached resolution", start, checksum);
+
+            start = System.nanoTime();
+            checksum = 0;
+            for (int i = 0; i < CREATIONS; i++) {
+                // Registering a definition drops the cache, so every field is resolved from scratch
+                beanFactory.registerBeanDefinition("marker", marker);
+                checksum += beanFactory.getBean("orderService").hashCode() & 1;
+            }
+            report("resolution per bean", start, checksum);
+            System.out.println();
+        }
+    }
+
+    private static void report(String name, long start, long checksum) {
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-20s %8.2f ms %8.0f ns/bean (checksum %d)%n", name, elapsed / 1e6,
+                (double) elapsed / CREATIONS, checksum);
+    }
+
+    public interface Repository<T> {
+    }
+
+    public static class Filler {
+    }
+
+    public static class Order {
+    }
+
+    public static class Customer {
+    }
+
+    public static class Product {
+    }
+
+    public static class OrderRepository implements Repository<Order> {
+    }
+
+    public static class CustomerRepository implements Repository<Customer> {
+    }
+
+    public static class ProductRepository implements Repository<Product> {
+    }
+
+    public static class OrderService {
+        @Autowired
+        Repository<Order> orders;
+        @Autowired
+        Repository<Customer> customers;
+        @Autowired
+        Repository<Product> products;
+    }
+}
@@ -0,0 +1,112 @@
+package com.yu.spring.benchmark;
+
+import com.yu.spring.beans.factory.support.AbstractBeanDefinitionReader;
+import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+import com.yu.spring.beans.factory.support.PropertiesBeanDefinitionReader;
+import com.yu.spring.beans.factory.support.XmlBeanDefinitionReader;
+import com.yu.spring.io.FileSystemResource;
+import com.yu.spring.io.Resource;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+/**
+ * Parse throughput of the XML and properties bean definition readers, loading
+ * generated files sequentially (no parser executor) and in parallel (common
+ * ForkJoinPool).
+ *
+ * <pre>
+ * java -cp build/classes/java/main:build/classes/java/test:... com.yu.spring.benchmark.BeanDefinitionReaderBenchmark
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class BeanDefinitionReaderBenchmark {
+
+    private static final int FILES = 8;
+    private static final int BEANS_PER_FILE = 25_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Files.createTempDirectory("reader-benchmark");
+        Resource[] xml = new Resource[FILES];
+        Resource[] properties = new Resource[FILES];
+        for (int i = 0; i < FILES; i++) {
+            xml[i] = new FileSystemResource(writeXml(dir.resolve("beans-" + i + ".xml"), i).toFile());
+            properties[i] = new FileSystemResource(writeProperties(dir.resolve("beans-" + i + ".properties"), i).toFile());
+        }
+
+        System.out.println("== " + FILES + " files x " + BEANS_PER_FILE + " beans ==");
+        for (int round = 0; round < ROUNDS; round++) {
+            run("xml/sequential", xml, factory -> sequential(new XmlBeanDefinitionReader(factory)));
+            run("xml/parallel", xml, XmlBeanDefinitionReader::new);
+            run("properties/sequential", properties, factory -> sequential(new PropertiesBeanDefinitionReader(factory)));
+            run("properties/parallel", properties, PropertiesBeanDefinitionReader::new);
+        }
+    }
+
+    private static AbstractBeanDefinitionReader sequential(AbstractBeanDefinitionReader reader) {
+        reader.setParserExecutor(null);
+        return reader;
+    }
+
+    private static void run(String name, Resource[] resources,
+                            Function<DefaultListableBeanFactory, AbstractBeanDefinitionReader> readerFactory) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AbstractBeanDefinitionReader reader = readerFactory.apply(beanFactory);
+        long start = System.nanoTime();
+        int count = reader.loadBeanDefinitions(resources);
+        long elapsed = System.nanoTime() - start;
+        if (count != beanFactory.getBeanDefinitionCount()) {
+            throw new IllegalStateException(name + ": parsed " + count + " but registered "
+                    + beanFactory.getBeanDefinitionCount());
+        }
+        System.out.printf("%-24s %8.1f ms %12.0f beans/s%n", name, elapsed / 1e6, count * 1e9 / elapsed);
+    }
+
+    private static Path writeXml(Path path, int file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<beans>\n");
+            for (int i = 0; i < BEANS_PER_FILE; i++) {
+                writer.write("  <bean id=\"bean-" + file + "-" + i + "\" class=\"" + Sample.class.getName()
+                        + "\" lazy-init=\"true\">\n");
+                writer.write("    <property name=\"name\" value=\"sample " + i + "\"/>\n");
+                writer.write("    <property name=\"size\" value=\"" + i + "\"/>\n");
+                writer.write("    <property name=\"next\" ref=\"bean-" + file + "-" + (i + 1) + "\"/>\n");
+                writer.write("  </bean>\n");
+            }
+            writer.write("</beans>\n");
+        }
+        return path;
+    }
+
+    private static Path writeProperties(Path path, int file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < BEANS_PER_FILE; i++) {
+                String bean = "bean-" + file + "-" + i;
+                writer.write(bean + ".(class)=" + Sample.class.getName() + "\n");
+                writer.write(bean + ".(lazy-init)=true\n");
+                writer.write(bean + ".name=sample " + i + "\n");
+                writer.write(bean + ".size=" + i + "\n");
+                writer.write(bean + ".next(ref)=bean-" + file + "-" + (i + 1) + "\n");
+            }
+        }
+        return path;
+    }
+
+    public static class Sample {
+        public void setName(String name) {
+        }
+
+        public void setSize(int size) {
+        }
+
+        public void setNext(Sample next) {
+        }
+    }
+}
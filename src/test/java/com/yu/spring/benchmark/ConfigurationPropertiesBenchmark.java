@@ -0,0 +1,138 @@
+package com.yu.spring.benchmark;
+
+import com.yu.spring.context.properties.ConfigurationPropertiesBinder;
+import com.yu.spring.core.env.MapPropertySource;
+import com.yu.spring.core.env.StandardEnvironment;
+
+import java.beans.BeanInfo;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binding a properties class with a cached binder against binding it by
+ * introspecting the class and reflecting on every bind, the way a naive
+ * binder would.
+ *
+ * <pre>
+ * java -cp build/classes/java/main:build/classes/java/test com.yu.spring.benchmark.ConfigurationPropertiesBenchmark
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ConfigurationPropertiesBenchmark {
+
+    private static final int BINDS = 50_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        StandardEnvironment environment = new StandardEnvironment();
+        Map<String, Object> map = new HashMap<>();
+        map.put("server.port", "8080");
+        map.put("server.host", "example.org");
+        map.put("server.max-connections", "512");
+        map.put("server.timeout-millis", "30000");
+        map.put("server.compression", "true");
+        map.put("server.ratio", "0.75");
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", map));
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long checksum = 0;
+            ConfigurationPropertiesBinder binder = new ConfigurationPropertiesBinder(environment);
+            for (int i = 0; i < BINDS; i++) {
+                checksum += binder.bind("server", ServerProperties.class, false).getMaxConnections();
+            }
+            report("cached binder", start, checksum);
+
+            start = System.nanoTime();
+            checksum = 0;
+            for (int i = 0; i < BINDS; i++) {
+                checksum += reflectiveBind(environment, "server").getMaxConnections();
+            }
+            report("reflective per bind", start, checksum);
+            System.out.println();
+        }
+    }
+
+    private static ServerProperties reflectiveBind(StandardEnvironment environment, String prefix) throws Exception {
+        ServerProperties properties = ServerProperties.class.getDeclaredConstructor().newInstance();
+        BeanInfo beanInfo = Introspector.getBeanInfo(ServerProperties.class, Object.class);
+        for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+            String name = descriptor.getName().replaceAll("([a-z])([A-Z])", "$1-$2").toLowerCase();
+            String value = environment.getProperty(prefix + "." + name);
+            if (value != null && descriptor.getWriteMethod() != null) {
+                Class<?> type = descriptor.getPropertyType();
+                Object converted = type == int.class ? Integer.valueOf(value) : type == long.class ? Long.valueOf(value)
+                        : type == boolean.class ? Boolean.valueOf(value) : type == double.class ? Double.valueOf(value) : value;
+                descriptor.getWriteMethod().invoke(properties, converted);
+            }
+        }
+        return properties;
+    }
+
+    private static void report(String name, long start, long checksum) {
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-20s %8.2f ms %8.0f ns/bind (checksum %d)%n", name, elapsed / 1e6,
+                (double) elapsed / BINDS, checksum);
+    }
+
+    public static class ServerProperties {
+        private int port;
+        private String host;
+        private int maxConnections;
+        private long timeoutMillis;
+        private boolean compression;
+        private double ratio;
+
+        public int getPort() {
+            return port;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public void setHost(String host) {
+            this.host = host;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public long getTimeoutMillis() {
+            return timeoutMillis;
+        }
+
+        public void setTimeoutMillis(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        public boolean isCompression() {
+            return compression;
+        }
+
+        public void setCompression(boolean compression) {
+            this.compression = compression;
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.yu.spring.benchmark;
+
+import com.yu.spring.beans.BeanDefinition;
+import com.yu.spring.beans.factory.support.DefaultListableBeanFactory;
+import com.yu.spring.core.convert.TypeDescriptor;
+import com.yu.spring.core.convert.support.DefaultConversionService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversion of large injected collections: a comma-separated value of
+ * {@value #ELEMENTS} numbers converted to {@code List<Integer>} and
+ * {@code int[]}, against converting the elements one by one through the
+ * service, and the same list injected into a prototype bean property.
+ *
+ * <pre>
+ * java -cp build/classes/java/main:build/classes/java/test com.yu.spring.benchmark.ConversionBenchmark
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ConversionBenchmark {
+
+    private static final int ELEMENTS = 100_000;
+    private static final int ITERATIONS = 50;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        DefaultConversionService service = new DefaultConversionService();
+        StringBuilder sb = new StringBuilder();
+        List<String> strings = new ArrayList<>(ELEMENTS);
+        for (int i = 0; i < ELEMENTS; i++) {
+            sb.append(i).append(i < ELEMENTS - 1 ? "," : "");
+            strings.add(Integer.toString(i));
+        }
+        String text = sb.toString();
+        TypeDescriptor integerList = TypeDescriptor.collection(List.class, TypeDescriptor.valueOf(Integer.class));
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        BeanDefinition definition = new BeanDefinition(NumbersBean.class);
+        definition.setScope("prototype");
+        definition.getPropertyValues().add("numbers", text).add("values", text);
+        beanFactory.registerBeanDefinition("numbers", definition);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long checksum = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                List<Object> result = new ArrayList<>(ELEMENTS);
+                for (String element : strings) {
+                    result.add(service.convert(element, Integer.class));
+                }
+                checksum += result.size();
+            }
+            report("per-element convert", start, checksum);
+
+            start = System.nanoTime();
+            checksum = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                checksum += ((List<?>) service.convert(strings, integerList)).size();
+            }
+            report("List<String> -> List<Integer>", start, checksum);
+
+            start = System.nanoTime();
+            checksum = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                checksum += ((List<?>) service.convert(text, integerList)).size();
+            }
+            report("String -> List<Integer>", start, checksum);
+
+            start = System.nanoTime();
+            checksum = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                checksum += service.convert(text, int[].class).length;
+            }
+            report("String -> int[]", start, checksum);
+
+            start = System.nanoTime();
+            checksum = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                NumbersBean bean = (NumbersBean) beanFactory.getBean("numbers");
+                checksum += bean.numbers.size() + bean.values.length;
+            }
+            report("prototype injection", start, checksum);
+            System.out.println();
+        }
+    }
+
+    private static void report(String name, long start, long checksum) {
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-30s %8.2f ms %6.1f ns/element (checksum %d)%n", name, elapsed / 1e6,
+                (double) elapsed / ITERATIONS / ELEMENTS, checksum);
+    }
+
+    public static class NumbersBean {
+        List<Integer> numbers;
+        int[] values;
+
+        public void setNumbers(List<Integer> numbers) {
+            this.numbers = numbers;
+        }
+
+        public void setValues(int[] values) {
+            this.values = values;
+        }
+    }
+}
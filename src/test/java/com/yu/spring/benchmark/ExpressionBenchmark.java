@@ -0,0 +1,86 @@
+package com.yu.spring.benchmark;
+
+import com.yu.spring.beans.factory.config.BeanExpressionContext;
+import com.yu.spring.context.expression.EnvironmentAccessor;
+import com.yu.spring.core.env.MapPropertySource;
+import com.yu.spring.core.env.StandardEnvironment;
+import com.yu.spring.expression.EvaluationContext;
+import com.yu.spring.expression.spel.SpelExpression;
+import com.yu.spring.expression.spel.SpelExpressionParser;
+import com.yu.spring.expression.spel.StandardEvaluationContext;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interpreted against compiled evaluation of the same expressions: a bean
+ * property expression, and the {@code env['pool.size'] * 2} form used in
+ * {@code @Value}.
+ *
+ * <pre>
+ * java -cp build/classes/java/main:build/classes/java/test:$ASM com.yu.spring.benchmark.ExpressionBenchmark
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ExpressionBenchmark {
+
+    private static final int ITERATIONS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        Inventory inventory = new Inventory();
+        StandardEvaluationContext beanContext = new StandardEvaluationContext(inventory);
+        String beanExpression = "items.size() * unitPrice + (name.length() > 3 ? 10 : 0)";
+
+        StandardEnvironment environment = new StandardEnvironment();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("pool.size", "8");
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+        StandardEvaluationContext envContext = new StandardEvaluationContext(new BeanExpressionContext(null, environment));
+        envContext.addPropertyAccessor(new EnvironmentAccessor());
+        String envExpression = "env['pool.size'] * 2";
+
+        SpelExpressionParser interpreter = new SpelExpressionParser(-1);
+        SpelExpressionParser compiler = new SpelExpressionParser(1);
+        for (int round = 0; round < ROUNDS; round++) {
+            run("bean interpreted", interpreter.parseRaw(beanExpression), beanContext);
+            run("bean compiled", compiler.parseRaw(beanExpression), beanContext);
+            run("env interpreted", interpreter.parseRaw(envExpression), envContext);
+            run("env compiled", compiler.parseRaw(envExpression), envContext);
+            System.out.println();
+        }
+    }
+
+    private static void run(String name, SpelExpression expression, EvaluationContext context) {
+        expression.getValue(context);
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += ((Number) expression.getValue(context)).longValue();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-18s %8.2f ms %8.1f ns/op compiled=%-5s (checksum %d)%n", name, elapsed / 1e6,
+                (double) elapsed / ITERATIONS, expression.isCompiled(), checksum);
+    }
+
+    public static class Inventory {
+
+        private final List<String> items = Arrays.asList("a", "b", "c");
+
+        public List<String> getItems() {
+            return items;
+        }
+
+        public int getUnitPrice() {
+            return 7;
+        }
+
+        public String getName() {
+            return "warehouse";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.yu.spring.benchmark;
+
+import com.yu.spring.core.env.MapPropertySource;
+import com.yu.spring.core.env.StandardEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cost of resolving many distinct {@code @Value}-style placeholder texts:
+ * the first pass parses and resolves every text, later passes hit the cache,
+ * and a pass after a property source change re-resolves with the compiled
+ * templates.
+ *
+ * <pre>
+ * java -cp build/classes/java/main:build/classes/java/test com.yu.spring.benchmark.PlaceholderResolutionBenchmark
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class PlaceholderResolutionBenchmark {
+
+    private static final int PROPERTIES = 10_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        String[] expressions = new String[PROPERTIES];
+        Map<String, Object> map = new HashMap<>();
+        map.put("app.env", "prod");
+        for (int i = 0; i < PROPERTIES; i++) {
+            map.put("prod.service" + i + ".url", "https://host" + (i % 16) + ":${app.port:8443}/s" + i);
+            expressions[i] = "${${app.env}.service" + i + ".url}?timeout=${service" + i + ".timeout:30}";
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            StandardEnvironment environment = new StandardEnvironment();
+            MapPropertySource source = new MapPropertySource("generated", new HashMap<>(map));
+            environment.getPropertySources().addFirst(source);
+
+            run("cold (parse + resolve)", environment, expressions);
+            run("warm (cached values)", environment, expressions);
+            source.setProperty("app.port", "9443");
+            run("after change (compiled)", environment, expressions);
+            System.out.println();
+        }
+    }
+
+    private static void run(String name, StandardEnvironment environment, String[] expressions) {
+        long start = System.nanoTime();
+        int length = 0;
+        for (String expression : expressions) {
+            length += environment.resolveRequiredPlaceholders(expression).length();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-26s %8.2f ms %8.0f ns/op (%d chars)%n", name, elapsed / 1e6,
+                (double) elapsed / expressions.length, length);
+    }
+}
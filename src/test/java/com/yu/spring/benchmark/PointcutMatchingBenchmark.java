@@ -0,0 +1,89 @@
+package com.yu.spring.benchmark;
+
+import com.yu.spring.aop.aspectj.AspectJExpressionPointcut;
+import org.aspectj.weaver.tools.PointcutExpression;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matching an AspectJ expression against the methods of a few hundred
+ * classes, as an auto-proxy creator does at startup: the first pass parses
+ * the expression and computes every shadow match, later passes, as for more
+ * beans of the same classes or proxy creation, hit the caches. The last row
+ * asks the parsed expression directly every time.
+ *
+ * <pre>
+ * java -cp build/classes/java/main:build/classes/java/test:&lt;aspectjweaver&gt; \
+ *     com.yu.spring.benchmark.PointcutMatchingBenchmark
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class PointcutMatchingBenchmark {
+
+    private static final String EXPRESSION = "within(java.util..*) && execution(* java.util..*Map.get*(..))";
+    private static final int ROUNDS = 5;
+    private static final int CACHED_PASSES = 20;
+
+    public static void main(String[] args) {
+        List<Method> methods = new ArrayList<>();
+        for (Class<?> type : new Class<?>[] { java.util.HashMap.class, java.util.TreeMap.class,
+                java.util.ArrayList.class, java.util.LinkedList.class, java.util.HashSet.class,
+                java.util.concurrent.ConcurrentHashMap.class, java.util.concurrent.ConcurrentSkipListMap.class,
+                String.class, StringBuilder.class, Integer.class, Long.class, Math.class, Thread.class,
+                java.io.File.class, java.net.URI.class, java.time.LocalDateTime.class }) {
+            for (Method method : type.getMethods()) {
+                methods.add(method);
+            }
+        }
+        for (int round = 0; round < ROUNDS; round++) {
+            AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut(EXPRESSION);
+            long start = System.nanoTime();
+            long matched = match(pointcut, methods);
+            report("first pass", start, methods.size(), matched);
+
+            start = System.nanoTime();
+            matched = 0;
+            for (int pass = 0; pass < CACHED_PASSES; pass++) {
+                matched += match(pointcut, methods);
+            }
+            report("cached pass", start, methods.size() * CACHED_PASSES, matched);
+
+            // The weaver's own matching, with its type world already warm
+            PointcutExpression expression = pointcut.getPointcutExpression();
+            start = System.nanoTime();
+            matched = 0;
+            for (int pass = 0; pass < CACHED_PASSES; pass++) {
+                for (Method method : methods) {
+                    if (expression.couldMatchJoinPointsInType(method.getDeclaringClass())
+                            && expression.matchesMethodExecution(method).maybeMatches()) {
+                        matched++;
+                    }
+                }
+            }
+            report("uncached", start, methods.size() * CACHED_PASSES, matched);
+            System.out.println();
+        }
+    }
+
+    private static long match(AspectJExpressionPointcut pointcut, List<Method> methods) {
+        long matched = 0;
+        for (Method method : methods) {
+            // Methods of classes the class filter rejects are not matched, as in an auto-proxy creator
+            Class<?> type = method.getDeclaringClass();
+            if (pointcut.matches(type) && pointcut.matches(method, type)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private static void report(String name, long start, int methods, long matched) {
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-12s %8.2f ms %8.0f ns/method (%d of %d matched)%n", name, elapsed / 1e6,
+                (double) elapsed / methods, matched, methods);
+    }
+}
@@ -0,0 +1,77 @@
+package com.yu.spring.benchmark;
+
+import com.yu.spring.aop.AdvisedSupport;
+import com.yu.spring.aop.CglibAopProxy;
+import com.yu.spring.aop.JdkDynamicAopProxy;
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.MethodInterceptor;
+
+/**
+ * Creating a proxy per prototype instance, as a proxying post processor
+ * does, through the cached proxy classes and constructor handles of the
+ * AOP proxies against configuring a new Enhancer for every proxy.
+ *
+ * <pre>
+ * java --add-opens java.base/java.lang=ALL-UNNAMED \
+ *     -cp build/classes/java/main:build/classes/java/test:&lt;cglib&gt; com.yu.spring.benchmark.ProxyCreationBenchmark
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class ProxyCreationBenchmark {
+
+    private static final int PROXIES = 50_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long checksum = 0;
+            for (int i = 0; i < PROXIES; i++) {
+                checksum += System.identityHashCode(new CglibAopProxy(advised()).getProxy()) & 1;
+            }
+            report("cglib proxy", start, checksum);
+
+            start = System.nanoTime();
+            checksum = 0;
+            for (int i = 0; i < PROXIES; i++) {
+                checksum += System.identityHashCode(new JdkDynamicAopProxy(advised()).getProxy()) & 1;
+            }
+            report("jdk proxy", start, checksum);
+
+            start = System.nanoTime();
+            checksum = 0;
+            for (int i = 0; i < PROXIES; i++) {
+                Enhancer enhancer = new Enhancer();
+                enhancer.setSuperclass(Greeter.class);
+                enhancer.setInterfaces(Greeter.class.getInterfaces());
+                enhancer.setCallback((MethodInterceptor) (proxy, method, arguments, methodProxy) -> null);
+                checksum += System.identityHashCode(enhancer.create()) & 1;
+            }
+            report("new enhancer", start, checksum);
+            System.out.println();
+        }
+    }
+
+    private static AdvisedSupport advised() {
+        return new AdvisedSupport(new Greeter());
+    }
+
+    private static void report(String name, long start, long checksum) {
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-14s %8.2f ms %8.0f ns/proxy (checksum %d)%n", name, elapsed / 1e6,
+                (double) elapsed / PROXIES, checksum);
+    }
+
+    public interface Greeting {
+        String greet();
+    }
+
+    public static class Greeter implements Greeting {
+        @Override
+        public String greet() {
+            return "hello";
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.yu.spring.benchmark;
+
+import com.yu.spring.messaging.BusySpinWaitStrategy;
+import com.yu.spring.messaging.ParkingWaitStrategy;
+import com.yu.spring.messaging.ProducerType;
+import com.yu.spring.messaging.RingBufferPipeline;
+import com.yu.spring.messaging.WaitStrategy;
+import com.yu.spring.messaging.YieldingWaitStrategy;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput and latency of RingBufferPipeline against ArrayBlockingQueue for
+ * one producer handing messages to one consumer.
+ *
+ * <pre>
+ * java -cp build/classes/java/main:build/classes/java/test:... com.yu.spring.benchmark.RingBufferBenchmark
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class RingBufferBenchmark {
+
+    private static final int BUFFER_SIZE = 1 << 14;
+    private static final long THROUGHPUT_EVENTS = 10_000_000L;
+    private static final int LATENCY_EVENTS = 200_000;
+    private static final long LATENCY_PAUSE_NANOS = 2_000L;
+
+    public static void main(String[] args) throws Exception {
+        WaitStrategy[] strategies = { new BusySpinWaitStrategy(), new YieldingWaitStrategy(), new ParkingWaitStrategy() };
+
+        System.out.println("== Throughput, 1 producer -> 1 consumer, " + THROUGHPUT_EVENTS + " events ==");
+        for (int round = 0; round < 3; round++) {
+            for (WaitStrategy strategy : strategies) {
+                report("RingBuffer/" + strategy.getClass().getSimpleName(), ringBufferThroughput(strategy));
+            }
+            report("ArrayBlockingQueue", queueThroughput());
+        }
+
+        System.out.println("\n== One-way latency, " + LATENCY_EVENTS + " events, paced ==");
+        for (int round = 0; round < 2; round++) {
+            for (WaitStrategy strategy : strategies) {
+                printLatency("RingBuffer/" + strategy.getClass().getSimpleName(), ringBufferLatency(strategy));
+            }
+            printLatency("ArrayBlockingQueue", queueLatency());
+        }
+    }
+
+    private static long ringBufferThroughput(WaitStrategy strategy) {
+        AtomicLong sum = new AtomicLong();
+        long[] local = new long[1];
+        RingBufferPipeline<LongEvent> pipeline = new RingBufferPipeline<>(LongEvent::new, BUFFER_SIZE,
+                ProducerType.SINGLE, strategy);
+        pipeline.handleEventsWith((event, sequence, endOfBatch) -> {
+            local[0] += event.value;
+            if (endOfBatch) {
+                sum.lazySet(local[0]);
+            }
+        });
+        pipeline.start();
+        long start = System.nanoTime();
+        for (long i = 0; i < THROUGHPUT_EVENTS; i++) {
+            pipeline.publishEvent(LongEvent::set, i);
+        }
+        pipeline.shutdown(1, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+        check(sum.get());
+        return elapsed;
+    }
+
+    private static long queueThroughput() throws InterruptedException {
+        ArrayBlockingQueue<Long> queue = new ArrayBlockingQueue<>(BUFFER_SIZE);
+        long[] sum = new long[1];
+        Thread consumer = new Thread(() -> {
+            try {
+                for (long i = 0; i < THROUGHPUT_EVENTS; i++) {
+                    sum[0] += queue.take();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        long start = System.nanoTime();
+        for (long i = 0; i < THROUGHPUT_EVENTS; i++) {
+            queue.put(i);
+        }
+        consumer.join();
+        long elapsed = System.nanoTime() - start;
+        check(sum[0]);
+        return elapsed;
+    }
+
+    private static long[] ringBufferLatency(WaitStrategy strategy) {
+        long[] latencies = new long[LATENCY_EVENTS];
+        RingBufferPipeline<LongEvent> pipeline = new RingBufferPipeline<>(LongEvent::new, BUFFER_SIZE,
+                ProducerType.SINGLE, strategy);
+        pipeline.handleEventsWith((event, sequence, endOfBatch) -> {
+            long published = event.value;
+            latencies[(int) sequence] = System.nanoTime() - published;
+        });
+        pipeline.start();
+        for (int i = 0; i < LATENCY_EVENTS; i++) {
+            pipeline.publishEvent(LongEvent::set, System.nanoTime());
+            pause();
+        }
+        pipeline.shutdown(1, TimeUnit.MINUTES);
+        return latencies;
+    }
+
+    private static long[] queueLatency() throws InterruptedException {
+        long[] latencies = new long[LATENCY_EVENTS];
+        ArrayBlockingQueue<Long> queue = new ArrayBlockingQueue<>(BUFFER_SIZE);
+        Thread consumer = new Thread(() -> {
+            try {
+                for (int i = 0; i < LATENCY_EVENTS; i++) {
+                    long published = queue.take();
+                    latencies[i] = System.nanoTime() - published;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        for (int i = 0; i < LATENCY_EVENTS; i++) {
+            queue.put(System.nanoTime());
+            pause();
+        }
+        consumer.join();
+        return latencies;
+    }
+
+    private static void pause() {
+        long until = System.nanoTime() + LATENCY_PAUSE_NANOS;
+        while (System.nanoTime() < until) {
+            // busy wait to pace the producer without descheduling it
+        }
+    }
+
+    private static void check(long sum) {
+        long expected = THROUGHPUT_EVENTS * (THROUGHPUT_EVENTS - 1) / 2;
+        if (sum != expected) {
+            throw new IllegalStateException("Lost events: sum " + sum + " != " + expected);
+        }
+    }
+
+    private static void report(String name, long elapsedNanos) {
+        double opsPerSecond = THROUGHPUT_EVENTS * 1e9 / elapsedNanos;
+        System.out.printf("%-40s %,15.0f ops/s%n", name, opsPerSecond);
+    }
+
+    private static void printLatency(String name, long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-40s p50 %,8d ns  p99 %,8d ns  p99.9 %,10d ns%n", name,
+                sorted[sorted.length / 2], sorted[(int) (sorted.length * 0.99)], sorted[(int) (sorted.length * 0.999)]);
+    }
+
+    static class LongEvent {
+        long value;
+
+        static void set(LongEvent event, long sequence, Long value) {
+            event.value = value;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.yu.spring.benchmark;
+
+import com.yu.spring.aop.AdvisedSupport;
+import com.yu.spring.aop.AsmAopProxy;
+import com.yu.spring.aop.CglibAopProxy;
+import com.yu.spring.aop.DefaultPointcutAdvisor;
+import com.yu.spring.aop.JdkDynamicAopProxy;
+import com.yu.spring.aop.aspectj.AspectJExpressionPointcut;
+import com.yu.spring.aop.intercept.MethodInterceptor;
+import com.yu.spring.context.weaving.AspectJWeavingEnabler;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+
+/**
+ * Per-call cost of advice woven into the class by the AspectJ load-time
+ * weaver against the same advice applied by JDK, CGLIB and ASM proxies. The
+ * advice counts calls of {@code next}; {@code twice} calls {@code next}
+ * twice on {@code this}, which the woven classes advise and the proxies do
+ * not, as the call does not go through them.
+ *
+ * <p>Woven before advice calls the aspect directly. Woven around advice
+ * with a {@code ProceedingJoinPoint} allocates a closure and a join point
+ * per call, so it is measured separately. The woven classes are loaded by
+ * name after weaving was enabled; aspects and weaving scope are declared in
+ * the test {@code META-INF/aop.xml}.
+ *
+ * <pre>
+ * java --add-opens java.base/java.lang=ALL-UNNAMED \
+ *     -cp build/classes/java/main:build/classes/java/test:build/resources/test:&lt;cglib, aspectj&gt; \
+ *     com.yu.spring.benchmark.WeavingBenchmark
+ * </pre>
+ *
+ * @author yuhangbin
+ * @date 2026/10/18
+ **/
+public class WeavingBenchmark {
+
+    private static final int CALLS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    static long adviceCount;
+
+    public static void main(String[] args) throws Exception {
+        AspectJWeavingEnabler.enable();
+        Counter woven = (Counter) Class.forName(WeavingBenchmark.class.getName() + "$WovenCounter")
+                .getDeclaredConstructor().newInstance();
+        Counter wovenAround = (Counter) Class.forName(WeavingBenchmark.class.getName() + "$WovenAroundCounter")
+                .getDeclaredConstructor().newInstance();
+
+        Counter target = new PlainCounter();
+        AdvisedSupport advised = new AdvisedSupport(target);
+        MethodInterceptor counting = invocation -> {
+            adviceCount++;
+            return invocation.proceed();
+        };
+        advised.addAdvisor(new DefaultPointcutAdvisor(
+                new AspectJExpressionPointcut("execution(int com.yu.spring.benchmark..*Counter.next(int))"), counting));
+        Counter jdk = (Counter) new JdkDynamicAopProxy(advised).getProxy();
+        Counter cglib = (Counter) new CglibAopProxy(advised).getProxy();
+        Counter asm = (Counter) new AsmAopProxy(advised).getProxy();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            run("direct", target);
+            run("jdk proxy", jdk);
+            run("cglib proxy", cglib);
+            run("asm proxy", asm);
+            run("woven before", woven);
+            run("woven around", wovenAround);
+            System.out.println();
+        }
+    }
+
+    private static void run(String name, Counter counter) {
+        long checksum = 0;
+        adviceCount = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            checksum += counter.next(i);
+        }
+        long next = System.nanoTime() - start;
+        long nextAdvice = adviceCount;
+        adviceCount = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            checksum += counter.twice(i);
+        }
+        long twice = System.nanoTime() - start;
+        System.out.printf("%-13s next %6.1f ns %3.1f advice/call  twice %6.1f ns %3.1f advice/call (checksum %d)%n",
+                name, (double) next / CALLS, (double) nextAdvice / CALLS,
+                (double) twice / CALLS, (double) adviceCount / CALLS, checksum);
+    }
+
+    public interface Counter {
+        int next(int value);
+
+        int twice(int value);
+    }
+
+    public static class PlainCounter implements Counter {
+        @Override
+        public int next(int value) {
+            return value + 1;
+        }
+
+        @Override
+        public int twice(int value) {
+            return next(next(value));
+        }
+    }
+
+    /** Same code as PlainCounter, woven with CountingAspect */
+    public static class WovenCounter implements Counter {
+        @Override
+        public int next(int value) {
+            return value + 1;
+        }
+
+        @Override
+        public int twice(int value) {
+            return next(next(value));
+        }
+    }
+
+    /** Same code as PlainCounter, woven with CountingAroundAspect */
+    public static class WovenAroundCounter implements Counter {
+        @Override
+        public int next(int value) {
+            return value + 1;
+        }
+
+        @Override
+        public int twice(int value) {
+            return next(next(value));
+        }
+    }
+
+    @Aspect
+    public static class CountingAspect {
+        @Before("execution(int com.yu.spring.benchmark.WeavingBenchmark.WovenCounter.next(int))")
+        public void count() {
+            adviceCount++;
+        }
+    }
+
+    @Aspect
+    public static class CountingAroundAspect {
+        @Around("execution(int com.yu.spring.benchmark.WeavingBenchmark.WovenAroundCounter.next(int))")
+        public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+            adviceCount++;
+            return joinPoint.proceed();
+        }
+    }
+}